@@ -0,0 +1,16 @@
+#!/usr/bin/env sh
+# Arranca el artefacto generado con "mvn -Pfast-startup -DskipTests package":
+# código AOT de Spring + archivo AppCDS de la ejecución de entrenamiento.
+# El archivo CDS guarda la ruta relativa del jar, por eso se lanza desde su directorio;
+# para desplegarlo basta copiar juntos apluz-backend-*.jar, lib/ y app.jsa.
+set -e
+
+APP_DIR=${APP_DIR:-$(cd "$(dirname "$0")/../target" && pwd)}
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+
+cd "$APP_DIR"
+exec "$JAVA" \
+  -XX:SharedArchiveFile=app.jsa \
+  -Dspring.aot.enabled=true \
+  $JAVA_OPTS \
+  -jar apluz-backend-1.0.0.jar "$@"
@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# Compara el tiempo hasta la primera petición correcta entre el jar estándar (*-exec.jar)
+# y el artefacto AOT + AppCDS. Requiere "mvn -Pfast-startup -DskipTests package" y una base
+# de datos accesible (SPRING_DATASOURCE_URL, etc.).
+#
+#   scripts/startup-benchmark.sh [repeticiones]
+#
+# Variables: BENCH_PORT (18080), BENCH_PATH (/api/properties), APP_ARGS (argumentos extra).
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${BENCH_PORT:-18080}
+URL="http://localhost:${PORT}${BENCH_PATH:-/api/properties}"
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+read -r -a EXTRA_ARGS <<< "${APP_ARGS:-}"
+
+now_ms() { date +%s%3N; }
+
+time_to_first_request() {
+  local start pid elapsed
+  start=$(now_ms)
+  "$@" --server.port="$PORT" "${EXTRA_ARGS[@]}" > /dev/null 2>&1 &
+  pid=$!
+  until curl -sf -o /dev/null "$URL"; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "application exited before serving $URL" >&2
+      return 1
+    fi
+    sleep 0.02
+  done
+  elapsed=$(( $(now_ms) - start ))
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+  echo "$elapsed"
+}
+
+run_mode() {
+  local name=$1; shift
+  local total=0 best=0 ms
+  for _ in $(seq "$RUNS"); do
+    ms=$(time_to_first_request "$@")
+    total=$(( total + ms ))
+    if (( best == 0 || ms < best )); then best=$ms; fi
+  done
+  printf '%-10s runs=%d avg=%d ms best=%d ms\n' "$name" "$RUNS" $(( total / RUNS )) "$best"
+}
+
+run_mode standard "$JAVA" -jar "$ROOT/target/apluz-backend-1.0.0-exec.jar"
+run_mode optimised "$ROOT/scripts/run-fast-startup.sh"
@@ -0,0 +1,73 @@
+package com.apluz.backend.application.dedup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Locality-sensitive hashing sobre firmas MinHash: la firma se parte en {@code bands} bandas de
+ * {@code rows} valores y cada banda se guarda en su propia tabla hash. Dos propiedades son candidatas
+ * si coinciden en al menos una banda, lo que ocurre con probabilidad 1 - (1 - s^rows)^bands.
+ * No es thread-safe: el llamante sincroniza.
+ */
+final class LshIndex {
+
+    private final int bands;
+    private final int rows;
+    private final List<Map<Long, Set<Long>>> buckets;
+
+    LshIndex(int bands, int rows) {
+        this.bands = bands;
+        this.rows = rows;
+        this.buckets = new ArrayList<>(bands);
+        for (int band = 0; band < bands; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    void add(Long id, int[] signature) {
+        for (int band = 0; band < bands; band++) {
+            buckets.get(band).computeIfAbsent(bandKey(signature, band), key -> new HashSet<>()).add(id);
+        }
+    }
+
+    void remove(Long id, int[] signature) {
+        for (int band = 0; band < bands; band++) {
+            Map<Long, Set<Long>> table = buckets.get(band);
+            long key = bandKey(signature, band);
+            Set<Long> ids = table.get(key);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                table.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Ids que comparten al menos una banda con la firma (incluido el propio, si está indexado)
+     */
+    Set<Long> candidates(int[] signature) {
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < bands; band++) {
+            Set<Long> ids = buckets.get(band).get(bandKey(signature, band));
+            if (ids != null) {
+                candidates.addAll(ids);
+            }
+        }
+        return candidates;
+    }
+
+    void clear() {
+        buckets.forEach(Map::clear);
+    }
+
+    private long bandKey(int[] signature, int band) {
+        long key = 0;
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            key = key * 0x9E3779B97F4A7C15L + signature[i];
+        }
+        return key;
+    }
+}
@@ -0,0 +1,116 @@
+package com.apluz.backend.application.dedup;
+
+import com.apluz.backend.domain.model.Property;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Firma MinHash de una propiedad: trigramas de caracteres de título, dirección y ciudad normalizados
+ * (sin tildes, mayúsculas ni signos) más los atributos numéricos redondeados. Dos firmas coinciden en
+ * cada posición con probabilidad igual a la similitud de Jaccard de ambos conjuntos.
+ */
+final class MinHasher {
+
+    static final int SIGNATURE_LENGTH = 128;
+
+    private static final int SHINGLE_LENGTH = 3;
+    /**
+     * Copias de cada atributo numérico, para que pesen frente a las decenas de trigramas del texto
+     */
+    private static final int ATTRIBUTE_WEIGHT = 4;
+    private static final double PRICE_BUCKET_RATIO = Math.log(1.05);
+    private static final double AREA_BUCKET = 5.0;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final long[] seeds = new long[SIGNATURE_LENGTH];
+
+    MinHasher(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            seeds[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Firma de la propiedad, o null si no tiene texto con el que compararla
+     */
+    int[] signature(Property property) {
+        String text = normalize(property.getTitle()) + '|' + normalize(property.getAddress()) + '|'
+            + normalize(property.getCity());
+        if (text.length() < SHINGLE_LENGTH + 2) {
+            return null;
+        }
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int i = 0; i + SHINGLE_LENGTH <= text.length(); i++) {
+            long shingle = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+            update(signature, shingle);
+        }
+        attribute(signature, 1, property.getType() != null ? property.getType().ordinal() : null);
+        attribute(signature, 2, property.getBedrooms());
+        attribute(signature, 3, property.getBathrooms());
+        attribute(signature, 4, property.getArea() != null ? Math.round(property.getArea() / AREA_BUCKET) : null);
+        attribute(signature, 5, priceBucket(property.getPrice()));
+        return signature;
+    }
+
+    /**
+     * Fracción de posiciones iguales: estimación de la similitud de Jaccard
+     */
+    static double similarity(int[] left, int[] right) {
+        int equal = 0;
+        for (int i = 0; i < left.length; i++) {
+            if (left[i] == right[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / left.length;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(decomposed.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private void attribute(int[] signature, int attribute, Number value) {
+        if (value == null) {
+            return;
+        }
+        // Los trigramas usan los 48 bits bajos; los atributos se marcan en los altos
+        long token = ((long) attribute << 56) ^ (value.longValue() << 8);
+        for (int copy = 0; copy < ATTRIBUTE_WEIGHT; copy++) {
+            update(signature, token | copy);
+        }
+    }
+
+    private void update(int[] signature, long shingle) {
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            int hash = (int) (mix(shingle ^ seeds[i]) >>> 32);
+            if (hash < signature[i]) {
+                signature[i] = hash;
+            }
+        }
+    }
+
+    private static Long priceBucket(BigDecimal price) {
+        if (price == null || price.signum() <= 0) {
+            return null;
+        }
+        return Math.round(Math.log(price.doubleValue()) / PRICE_BUCKET_RATIO);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,219 @@
+package com.apluz.backend.application.dedup;
+
+import com.apluz.backend.domain.event.PropertyChangedEvent;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.port.PropertyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice en memoria de firmas MinHash para detectar anuncios casi duplicados (la misma propiedad
+ * publicada de nuevo con pequeños cambios) sin comparar cada alta con todo el catálogo: LSH da los
+ * candidatos y solo a esos se les estima la similitud. Solo cuentan las propiedades activas.
+ * Se carga al arrancar y se mantiene con {@link PropertyChangedEvent}; las consultas no tocan la base de datos.
+ */
+@Component
+public class PropertyDuplicateIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertyDuplicateIndex.class);
+
+    private static final long HASH_SEED = 0x5DEECE66DL;
+    private static final int LSH_BANDS = 16;
+    private static final int LSH_ROWS = MinHasher.SIGNATURE_LENGTH / LSH_BANDS;
+    private static final Set<PropertyField> INDEXED_FIELDS = EnumSet.of(PropertyField.TITLE, PropertyField.ADDRESS,
+        PropertyField.CITY, PropertyField.TYPE, PropertyField.STATUS, PropertyField.PRICE, PropertyField.AREA,
+        PropertyField.BEDROOMS, PropertyField.BATHROOMS);
+
+    /**
+     * Propiedad parecida y similitud de Jaccard estimada (0 a 1)
+     */
+    public record DuplicateCandidate(Long propertyId, double similarity) {
+    }
+
+    /**
+     * Grupo de propiedades enlazadas por pares por encima del umbral, ordenadas por id
+     */
+    public record DuplicateCluster(List<Long> propertyIds) {
+    }
+
+    private record Entry(int[] signature, boolean active) {
+
+        private Entry withActive(boolean newActive) {
+            return new Entry(signature, newActive);
+        }
+    }
+
+    private final PropertyRepository propertyRepository;
+    private final double threshold;
+    private final MinHasher minHasher = new MinHasher(HASH_SEED);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LshIndex lsh = new LshIndex(LSH_BANDS, LSH_ROWS);
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    public PropertyDuplicateIndex(PropertyRepository propertyRepository,
+                                  @Value("${apluz.dedup.similarity-threshold:0.8}") double threshold) {
+        this.propertyRepository = propertyRepository;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Carga las firmas de todo el catálogo (incluidas las archivadas, para poder reactivarlas sin releerlas)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            lsh.clear();
+            entries.clear();
+            propertyRepository.forEach(PropertyFilter.all().withArchived(true), INDEXED_FIELDS,
+                property -> reindex(property.getId(), entryOf(property)));
+            log.info("Duplicate index built: {} properties", entries.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.type() == PropertyChangedEvent.ChangeType.DELETED) {
+                reindex(event.propertyId(), null);
+                return;
+            }
+            Property property = event.property();
+            if (property.getTitle() == null && property.getCity() == null && property.getAddress() == null) {
+                // Cambio de estado parcial (write-behind): se conserva la firma conocida
+                Entry previous = entries.get(event.propertyId());
+                if (previous != null && property.getStatus() != null) {
+                    entries.put(event.propertyId(), previous.withActive(!property.getStatus().isArchived()));
+                }
+                return;
+            }
+            reindex(event.propertyId(), entryOf(property));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Propiedades activas que parecen la misma que {@code property} (excluida ella misma),
+     * de más a menos parecida
+     */
+    public List<DuplicateCandidate> findCandidates(Property property, int limit) {
+        int[] signature = minHasher.signature(property);
+        if (signature == null || limit <= 0) {
+            return List.of();
+        }
+        List<DuplicateCandidate> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : lsh.candidates(signature)) {
+                Entry entry = entries.get(id);
+                if (id.equals(property.getId()) || entry == null || !entry.active()) {
+                    continue;
+                }
+                double similarity = MinHasher.similarity(signature, entry.signature());
+                if (similarity >= threshold) {
+                    candidates.add(new DuplicateCandidate(id, similarity));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        candidates.sort(Comparator.comparingDouble(DuplicateCandidate::similarity).reversed()
+            .thenComparing(DuplicateCandidate::propertyId));
+        return candidates.size() > limit ? candidates.subList(0, limit) : candidates;
+    }
+
+    /**
+     * Agrupa todo el catálogo activo: cada par candidato por encima del umbral une sus grupos
+     * (componentes conexas), de mayor a menor tamaño
+     */
+    public List<DuplicateCluster> clusters() {
+        Map<Long, Long> parents = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            entries.forEach((id, entry) -> {
+                if (!entry.active()) {
+                    return;
+                }
+                for (Long candidateId : lsh.candidates(entry.signature())) {
+                    Entry candidate = entries.get(candidateId);
+                    if (candidateId > id && candidate.active()
+                            && MinHasher.similarity(entry.signature(), candidate.signature()) >= threshold) {
+                        union(parents, id, candidateId);
+                    }
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<Long, List<Long>> groups = new HashMap<>();
+        for (Long id : parents.keySet()) {
+            groups.computeIfAbsent(root(parents, id), root -> new ArrayList<>()).add(id);
+        }
+        return groups.values().stream()
+            .map(ids -> new DuplicateCluster(ids.stream().sorted().toList()))
+            .sorted(Comparator.comparingInt((DuplicateCluster cluster) -> cluster.propertyIds().size()).reversed()
+                .thenComparing(cluster -> cluster.propertyIds().get(0)))
+            .toList();
+    }
+
+    private void reindex(Long id, Entry entry) {
+        Entry previous = entry != null ? entries.put(id, entry) : entries.remove(id);
+        if (previous != null) {
+            lsh.remove(id, previous.signature());
+        }
+        if (entry != null) {
+            lsh.add(id, entry.signature());
+        }
+    }
+
+    private Entry entryOf(Property property) {
+        int[] signature = minHasher.signature(property);
+        if (signature == null) {
+            return null;
+        }
+        return new Entry(signature, property.getStatus() == null || !property.getStatus().isArchived());
+    }
+
+    private static void union(Map<Long, Long> parents, Long left, Long right) {
+        Long leftRoot = root(parents, left);
+        Long rightRoot = root(parents, right);
+        if (!leftRoot.equals(rightRoot)) {
+            parents.put(Math.max(leftRoot, rightRoot), Math.min(leftRoot, rightRoot));
+        }
+    }
+
+    private static Long root(Map<Long, Long> parents, Long id) {
+        Long parent = parents.computeIfAbsent(id, key -> key);
+        while (!parent.equals(id)) {
+            Long grandParent = parents.get(parent);
+            parents.put(id, grandParent);
+            id = parent;
+            parent = grandParent;
+        }
+        return id;
+    }
+}
@@ -0,0 +1,168 @@
+package com.apluz.backend.application.feed;
+
+import com.apluz.backend.domain.event.PropertyChangedEvent;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.port.PropertyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Feed en memoria de las últimas propiedades AVAILABLE, global y por ciudad, para la portada.
+ * Cada publicación entra en un {@link LatestRing} acotado con una versión; una propiedad que deja de
+ * estar disponible o se vuelve a publicar no se borra del buffer: su hueco antiguo queda obsoleto
+ * porque ya no coincide con la versión vigente. Una publicación se guarda mientras algún buffer la
+ * contenga, así que la memoria queda acotada por el número de buffers. Se carga al arrancar y se
+ * mantiene con {@link PropertyChangedEvent}; las consultas no tocan la base de datos, por lo que los
+ * huecos obsoletos no se rellenan y un buffer puede devolver menos de {@code limit} propiedades
+ * hasta que lleguen publicaciones nuevas o se reconstruya.
+ * El orden es el de llegada al estado AVAILABLE (alta o reactivación), no created_at.
+ */
+@Component
+public class LatestListingsFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(LatestListingsFeed.class);
+
+    /**
+     * {@code rings}: buffers que aún contienen esta versión; al llegar a cero se retira del mapa
+     */
+    private record Listing(long version, Property property, AtomicInteger rings) {
+    }
+
+    private final PropertyRepository propertyRepository;
+    private final int capacity;
+    private final AtomicLong versions = new AtomicLong();
+    private final Map<Long, Listing> listings = new ConcurrentHashMap<>();
+    private final Map<String, LatestRing> byCity = new ConcurrentHashMap<>();
+    private volatile LatestRing global;
+
+    public LatestListingsFeed(PropertyRepository propertyRepository,
+                              @Value("${apluz.latest-feed.capacity:200}") int capacity) {
+        this.propertyRepository = propertyRepository;
+        this.capacity = capacity;
+        this.global = new LatestRing(capacity);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Carga las {@code capacity} propiedades disponibles más recientes, en global y por ciudad.
+     * Se ejecuta antes de que la aplicación pase a aceptar tráfico
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<Property> newestFirst = new ArrayList<>();
+        Map<String, Integer> perCity = new HashMap<>();
+        int[] seen = {0};
+        propertyRepository.forEach(PropertyFilter.byStatus(PropertyStatus.AVAILABLE), property -> {
+            int inCity = perCity.merge(Objects.toString(property.getCity(), ""), 1, Integer::sum);
+            if (seen[0]++ < capacity || inCity <= capacity) {
+                newestFirst.add(property);
+            }
+        });
+
+        listings.clear();
+        byCity.clear();
+        global = new LatestRing(capacity);
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            publish(newestFirst.get(i));
+        }
+        log.info("Latest listings feed built: {} listings, {} cities", listings.size(), byCity.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        Property property = event.property();
+        if (event.type() == PropertyChangedEvent.ChangeType.DELETED
+                || property.getStatus() != PropertyStatus.AVAILABLE) {
+            listings.remove(event.propertyId());
+            return;
+        }
+        Listing known = listings.get(event.propertyId());
+        if (property.getCity() == null) {
+            // Cambio de estado parcial (write-behind): si ya estaba publicada no cambia nada
+            if (known != null) {
+                return;
+            }
+            property = propertyRepository.findById(event.propertyId()).orElse(null);
+            if (property == null) {
+                return;
+            }
+            property.setStatus(PropertyStatus.AVAILABLE);
+        }
+        if (known != null && Objects.equals(known.property().getCity(), property.getCity())) {
+            // Sigue disponible en la misma ciudad: datos nuevos, misma posición
+            Property updated = property;
+            listings.computeIfPresent(property.getId(), (id, current) -> current.version() == known.version()
+                ? new Listing(current.version(), updated, current.rings()) : current);
+            return;
+        }
+        publish(property);
+    }
+
+    /**
+     * Últimas propiedades disponibles, de la más reciente a la más antigua
+     *
+     * @param city ciudad exacta, o null para el feed global
+     */
+    public List<Property> latest(String city, int limit) {
+        LatestRing ring = city == null ? global : byCity.get(city);
+        if (ring == null || limit <= 0) {
+            return List.of();
+        }
+        List<Property> result = new ArrayList<>(Math.min(limit, capacity));
+        ring.forEachNewest(slot -> {
+            Listing listing = listings.get(slot.propertyId());
+            if (listing != null && listing.version() == slot.version()) {
+                result.add(listing.property());
+            }
+            return result.size() < limit;
+        });
+        return result;
+    }
+
+    private void publish(Property property) {
+        long version = versions.incrementAndGet();
+        int rings = property.getCity() != null ? 2 : 1;
+        listings.put(property.getId(), new Listing(version, property, new AtomicInteger(rings)));
+        evict(global.push(property.getId(), version));
+        if (property.getCity() != null) {
+            evict(byCity.computeIfAbsent(property.getCity(), city -> new LatestRing(capacity))
+                .push(property.getId(), version));
+        }
+    }
+
+    private void evict(LatestRing.Slot displaced) {
+        if (displaced == null) {
+            return;
+        }
+        listings.computeIfPresent(displaced.propertyId(), (id, listing) ->
+            listing.version() == displaced.version() && listing.rings().decrementAndGet() == 0 ? null : listing);
+    }
+
+    /**
+     * Propiedades retenidas en memoria (como máximo {@code capacity} por buffer)
+     */
+    int size() {
+        return listings.size();
+    }
+}
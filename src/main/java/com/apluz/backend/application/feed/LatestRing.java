@@ -0,0 +1,63 @@
+package com.apluz.backend.application.feed;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Buffer circular sin bloqueos con las últimas publicaciones. Cada escritor reserva una secuencia
+ * con un incremento atómico y escribe su hueco; el lector recorre hacia atrás desde la cabeza y
+ * descarta los huecos cuya secuencia no coincide (aún sin escribir o ya sobrescritos por una vuelta nueva).
+ */
+final class LatestRing {
+
+    record Slot(long sequence, long propertyId, long version) {
+    }
+
+    private final AtomicReferenceArray<Slot> slots;
+    private final AtomicLong head = new AtomicLong();
+
+    LatestRing(int capacity) {
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Un escritor retrasado nunca pisa un hueco que ya ocupa una secuencia más nueva de otra vuelta
+     *
+     * @return la publicación que sale del buffer: la que ocupaba el hueco, la propia si llegó tarde, o null
+     */
+    Slot push(long propertyId, long version) {
+        long sequence = head.getAndIncrement();
+        int index = index(sequence);
+        Slot written = new Slot(sequence, propertyId, version);
+        Slot current;
+        do {
+            current = slots.get(index);
+            if (current != null && current.sequence() > sequence) {
+                return written;
+            }
+        } while (!slots.compareAndSet(index, current, written));
+        return current;
+    }
+
+    /**
+     * Entrega los huecos de más reciente a más antiguo mientras {@code visitor} devuelva true
+     */
+    void forEachNewest(Predicate<Slot> visitor) {
+        long newest = head.get() - 1;
+        long oldest = Math.max(0, newest - slots.length() + 1);
+        for (long sequence = newest; sequence >= oldest; sequence--) {
+            Slot slot = slots.get(index(sequence));
+            if (slot == null || slot.sequence() != sequence) {
+                continue;
+            }
+            if (!visitor.test(slot)) {
+                return;
+            }
+        }
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % slots.length());
+    }
+}
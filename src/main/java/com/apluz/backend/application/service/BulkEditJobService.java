@@ -0,0 +1,186 @@
+package com.apluz.backend.application.service;
+
+import com.apluz.backend.domain.model.BulkEdit;
+import com.apluz.backend.domain.model.BulkEditChunk;
+import com.apluz.backend.domain.model.BulkEditJob;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.port.BulkEditJobRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Trabajos de edición masiva (cambio de precio en porcentaje o importe, o de estado) sobre las propiedades
+ * que cumplen un filtro. Al enviarlo se leen los ids seleccionados, se ordenan y se reparten en lotes de
+ * {@code chunk-size} que se guardan con el trabajo. Los lotes se ejecutan en paralelo en un pool de
+ * {@code parallelism} hilos compartido por todos los trabajos (como mucho esa cantidad de conexiones),
+ * cada uno en su propia transacción junto con la marca de lote hecho: un reinicio reanuda los trabajos
+ * en RUNNING sin repetir lotes, y cancelar detiene el trabajo entre lotes sin deshacer los confirmados.
+ * <p>
+ * Los trabajos no tienen dueño: con varias instancias, cada una reanuda al arrancar todos los que estén en
+ * RUNNING, también los que otra sigue ejecutando. No se aplica ningún lote dos veces (la marca de lote hecho
+ * bloquea la fila y la transacción que llega tarde se deshace), pero el trabajo de ese lote se repite.
+ */
+@Service
+public class BulkEditJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkEditJobService.class);
+    private static final int MAX_ERROR_LENGTH = 1_000;
+
+    private final PropertyService propertyService;
+    private final BulkEditJobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final ExecutorService workers;
+
+    public BulkEditJobService(
+            PropertyService propertyService,
+            BulkEditJobRepository jobRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${apluz.bulk-jobs.chunk-size:500}") int chunkSize,
+            @Value("${apluz.bulk-jobs.parallelism:4}") int parallelism) {
+        this.propertyService = propertyService;
+        this.jobRepository = jobRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        AtomicInteger threads = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-edit-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Selecciona las propiedades, registra el trabajo con sus lotes y empieza a ejecutarlo en segundo plano
+     *
+     * @throws IllegalArgumentException si el filtro no tiene ningún criterio
+     */
+    public BulkEditJob submit(PropertyFilter filter, BulkEdit edit) {
+        if (filter.isUnfiltered()) {
+            throw new IllegalArgumentException("Bulk edit requires at least one filter criterion");
+        }
+        List<Long> ids = new ArrayList<>();
+        propertyService.streamProperties(filter, EnumSet.of(PropertyField.ID), property -> ids.add(property.getId()));
+        ids.sort(null);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(List.copyOf(ids.subList(from, Math.min(from + chunkSize, ids.size()))));
+        }
+
+        BulkEditJob job = jobRepository.create(filter, edit, chunks, LocalDateTime.now());
+        log.info("Bulk edit job {} submitted: {} properties in {} chunks", job.id(), ids.size(), chunks.size());
+        schedule(job);
+        return jobRepository.findById(job.id()).orElse(job);
+    }
+
+    public Optional<BulkEditJob> getJob(Long id) {
+        return jobRepository.findById(id);
+    }
+
+    /**
+     * Detiene el trabajo: los lotes en curso terminan o se deshacen, los pendientes no se ejecutan
+     *
+     * @throws IllegalStateException si el trabajo no está en RUNNING
+     */
+    public Optional<BulkEditJob> cancel(Long id) {
+        return jobRepository.findById(id).map(job -> {
+            if (!jobRepository.transition(id, BulkEditJob.Status.RUNNING, BulkEditJob.Status.CANCELLED, null,
+                    LocalDateTime.now())) {
+                throw new IllegalStateException("Bulk edit job " + id + " is not running");
+            }
+            log.info("Bulk edit job {} cancelled", id);
+            return jobRepository.findById(id).orElseThrow();
+        });
+    }
+
+    /**
+     * Vuelve a lanzar los lotes pendientes de un trabajo cancelado o fallido
+     *
+     * @throws IllegalStateException si el trabajo no está en CANCELLED ni en FAILED
+     */
+    public Optional<BulkEditJob> resume(Long id) {
+        return jobRepository.findById(id).map(job -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (!jobRepository.transition(id, BulkEditJob.Status.CANCELLED, BulkEditJob.Status.RUNNING, null, now)
+                    && !jobRepository.transition(id, BulkEditJob.Status.FAILED, BulkEditJob.Status.RUNNING, null, now)) {
+                throw new IllegalStateException("Bulk edit job " + id + " is not cancelled or failed");
+            }
+            schedule(job);
+            return jobRepository.findById(id).orElseThrow();
+        });
+    }
+
+    /**
+     * Reanuda los trabajos que estaban en RUNNING cuando se paró la aplicación, o que ejecuta otra instancia
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeRunningJobs() {
+        for (BulkEditJob job : jobRepository.findByStatus(BulkEditJob.Status.RUNNING)) {
+            log.info("Resuming bulk edit job {} ({}/{} chunks done)", job.id(), job.completedChunks(), job.totalChunks());
+            schedule(job);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void schedule(BulkEditJob job) {
+        List<BulkEditChunk> pending = jobRepository.findPendingChunks(job.id());
+        if (pending.isEmpty()) {
+            jobRepository.completeIfFinished(job.id(), LocalDateTime.now());
+            return;
+        }
+        for (BulkEditChunk chunk : pending) {
+            workers.execute(() -> runChunk(job, chunk));
+        }
+    }
+
+    private void runChunk(BulkEditJob job, BulkEditChunk chunk) {
+        if (!isRunning(job.id())) {
+            return;
+        }
+        try {
+            Boolean committed = transactionTemplate.execute(tx -> {
+                long updated = propertyService.applyBulkEdit(job.filter(), chunk.propertyIds(), job.edit());
+                if (!jobRepository.completeChunk(job.id(), chunk.index(), updated,
+                        chunk.propertyIds().size() - updated, LocalDateTime.now())) {
+                    // Cancelado mientras tanto, o el lote ya lo confirmó otra instancia
+                    tx.setRollbackOnly();
+                    return false;
+                }
+                return true;
+            });
+            if (Boolean.TRUE.equals(committed) && jobRepository.completeIfFinished(job.id(), LocalDateTime.now())) {
+                log.info("Bulk edit job {} completed", job.id());
+            }
+        } catch (RuntimeException e) {
+            log.error("Bulk edit job {} failed on chunk {}", job.id(), chunk.index(), e);
+            String error = "Chunk " + chunk.index() + ": " + e.getMessage();
+            jobRepository.transition(job.id(), BulkEditJob.Status.RUNNING, BulkEditJob.Status.FAILED,
+                error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error, LocalDateTime.now());
+        }
+    }
+
+    private boolean isRunning(Long jobId) {
+        return jobRepository.findById(jobId).map(job -> job.status() == BulkEditJob.Status.RUNNING).orElse(false);
+    }
+}
@@ -0,0 +1,87 @@
+package com.apluz.backend.application.service;
+
+import com.apluz.backend.domain.model.PriceChange;
+import com.apluz.backend.domain.model.PriceHistory;
+import com.apluz.backend.domain.port.PriceHistoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Servicio de aplicación: Consultas sobre el histórico de precios y su compactación periódica.
+ * Los cambios se guardan en detalle durante {@code raw-retention-days}; después pasan a buckets diarios,
+ * y los diarios a mensuales al superar {@code daily-retention-days}.
+ */
+@Service
+public class PriceHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceHistoryService.class);
+
+    private final PriceHistoryRepository priceHistoryRepository;
+    private final int rawRetentionDays;
+    private final int dailyRetentionDays;
+
+    public PriceHistoryService(
+            PriceHistoryRepository priceHistoryRepository,
+            @Value("${apluz.price-history.raw-retention-days:90}") int rawRetentionDays,
+            @Value("${apluz.price-history.daily-retention-days:730}") int dailyRetentionDays) {
+        this.priceHistoryRepository = priceHistoryRepository;
+        this.rawRetentionDays = rawRetentionDays;
+        this.dailyRetentionDays = dailyRetentionDays;
+    }
+
+    @Transactional(readOnly = true)
+    public PriceHistory getPropertyHistory(Long propertyId, LocalDateTime from, LocalDateTime to) {
+        requireRange(from, to);
+        return new PriceHistory(
+            priceHistoryRepository.findByProperty(propertyId, from, to),
+            priceHistoryRepository.findBucketsByProperty(propertyId, from, to));
+    }
+
+    @Transactional(readOnly = true)
+    public PriceHistory getCityHistory(String city, LocalDateTime from, LocalDateTime to) {
+        requireRange(from, to);
+        return new PriceHistory(
+            priceHistoryRepository.findByCity(city, from, to),
+            priceHistoryRepository.findBucketsByCity(city, from, to));
+    }
+
+    /**
+     * Bajadas de precio más recientes, opcionalmente de una ciudad
+     */
+    public List<PriceChange> getRecentDrops(String city, LocalDateTime since, int limit) {
+        return priceHistoryRepository.findDrops(city, since, limit);
+    }
+
+    @Scheduled(cron = "${apluz.price-history.compaction-cron:0 30 3 * * *}")
+    @Transactional
+    public void compact() {
+        compactAsOf(LocalDate.now());
+    }
+
+    /**
+     * Compacta con cortes alineados a día y a mes, para que cada bucket se construya con el periodo completo
+     */
+    @Transactional
+    public void compactAsOf(LocalDate today) {
+        LocalDate rawCutoff = today.minusDays(rawRetentionDays);
+        LocalDate dailyCutoff = today.minusDays(dailyRetentionDays).withDayOfMonth(1);
+        int changes = priceHistoryRepository.rollUpChanges(rawCutoff.atStartOfDay());
+        int days = priceHistoryRepository.rollUpDays(dailyCutoff);
+        log.info("Price history compaction: {} changes before {} rolled into daily buckets, "
+            + "{} daily buckets before {} rolled into monthly buckets", changes, rawCutoff, days, dailyCutoff);
+    }
+
+    private static void requireRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Range start must be before its end");
+        }
+    }
+}
@@ -1,38 +1,86 @@
 package com.apluz.backend.application.service;
 
+import com.apluz.backend.domain.event.PropertyChangedEvent;
+import com.apluz.backend.domain.model.BulkEdit;
+import com.apluz.backend.domain.model.PriceChange;
 import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyCount;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
 import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyStatusChange;
 import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.domain.port.PriceHistoryRepository;
 import com.apluz.backend.domain.port.PropertyRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
- * Servicio de aplicación: Gestiona la lógica de negocio de propiedades
+ * Servicio de aplicación: Gestiona la lógica de negocio de propiedades.
+ * Cada escritura publica un {@link PropertyChangedEvent} para cachés e índices en memoria, y cada
+ * precio nuevo se añade al histórico en la misma transacción.
  */
 @Service
 public class PropertyService {
 
     private final PropertyRepository propertyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StatusWriteBehindQueue statusWriteBehindQueue;
+    private final PriceHistoryRepository priceHistoryRepository;
 
-    public PropertyService(PropertyRepository propertyRepository) {
+    public PropertyService(PropertyRepository propertyRepository, ApplicationEventPublisher eventPublisher,
+                           StatusWriteBehindQueue statusWriteBehindQueue, PriceHistoryRepository priceHistoryRepository) {
         this.propertyRepository = propertyRepository;
+        this.eventPublisher = eventPublisher;
+        this.statusWriteBehindQueue = statusWriteBehindQueue;
+        this.priceHistoryRepository = priceHistoryRepository;
     }
 
+    @Transactional
     public Property createProperty(Property property) {
         property.setCreatedAt(LocalDateTime.now());
         property.setUpdatedAt(LocalDateTime.now());
         if (property.getStatus() == null) {
             property.setStatus(PropertyStatus.AVAILABLE);
         }
-        return propertyRepository.save(property);
+        Property created = propertyRepository.save(property);
+        priceHistoryRepository.append(new PriceChange(created.getId(), created.getCity(), null,
+            created.getPrice(), created.getCreatedAt()));
+        eventPublisher.publishEvent(PropertyChangedEvent.created(created));
+        return created;
     }
 
     public Optional<Property> getPropertyById(Long id) {
-        return propertyRepository.findById(id);
+        return propertyRepository.findById(id).map(this::applyPendingStatus);
+    }
+
+    /**
+     * Obtiene varias propiedades con una sola consulta, en el orden de {@code ids}; los inexistentes se omiten
+     */
+    public List<Property> getPropertiesByIds(List<Long> ids) {
+        Map<Long, Property> found = new HashMap<>();
+        for (Property property : propertyRepository.findAllById(ids)) {
+            found.put(property.getId(), applyPendingStatus(property));
+        }
+        return ids.stream()
+            .distinct()
+            .map(found::get)
+            .filter(Objects::nonNull)
+            .toList();
     }
 
     public List<Property> getAllProperties() {
@@ -51,13 +99,46 @@ public class PropertyService {
         return propertyRepository.findByStatus(status);
     }
 
+    /**
+     * Entrega las propiedades una a una a medida que se leen de la base de datos.
+     * La transacción de solo lectura permite al driver usar un cursor en lugar de cargar todo el resultado.
+     */
+    @Transactional(readOnly = true)
+    public void streamProperties(PropertyFilter filter, Consumer<Property> action) {
+        streamProperties(filter, PropertyField.all(), action);
+    }
+
+    /**
+     * Como {@link #streamProperties(PropertyFilter, Consumer)} pero cargando solo {@code fields} (y el id)
+     */
+    @Transactional(readOnly = true)
+    public void streamProperties(PropertyFilter filter, Set<PropertyField> fields, Consumer<Property> action) {
+        if (statusWriteBehindQueue.isEnabled()) {
+            propertyRepository.forEach(filter, fields, property -> action.accept(applyPendingStatus(property)));
+        } else {
+            propertyRepository.forEach(filter, fields, action);
+        }
+    }
+
+    /**
+     * Total de propiedades que cumplen el filtro; con {@code exact = false} puede ser una estimación
+     */
+    public PropertyCount countProperties(PropertyFilter filter, boolean exact) {
+        return propertyRepository.count(filter, exact);
+    }
+
+    @Transactional
     public Property updateProperty(Long id, Property updatedProperty) {
+        if (statusWriteBehindQueue.isEnabled()) {
+            statusWriteBehindQueue.flush(id);
+        }
         Optional<Property> existingProperty = propertyRepository.findById(id);
         if (existingProperty.isEmpty()) {
             throw new PropertyNotFoundException("Property with id " + id + " not found");
         }
 
         Property property = existingProperty.get();
+        BigDecimal previousPrice = property.getPrice();
         property.setTitle(updatedProperty.getTitle());
         property.setDescription(updatedProperty.getDescription());
         property.setType(updatedProperty.getType());
@@ -73,17 +154,30 @@ public class PropertyService {
         property.setParkingSpaces(updatedProperty.getParkingSpaces());
         property.setUpdatedAt(LocalDateTime.now());
 
-        return propertyRepository.save(property);
+        Property saved = propertyRepository.save(property);
+        if (previousPrice == null || saved.getPrice().compareTo(previousPrice) != 0) {
+            priceHistoryRepository.append(new PriceChange(saved.getId(), saved.getCity(), previousPrice,
+                saved.getPrice(), saved.getUpdatedAt()));
+        }
+        eventPublisher.publishEvent(PropertyChangedEvent.updated(saved));
+        return saved;
     }
 
     public void deleteProperty(Long id) {
+        if (statusWriteBehindQueue.isEnabled()) {
+            statusWriteBehindQueue.flush(id);
+        }
         if (!propertyRepository.existsById(id)) {
             throw new PropertyNotFoundException("Property with id " + id + " not found");
         }
         propertyRepository.deleteById(id);
+        eventPublisher.publishEvent(PropertyChangedEvent.deleted(id));
     }
 
     public Property updatePropertyStatus(Long id, PropertyStatus status) {
+        if (statusWriteBehindQueue.isEnabled()) {
+            statusWriteBehindQueue.flush(id);
+        }
         Optional<Property> existingProperty = propertyRepository.findById(id);
         if (existingProperty.isEmpty()) {
             throw new PropertyNotFoundException("Property with id " + id + " not found");
@@ -93,7 +187,100 @@ public class PropertyService {
         property.setStatus(status);
         property.setUpdatedAt(LocalDateTime.now());
 
-        return propertyRepository.save(property);
+        Property saved = propertyRepository.save(property);
+        eventPublisher.publishEvent(PropertyChangedEvent.statusChanged(saved));
+        return saved;
+    }
+
+    /**
+     * Cambia de estado en bloque, con una sola sentencia, las propiedades seleccionadas por ids y/o filtro.
+     * Publica un evento por fila afectada, igual que el cambio individual, y la entrega a {@code onUpdated}
+     * a medida que se lee para poder devolver conjuntos grandes en streaming.
+     *
+     * @param ids ids a cambiar, o null para seleccionar solo por filtro
+     * @return número de propiedades actualizadas
+     */
+    @Transactional
+    public long transitionPropertyStatus(PropertyFilter filter, Collection<Long> ids, PropertyStatus status,
+                                         Consumer<Property> onUpdated) {
+        if (ids == null && filter.isUnfiltered()) {
+            throw new IllegalArgumentException("Bulk status transition requires ids or at least one filter criterion");
+        }
+        if (statusWriteBehindQueue.isEnabled()) {
+            statusWriteBehindQueue.flush();
+        }
+        long[] count = {0};
+        propertyRepository.transitionStatus(filter, ids, status, LocalDateTime.now(), property -> {
+            eventPublisher.publishEvent(PropertyChangedEvent.statusChanged(property));
+            onUpdated.accept(property);
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    /**
+     * Aplica una edición masiva a un lote de propiedades en una transacción: vuelve a comprobar el filtro
+     * (la fila pudo cambiar desde que se seleccionó) y escribe los precios con un solo batch condicionado
+     * al precio leído, más el histórico y un evento por fila. Los cambios de estado usan
+     * {@link #transitionPropertyStatus}.
+     *
+     * @return número de propiedades actualizadas
+     */
+    @Transactional
+    public long applyBulkEdit(PropertyFilter filter, Collection<Long> ids, BulkEdit edit) {
+        if (!edit.changesPrice()) {
+            return transitionPropertyStatus(filter, ids, edit.status(), property -> {
+            });
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Property> candidates = new HashMap<>();
+        List<PriceChange> changes = new ArrayList<>();
+        for (Property property : propertyRepository.findAllById(ids)) {
+            if (!filter.matches(applyPendingStatus(property))) {
+                continue;
+            }
+            BigDecimal newPrice = edit.newPrice(property.getPrice());
+            if (newPrice != null && newPrice.compareTo(property.getPrice()) != 0) {
+                changes.add(new PriceChange(property.getId(), property.getCity(), property.getPrice(), newPrice, now));
+                candidates.put(property.getId(), property);
+            }
+        }
+        if (changes.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> updated = propertyRepository.updatePrices(changes);
+        List<PriceChange> applied = changes.stream().filter(change -> updated.contains(change.propertyId())).toList();
+        priceHistoryRepository.appendAll(applied);
+        for (PriceChange change : applied) {
+            Property property = candidates.get(change.propertyId());
+            property.setPrice(change.newPrice());
+            property.setUpdatedAt(now);
+            eventPublisher.publishEvent(PropertyChangedEvent.updated(property));
+        }
+        return applied.size();
+    }
+
+    public boolean isStatusWriteBehindEnabled() {
+        return statusWriteBehindQueue.isEnabled();
+    }
+
+    /**
+     * Acepta un cambio de estado en modo write-behind: no lee la fila y se persiste en el próximo lote.
+     * Las lecturas y cachés reflejan el estado aceptado de inmediato.
+     *
+     * @return future que se completa con true al persistirse, o false si la propiedad no existe
+     */
+    public CompletableFuture<Boolean> enqueuePropertyStatus(Long id, PropertyStatus status) {
+        PropertyStatusChange change = new PropertyStatusChange(id, status, LocalDateTime.now());
+        CompletableFuture<Boolean> persisted = statusWriteBehindQueue.enqueue(change);
+        eventPublisher.publishEvent(PropertyChangedEvent.statusChanged(StatusWriteBehindQueue.statusOnly(change)));
+        return persisted;
+    }
+
+    private Property applyPendingStatus(Property property) {
+        statusWriteBehindQueue.pendingStatus(property.getId()).ifPresent(property::setStatus);
+        return property;
     }
 
     public static class PropertyNotFoundException extends RuntimeException {
@@ -0,0 +1,141 @@
+package com.apluz.backend.application.service;
+
+import com.apluz.backend.domain.model.PriceChange;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyCount;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.port.ReactivePriceHistoryRepository;
+import com.apluz.backend.domain.port.ReactivePropertyRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Servicio de aplicación de la pila reactiva (perfil {@code reactive}): mismas reglas que
+ * {@link PropertyService}, sin bloquear. Las escrituras con histórico de precios van en una
+ * transacción R2DBC. No publica eventos: las cachés e índices en memoria son de la pila servlet.
+ */
+@Service
+@Profile("reactive")
+public class ReactivePropertyService {
+
+    private final ReactivePropertyRepository propertyRepository;
+    private final ReactivePriceHistoryRepository priceHistoryRepository;
+    private final TransactionalOperator transactionalOperator;
+
+    public ReactivePropertyService(ReactivePropertyRepository propertyRepository,
+                                   ReactivePriceHistoryRepository priceHistoryRepository,
+                                   TransactionalOperator transactionalOperator) {
+        this.propertyRepository = propertyRepository;
+        this.priceHistoryRepository = priceHistoryRepository;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    public Mono<Property> createProperty(Property property) {
+        property.setCreatedAt(LocalDateTime.now());
+        property.setUpdatedAt(LocalDateTime.now());
+        if (property.getStatus() == null) {
+            property.setStatus(PropertyStatus.AVAILABLE);
+        }
+        return propertyRepository.save(property)
+            .flatMap(created -> priceHistoryRepository.append(new PriceChange(created.getId(), created.getCity(), null,
+                    created.getPrice(), created.getCreatedAt()))
+                .thenReturn(created))
+            .as(transactionalOperator::transactional);
+    }
+
+    public Mono<Property> getPropertyById(Long id) {
+        return propertyRepository.findById(id);
+    }
+
+    /**
+     * Varias propiedades con una sola consulta, en el orden de {@code ids}; los inexistentes se omiten
+     */
+    public Mono<List<Property>> getPropertiesByIds(List<Long> ids) {
+        return propertyRepository.findAllById(ids)
+            .collectMap(Property::getId)
+            .map(found -> ids.stream().distinct().map(found::get).filter(Objects::nonNull).toList());
+    }
+
+    public Flux<Property> streamProperties(PropertyFilter filter, Set<PropertyField> fields) {
+        return propertyRepository.findAll(filter, fields);
+    }
+
+    public Mono<PropertyCount> countProperties(PropertyFilter filter) {
+        return propertyRepository.count(filter);
+    }
+
+    public Mono<Property> updateProperty(Long id, Property updatedProperty) {
+        return findExisting(id)
+            .flatMap(property -> {
+                BigDecimal previousPrice = property.getPrice();
+                property.setTitle(updatedProperty.getTitle());
+                property.setDescription(updatedProperty.getDescription());
+                property.setType(updatedProperty.getType());
+                property.setStatus(updatedProperty.getStatus());
+                property.setPrice(updatedProperty.getPrice());
+                property.setAddress(updatedProperty.getAddress());
+                property.setCity(updatedProperty.getCity());
+                property.setState(updatedProperty.getState());
+                property.setZipCode(updatedProperty.getZipCode());
+                property.setArea(updatedProperty.getArea());
+                property.setBedrooms(updatedProperty.getBedrooms());
+                property.setBathrooms(updatedProperty.getBathrooms());
+                property.setParkingSpaces(updatedProperty.getParkingSpaces());
+                property.setUpdatedAt(LocalDateTime.now());
+                return propertyRepository.save(property).flatMap(saved -> {
+                    if (previousPrice != null && saved.getPrice().compareTo(previousPrice) == 0) {
+                        return Mono.just(saved);
+                    }
+                    return priceHistoryRepository.append(new PriceChange(saved.getId(), saved.getCity(), previousPrice,
+                        saved.getPrice(), saved.getUpdatedAt())).thenReturn(saved);
+                });
+            })
+            .as(transactionalOperator::transactional);
+    }
+
+    public Mono<Property> updatePropertyStatus(Long id, PropertyStatus status) {
+        return findExisting(id).flatMap(property -> {
+            property.setStatus(status);
+            property.setUpdatedAt(LocalDateTime.now());
+            return propertyRepository.save(property);
+        });
+    }
+
+    /**
+     * Cambia de estado en bloque las propiedades seleccionadas por ids y/o filtro, emitiendo cada fila
+     * actualizada a medida que la devuelve la base de datos
+     *
+     * @param ids ids a cambiar, o null para seleccionar solo por filtro
+     */
+    public Flux<Property> transitionPropertyStatus(PropertyFilter filter, Collection<Long> ids, PropertyStatus status) {
+        if (ids == null && filter.isUnfiltered()) {
+            return Flux.error(new IllegalArgumentException("Bulk status transition requires ids or at least one filter criterion"));
+        }
+        return propertyRepository.transitionStatus(filter, ids, status, LocalDateTime.now())
+            .as(transactionalOperator::transactional);
+    }
+
+    public Mono<Void> deleteProperty(Long id) {
+        return propertyRepository.deleteById(id)
+            .flatMap(deleted -> deleted
+                ? Mono.<Void>empty()
+                : Mono.error(new PropertyService.PropertyNotFoundException("Property with id " + id + " not found")));
+    }
+
+    private Mono<Property> findExisting(Long id) {
+        return propertyRepository.findById(id)
+            .switchIfEmpty(Mono.error(() -> new PropertyService.PropertyNotFoundException("Property with id " + id + " not found")));
+    }
+}
@@ -0,0 +1,209 @@
+package com.apluz.backend.application.service;
+
+import com.apluz.backend.domain.event.PropertyChangedEvent;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyStatusChange;
+import com.apluz.backend.domain.port.PropertyRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cola write-behind para cambios de estado: agrupa los cambios pendientes por id
+ * (gana el último) y los persiste en lotes cada {@code flush-interval-ms} o al alcanzar
+ * {@code max-batch-size}. Cada cambio aceptado devuelve un future que se completa cuando
+ * el lote que lo contiene se ha escrito (true), o con false si el id no existe o la fila ya tenía
+ * un updated_at posterior al cambio (otra escritura llegó antes a la base de datos).
+ */
+@Component
+public class StatusWriteBehindQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(StatusWriteBehindQueue.class);
+
+    private final PropertyRepository propertyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int maxBatchSize;
+
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService flusher;
+
+    public StatusWriteBehindQueue(
+            PropertyRepository propertyRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${apluz.status-write-behind.enabled:false}") boolean enabled,
+            @Value("${apluz.status-write-behind.flush-interval-ms:50}") long flushIntervalMs,
+            @Value("${apluz.status-write-behind.max-batch-size:500}") int maxBatchSize) {
+        this.propertyRepository = propertyRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        if (enabled) {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "status-write-behind");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Acepta un cambio de estado; si ya había uno pendiente para el id, lo reemplaza
+     */
+    public CompletableFuture<Boolean> enqueue(PropertyStatusChange change) {
+        if (!enabled) {
+            throw new IllegalStateException("Status write-behind is disabled");
+        }
+        CompletableFuture<Boolean> persisted = new CompletableFuture<>();
+        pending.compute(change.propertyId(), (id, previous) -> {
+            // Copia: la lista del cambio anterior puede estar completándose en un lote en curso
+            List<CompletableFuture<Boolean>> waiters = previous != null ? new ArrayList<>(previous.waiters) : new ArrayList<>();
+            waiters.add(persisted);
+            return new Pending(change, waiters);
+        });
+        if (pending.size() >= maxBatchSize && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushQuietly);
+        }
+        return persisted;
+    }
+
+    /**
+     * Estado aceptado pero aún no persistido, para que las lecturas lo reflejen de inmediato
+     */
+    public Optional<PropertyStatus> pendingStatus(Long id) {
+        if (pending.isEmpty()) {
+            return Optional.empty();
+        }
+        Pending entry = pending.get(id);
+        return entry != null ? Optional.of(entry.change.status()) : Optional.empty();
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Hora de aceptación del cambio pendiente más antiguo: lo que aún no se ha escrito en la base de datos
+     */
+    public Optional<LocalDateTime> oldestPendingChange() {
+        return pending.values().stream()
+            .map(entry -> entry.change.changedAt())
+            .min(Comparator.naturalOrder());
+    }
+
+    /**
+     * Persiste todo lo pendiente en lotes de como máximo {@code max-batch-size}. Cada cambio sigue en la cola
+     * hasta que su lote se ha escrito, para que las lecturas no vean el estado anterior entretanto; si mientras
+     * tanto llegó otro cambio para el mismo id, ese se queda para el siguiente lote
+     */
+    public synchronized void flush() {
+        flushRequested.set(false);
+        while (!pending.isEmpty()) {
+            Map<Long, Pending> batch = new HashMap<>();
+            for (Map.Entry<Long, Pending> entry : pending.entrySet()) {
+                if (batch.size() >= maxBatchSize) {
+                    break;
+                }
+                batch.put(entry.getKey(), entry.getValue());
+            }
+            writeBatch(batch);
+        }
+    }
+
+    /**
+     * Persiste ya el cambio pendiente de un id, si lo hay. Las escrituras síncronas de la misma fila lo
+     * llaman antes de escribir para que el estado encolado quede por debajo de ellas y no por encima
+     */
+    public synchronized void flush(Long id) {
+        Pending entry = pending.get(id);
+        if (entry != null) {
+            writeBatch(Map.of(id, entry));
+        }
+    }
+
+    private void writeBatch(Map<Long, Pending> batch) {
+        List<PropertyStatusChange> changes = batch.values().stream().map(entry -> entry.change).toList();
+        Set<Long> updated;
+        try {
+            updated = propertyRepository.updateStatuses(changes);
+        } catch (RuntimeException e) {
+            log.error("Status write-behind flush of {} changes failed, re-queuing", changes.size(), e);
+            batch.forEach((id, entry) -> {
+                entry.waiters.forEach(waiter -> waiter.completeExceptionally(e));
+                pending.replace(id, entry, new Pending(entry.change, new ArrayList<>()));
+            });
+            throw e;
+        }
+        // Fuera de la cola antes de avisar: quien espera ya lee el estado de la base de datos
+        batch.forEach(pending::remove);
+        batch.forEach((id, entry) -> {
+            boolean found = updated.contains(id);
+            if (found) {
+                eventPublisher.publishEvent(PropertyChangedEvent.statusChanged(statusOnly(entry.change)));
+            }
+            entry.waiters.forEach(waiter -> waiter.complete(found));
+        });
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // ya registrado en writeBatch; el siguiente ciclo reintenta
+        }
+    }
+
+    /**
+     * Propiedad parcial (id, estado y fecha) para los eventos de cambios diferidos
+     */
+    static Property statusOnly(PropertyStatusChange change) {
+        Property property = new Property();
+        property.setId(change.propertyId());
+        property.setStatus(change.status());
+        property.setUpdatedAt(change.changedAt());
+        return property;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flushQuietly();
+        }
+    }
+
+    private record Pending(PropertyStatusChange change, List<CompletableFuture<Boolean>> waiters) {
+    }
+}
@@ -0,0 +1,228 @@
+package com.apluz.backend.application.similar;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * KD-tree de vectores de características con búsqueda de los k vecinos más cercanos (distancia euclídea).
+ * Las inserciones cuelgan una hoja nueva y los borrados solo marcan el nodo; cuando los nodos marcados
+ * superan la mitad, el árbol ha doblado su tamaño desde el último equilibrado o una inserción queda demasiado
+ * profunda, se reconstruye por medianas.
+ * No es thread-safe: el llamante sincroniza.
+ */
+final class KdTree {
+
+    /**
+     * Vecino encontrado y su distancia al cuadrado
+     */
+    record Neighbour(long id, double distanceSquared) {
+    }
+
+    private static final class Node {
+        private final long id;
+        private final double[] point;
+        private final int axis;
+        private Node left;
+        private Node right;
+        private boolean deleted;
+
+        private Node(long id, double[] point, int axis) {
+            this.id = id;
+            this.point = point;
+            this.axis = axis;
+        }
+    }
+
+    private record Point(long id, double[] point) {
+    }
+
+    private final int dimensions;
+    private Node root;
+    private int size;
+    private int deleted;
+    private int balancedSize;
+    private int balancedDepth;
+
+    KdTree(int dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    int size() {
+        return size - deleted;
+    }
+
+    void insert(long id, double[] point) {
+        size++;
+        int depth = 0;
+        if (root == null) {
+            root = new Node(id, point, 0);
+        } else {
+            Node node = root;
+            while (true) {
+                depth++;
+                boolean goLeft = point[node.axis] < node.point[node.axis];
+                Node next = goLeft ? node.left : node.right;
+                if (next == null) {
+                    Node leaf = new Node(id, point, (node.axis + 1) % dimensions);
+                    if (goLeft) {
+                        node.left = leaf;
+                    } else {
+                        node.right = leaf;
+                    }
+                    break;
+                }
+                node = next;
+            }
+        }
+        if (size > 2 * Math.max(balancedSize, 16) || depth > 2 * balancedDepth + 8) {
+            rebalance(List.of());
+        }
+    }
+
+    /**
+     * Carga inicial: añade todos los puntos y equilibra una sola vez
+     */
+    void insertAll(List<Long> ids, List<double[]> points) {
+        List<Point> added = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            added.add(new Point(ids.get(i), points.get(i)));
+        }
+        rebalance(added);
+    }
+
+    /**
+     * Marca como borrado el nodo de {@code id}; {@code point} debe ser el mismo con el que se insertó
+     */
+    boolean remove(long id, double[] point) {
+        Node node = find(root, id, point);
+        if (node == null) {
+            return false;
+        }
+        node.deleted = true;
+        deleted++;
+        if (deleted * 2 > size) {
+            rebalance(List.of());
+        }
+        return true;
+    }
+
+    /**
+     * Los {@code k} vecinos más cercanos a {@code query}, del más al menos cercano, sin {@code excludedId}
+     */
+    List<Neighbour> nearest(double[] query, int k, long excludedId) {
+        PriorityQueue<Neighbour> best = new PriorityQueue<>(k + 1,
+            Comparator.comparingDouble(Neighbour::distanceSquared).reversed());
+        search(root, query, k, excludedId, best);
+        List<Neighbour> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(Neighbour::distanceSquared).thenComparingLong(Neighbour::id));
+        return result;
+    }
+
+    private void search(Node node, double[] query, int k, long excludedId, PriorityQueue<Neighbour> best) {
+        if (node == null) {
+            return;
+        }
+        if (!node.deleted && node.id != excludedId) {
+            double distance = distanceSquared(query, node.point);
+            if (best.size() < k) {
+                best.add(new Neighbour(node.id, distance));
+            } else if (distance < best.peek().distanceSquared()) {
+                best.poll();
+                best.add(new Neighbour(node.id, distance));
+            }
+        }
+        double delta = query[node.axis] - node.point[node.axis];
+        Node near = delta < 0 ? node.left : node.right;
+        Node far = delta < 0 ? node.right : node.left;
+        search(near, query, k, excludedId, best);
+        // La otra rama solo puede mejorar si el plano de corte está más cerca que el peor vecino actual
+        if (best.size() < k || delta * delta < best.peek().distanceSquared()) {
+            search(far, query, k, excludedId, best);
+        }
+    }
+
+    private static Node find(Node node, long id, double[] point) {
+        while (node != null) {
+            if (node.id == id && !node.deleted) {
+                return node;
+            }
+            node = point[node.axis] < node.point[node.axis] ? node.left : node.right;
+        }
+        return null;
+    }
+
+    private void rebalance(List<Point> added) {
+        List<Point> live = new ArrayList<>(size - deleted + added.size());
+        collect(root, live);
+        live.addAll(added);
+        balancedDepth = 0;
+        root = build(live, 0, live.size(), 1);
+        size = live.size();
+        deleted = 0;
+        balancedSize = size;
+    }
+
+    private static void collect(Node node, List<Point> live) {
+        if (node == null) {
+            return;
+        }
+        if (!node.deleted) {
+            live.add(new Point(node.id, node.point));
+        }
+        collect(node.left, live);
+        collect(node.right, live);
+    }
+
+    /**
+     * Parte por la mediana del eje con más dispersión (los ejes one-hot o enteros suelen repetir valores);
+     * los iguales a la mediana quedan a la derecha, como en la inserción
+     */
+    private Node build(List<Point> points, int from, int to, int depth) {
+        if (from >= to) {
+            return null;
+        }
+        balancedDepth = Math.max(balancedDepth, depth);
+        int axis = widestAxis(points, from, to);
+        List<Point> range = points.subList(from, to);
+        range.sort(Comparator.comparingDouble(point -> point.point()[axis]));
+        int median = from + (to - from) / 2;
+        while (median > from && points.get(median - 1).point()[axis] == points.get(median).point()[axis]) {
+            median--;
+        }
+        Point point = points.get(median);
+        Node node = new Node(point.id(), point.point(), axis);
+        node.left = build(points, from, median, depth + 1);
+        node.right = build(points, median + 1, to, depth + 1);
+        return node;
+    }
+
+    private int widestAxis(List<Point> points, int from, int to) {
+        int widest = 0;
+        double widestSpread = -1;
+        for (int axis = 0; axis < dimensions; axis++) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = from; i < to; i++) {
+                double value = points.get(i).point()[axis];
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            if (max - min > widestSpread) {
+                widest = axis;
+                widestSpread = max - min;
+            }
+        }
+        return widest;
+    }
+
+    private static double distanceSquared(double[] left, double[] right) {
+        double sum = 0;
+        for (int i = 0; i < left.length; i++) {
+            double delta = left[i] - right[i];
+            sum += delta * delta;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,36 @@
+package com.apluz.backend.application.similar;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyType;
+
+/**
+ * Vector de características de una propiedad para buscar parecidas. Cada eje está escalado para que una
+ * unidad sea una diferencia apreciable: un 20 % de precio o de superficie, un dormitorio, un baño o dos
+ * plazas de garaje; distinto tipo (one-hot) suma algo más de dos unidades. La ubicación no entra en el
+ * vector: el índice separa las propiedades por ciudad.
+ */
+final class PropertyFeatures {
+
+    static final int DIMENSIONS = 5 + PropertyType.values().length;
+
+    private static final double LOG_STEP = Math.log(1.2);
+    private static final double PARKING_SCALE = 0.5;
+    private static final double TYPE_WEIGHT = 1.5;
+
+    private PropertyFeatures() {
+    }
+
+    static double[] of(Property property) {
+        double[] vector = new double[DIMENSIONS];
+        vector[0] = property.getPrice() != null && property.getPrice().signum() > 0
+            ? Math.log(property.getPrice().doubleValue()) / LOG_STEP : 0;
+        vector[1] = property.getArea() != null && property.getArea() > 0 ? Math.log(property.getArea()) / LOG_STEP : 0;
+        vector[2] = property.getBedrooms() != null ? property.getBedrooms() : 0;
+        vector[3] = property.getBathrooms() != null ? property.getBathrooms() : 0;
+        vector[4] = property.getParkingSpaces() != null ? property.getParkingSpaces() * PARKING_SCALE : 0;
+        if (property.getType() != null) {
+            vector[5 + property.getType().ordinal()] = TYPE_WEIGHT;
+        }
+        return vector;
+    }
+}
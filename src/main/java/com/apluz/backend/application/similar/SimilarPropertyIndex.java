@@ -0,0 +1,163 @@
+package com.apluz.backend.application.similar;
+
+import com.apluz.backend.domain.event.PropertyChangedEvent;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.port.PropertyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice en memoria de vecinos más cercanos para "propiedades similares": un {@link KdTree} por ciudad con
+ * el vector de características ({@link PropertyFeatures}) de cada propiedad activa. Las escrituras lo
+ * actualizan de forma incremental con {@link PropertyChangedEvent}; las consultas no tocan la base de datos
+ * salvo para leer una propiedad archivada que se pide como referencia.
+ */
+@Component
+public class SimilarPropertyIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SimilarPropertyIndex.class);
+
+    private record Entry(Property property, String city, double[] vector) {
+    }
+
+    private final PropertyRepository propertyRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, KdTree> byCity = new HashMap<>();
+
+    public SimilarPropertyIndex(PropertyRepository propertyRepository) {
+        this.propertyRepository = propertyRepository;
+    }
+
+    /**
+     * Carga las propiedades activas y equilibra el árbol de cada ciudad de una vez. El bloqueo de escritura
+     * cubre también la lectura: los eventos que llegan mientras tanto esperan y se aplican sobre el índice nuevo
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            Map<String, List<Entry>> loaded = new HashMap<>();
+            propertyRepository.forEach(PropertyFilter.all(), property -> {
+                Entry entry = entryOf(property);
+                if (entry != null) {
+                    loaded.computeIfAbsent(entry.city(), city -> new ArrayList<>()).add(entry);
+                }
+            });
+
+            entries.clear();
+            byCity.clear();
+            loaded.forEach((city, cityEntries) -> {
+                List<Long> ids = new ArrayList<>(cityEntries.size());
+                List<double[]> vectors = new ArrayList<>(cityEntries.size());
+                for (Entry entry : cityEntries) {
+                    entries.put(entry.property().getId(), entry);
+                    ids.add(entry.property().getId());
+                    vectors.add(entry.vector());
+                }
+                KdTree tree = new KdTree(PropertyFeatures.DIMENSIONS);
+                tree.insertAll(ids, vectors);
+                byCity.put(city, tree);
+            });
+            log.info("Similar properties index built: {} properties, {} cities", entries.size(), byCity.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        Property property = event.property();
+        if (property != null && property.getCity() == null && property.getStatus() != null
+                && !property.getStatus().isArchived()) {
+            // Cambio de estado parcial (write-behind) a un estado activo: se relee la propiedad completa
+            property = propertyRepository.findById(event.propertyId()).orElse(null);
+            if (property != null) {
+                property.setStatus(event.property().getStatus());
+            }
+        }
+        Entry entry = event.type() == PropertyChangedEvent.ChangeType.DELETED || property == null
+            || (property.getStatus() != null && property.getStatus().isArchived()) ? null : entryOf(property);
+
+        lock.writeLock().lock();
+        try {
+            Entry previous = entry != null ? entries.put(event.propertyId(), entry) : entries.remove(event.propertyId());
+            if (previous != null) {
+                KdTree tree = byCity.get(previous.city());
+                tree.remove(event.propertyId(), previous.vector());
+                if (tree.size() == 0) {
+                    byCity.remove(previous.city());
+                }
+            }
+            if (entry != null) {
+                byCity.computeIfAbsent(entry.city(), city -> new KdTree(PropertyFeatures.DIMENSIONS))
+                    .insert(event.propertyId(), entry.vector());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Las {@code k} propiedades activas de la misma ciudad más parecidas a la propiedad {@code id},
+     * de la más a la menos parecida; vacío si la propiedad no existe
+     */
+    public Optional<List<Property>> findSimilar(Long id, int k) {
+        Entry reference;
+        lock.readLock().lock();
+        try {
+            reference = entries.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (reference == null) {
+            // Archivada (o recién creada y aún sin indexar): se usa como referencia sin indexarla
+            Optional<Property> property = propertyRepository.findById(id);
+            if (property.isEmpty()) {
+                return Optional.empty();
+            }
+            reference = entryOf(property.get());
+            if (reference == null) {
+                return Optional.of(List.of());
+            }
+        }
+
+        lock.readLock().lock();
+        try {
+            KdTree tree = byCity.get(reference.city());
+            if (tree == null || k <= 0) {
+                return Optional.of(List.of());
+            }
+            List<Property> similar = new ArrayList<>(k);
+            for (KdTree.Neighbour neighbour : tree.nearest(reference.vector(), k, id)) {
+                similar.add(entries.get(neighbour.id()).property());
+            }
+            return Optional.of(similar);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Entry entryOf(Property property) {
+        if (property.getCity() == null || property.getCity().isBlank()) {
+            return null;
+        }
+        return new Entry(property, property.getCity().trim().toLowerCase(Locale.ROOT), PropertyFeatures.of(property));
+    }
+}
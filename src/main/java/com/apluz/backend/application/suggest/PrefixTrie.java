@@ -0,0 +1,183 @@
+package com.apluz.backend.application.suggest;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Trie comprimido (radix tree) de claves normalizadas con contador y texto a mostrar.
+ * Las ramas sin hijos se etiquetan con el sufijo completo, así que el número de nodos es
+ * proporcional al número de claves y no a su longitud total. No es thread-safe.
+ */
+class PrefixTrie {
+
+    /**
+     * Clave encontrada: texto original (primera forma vista) y número de propiedades que la contienen
+     */
+    record Entry(String display, int count) {
+    }
+
+    private static final Comparator<Entry> BY_RELEVANCE = Comparator.comparingInt(Entry::count).reversed()
+        .thenComparing(Entry::display);
+
+    private static final class Node {
+        private String label;
+        private TreeMap<Character, Node> children;
+        private String display;
+        private int count;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private TreeMap<Character, Node> children() {
+            if (children == null) {
+                children = new TreeMap<>();
+            }
+            return children;
+        }
+
+        private boolean hasChildren() {
+            return children != null && !children.isEmpty();
+        }
+    }
+
+    private Node root = new Node("");
+    private int size;
+
+    /**
+     * Suma {@code delta} al contador de {@code key}; la clave desaparece al llegar a cero
+     */
+    void add(String key, String display, int delta) {
+        if (key.isEmpty() || delta == 0) {
+            return;
+        }
+        update(root, key, 0, display, delta);
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        root = new Node("");
+        size = 0;
+    }
+
+    /**
+     * Claves que empiezan por {@code prefix}, de mayor a menor contador
+     */
+    List<Entry> collect(String prefix, int limit) {
+        Node node = find(prefix);
+        if (node == null || limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<Entry> best = new PriorityQueue<>(BY_RELEVANCE.reversed());
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(node);
+        while (!pending.isEmpty()) {
+            Node current = pending.pop();
+            if (current.count > 0) {
+                best.add(new Entry(current.display, current.count));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+            if (current.hasChildren()) {
+                current.children.values().forEach(pending::push);
+            }
+        }
+        List<Entry> result = new ArrayList<>(best);
+        result.sort(BY_RELEVANCE);
+        return result;
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        int offset = 0;
+        while (offset < prefix.length()) {
+            Node child = node.hasChildren() ? node.children.get(prefix.charAt(offset)) : null;
+            if (child == null) {
+                return null;
+            }
+            int common = commonPrefixLength(child.label, prefix, offset);
+            if (offset + common == prefix.length()) {
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            offset += common;
+        }
+        return node;
+    }
+
+    private void update(Node parent, String key, int offset, String display, int delta) {
+        char first = key.charAt(offset);
+        Node child = parent.hasChildren() ? parent.children.get(first) : null;
+        if (child == null) {
+            if (delta > 0) {
+                Node leaf = new Node(key.substring(offset));
+                apply(leaf, display, delta);
+                parent.children().put(first, leaf);
+            }
+            return;
+        }
+
+        int common = commonPrefixLength(child.label, key, offset);
+        if (common < child.label.length()) {
+            if (delta < 0) {
+                return;
+            }
+            Node split = new Node(child.label.substring(0, common));
+            child.label = child.label.substring(common);
+            split.children().put(child.label.charAt(0), child);
+            parent.children.put(first, split);
+            child = split;
+        }
+
+        if (offset + common == key.length()) {
+            apply(child, display, delta);
+        } else {
+            update(child, key, offset + common, display, delta);
+        }
+
+        if (child.count == 0) {
+            if (!child.hasChildren()) {
+                parent.children.remove(first);
+            } else if (child.children.size() == 1) {
+                Node only = child.children.firstEntry().getValue();
+                only.label = child.label + only.label;
+                parent.children.put(first, only);
+            }
+        }
+    }
+
+    private void apply(Node node, String display, int delta) {
+        boolean wasPresent = node.count > 0;
+        node.count = Math.max(0, node.count + delta);
+        if (node.count == 0) {
+            node.display = null;
+            if (wasPresent) {
+                size--;
+            }
+        } else if (!wasPresent) {
+            node.display = display;
+            size++;
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,184 @@
+package com.apluz.backend.application.suggest;
+
+import com.apluz.backend.domain.event.PropertyChangedEvent;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.port.PropertyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Índice en memoria para autocompletar: ciudades y palabras de los títulos de las propiedades activas,
+ * con el número de propiedades de cada una. Las claves se normalizan sin tildes ni mayúsculas.
+ * Se carga al arrancar y se mantiene con {@link PropertyChangedEvent}; las consultas no tocan la base de datos.
+ */
+@Component
+public class PropertySuggestionIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertySuggestionIndex.class);
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final int MIN_TOKEN_LENGTH = 3;
+    private static final Set<String> STOP_WORDS = Set.of("con", "del", "los", "las", "por", "para", "una", "sin", "muy");
+    private static final Set<PropertyField> INDEXED_FIELDS =
+        EnumSet.of(PropertyField.CITY, PropertyField.TITLE, PropertyField.STATUS);
+
+    /**
+     * Sugerencia: texto a mostrar, de dónde sale y cuántas propiedades activas lo contienen
+     */
+    public record Suggestion(String text, Kind kind, int count) {
+
+        public enum Kind {
+            CITY,
+            TITLE
+        }
+    }
+
+    /**
+     * Términos indexados de una propiedad, para poder restarlos cuando cambia o se elimina
+     */
+    private record IndexedTerms(String city, Map<String, String> titleTokens, boolean active) {
+
+        private IndexedTerms withActive(boolean newActive) {
+            return new IndexedTerms(city, titleTokens, newActive);
+        }
+    }
+
+    private final PropertyRepository propertyRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final PrefixTrie cities = new PrefixTrie();
+    private final PrefixTrie titleTokens = new PrefixTrie();
+    private final Map<Long, IndexedTerms> indexed = new HashMap<>();
+
+    public PropertySuggestionIndex(PropertyRepository propertyRepository) {
+        this.propertyRepository = propertyRepository;
+    }
+
+    /**
+     * Carga el índice completo (incluidas las archivadas, para poder reactivarlas sin releerlas)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            cities.clear();
+            titleTokens.clear();
+            indexed.clear();
+            propertyRepository.forEach(PropertyFilter.all().withArchived(true), INDEXED_FIELDS,
+                property -> reindex(property.getId(), termsOf(property)));
+            log.info("Suggestion index built: {} properties, {} cities, {} title tokens",
+                indexed.size(), cities.size(), titleTokens.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.type() == PropertyChangedEvent.ChangeType.DELETED) {
+                reindex(event.propertyId(), null);
+                return;
+            }
+            Property property = event.property();
+            if (property.getCity() == null && property.getTitle() == null) {
+                // Cambio de estado parcial (write-behind): se conservan los términos conocidos
+                IndexedTerms previous = indexed.get(event.propertyId());
+                if (previous != null && property.getStatus() != null) {
+                    reindex(event.propertyId(), previous.withActive(!property.getStatus().isArchived()));
+                }
+                return;
+            }
+            reindex(event.propertyId(), termsOf(property));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ciudades y palabras de título que empiezan por {@code prefix} (sin distinguir tildes ni mayúsculas),
+     * de más a menos propiedades; a igualdad, las ciudades primero
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = fold(prefix.trim());
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<Suggestion> suggestions = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            cities.collect(key, limit)
+                .forEach(entry -> suggestions.add(new Suggestion(entry.display(), Suggestion.Kind.CITY, entry.count())));
+            titleTokens.collect(key, limit)
+                .forEach(entry -> suggestions.add(new Suggestion(entry.display(), Suggestion.Kind.TITLE, entry.count())));
+        } finally {
+            lock.readLock().unlock();
+        }
+        suggestions.sort(Comparator.comparingInt(Suggestion::count).reversed()
+            .thenComparing(Suggestion::kind));
+        return suggestions.size() > limit ? suggestions.subList(0, limit) : suggestions;
+    }
+
+    /**
+     * Minúsculas y sin marcas diacríticas: "Córdoba" y "CORDOBA" dan "cordoba"
+     */
+    static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private void reindex(Long id, IndexedTerms terms) {
+        IndexedTerms previous = terms != null ? indexed.put(id, terms) : indexed.remove(id);
+        if (previous != null && previous.active()) {
+            apply(previous, -1);
+        }
+        if (terms != null && terms.active()) {
+            apply(terms, 1);
+        }
+    }
+
+    private void apply(IndexedTerms terms, int delta) {
+        if (terms.city() != null) {
+            cities.add(fold(terms.city()), terms.city(), delta);
+        }
+        terms.titleTokens().forEach((key, display) -> titleTokens.add(key, display, delta));
+    }
+
+    private static IndexedTerms termsOf(Property property) {
+        Map<String, String> tokens = new LinkedHashMap<>();
+        if (property.getTitle() != null) {
+            for (String token : TOKEN_SEPARATOR.split(property.getTitle())) {
+                String key = fold(token);
+                if (key.length() >= MIN_TOKEN_LENGTH && !STOP_WORDS.contains(key)) {
+                    tokens.putIfAbsent(key, token.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        String city = property.getCity() != null && !property.getCity().isBlank() ? property.getCity().trim() : null;
+        boolean active = property.getStatus() == null || !property.getStatus().isArchived();
+        return new IndexedTerms(city, tokens, active);
+    }
+}
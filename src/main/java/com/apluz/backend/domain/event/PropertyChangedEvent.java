@@ -0,0 +1,34 @@
+package com.apluz.backend.domain.event;
+
+import com.apluz.backend.domain.model.Property;
+
+/**
+ * Evento de dominio: una propiedad fue creada, modificada o eliminada.
+ * {@code property} es el estado resultante (null si fue eliminada). En los cambios de estado
+ * diferidos (write-behind) la propiedad es parcial: solo id, status y updatedAt.
+ */
+public record PropertyChangedEvent(ChangeType type, Long propertyId, Property property) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        DELETED
+    }
+
+    public static PropertyChangedEvent created(Property property) {
+        return new PropertyChangedEvent(ChangeType.CREATED, property.getId(), property);
+    }
+
+    public static PropertyChangedEvent updated(Property property) {
+        return new PropertyChangedEvent(ChangeType.UPDATED, property.getId(), property);
+    }
+
+    public static PropertyChangedEvent statusChanged(Property property) {
+        return new PropertyChangedEvent(ChangeType.STATUS_CHANGED, property.getId(), property);
+    }
+
+    public static PropertyChangedEvent deleted(Long propertyId) {
+        return new PropertyChangedEvent(ChangeType.DELETED, propertyId, null);
+    }
+}
@@ -0,0 +1,56 @@
+package com.apluz.backend.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Value object: Transformación que aplica un trabajo de edición masiva a cada propiedad seleccionada:
+ * cambio de precio en porcentaje ({@code amount} = -5 es un 5 % menos) o en importe, o cambio de estado
+ */
+public record BulkEdit(Operation operation, BigDecimal amount, PropertyStatus status) {
+
+    public enum Operation {
+        PRICE_PERCENT,
+        PRICE_AMOUNT,
+        STATUS
+    }
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    public BulkEdit {
+        if (operation == null) {
+            throw new IllegalArgumentException("Bulk edit operation is required");
+        }
+        if (operation == Operation.STATUS ? status == null : amount == null) {
+            throw new IllegalArgumentException(operation == Operation.STATUS
+                ? "Status is required for a status bulk edit" : "Amount is required for a price bulk edit");
+        }
+    }
+
+    public static BulkEdit pricePercent(BigDecimal percent) {
+        return new BulkEdit(Operation.PRICE_PERCENT, percent, null);
+    }
+
+    public static BulkEdit priceAmount(BigDecimal amount) {
+        return new BulkEdit(Operation.PRICE_AMOUNT, amount, null);
+    }
+
+    public static BulkEdit status(PropertyStatus status) {
+        return new BulkEdit(Operation.STATUS, null, status);
+    }
+
+    public boolean changesPrice() {
+        return operation != Operation.STATUS;
+    }
+
+    /**
+     * Precio resultante redondeado a céntimos, o null si no quedaría positivo
+     */
+    public BigDecimal newPrice(BigDecimal price) {
+        BigDecimal result = operation == Operation.PRICE_PERCENT
+            ? price.add(price.multiply(amount).divide(HUNDRED, 2, RoundingMode.HALF_UP))
+            : price.add(amount);
+        result = result.setScale(2, RoundingMode.HALF_UP);
+        return result.signum() > 0 ? result : null;
+    }
+}
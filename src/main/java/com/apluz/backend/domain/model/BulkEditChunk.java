@@ -0,0 +1,9 @@
+package com.apluz.backend.domain.model;
+
+import java.util.List;
+
+/**
+ * Value object: Lote pendiente de un trabajo de edición masiva (ids consecutivos, en orden ascendente)
+ */
+public record BulkEditChunk(Long jobId, int index, List<Long> propertyIds) {
+}
@@ -0,0 +1,20 @@
+package com.apluz.backend.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Value object: Estado persistido de un trabajo de edición masiva. Las propiedades seleccionadas al
+ * enviarlo se reparten en {@code totalChunks} lotes que se confirman por separado; los contadores
+ * suman los lotes ya confirmados.
+ */
+public record BulkEditJob(Long id, PropertyFilter filter, BulkEdit edit, Status status, int totalChunks,
+                          int completedChunks, long updatedRows, long skippedRows, String error,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+}
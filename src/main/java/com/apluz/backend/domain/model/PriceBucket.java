@@ -0,0 +1,17 @@
+package com.apluz.backend.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Value object: Resumen compactado de los cambios de precio de una propiedad en un día o un mes
+ */
+public record PriceBucket(Long propertyId, String city, Granularity granularity, LocalDate bucketStart,
+                          BigDecimal openPrice, BigDecimal closePrice, BigDecimal minPrice, BigDecimal maxPrice,
+                          int changes) {
+
+    public enum Granularity {
+        DAY,
+        MONTH
+    }
+}
@@ -0,0 +1,15 @@
+package com.apluz.backend.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Value object: Cambio de precio de una propiedad en el histórico (oldPrice es null en el alta)
+ */
+public record PriceChange(Long propertyId, String city, BigDecimal oldPrice, BigDecimal newPrice,
+                          LocalDateTime changedAt) {
+
+    public boolean isDrop() {
+        return oldPrice != null && newPrice.compareTo(oldPrice) < 0;
+    }
+}
@@ -0,0 +1,10 @@
+package com.apluz.backend.domain.model;
+
+import java.util.List;
+
+/**
+ * Value object: Histórico de precios de un rango de tiempo, con los cambios recientes en detalle
+ * y los más antiguos compactados en buckets
+ */
+public record PriceHistory(List<PriceChange> changes, List<PriceBucket> buckets) {
+}
@@ -0,0 +1,15 @@
+package com.apluz.backend.domain.model;
+
+/**
+ * Value object: Total de propiedades que cumplen un filtro, indicando si es exacto o una estimación
+ */
+public record PropertyCount(long total, boolean exact) {
+
+    public static PropertyCount exact(long total) {
+        return new PropertyCount(total, true);
+    }
+
+    public static PropertyCount estimated(long total) {
+        return new PropertyCount(total, false);
+    }
+}
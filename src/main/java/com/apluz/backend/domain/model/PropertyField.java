@@ -0,0 +1,71 @@
+package com.apluz.backend.domain.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Enum: Campos de una propiedad que un cliente puede pedir (sparse fieldsets).
+ * Los nombres coinciden con los de la representación pública (PropertyResponse).
+ */
+public enum PropertyField {
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    TYPE("type"),
+    STATUS("status"),
+    PRICE("price"),
+    ADDRESS("address"),
+    CITY("city"),
+    STATE("state"),
+    ZIP_CODE("zipCode"),
+    AREA("area"),
+    BEDROOMS("bedrooms"),
+    BATHROOMS("bathrooms"),
+    PARKING_SPACES("parkingSpaces"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private static final Set<PropertyField> ALL = Collections.unmodifiableSet(EnumSet.allOf(PropertyField.class));
+
+    private final String fieldName;
+
+    PropertyField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public static Set<PropertyField> all() {
+        return ALL;
+    }
+
+    /**
+     * Convierte una lista separada por comas ({@code id,title,price}) en el conjunto de campos,
+     * en orden de declaración. Null o vacía equivale a todos.
+     *
+     * @throws IllegalArgumentException si algún nombre no está en la lista blanca
+     */
+    public static Set<PropertyField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<PropertyField> parsed = EnumSet.noneOf(PropertyField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            parsed.add(Arrays.stream(values())
+                .filter(field -> field.fieldName.equals(trimmed))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown field '" + trimmed + "'. Allowed fields: "
+                    + Arrays.stream(values()).map(PropertyField::getFieldName).collect(Collectors.joining(",")))));
+        }
+        return parsed.isEmpty() || parsed.size() == ALL.size() ? ALL : Collections.unmodifiableSet(parsed);
+    }
+}
@@ -0,0 +1,52 @@
+package com.apluz.backend.domain.model;
+
+/**
+ * Value object: Criterios de filtrado de propiedades.
+ * Los criterios no nulos se combinan con AND; todos nulos equivale a "todas".
+ * Sin {@code includeArchived} y sin estado explícito solo se incluyen las propiedades
+ * en estados activos (ver {@link PropertyStatus#isArchived()}).
+ */
+public record PropertyFilter(String city, PropertyType type, PropertyStatus status, boolean includeArchived) {
+
+    public PropertyFilter(String city, PropertyType type, PropertyStatus status) {
+        this(city, type, status, false);
+    }
+
+    public static PropertyFilter all() {
+        return new PropertyFilter(null, null, null);
+    }
+
+    public static PropertyFilter byCity(String city) {
+        return new PropertyFilter(city, null, null);
+    }
+
+    public static PropertyFilter byType(PropertyType type) {
+        return new PropertyFilter(null, type, null);
+    }
+
+    public static PropertyFilter byStatus(PropertyStatus status) {
+        return new PropertyFilter(null, null, status);
+    }
+
+    public PropertyFilter withArchived(boolean includeArchived) {
+        return new PropertyFilter(city, type, status, includeArchived);
+    }
+
+    public boolean isUnfiltered() {
+        return city == null && type == null && status == null;
+    }
+
+    /**
+     * Indica si hay que excluir los estados archivados (no se pidió el archivo ni un estado concreto)
+     */
+    public boolean isActiveOnly() {
+        return !includeArchived && status == null;
+    }
+
+    public boolean matches(Property property) {
+        return (city == null || city.equals(property.getCity()))
+            && (type == null || type == property.getType())
+            && (status == null || status == property.getStatus())
+            && (!isActiveOnly() || property.getStatus() == null || !property.getStatus().isArchived());
+    }
+}
@@ -4,10 +4,22 @@ package com.apluz.backend.domain.model;
  * Enum: Estado de la propiedad
  */
 public enum PropertyStatus {
-    AVAILABLE,
-    SOLD,
-    RENTED,
-    RESERVED,
-    INACTIVE
-}
+    AVAILABLE(false),
+    SOLD(true),
+    RENTED(true),
+    RESERVED(false),
+    INACTIVE(true);
+
+    private final boolean archived;
 
+    PropertyStatus(boolean archived) {
+        this.archived = archived;
+    }
+
+    /**
+     * Estados históricos: en PostgreSQL viven en la partición de archivo y los listados no los incluyen por defecto
+     */
+    public boolean isArchived() {
+        return archived;
+    }
+}
@@ -0,0 +1,9 @@
+package com.apluz.backend.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Value object: Cambio de estado pendiente de aplicar sobre una propiedad
+ */
+public record PropertyStatusChange(Long propertyId, PropertyStatus status, LocalDateTime changedAt) {
+}
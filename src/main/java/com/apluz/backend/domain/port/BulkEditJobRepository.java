@@ -0,0 +1,52 @@
+package com.apluz.backend.domain.port;
+
+import com.apluz.backend.domain.model.BulkEdit;
+import com.apluz.backend.domain.model.BulkEditChunk;
+import com.apluz.backend.domain.model.BulkEditJob;
+import com.apluz.backend.domain.model.PropertyFilter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puerto (interface) del estado de los trabajos de edición masiva y de sus lotes, para poder
+ * reanudarlos tras un reinicio
+ */
+public interface BulkEditJobRepository {
+
+    /**
+     * Registra un trabajo en RUNNING con sus lotes pendientes
+     */
+    BulkEditJob create(PropertyFilter filter, BulkEdit edit, List<List<Long>> chunks, LocalDateTime createdAt);
+
+    Optional<BulkEditJob> findById(Long id);
+
+    List<BulkEditJob> findByStatus(BulkEditJob.Status status);
+
+    /**
+     * Lotes aún no confirmados, por índice
+     */
+    List<BulkEditChunk> findPendingChunks(Long jobId);
+
+    /**
+     * Marca el lote como hecho y suma sus filas al trabajo, solo si el lote seguía pendiente y el
+     * trabajo en RUNNING. Debe ejecutarse en la misma transacción que los cambios del lote: si
+     * devuelve false hay que deshacerla.
+     */
+    boolean completeChunk(Long jobId, int index, long updatedRows, long skippedRows, LocalDateTime completedAt);
+
+    /**
+     * Cambia el estado del trabajo si está en {@code from}
+     *
+     * @param error motivo del fallo, o null para borrarlo
+     * @return true si se cambió
+     */
+    boolean transition(Long jobId, BulkEditJob.Status from, BulkEditJob.Status to, String error,
+                       LocalDateTime changedAt);
+
+    /**
+     * Pasa a COMPLETED el trabajo en RUNNING cuyos lotes están todos confirmados
+     */
+    boolean completeIfFinished(Long jobId, LocalDateTime completedAt);
+}
@@ -0,0 +1,55 @@
+package com.apluz.backend.domain.port;
+
+import com.apluz.backend.domain.model.PriceBucket;
+import com.apluz.backend.domain.model.PriceChange;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Puerto (interface) del histórico de precios: solo se añade, nunca se reescribe un cambio.
+ * Los rangos de tiempo son [from, to)
+ */
+public interface PriceHistoryRepository {
+
+    void append(PriceChange change);
+
+    /**
+     * Añade varios cambios con un solo batch
+     */
+    void appendAll(Collection<PriceChange> changes);
+
+    List<PriceChange> findByProperty(Long propertyId, LocalDateTime from, LocalDateTime to);
+
+    List<PriceChange> findByCity(String city, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Bajadas de precio desde {@code since}, de la más reciente a la más antigua
+     *
+     * @param city ciudad, o null para todas
+     */
+    List<PriceChange> findDrops(String city, LocalDateTime since, int limit);
+
+    /**
+     * Buckets diarios y mensuales que empiezan dentro del rango, por fecha
+     */
+    List<PriceBucket> findBucketsByProperty(Long propertyId, LocalDateTime from, LocalDateTime to);
+
+    List<PriceBucket> findBucketsByCity(String city, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Compacta en buckets diarios los cambios anteriores a {@code before} y los elimina
+     *
+     * @return cambios compactados
+     */
+    int rollUpChanges(LocalDateTime before);
+
+    /**
+     * Compacta en buckets mensuales los buckets diarios anteriores a {@code before} y los elimina
+     *
+     * @return buckets diarios compactados
+     */
+    int rollUpDays(LocalDate before);
+}
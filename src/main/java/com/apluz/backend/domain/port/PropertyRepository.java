@@ -1,11 +1,20 @@
 package com.apluz.backend.domain.port;
 
+import com.apluz.backend.domain.model.PriceChange;
 import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyCount;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
 import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyStatusChange;
 import com.apluz.backend.domain.model.PropertyType;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Puerto (interface) del repositorio de propiedades
@@ -17,6 +26,15 @@ public interface PropertyRepository {
 
     Optional<Property> findById(Long id);
 
+    /**
+     * Obtiene varias propiedades en una sola consulta; los ids inexistentes se omiten y el orden no está garantizado
+     */
+    List<Property> findAllById(Collection<Long> ids);
+
+    /**
+     * Solo propiedades en estados activos; para incluir el archivo usar {@link #forEach} con
+     * {@link PropertyFilter#withArchived(boolean)}. Igual para findByCity y findByType.
+     */
     List<Property> findAll();
 
     List<Property> findByCity(String city);
@@ -25,6 +43,54 @@ public interface PropertyRepository {
 
     List<Property> findByStatus(PropertyStatus status);
 
+    /**
+     * Recorre las propiedades que cumplen el filtro sin materializar la lista completa,
+     * en el mismo orden que los find* (created_at DESC). Respeta {@link PropertyFilter#includeArchived()}
+     */
+    void forEach(PropertyFilter filter, Consumer<Property> action);
+
+    /**
+     * Como {@link #forEach(PropertyFilter, Consumer)} pero leyendo solo las columnas de {@code fields}
+     * (más el id, que siempre se carga); el resto de atributos queda a null
+     */
+    void forEach(PropertyFilter filter, Set<PropertyField> fields, Consumer<Property> action);
+
+    /**
+     * Recorre, sin orden garantizado, todas las propiedades (archivadas incluidas) con updated_at en
+     * ({@code after}, {@code until}]; {@code after} null equivale a desde el principio
+     */
+    void forEachUpdated(LocalDateTime after, LocalDateTime until, Consumer<Property> action);
+
+    /**
+     * Cuenta las propiedades que cumplen el filtro. Con {@code exact = false} el adaptador puede
+     * devolver una estimación barata; el resultado indica cuál de las dos se obtuvo
+     */
+    PropertyCount count(PropertyFilter filter, boolean exact);
+
+    /**
+     * Aplica varios cambios de estado (y updated_at) en lote, sin leer ni reescribir la fila completa.
+     * Gana el último en escribir: un cambio no se aplica si la fila ya tiene un updated_at posterior
+     *
+     * @return ids que existían y fueron actualizados
+     */
+    Set<Long> updateStatuses(Collection<PropertyStatusChange> changes);
+
+    /**
+     * Aplica varios cambios de precio (y updated_at) en lote, sin reescribir la fila completa. Cada cambio
+     * solo se aplica si el precio actual sigue siendo {@link PriceChange#oldPrice()}
+     *
+     * @return ids cuyo precio se actualizó
+     */
+    Set<Long> updatePrices(Collection<PriceChange> changes);
+
+    /**
+     * Pasa a {@code status} (refrescando updated_at) todas las propiedades que cumplen el filtro y,
+     * si {@code ids} no es null, cuyo id está en la lista, con una sola sentencia. Las que ya están
+     * en {@code status} no se tocan. Cada fila actualizada se entrega a {@code updated} sin materializar el conjunto.
+     */
+    void transitionStatus(PropertyFilter filter, Collection<Long> ids, PropertyStatus status,
+                          LocalDateTime changedAt, Consumer<Property> updated);
+
     void deleteById(Long id);
 
     boolean existsById(Long id);
@@ -0,0 +1,12 @@
+package com.apluz.backend.domain.port;
+
+import com.apluz.backend.domain.model.PriceChange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puerto (interface) no bloqueante para añadir cambios al histórico de precios desde la pila reactiva
+ */
+public interface ReactivePriceHistoryRepository {
+
+    Mono<Void> append(PriceChange change);
+}
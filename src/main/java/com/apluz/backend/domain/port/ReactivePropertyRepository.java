@@ -0,0 +1,45 @@
+package com.apluz.backend.domain.port;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyCount;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Puerto (interface) no bloqueante del repositorio de propiedades, para la pila reactiva.
+ * Los {@link Flux} se leen de la base de datos bajo demanda (back-pressure)
+ */
+public interface ReactivePropertyRepository {
+
+    Mono<Property> save(Property property);
+
+    Mono<Property> findById(Long id);
+
+    Flux<Property> findAllById(Collection<Long> ids);
+
+    /**
+     * Propiedades que cumplen el filtro, por created_at DESC, con solo {@code fields} (y el id)
+     */
+    Flux<Property> findAll(PropertyFilter filter, Set<PropertyField> fields);
+
+    Mono<PropertyCount> count(PropertyFilter filter);
+
+    /**
+     * Cambia de estado las propiedades que cumplen el filtro (y están en {@code ids}, si no es null)
+     * y todavía no están en {@code status}; emite cada fila actualizada
+     */
+    Flux<Property> transitionStatus(PropertyFilter filter, Collection<Long> ids, PropertyStatus status,
+                                    LocalDateTime changedAt);
+
+    /**
+     * @return true si existía y se borró
+     */
+    Mono<Boolean> deleteById(Long id);
+}
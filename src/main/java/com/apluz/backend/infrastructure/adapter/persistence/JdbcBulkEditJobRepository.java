@@ -0,0 +1,171 @@
+package com.apluz.backend.infrastructure.adapter.persistence;
+
+import com.apluz.backend.domain.model.BulkEdit;
+import com.apluz.backend.domain.model.BulkEditChunk;
+import com.apluz.backend.domain.model.BulkEditJob;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.domain.port.BulkEditJobRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador JDBC del estado de los trabajos de edición masiva. Los ids de cada lote se guardan como
+ * texto separado por comas: se escriben una vez al crear el trabajo y se leen al ejecutar el lote,
+ * nunca se consultan por id.
+ */
+@Repository
+public class JdbcBulkEditJobRepository implements BulkEditJobRepository {
+
+    private static final String JOB_COLUMNS = "id, filter_city, filter_type, filter_status, include_archived, operation, "
+        + "amount, target_status, status, total_chunks, completed_chunks, updated_rows, skipped_rows, error, "
+        + "created_at, updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcBulkEditJobRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    private final RowMapper<BulkEditJob> jobRowMapper = (rs, rowNum) -> {
+        String type = rs.getString("filter_type");
+        String filterStatus = rs.getString("filter_status");
+        String targetStatus = rs.getString("target_status");
+        return new BulkEditJob(
+            rs.getLong("id"),
+            new PropertyFilter(rs.getString("filter_city"), type != null ? PropertyType.valueOf(type) : null,
+                filterStatus != null ? PropertyStatus.valueOf(filterStatus) : null, rs.getBoolean("include_archived")),
+            new BulkEdit(BulkEdit.Operation.valueOf(rs.getString("operation")), rs.getBigDecimal("amount"),
+                targetStatus != null ? PropertyStatus.valueOf(targetStatus) : null),
+            BulkEditJob.Status.valueOf(rs.getString("status")),
+            rs.getInt("total_chunks"),
+            rs.getInt("completed_chunks"),
+            rs.getLong("updated_rows"),
+            rs.getLong("skipped_rows"),
+            rs.getString("error"),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getTimestamp("updated_at").toLocalDateTime());
+    };
+
+    /**
+     * El trabajo y sus lotes se insertan en una sola transacción: nunca queda un trabajo en RUNNING sin lotes
+     */
+    @Override
+    public BulkEditJob create(PropertyFilter filter, BulkEdit edit, List<List<Long>> chunks, LocalDateTime createdAt) {
+        return transactionTemplate.execute(status -> insert(filter, edit, chunks, createdAt));
+    }
+
+    private BulkEditJob insert(PropertyFilter filter, BulkEdit edit, List<List<Long>> chunks, LocalDateTime createdAt) {
+        String sql = """
+            INSERT INTO bulk_edit_jobs (filter_city, filter_type, filter_status, include_archived, operation,
+                                        amount, target_status, status, total_chunks, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, new String[] {"id"});
+            ps.setString(1, filter.city());
+            ps.setString(2, filter.type() != null ? filter.type().name() : null);
+            ps.setString(3, filter.status() != null ? filter.status().name() : null);
+            ps.setBoolean(4, filter.includeArchived());
+            ps.setString(5, edit.operation().name());
+            ps.setBigDecimal(6, edit.amount());
+            ps.setString(7, edit.status() != null ? edit.status().name() : null);
+            ps.setString(8, BulkEditJob.Status.RUNNING.name());
+            ps.setInt(9, chunks.size());
+            ps.setTimestamp(10, Timestamp.valueOf(createdAt));
+            ps.setTimestamp(11, Timestamp.valueOf(createdAt));
+            return ps;
+        }, keyHolder);
+        long id = keyHolder.getKey().longValue();
+
+        List<Object[]> rows = new ArrayList<>(chunks.size());
+        for (int index = 0; index < chunks.size(); index++) {
+            rows.add(new Object[] {id, index, chunks.get(index).stream().map(String::valueOf).collect(Collectors.joining(","))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO bulk_edit_job_chunks (job_id, chunk_index, property_ids) VALUES (?, ?, ?)",
+            rows, new int[] {Types.BIGINT, Types.INTEGER, Types.VARCHAR});
+
+        return new BulkEditJob(id, filter, edit, BulkEditJob.Status.RUNNING, chunks.size(), 0, 0, 0, null,
+            createdAt, createdAt);
+    }
+
+    @Override
+    public Optional<BulkEditJob> findById(Long id) {
+        List<BulkEditJob> jobs = jdbcTemplate.query(
+            "SELECT " + JOB_COLUMNS + " FROM bulk_edit_jobs WHERE id = ?", jobRowMapper, id);
+        return jobs.stream().findFirst();
+    }
+
+    @Override
+    public List<BulkEditJob> findByStatus(BulkEditJob.Status status) {
+        return jdbcTemplate.query(
+            "SELECT " + JOB_COLUMNS + " FROM bulk_edit_jobs WHERE status = ? ORDER BY id", jobRowMapper, status.name());
+    }
+
+    @Override
+    public List<BulkEditChunk> findPendingChunks(Long jobId) {
+        String sql = "SELECT chunk_index, property_ids FROM bulk_edit_job_chunks "
+            + "WHERE job_id = ? AND done = FALSE ORDER BY chunk_index";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new BulkEditChunk(
+            jobId,
+            rs.getInt("chunk_index"),
+            Arrays.stream(rs.getString("property_ids").split(",")).map(Long::valueOf).toList()), jobId);
+    }
+
+    /**
+     * Un lote ya hecho no toca el trabajo. El UPDATE del trabajo bloquea su fila hasta el commit, así que
+     * una cancelación concurrente espera al lote en curso o hace que este se deshaga
+     */
+    @Override
+    public boolean completeChunk(Long jobId, int index, long updatedRows, long skippedRows, LocalDateTime completedAt) {
+        int chunk = jdbcTemplate.update(
+            "UPDATE bulk_edit_job_chunks SET done = TRUE WHERE job_id = ? AND chunk_index = ? AND done = FALSE",
+            jobId, index);
+        if (chunk == 0) {
+            return false;
+        }
+        return jdbcTemplate.update("""
+            UPDATE bulk_edit_jobs
+            SET completed_chunks = completed_chunks + 1, updated_rows = updated_rows + ?,
+                skipped_rows = skipped_rows + ?, updated_at = ?
+            WHERE id = ? AND status = ?
+            """, updatedRows, skippedRows, Timestamp.valueOf(completedAt), jobId, BulkEditJob.Status.RUNNING.name()) == 1;
+    }
+
+    @Override
+    public boolean transition(Long jobId, BulkEditJob.Status from, BulkEditJob.Status to, String error,
+                              LocalDateTime changedAt) {
+        return jdbcTemplate.update(
+            "UPDATE bulk_edit_jobs SET status = ?, error = ?, updated_at = ? WHERE id = ? AND status = ?",
+            to.name(), error, Timestamp.valueOf(changedAt), jobId, from.name()) == 1;
+    }
+
+    @Override
+    public boolean completeIfFinished(Long jobId, LocalDateTime completedAt) {
+        return jdbcTemplate.update("""
+            UPDATE bulk_edit_jobs SET status = ?, updated_at = ?
+            WHERE id = ? AND status = ? AND completed_chunks = total_chunks
+            """, BulkEditJob.Status.COMPLETED.name(), Timestamp.valueOf(completedAt), jobId,
+            BulkEditJob.Status.RUNNING.name()) == 1;
+    }
+}
@@ -0,0 +1,226 @@
+package com.apluz.backend.infrastructure.adapter.persistence;
+
+import com.apluz.backend.domain.model.PriceBucket;
+import com.apluz.backend.domain.model.PriceChange;
+import com.apluz.backend.domain.port.PriceHistoryRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Adaptador JDBC del histórico de precios. property_price_history es append-only y se inserta en
+ * orden de tiempo, por eso basta un índice BRIN sobre changed_at para los rangos por ciudad o globales.
+ * La compactación agrega en Java (en orden de propiedad y fecha) y vuelca cada bucket con
+ * UPDATE-o-INSERT, de modo que funciona igual en PostgreSQL y en H2. Lee con FOR UPDATE: si dos
+ * instancias compactan a la vez, la segunda espera y ya no ve las filas que borró la primera.
+ */
+@Repository
+public class JdbcPriceHistoryRepository implements PriceHistoryRepository {
+
+    private static final String CHANGE_COLUMNS = "property_id, city, old_price, new_price, changed_at";
+    private static final String BUCKET_COLUMNS =
+        "property_id, city, granularity, bucket_start, open_price, close_price, min_price, max_price, changes";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcPriceHistoryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    private final RowMapper<PriceChange> changeRowMapper = (rs, rowNum) -> new PriceChange(
+        rs.getLong("property_id"),
+        rs.getString("city"),
+        rs.getBigDecimal("old_price"),
+        rs.getBigDecimal("new_price"),
+        rs.getTimestamp("changed_at").toLocalDateTime());
+
+    private final RowMapper<PriceBucket> bucketRowMapper = (rs, rowNum) -> new PriceBucket(
+        rs.getLong("property_id"),
+        rs.getString("city"),
+        PriceBucket.Granularity.valueOf(rs.getString("granularity")),
+        rs.getDate("bucket_start").toLocalDate(),
+        rs.getBigDecimal("open_price"),
+        rs.getBigDecimal("close_price"),
+        rs.getBigDecimal("min_price"),
+        rs.getBigDecimal("max_price"),
+        rs.getInt("changes"));
+
+    @Override
+    public void append(PriceChange change) {
+        jdbcTemplate.update(
+            "INSERT INTO property_price_history (" + CHANGE_COLUMNS + ") VALUES (?, ?, ?, ?, ?)",
+            change.propertyId(), change.city(), change.oldPrice(), change.newPrice(),
+            Timestamp.valueOf(change.changedAt()));
+    }
+
+    @Override
+    public void appendAll(Collection<PriceChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO property_price_history (" + CHANGE_COLUMNS + ") VALUES (?, ?, ?, ?, ?)",
+            changes, changes.size(), (ps, change) -> {
+                ps.setLong(1, change.propertyId());
+                ps.setString(2, change.city());
+                ps.setBigDecimal(3, change.oldPrice());
+                ps.setBigDecimal(4, change.newPrice());
+                ps.setTimestamp(5, Timestamp.valueOf(change.changedAt()));
+            });
+    }
+
+    @Override
+    public List<PriceChange> findByProperty(Long propertyId, LocalDateTime from, LocalDateTime to) {
+        String sql = "SELECT " + CHANGE_COLUMNS + " FROM property_price_history "
+            + "WHERE property_id = ? AND changed_at >= ? AND changed_at < ? ORDER BY changed_at";
+        return jdbcTemplate.query(sql, changeRowMapper, propertyId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    @Override
+    public List<PriceChange> findByCity(String city, LocalDateTime from, LocalDateTime to) {
+        String sql = "SELECT " + CHANGE_COLUMNS + " FROM property_price_history "
+            + "WHERE changed_at >= ? AND changed_at < ? AND city = ? ORDER BY changed_at";
+        return jdbcTemplate.query(sql, changeRowMapper, Timestamp.valueOf(from), Timestamp.valueOf(to), city);
+    }
+
+    @Override
+    public List<PriceChange> findDrops(String city, LocalDateTime since, int limit) {
+        String sql = "SELECT " + CHANGE_COLUMNS + " FROM property_price_history "
+            + "WHERE changed_at >= ? AND new_price < old_price" + (city != null ? " AND city = ?" : "")
+            + " ORDER BY changed_at DESC LIMIT ?";
+        return city != null
+            ? jdbcTemplate.query(sql, changeRowMapper, Timestamp.valueOf(since), city, limit)
+            : jdbcTemplate.query(sql, changeRowMapper, Timestamp.valueOf(since), limit);
+    }
+
+    @Override
+    public List<PriceBucket> findBucketsByProperty(Long propertyId, LocalDateTime from, LocalDateTime to) {
+        return findBuckets("property_id = ?", propertyId, from, to);
+    }
+
+    @Override
+    public List<PriceBucket> findBucketsByCity(String city, LocalDateTime from, LocalDateTime to) {
+        return findBuckets("city = ?", city, from, to);
+    }
+
+    /**
+     * Un bucket mensual entra si su mes se solapa con el rango; uno diario, si su día empieza dentro
+     */
+    private List<PriceBucket> findBuckets(String condition, Object value, LocalDateTime from, LocalDateTime to) {
+        LocalDate fromDay = from.toLocalDate();
+        String sql = "SELECT " + BUCKET_COLUMNS + " FROM property_price_rollup WHERE " + condition
+            + " AND bucket_start < ?"
+            + " AND ((granularity = 'DAY' AND bucket_start >= ?) OR (granularity = 'MONTH' AND bucket_start >= ?))"
+            + " ORDER BY bucket_start, granularity";
+        return jdbcTemplate.query(sql, bucketRowMapper, value, Timestamp.valueOf(to),
+            Date.valueOf(fromDay), Date.valueOf(fromDay.withDayOfMonth(1)));
+    }
+
+    @Override
+    public int rollUpChanges(LocalDateTime before) {
+        String sql = "SELECT " + CHANGE_COLUMNS + " FROM property_price_history "
+            + "WHERE changed_at < ? ORDER BY property_id, changed_at FOR UPDATE";
+        BucketAccumulator accumulator = new BucketAccumulator(PriceBucket.Granularity.DAY);
+        jdbcTemplate.query(sql, rs -> {
+            BigDecimal oldPrice = rs.getBigDecimal("old_price");
+            BigDecimal newPrice = rs.getBigDecimal("new_price");
+            accumulator.add(rs.getLong("property_id"), rs.getString("city"),
+                rs.getTimestamp("changed_at").toLocalDateTime().toLocalDate(),
+                oldPrice != null ? oldPrice : newPrice, newPrice, newPrice, newPrice, 1);
+        }, Timestamp.valueOf(before));
+        accumulator.flush();
+        return jdbcTemplate.update("DELETE FROM property_price_history WHERE changed_at < ?", Timestamp.valueOf(before));
+    }
+
+    @Override
+    public int rollUpDays(LocalDate before) {
+        String sql = "SELECT " + BUCKET_COLUMNS + " FROM property_price_rollup "
+            + "WHERE granularity = 'DAY' AND bucket_start < ? ORDER BY property_id, bucket_start FOR UPDATE";
+        BucketAccumulator accumulator = new BucketAccumulator(PriceBucket.Granularity.MONTH);
+        jdbcTemplate.query(sql, rs -> {
+            accumulator.add(rs.getLong("property_id"), rs.getString("city"),
+                rs.getDate("bucket_start").toLocalDate().withDayOfMonth(1),
+                rs.getBigDecimal("open_price"), rs.getBigDecimal("close_price"),
+                rs.getBigDecimal("min_price"), rs.getBigDecimal("max_price"), rs.getInt("changes"));
+        }, Date.valueOf(before));
+        accumulator.flush();
+        return jdbcTemplate.update("DELETE FROM property_price_rollup WHERE granularity = 'DAY' AND bucket_start < ?",
+            Date.valueOf(before));
+    }
+
+    /**
+     * Agrega filas ya ordenadas por propiedad y fecha; al cambiar de (propiedad, bucket) vuelca el anterior
+     */
+    private final class BucketAccumulator {
+
+        private final PriceBucket.Granularity granularity;
+        private Long propertyId;
+        private String city;
+        private LocalDate bucketStart;
+        private BigDecimal open;
+        private BigDecimal close;
+        private BigDecimal min;
+        private BigDecimal max;
+        private int changes;
+
+        private BucketAccumulator(PriceBucket.Granularity granularity) {
+            this.granularity = granularity;
+        }
+
+        private void add(Long rowPropertyId, String rowCity, LocalDate rowBucketStart, BigDecimal rowOpen,
+                         BigDecimal rowClose, BigDecimal rowMin, BigDecimal rowMax, int rowChanges) {
+            if (!rowPropertyId.equals(propertyId) || !rowBucketStart.equals(bucketStart)) {
+                flush();
+                propertyId = rowPropertyId;
+                bucketStart = rowBucketStart;
+                open = rowOpen;
+                min = rowOpen.min(rowMin);
+                max = rowOpen.max(rowMax);
+                changes = 0;
+            }
+            city = rowCity;
+            close = rowClose;
+            min = min.min(rowMin);
+            max = max.max(rowMax);
+            changes += rowChanges;
+        }
+
+        private void flush() {
+            if (propertyId == null) {
+                return;
+            }
+            PriceBucket bucket = new PriceBucket(propertyId, city, granularity, bucketStart, open, close, min, max, changes);
+            propertyId = null;
+            upsert(bucket);
+        }
+    }
+
+    /**
+     * Si el bucket ya existe (compactación repetida del mismo periodo) se combina: conserva la apertura
+     * y toma el cierre nuevo
+     */
+    private void upsert(PriceBucket bucket) {
+        int updated = jdbcTemplate.update("""
+            UPDATE property_price_rollup
+            SET city = ?, close_price = ?, min_price = LEAST(min_price, ?), max_price = GREATEST(max_price, ?),
+                changes = changes + ?
+            WHERE property_id = ? AND granularity = ? AND bucket_start = ?
+            """,
+            bucket.city(), bucket.closePrice(), bucket.minPrice(), bucket.maxPrice(), bucket.changes(),
+            bucket.propertyId(), bucket.granularity().name(), Date.valueOf(bucket.bucketStart()));
+        if (updated == 0) {
+            jdbcTemplate.update(
+                "INSERT INTO property_price_rollup (" + BUCKET_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                bucket.propertyId(), bucket.city(), bucket.granularity().name(), Date.valueOf(bucket.bucketStart()),
+                bucket.openPrice(), bucket.closePrice(), bucket.minPrice(), bucket.maxPrice(), bucket.changes());
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.apluz.backend.infrastructure.adapter.persistence;
 
+import com.apluz.backend.domain.model.PriceChange;
 import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyCount;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
 import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyStatusChange;
 import com.apluz.backend.domain.model.PropertyType;
 import com.apluz.backend.domain.port.PropertyRepository;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -10,11 +15,24 @@ import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Array;
 import java.sql.PreparedStatement;
-import java.sql.Statement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * Implementación del repositorio usando JDBC
@@ -22,12 +40,37 @@ import java.util.Optional;
 @Repository
 public class JdbcPropertyRepository implements PropertyRepository {
 
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    /**
+     * Por debajo de esta estimación un COUNT(*) exacto es barato y se prefiere
+     */
+    private static final long EXACT_COUNT_THRESHOLD = 10_000;
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\"\\s*:\\s*([0-9.eE+]+)");
+
+    /**
+     * Estados activos como literales, para que PostgreSQL descarte la partición de archivo al planificar
+     */
+    private static final String ACTIVE_STATUS_CONDITION = Arrays.stream(PropertyStatus.values())
+        .filter(status -> !status.isArchived())
+        .map(status -> "'" + status.name() + "'")
+        .collect(Collectors.joining(", ", "status IN (", ")"));
+
     private final JdbcTemplate jdbcTemplate;
+    private volatile SqlDialect dialect;
 
     public JdbcPropertyRepository(JdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
     }
 
+    private SqlDialect dialect() {
+        if (dialect == null) {
+            dialect = SqlDialect.detect(jdbcTemplate.getDataSource());
+        }
+        return dialect;
+    }
+
     private final RowMapper<Property> propertyRowMapper = (rs, rowNum) -> {
         Property property = new Property();
         property.setId(rs.getLong("id"));
@@ -69,22 +112,8 @@ public class JdbcPropertyRepository implements PropertyRepository {
         KeyHolder keyHolder = new GeneratedKeyHolder();
 
         jdbcTemplate.update(connection -> {
-            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
-            ps.setString(1, property.getTitle());
-            ps.setString(2, property.getDescription());
-            ps.setString(3, property.getType().name());
-            ps.setString(4, property.getStatus().name());
-            ps.setBigDecimal(5, property.getPrice());
-            ps.setString(6, property.getAddress());
-            ps.setString(7, property.getCity());
-            ps.setString(8, property.getState());
-            ps.setString(9, property.getZipCode());
-            ps.setDouble(10, property.getArea());
-            ps.setInt(11, property.getBedrooms());
-            ps.setInt(12, property.getBathrooms());
-            ps.setInt(13, property.getParkingSpaces());
-            ps.setTimestamp(14, Timestamp.valueOf(property.getCreatedAt()));
-            ps.setTimestamp(15, Timestamp.valueOf(property.getUpdatedAt()));
+            PreparedStatement ps = connection.prepareStatement(sql, new String[] {"id"});
+            bindInsert(ps, property);
             return ps;
         }, keyHolder);
 
@@ -92,6 +121,55 @@ public class JdbcPropertyRepository implements PropertyRepository {
         return property;
     }
 
+    /**
+     * Inserta con el id ya asignado por quien llama (ids globales del repositorio particionado
+     * o traslado de una fila entre shards), sin usar el valor por defecto de la columna
+     */
+    public Property insertWithId(Property property) {
+        String sql = """
+            INSERT INTO properties (title, description, type, status, price, address, 
+                                   city, state, zip_code, area, bedrooms, bathrooms, 
+                                   parking_spaces, created_at, updated_at, id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            bindInsert(ps, property);
+            ps.setLong(16, property.getId());
+            return ps;
+        });
+        return property;
+    }
+
+    /**
+     * Siguiente valor de la secuencia properties_id_seq de esta base de datos
+     */
+    public long nextId() {
+        String sql = dialect() == SqlDialect.POSTGRESQL
+            ? "SELECT nextval('properties_id_seq')"
+            : "SELECT NEXT VALUE FOR properties_id_seq";
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private static void bindInsert(PreparedStatement ps, Property property) throws SQLException {
+        ps.setString(1, property.getTitle());
+        ps.setString(2, property.getDescription());
+        ps.setString(3, property.getType().name());
+        ps.setString(4, property.getStatus().name());
+        ps.setBigDecimal(5, property.getPrice());
+        ps.setString(6, property.getAddress());
+        ps.setString(7, property.getCity());
+        ps.setString(8, property.getState());
+        ps.setString(9, property.getZipCode());
+        ps.setDouble(10, property.getArea());
+        ps.setInt(11, property.getBedrooms());
+        ps.setInt(12, property.getBathrooms());
+        ps.setInt(13, property.getParkingSpaces());
+        ps.setTimestamp(14, Timestamp.valueOf(property.getCreatedAt()));
+        ps.setTimestamp(15, Timestamp.valueOf(property.getUpdatedAt()));
+    }
+
     private Property update(Property property) {
         String sql = """
             UPDATE properties 
@@ -129,21 +207,49 @@ public class JdbcPropertyRepository implements PropertyRepository {
         return properties.isEmpty() ? Optional.empty() : Optional.of(properties.get(0));
     }
 
+    /**
+     * PostgreSQL: una consulta con {@code id = ANY(?)}; resto de motores: IN-list por bloques
+     */
+    @Override
+    public List<Property> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        if (dialect() == SqlDialect.POSTGRESQL) {
+            String sql = "SELECT * FROM properties WHERE id = ANY(?)";
+            return jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql);
+                Array array = connection.createArrayOf("bigint", distinctIds.toArray());
+                ps.setArray(1, array);
+                return ps;
+            }, propertyRowMapper);
+        }
+        List<Property> properties = new ArrayList<>(distinctIds.size());
+        for (int from = 0; from < distinctIds.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, distinctIds.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            String sql = "SELECT * FROM properties WHERE id IN (" + placeholders + ")";
+            properties.addAll(jdbcTemplate.query(sql, propertyRowMapper, chunk.toArray()));
+        }
+        return properties;
+    }
+
     @Override
     public List<Property> findAll() {
-        String sql = "SELECT * FROM properties ORDER BY created_at DESC";
+        String sql = "SELECT * FROM properties WHERE " + ACTIVE_STATUS_CONDITION + " ORDER BY created_at DESC";
         return jdbcTemplate.query(sql, propertyRowMapper);
     }
 
     @Override
     public List<Property> findByCity(String city) {
-        String sql = "SELECT * FROM properties WHERE city = ? ORDER BY created_at DESC";
+        String sql = "SELECT * FROM properties WHERE city = ? AND " + ACTIVE_STATUS_CONDITION + " ORDER BY created_at DESC";
         return jdbcTemplate.query(sql, propertyRowMapper, city);
     }
 
     @Override
     public List<Property> findByType(PropertyType type) {
-        String sql = "SELECT * FROM properties WHERE type = ? ORDER BY created_at DESC";
+        String sql = "SELECT * FROM properties WHERE type = ? AND " + ACTIVE_STATUS_CONDITION + " ORDER BY created_at DESC";
         return jdbcTemplate.query(sql, propertyRowMapper, type.name());
     }
 
@@ -153,6 +259,307 @@ public class JdbcPropertyRepository implements PropertyRepository {
         return jdbcTemplate.query(sql, propertyRowMapper, status.name());
     }
 
+    @Override
+    public void forEach(PropertyFilter filter, Consumer<Property> action) {
+        forEach(filter, PropertyField.all(), action);
+    }
+
+    @Override
+    public void forEach(PropertyFilter filter, Set<PropertyField> fields, Consumer<Property> action) {
+        boolean allFields = fields.size() == PropertyField.all().size();
+        RowMapper<Property> rowMapper = allFields ? propertyRowMapper : (rs, rowNum) -> mapColumns(rs, fields);
+        StringBuilder sql = new StringBuilder("SELECT ")
+            .append(allFields ? "*" : selectList(fields))
+            .append(" FROM properties");
+        List<Object> args = new ArrayList<>();
+        appendWhere(filter, sql, args);
+        sql.append(" ORDER BY created_at DESC");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString());
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, rs -> {
+            action.accept(rowMapper.mapRow(rs, rs.getRow()));
+        });
+    }
+
+    @Override
+    public void forEachUpdated(LocalDateTime after, LocalDateTime until, Consumer<Property> action) {
+        String sql = after == null
+            ? "SELECT * FROM properties WHERE updated_at <= ?"
+            : "SELECT * FROM properties WHERE updated_at > ? AND updated_at <= ?";
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            int index = 1;
+            if (after != null) {
+                ps.setTimestamp(index++, Timestamp.valueOf(after));
+            }
+            ps.setTimestamp(index, Timestamp.valueOf(until));
+            return ps;
+        }, rs -> {
+            action.accept(propertyRowMapper.mapRow(rs, rs.getRow()));
+        });
+    }
+
+    /**
+     * Exacto: COUNT(*). Estimado (solo PostgreSQL): filas previstas por el planificador para la misma
+     * consulta, que para la tabla sin filtrar salen de pg_class.reltuples; si la estimación es pequeña
+     * se cuenta de forma exacta
+     */
+    @Override
+    public PropertyCount count(PropertyFilter filter, boolean exact) {
+        StringBuilder where = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        appendWhere(filter, where, args);
+
+        if (!exact && dialect() == SqlDialect.POSTGRESQL) {
+            String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN (FORMAT JSON) SELECT 1 FROM properties" + where, String.class, args.toArray());
+            Matcher matcher = PLAN_ROWS.matcher(plan != null ? plan : "");
+            if (matcher.find()) {
+                long estimate = (long) Double.parseDouble(matcher.group(1));
+                if (estimate >= EXACT_COUNT_THRESHOLD) {
+                    return PropertyCount.estimated(estimate);
+                }
+            }
+        }
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM properties" + where, Long.class, args.toArray());
+        return PropertyCount.exact(total != null ? total : 0);
+    }
+
+    private static String selectList(Set<PropertyField> fields) {
+        StringBuilder columns = new StringBuilder("id");
+        for (PropertyField field : fields) {
+            if (field != PropertyField.ID) {
+                columns.append(", ").append(column(field));
+            }
+        }
+        return columns.toString();
+    }
+
+    private static String column(PropertyField field) {
+        return switch (field) {
+            case ID -> "id";
+            case TITLE -> "title";
+            case DESCRIPTION -> "description";
+            case TYPE -> "type";
+            case STATUS -> "status";
+            case PRICE -> "price";
+            case ADDRESS -> "address";
+            case CITY -> "city";
+            case STATE -> "state";
+            case ZIP_CODE -> "zip_code";
+            case AREA -> "area";
+            case BEDROOMS -> "bedrooms";
+            case BATHROOMS -> "bathrooms";
+            case PARKING_SPACES -> "parking_spaces";
+            case CREATED_AT -> "created_at";
+            case UPDATED_AT -> "updated_at";
+        };
+    }
+
+    /**
+     * Mapea solo las columnas seleccionadas por {@link #selectList(Set)}
+     */
+    private static Property mapColumns(ResultSet rs, Set<PropertyField> fields) throws SQLException {
+        Property property = new Property();
+        property.setId(rs.getLong("id"));
+        for (PropertyField field : fields) {
+            switch (field) {
+                case ID -> { }
+                case TITLE -> property.setTitle(rs.getString("title"));
+                case DESCRIPTION -> property.setDescription(rs.getString("description"));
+                case TYPE -> property.setType(PropertyType.valueOf(rs.getString("type")));
+                case STATUS -> property.setStatus(PropertyStatus.valueOf(rs.getString("status")));
+                case PRICE -> property.setPrice(rs.getBigDecimal("price"));
+                case ADDRESS -> property.setAddress(rs.getString("address"));
+                case CITY -> property.setCity(rs.getString("city"));
+                case STATE -> property.setState(rs.getString("state"));
+                case ZIP_CODE -> property.setZipCode(rs.getString("zip_code"));
+                case AREA -> property.setArea(rs.getDouble("area"));
+                case BEDROOMS -> property.setBedrooms(rs.getInt("bedrooms"));
+                case BATHROOMS -> property.setBathrooms(rs.getInt("bathrooms"));
+                case PARKING_SPACES -> property.setParkingSpaces(rs.getInt("parking_spaces"));
+                case CREATED_AT -> property.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+                case UPDATED_AT -> property.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
+            }
+        }
+        return property;
+    }
+
+    private void appendWhere(PropertyFilter filter, StringBuilder sql, List<Object> args) {
+        List<String> conditions = filterConditions(filter, args);
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+    }
+
+    private List<String> filterConditions(PropertyFilter filter, List<Object> args) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.city() != null) {
+            conditions.add("city = ?");
+            args.add(filter.city());
+        }
+        if (filter.type() != null) {
+            conditions.add("type = ?");
+            args.add(filter.type().name());
+        }
+        if (filter.status() != null) {
+            conditions.add("status = ?");
+            args.add(filter.status().name());
+        }
+        if (filter.isActiveOnly()) {
+            conditions.add(ACTIVE_STATUS_CONDITION);
+        }
+        return conditions;
+    }
+
+    @Override
+    public Set<Long> updateStatuses(Collection<PropertyStatusChange> changes) {
+        List<PropertyStatusChange> pending = new ArrayList<>(changes);
+        Set<Long> updated = new HashSet<>();
+        for (int from = 0; from < pending.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<PropertyStatusChange> chunk = pending.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, pending.size()));
+            if (dialect() == SqlDialect.POSTGRESQL) {
+                updated.addAll(updateStatusesFromValues(chunk));
+            } else {
+                updated.addAll(updateStatusesBatch(chunk));
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * PostgreSQL: una sola sentencia UPDATE ... FROM (VALUES ...) por bloque
+     */
+    private List<Long> updateStatusesFromValues(List<PropertyStatusChange> chunk) {
+        StringBuilder sql = new StringBuilder(
+            "UPDATE properties AS p SET status = v.status, updated_at = v.updated_at FROM (VALUES ");
+        List<Object> args = new ArrayList<>(chunk.size() * 3);
+        for (int i = 0; i < chunk.size(); i++) {
+            PropertyStatusChange change = chunk.get(i);
+            sql.append(i == 0 ? "" : ", ").append("(CAST(? AS BIGINT), CAST(? AS VARCHAR), CAST(? AS TIMESTAMP))");
+            args.add(change.propertyId());
+            args.add(change.status().name());
+            args.add(Timestamp.valueOf(change.changedAt()));
+        }
+        sql.append(") AS v(id, status, updated_at) WHERE p.id = v.id AND p.updated_at <= v.updated_at RETURNING p.id");
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, args.toArray());
+    }
+
+    /**
+     * Resto de motores: batch JDBC de UPDATE por id
+     */
+    private List<Long> updateStatusesBatch(List<PropertyStatusChange> chunk) {
+        String sql = "UPDATE properties SET status = ?, updated_at = ? WHERE id = ? AND updated_at <= ?";
+        int[] counts = jdbcTemplate.batchUpdate(sql, chunk, chunk.size(), (ps, change) -> {
+            Timestamp changedAt = Timestamp.valueOf(change.changedAt());
+            ps.setString(1, change.status().name());
+            ps.setTimestamp(2, changedAt);
+            ps.setLong(3, change.propertyId());
+            ps.setTimestamp(4, changedAt);
+        })[0];
+        List<Long> updated = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                updated.add(chunk.get(i).propertyId());
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Batch JDBC de UPDATE por id condicionado al precio anterior, en bloques de {@value #MAX_ROWS_PER_STATEMENT}
+     */
+    @Override
+    public Set<Long> updatePrices(Collection<PriceChange> changes) {
+        List<PriceChange> pending = new ArrayList<>(changes);
+        Set<Long> updated = new HashSet<>();
+        String sql = "UPDATE properties SET price = ?, updated_at = ? WHERE id = ? AND price = ?";
+        for (int from = 0; from < pending.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<PriceChange> chunk = pending.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, pending.size()));
+            int[] counts = jdbcTemplate.batchUpdate(sql, chunk, chunk.size(), (ps, change) -> {
+                ps.setBigDecimal(1, change.newPrice());
+                ps.setTimestamp(2, Timestamp.valueOf(change.changedAt()));
+                ps.setLong(3, change.propertyId());
+                ps.setBigDecimal(4, change.oldPrice());
+            })[0];
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    updated.add(chunk.get(i).propertyId());
+                }
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * PostgreSQL: UPDATE ... RETURNING; H2: SELECT ... FROM FINAL TABLE (UPDATE ...).
+     * Resto de motores: se seleccionan los ids y se actualizan por IN-list (requiere transacción)
+     */
+    @Override
+    public void transitionStatus(PropertyFilter filter, Collection<Long> ids, PropertyStatus status,
+                                 LocalDateTime changedAt, Consumer<Property> updated) {
+        if (ids != null && ids.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>();
+        List<String> conditions = filterConditions(filter, args);
+        conditions.add("status <> ?");
+        args.add(status.name());
+        if (ids != null) {
+            List<Long> distinctIds = ids.stream().distinct().toList();
+            if (dialect() == SqlDialect.POSTGRESQL) {
+                conditions.add("id = ANY(?)");
+                args.add(distinctIds.toArray(new Long[0]));
+            } else {
+                conditions.add("id IN (" + String.join(", ", Collections.nCopies(distinctIds.size(), "?")) + ")");
+                args.addAll(distinctIds);
+            }
+        }
+        String where = " WHERE " + String.join(" AND ", conditions);
+
+        switch (dialect()) {
+            case POSTGRESQL -> streamUpdated(
+                "UPDATE properties SET status = ?, updated_at = ?" + where + " RETURNING *", status, changedAt, args, updated);
+            case H2 -> streamUpdated(
+                "SELECT * FROM FINAL TABLE (UPDATE properties SET status = ?, updated_at = ?" + where + ")",
+                status, changedAt, args, updated);
+            default -> {
+                List<Long> matching = jdbcTemplate.queryForList("SELECT id FROM properties" + where, Long.class, args.toArray());
+                updateStatuses(matching.stream().map(id -> new PropertyStatusChange(id, status, changedAt)).toList());
+                findAllById(matching).forEach(updated);
+            }
+        }
+    }
+
+    private void streamUpdated(String sql, PropertyStatus status, LocalDateTime changedAt,
+                               List<Object> whereArgs, Consumer<Property> updated) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            ps.setString(1, status.name());
+            ps.setTimestamp(2, Timestamp.valueOf(changedAt));
+            for (int i = 0; i < whereArgs.size(); i++) {
+                Object arg = whereArgs.get(i);
+                if (arg instanceof Long[] array) {
+                    ps.setArray(i + 3, connection.createArrayOf("bigint", array));
+                } else {
+                    ps.setObject(i + 3, arg);
+                }
+            }
+            return ps;
+        }, rs -> {
+            updated.accept(propertyRowMapper.mapRow(rs, rs.getRow()));
+        });
+    }
+
     @Override
     public void deleteById(Long id) {
         String sql = "DELETE FROM properties WHERE id = ?";
@@ -0,0 +1,76 @@
+package com.apluz.backend.infrastructure.adapter.persistence;
+
+import com.apluz.backend.domain.port.PropertyRepository;
+import com.apluz.backend.infrastructure.adapter.persistence.embedded.EmbeddedPropertyRepository;
+import com.apluz.backend.infrastructure.adapter.persistence.shard.ShardedPropertyRepository;
+import com.apluz.backend.infrastructure.adapter.persistence.stats.IndexAdvisor;
+import com.apluz.backend.infrastructure.adapter.persistence.stats.QueryStatistics;
+import com.apluz.backend.infrastructure.adapter.persistence.stats.QueryStatsEndpoint;
+import com.apluz.backend.infrastructure.adapter.persistence.stats.QueryStatsPropertyRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Composición del puerto {@link PropertyRepository}: decoradores sobre el adaptador JDBC (o sobre
+ * el almacén embebido si {@code apluz.embedded-store.enabled=true}, o el repositorio particionado si
+ * {@code apluz.sharding.enabled=true}).
+ * Orden: single-flight -> estadísticas de consultas -> JDBC, de modo que las estadísticas solo
+ * cuentan las consultas que llegan de verdad a la base de datos. Las estadísticas y el asesor de índices
+ * solo se activan sobre el adaptador JDBC: el asesor lee los índices de la base de datos principal, que no
+ * es la de los shards y no existe con el almacén embebido.
+ */
+@Configuration
+public class PersistenceConfiguration {
+
+    private static final String QUERY_STATS_ON_JDBC = "${apluz.query-stats.enabled:true}"
+        + " and !${apluz.sharding.enabled:false} and !${apluz.embedded-store.enabled:false}";
+
+    @Bean
+    @Primary
+    public PropertyRepository propertyRepository(
+            JdbcPropertyRepository jdbcPropertyRepository,
+            ObjectProvider<EmbeddedPropertyRepository> embeddedPropertyRepository,
+            ObjectProvider<ShardedPropertyRepository> shardedPropertyRepository,
+            ObjectProvider<QueryStatistics> queryStatistics,
+            @Value("${apluz.single-flight.enabled:true}") boolean singleFlightEnabled,
+            @Value("${apluz.single-flight.timeout-ms:2000}") long singleFlightTimeoutMs) {
+        PropertyRepository repository = embeddedPropertyRepository.getIfAvailable();
+        if (repository == null) {
+            repository = shardedPropertyRepository.getIfAvailable();
+        }
+        if (repository == null) {
+            repository = jdbcPropertyRepository;
+        }
+        QueryStatistics statistics = queryStatistics.getIfAvailable();
+        if (statistics != null) {
+            repository = new QueryStatsPropertyRepository(repository, statistics);
+        }
+        if (singleFlightEnabled) {
+            repository = new SingleFlightPropertyRepository(repository, singleFlightTimeoutMs);
+        }
+        return repository;
+    }
+
+    @Bean
+    @ConditionalOnExpression(QUERY_STATS_ON_JDBC)
+    public QueryStatistics queryStatistics() {
+        return new QueryStatistics();
+    }
+
+    @Bean
+    @ConditionalOnExpression(QUERY_STATS_ON_JDBC)
+    public IndexAdvisor indexAdvisor(JdbcTemplate jdbcTemplate, QueryStatistics queryStatistics) {
+        return new IndexAdvisor(jdbcTemplate, queryStatistics);
+    }
+
+    @Bean
+    @ConditionalOnExpression(QUERY_STATS_ON_JDBC)
+    public QueryStatsEndpoint queryStatsEndpoint(IndexAdvisor indexAdvisor, QueryStatistics queryStatistics) {
+        return new QueryStatsEndpoint(indexAdvisor, queryStatistics);
+    }
+}
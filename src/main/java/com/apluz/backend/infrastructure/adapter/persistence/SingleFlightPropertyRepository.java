@@ -0,0 +1,323 @@
+package com.apluz.backend.infrastructure.adapter.persistence;
+
+import com.apluz.backend.domain.model.PriceChange;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyCount;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyStatusChange;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.domain.port.PropertyRepository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Decorador del repositorio que agrupa lecturas idénticas concurrentes (single-flight): la primera
+ * llamada ejecuta la consulta y las que llegan mientras está en curso esperan y reciben una copia
+ * de su resultado. Si la espera supera el timeout, la llamada consulta por su cuenta.
+ * Una escritura retira las consultas en curso que podría afectar (también al confirmar la transacción),
+ * de modo que nadie que llegue después de la escritura recibe un resultado leído antes.
+ * <p>
+ * Los recorridos en streaming ({@code forEach} con filtro y campos) también se agrupan: quien lanza la
+ * consulta entrega cada fila a su consumidor según llega y guarda una copia, y los que esperan reciben
+ * todas las filas de golpe al terminar. Si el resultado pasa de {@value #MAX_SHARED_ROWS} filas deja de
+ * guardarse y cada uno consulta por su cuenta.
+ */
+public class SingleFlightPropertyRepository implements PropertyRepository {
+
+    private enum Operation {
+        FIND_BY_ID,
+        EXISTS_BY_ID,
+        FIND_ALL,
+        FIND_BY_CITY,
+        FIND_BY_TYPE,
+        FIND_BY_STATUS,
+        COUNT,
+        FOR_EACH
+    }
+
+    private record FlightKey(Operation operation, Object argument) {
+
+        private boolean isById() {
+            return operation == Operation.FIND_BY_ID || operation == Operation.EXISTS_BY_ID;
+        }
+    }
+
+    static final int MAX_SHARED_ROWS = 10_000;
+
+    /**
+     * Resultado de un recorrido que no se comparte: se pasó de {@link #MAX_SHARED_ROWS} o falló a medias
+     */
+    private static final Object NOT_SHARED = new Object();
+
+    private final PropertyRepository delegate;
+    private final long timeoutMs;
+    private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public SingleFlightPropertyRepository(PropertyRepository delegate, long timeoutMs) {
+        this.delegate = delegate;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Consultas lanzadas contra el repositorio delegado
+     */
+    public long getExecutedCount() {
+        return executed.get();
+    }
+
+    /**
+     * Llamadas servidas con el resultado de una consulta ya en curso
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    @Override
+    public Optional<Property> findById(Long id) {
+        return coalesce(new FlightKey(Operation.FIND_BY_ID, id), () -> delegate.findById(id),
+            found -> found.map(SingleFlightPropertyRepository::copy));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return coalesce(new FlightKey(Operation.EXISTS_BY_ID, id), () -> delegate.existsById(id), UnaryOperator.identity());
+    }
+
+    @Override
+    public List<Property> findAll() {
+        return coalesce(new FlightKey(Operation.FIND_ALL, null), delegate::findAll, SingleFlightPropertyRepository::copy);
+    }
+
+    @Override
+    public List<Property> findByCity(String city) {
+        return coalesce(new FlightKey(Operation.FIND_BY_CITY, city), () -> delegate.findByCity(city),
+            SingleFlightPropertyRepository::copy);
+    }
+
+    @Override
+    public List<Property> findByType(PropertyType type) {
+        return coalesce(new FlightKey(Operation.FIND_BY_TYPE, type), () -> delegate.findByType(type),
+            SingleFlightPropertyRepository::copy);
+    }
+
+    @Override
+    public List<Property> findByStatus(PropertyStatus status) {
+        return coalesce(new FlightKey(Operation.FIND_BY_STATUS, status), () -> delegate.findByStatus(status),
+            SingleFlightPropertyRepository::copy);
+    }
+
+    @Override
+    public PropertyCount count(PropertyFilter filter, boolean exact) {
+        return coalesce(new FlightKey(Operation.COUNT, List.of(filter, exact)), () -> delegate.count(filter, exact),
+            UnaryOperator.identity());
+    }
+
+    @Override
+    public void forEach(PropertyFilter filter, Consumer<Property> action) {
+        forEach(filter, PropertyField.all(), action);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(PropertyFilter filter, Set<PropertyField> fields, Consumer<Property> action) {
+        if (inWriteTransaction()) {
+            delegate.forEach(filter, fields, action);
+            return;
+        }
+        FlightKey key = new FlightKey(Operation.FOR_EACH, List.of(filter, Set.copyOf(fields)));
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing == null) {
+            executed.incrementAndGet();
+            List<Property> buffered = new ArrayList<>();
+            try {
+                delegate.forEach(filter, fields, property -> {
+                    if (!flight.isDone()) {
+                        buffered.add(copy(property));
+                        if (buffered.size() > MAX_SHARED_ROWS) {
+                            inFlight.remove(key, flight);
+                            flight.complete(NOT_SHARED);
+                            buffered.clear();
+                        }
+                    }
+                    action.accept(property);
+                });
+                flight.complete(buffered);
+            } finally {
+                // Si falló (también si falló el consumidor), quien espera consulta por su cuenta
+                flight.complete(NOT_SHARED);
+                inFlight.remove(key, flight);
+            }
+            return;
+        }
+
+        Object shared = await(existing);
+        if (shared == null || shared == NOT_SHARED) {
+            executed.incrementAndGet();
+            delegate.forEach(filter, fields, action);
+            return;
+        }
+        coalesced.incrementAndGet();
+        for (Property property : (List<Property>) shared) {
+            action.accept(copy(property));
+        }
+    }
+
+    // Lecturas no agrupadas: por lotes de ids arbitrarios o por rango de updated_at para la exportación
+
+    @Override
+    public List<Property> findAllById(Collection<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public void forEachUpdated(LocalDateTime after, LocalDateTime until, Consumer<Property> action) {
+        delegate.forEachUpdated(after, until, action);
+    }
+
+    // Escrituras: retiran las consultas en curso afectadas
+
+    @Override
+    public Property save(Property property) {
+        Long id = property.getId();
+        Property saved = delegate.save(property);
+        invalidate(key -> !key.isById() || Objects.equals(key.argument(), id));
+        return saved;
+    }
+
+    @Override
+    public Set<Long> updateStatuses(Collection<PropertyStatusChange> changes) {
+        Set<Long> updated = delegate.updateStatuses(changes);
+        invalidate(key -> !key.isById() || updated.contains(key.argument()));
+        return updated;
+    }
+
+    @Override
+    public Set<Long> updatePrices(Collection<PriceChange> changes) {
+        Set<Long> updated = delegate.updatePrices(changes);
+        invalidate(key -> !key.isById() || updated.contains(key.argument()));
+        return updated;
+    }
+
+    @Override
+    public void transitionStatus(PropertyFilter filter, Collection<Long> ids, PropertyStatus status,
+                                 LocalDateTime changedAt, Consumer<Property> updated) {
+        delegate.transitionStatus(filter, ids, status, changedAt, updated);
+        invalidate(key -> true);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        invalidate(key -> !key.isById() || Objects.equals(key.argument(), id));
+    }
+
+    /**
+     * Dentro de una transacción de escritura no se agrupa: la lectura debe ver las escrituras propias
+     * aún no confirmadas y no debe compartirlas con otras transacciones
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(FlightKey key, Supplier<T> query, UnaryOperator<T> copy) {
+        if (inWriteTransaction()) {
+            return query.get();
+        }
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing == null) {
+            executed.incrementAndGet();
+            try {
+                T result = query.get();
+                flight.complete(result);
+                return copy.apply(result);
+            } catch (RuntimeException | Error e) {
+                flight.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, flight);
+            }
+        }
+
+        T shared = (T) await(existing);
+        if (shared == null) {
+            executed.incrementAndGet();
+            return copy.apply(query.get());
+        }
+        coalesced.incrementAndGet();
+        return copy.apply(shared);
+    }
+
+    private static boolean inWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * @return resultado de la consulta en curso, o null si no termina dentro del timeout
+     */
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Coalesced query failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a coalesced query", e);
+        }
+    }
+
+    /**
+     * Retira ahora y, si hay transacción, otra vez al confirmarla: hasta entonces otras conexiones
+     * siguen leyendo el valor anterior y no deben compartirlo con quien llegue después
+     */
+    private void invalidate(Predicate<FlightKey> affected) {
+        inFlight.keySet().removeIf(affected);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    inFlight.keySet().removeIf(affected);
+                }
+            });
+        }
+    }
+
+    private static List<Property> copy(List<Property> properties) {
+        List<Property> copies = new ArrayList<>(properties.size());
+        properties.forEach(property -> copies.add(copy(property)));
+        return copies;
+    }
+
+    private static Property copy(Property p) {
+        return new Property(p.getId(), p.getTitle(), p.getDescription(), p.getType(), p.getStatus(), p.getPrice(),
+            p.getAddress(), p.getCity(), p.getState(), p.getZipCode(), p.getArea(), p.getBedrooms(),
+            p.getBathrooms(), p.getParkingSpaces(), p.getCreatedAt(), p.getUpdatedAt());
+    }
+}
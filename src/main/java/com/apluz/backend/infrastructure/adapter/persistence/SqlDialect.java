@@ -0,0 +1,41 @@
+package com.apluz.backend.infrastructure.adapter.persistence;
+
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * Enum: Motor de base de datos, para las sentencias que no son SQL estándar
+ */
+public enum SqlDialect {
+    POSTGRESQL,
+    H2,
+    OTHER;
+
+    public static SqlDialect detect(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return fromProductName(product);
+        } catch (MetaDataAccessException e) {
+            return OTHER;
+        }
+    }
+
+    /**
+     * A partir del nombre del producto (JDBC) o del driver (R2DBC)
+     */
+    public static SqlDialect fromProductName(String product) {
+        if (product == null) {
+            return OTHER;
+        }
+        if (product.toLowerCase().contains("postgres")) {
+            return POSTGRESQL;
+        }
+        if (product.toLowerCase().contains("h2")) {
+            return H2;
+        }
+        return OTHER;
+    }
+}
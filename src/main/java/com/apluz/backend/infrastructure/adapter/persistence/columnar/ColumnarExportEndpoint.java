@@ -0,0 +1,57 @@
+package com.apluz.backend.infrastructure.adapter.persistence.columnar;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Endpoint de administración {@code /actuator/columnarexport}: GET devuelve los ficheros de la generación
+ * actual, POST lanza una exportación sin esperar a la programada
+ */
+@Component
+@Endpoint(id = "columnarexport")
+@ConditionalOnProperty(name = "apluz.columnar-export.enabled", havingValue = "true")
+public class ColumnarExportEndpoint {
+
+    private final ColumnarExporter exporter;
+
+    public ColumnarExportEndpoint(ColumnarExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    public record FileReport(String file, ColumnarFileInfo.Kind kind, LocalDateTime after, LocalDateTime watermark,
+                             int rowGroups, long rows) {
+
+        static FileReport of(ColumnarFileInfo info) {
+            return new FileReport(info.file().getFileName().toString(), info.kind(), info.after(), info.watermark(),
+                info.rowGroups(), info.rows());
+        }
+    }
+
+    public record Report(String directory, List<FileReport> files) {
+    }
+
+    @ReadOperation
+    public Report report() throws IOException {
+        List<FileReport> files = ColumnarSnapshot.open(exporter.getDirectory()).files().stream()
+            .map(FileReport::of)
+            .toList();
+        return new Report(exporter.getDirectory().toString(), files);
+    }
+
+    /**
+     * @return el fichero escrito, o null si no había nada nuevo desde el último watermark
+     */
+    @WriteOperation
+    public FileReport export() throws IOException {
+        Optional<ColumnarFileInfo> written = exporter.export();
+        return written.map(FileReport::of).orElse(null);
+    }
+}
@@ -0,0 +1,148 @@
+package com.apluz.backend.infrastructure.adapter.persistence.columnar;
+
+import com.apluz.backend.application.service.StatusWriteBehindQueue;
+import com.apluz.backend.domain.port.PropertyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Exportación periódica de la tabla de propiedades a ficheros columnares en disco local, para que los informes
+ * se sirvan de ellos en lugar de consultar la base de datos. Cada ejecución recorre la tabla una sola vez con un
+ * cursor: completa (todas las filas) si no hay ninguna o la última tiene más de {@code full-interval}, y si no
+ * incremental (solo updated_at posterior al watermark anterior). El watermark se queda {@code lag} por detrás de
+ * ahora, para no perder filas de transacciones que aún no habían confirmado, y nunca pasa de un cambio de estado
+ * write-behind pendiente: esos cambios llevan la hora a la que se aceptaron pero confirman al volcarse la cola,
+ * quizá más tarde que {@code lag}. Una exportación completa retira las generaciones anteriores.
+ */
+@Component
+@ConditionalOnProperty(name = "apluz.columnar-export.enabled", havingValue = "true")
+public class ColumnarExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarExporter.class);
+
+    private final PropertyRepository propertyRepository;
+    private final StatusWriteBehindQueue statusWriteBehindQueue;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path directory;
+    private final Duration fullInterval;
+    private final Duration lag;
+    private final int rowGroupSize;
+    private final ReentrantLock running = new ReentrantLock();
+
+    public ColumnarExporter(
+            PropertyRepository propertyRepository,
+            StatusWriteBehindQueue statusWriteBehindQueue,
+            PlatformTransactionManager transactionManager,
+            @Value("${apluz.columnar-export.directory:data/columnar}") String directory,
+            @Value("${apluz.columnar-export.full-interval:P1D}") Duration fullInterval,
+            @Value("${apluz.columnar-export.lag:PT1M}") Duration lag,
+            @Value("${apluz.columnar-export.row-group-size:65536}") int rowGroupSize) {
+        this.propertyRepository = propertyRepository;
+        this.statusWriteBehindQueue = statusWriteBehindQueue;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.directory = Path.of(directory);
+        this.fullInterval = fullInterval;
+        this.lag = lag;
+        this.rowGroupSize = rowGroupSize;
+    }
+
+    @Scheduled(cron = "${apluz.columnar-export.cron:0 0 * * * *}")
+    public void scheduledExport() {
+        try {
+            export();
+        } catch (IOException | RuntimeException e) {
+            log.error("Columnar export to {} failed", directory, e);
+        }
+    }
+
+    /**
+     * @return fichero escrito, o vacío si no hay nada nuevo desde el último watermark
+     * @throws IllegalStateException si ya hay una exportación en curso
+     */
+    public Optional<ColumnarFileInfo> export() throws IOException {
+        return exportAsOf(LocalDateTime.now());
+    }
+
+    public Optional<ColumnarFileInfo> exportAsOf(LocalDateTime now) throws IOException {
+        if (!running.tryLock()) {
+            throw new IllegalStateException("A columnar export is already running");
+        }
+        try {
+            LocalDateTime watermark = watermarkAsOf(now);
+            ColumnarSnapshot current = ColumnarSnapshot.open(directory);
+            Optional<ColumnarFileInfo> latest = current.latest();
+            if (latest.isPresent() && !watermark.isAfter(latest.get().watermark())) {
+                return Optional.empty();
+            }
+            boolean full = current.full()
+                .map(info -> !watermark.isBefore(info.watermark().plus(fullInterval)))
+                .orElse(true);
+            ColumnarFileInfo.Kind kind = full ? ColumnarFileInfo.Kind.FULL : ColumnarFileInfo.Kind.INCREMENTAL;
+            LocalDateTime after = full ? null : latest.get().watermark();
+
+            Files.createDirectories(directory);
+            long start = System.nanoTime();
+            ColumnarFileInfo info;
+            try (ColumnarFileWriter writer = ColumnarFileWriter.create(
+                    ColumnarSnapshot.fileFor(directory, kind, watermark), kind, after, watermark, rowGroupSize)) {
+                readOnlyTransaction.executeWithoutResult(
+                    status -> propertyRepository.forEachUpdated(after, watermark, writer::write));
+                info = writer.commit();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            if (full) {
+                for (Path file : ColumnarSnapshot.open(directory).staleFiles()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            log.info("Columnar {} export: {} rows in {} row groups up to {} written to {} in {} ms", kind, info.rows(),
+                info.rowGroups(), watermark, info.file(), (System.nanoTime() - start) / 1_000_000);
+            return Optional.of(info);
+        } finally {
+            running.unlock();
+        }
+    }
+
+    /**
+     * {@code lag} por detrás de {@code now}, tras volcar la cola write-behind. Si algún cambio sigue pendiente
+     * (el volcado falló), el watermark se queda justo antes del más antiguo para que la siguiente exportación
+     * lo recoja en lugar de saltárselo cuando por fin confirme
+     */
+    private LocalDateTime watermarkAsOf(LocalDateTime now) {
+        LocalDateTime watermark = now.minus(lag).truncatedTo(ChronoUnit.MICROS);
+        if (!statusWriteBehindQueue.isEnabled()) {
+            return watermark;
+        }
+        try {
+            statusWriteBehindQueue.flush();
+        } catch (RuntimeException e) {
+            log.warn("Could not flush pending status changes before columnar export, holding watermark back", e);
+        }
+        return statusWriteBehindQueue.oldestPendingChange()
+            .map(oldest -> oldest.truncatedTo(ChronoUnit.MICROS).minus(1, ChronoUnit.MICROS))
+            .filter(watermark::isAfter)
+            .orElse(watermark);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+}
@@ -0,0 +1,17 @@
+package com.apluz.backend.infrastructure.adapter.persistence.columnar;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * Metadatos de un fichero columnar: filas con updated_at en ({@code after}, {@code watermark}];
+ * {@code after} es null en una exportación completa
+ */
+public record ColumnarFileInfo(Path file, Kind kind, LocalDateTime after, LocalDateTime watermark,
+                               int rowGroups, long rows) {
+
+    public enum Kind {
+        FULL,
+        INCREMENTAL
+    }
+}
@@ -0,0 +1,150 @@
+package com.apluz.backend.infrastructure.adapter.persistence.columnar;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.infrastructure.adapter.persistence.columnar.ColumnarFormat.Column;
+import com.apluz.backend.infrastructure.adapter.persistence.columnar.ColumnarFormat.Encoding;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Lee ficheros columnares ({@link ColumnarFormat}). Solo se leen del disco, se verifican y se descomprimen los
+ * bloques de las columnas pedidas; el resto se salta por su longitud
+ */
+public final class ColumnarFileReader {
+
+    private ColumnarFileReader() {
+    }
+
+    /**
+     * Lee la cabecera y el pie sin recorrer los grupos
+     */
+    public static ColumnarFileInfo readInfo(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return readInfo(file, channel);
+        }
+    }
+
+    /**
+     * Entrega una propiedad por fila con los campos de {@code fields} (más el id, que siempre se carga);
+     * el resto de atributos queda a null
+     *
+     * @throws IllegalStateException si el fichero está truncado o algún bloque leído no supera su checksum
+     */
+    public static ColumnarFileInfo forEach(Path file, Set<PropertyField> fields, Consumer<Property> action)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ColumnarFileInfo info = readInfo(file, channel);
+            long end = channel.size() - ColumnarFormat.FOOTER_LENGTH;
+            long position = ColumnarFormat.HEADER_LENGTH;
+            Inflater inflater = new Inflater();
+            try {
+                for (int group = 0; group < info.rowGroups(); group++) {
+                    ByteBuffer groupHeader = read(file, channel, position, ColumnarFormat.GROUP_HEADER_LENGTH);
+                    position += ColumnarFormat.GROUP_HEADER_LENGTH;
+                    int rowCount = groupHeader.getInt();
+                    int columnCount = groupHeader.get();
+                    Property[] rows = new Property[rowCount];
+                    for (int i = 0; i < rowCount; i++) {
+                        rows[i] = new Property();
+                    }
+                    for (int c = 0; c < columnCount; c++) {
+                        ByteBuffer blockHeader = read(file, channel, position, ColumnarFormat.BLOCK_HEADER_LENGTH);
+                        position += ColumnarFormat.BLOCK_HEADER_LENGTH;
+                        Column column = Column.values()[blockHeader.get()];
+                        Encoding encoding = Encoding.values()[blockHeader.get()];
+                        int rawLength = blockHeader.getInt();
+                        int compressedLength = blockHeader.getInt();
+                        int checksum = blockHeader.getInt();
+                        if (column.field() == PropertyField.ID || fields.contains(column.field())) {
+                            ByteBuffer block = inflate(file, inflater,
+                                read(file, channel, position, compressedLength), rawLength, checksum);
+                            Object[] values = ColumnarFormat.decode(column, encoding, block, rowCount);
+                            for (int i = 0; i < rowCount; i++) {
+                                column.set(rows[i], values[i]);
+                            }
+                        }
+                        position += compressedLength;
+                    }
+                    for (Property row : rows) {
+                        action.accept(row);
+                    }
+                }
+            } finally {
+                inflater.end();
+            }
+            if (position != end) {
+                throw new IllegalStateException("Columnar file " + file + " is corrupted (unexpected footer position)");
+            }
+            return info;
+        }
+    }
+
+    private static ColumnarFileInfo readInfo(Path file, FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size < ColumnarFormat.HEADER_LENGTH + ColumnarFormat.FOOTER_LENGTH) {
+            throw new IllegalStateException("Columnar file " + file + " is truncated");
+        }
+        ByteBuffer header = read(file, channel, 0, ColumnarFormat.HEADER_LENGTH);
+        if (header.getInt() != ColumnarFormat.MAGIC || header.getInt() != ColumnarFormat.VERSION) {
+            throw new IllegalStateException("Unsupported columnar format in " + file);
+        }
+        ColumnarFileInfo.Kind kind = ColumnarFileInfo.Kind.values()[header.get()];
+        long after = header.getLong();
+        long watermark = header.getLong();
+
+        ByteBuffer footer = read(file, channel, size - ColumnarFormat.FOOTER_LENGTH, ColumnarFormat.FOOTER_LENGTH);
+        int mark = footer.getInt();
+        int rowGroups = footer.getInt();
+        long rows = footer.getLong();
+        if (mark != ColumnarFormat.FOOTER_MARK || footer.getInt() != ColumnarFormat.MAGIC) {
+            throw new IllegalStateException("Columnar file " + file + " is truncated (missing footer)");
+        }
+        return new ColumnarFileInfo(file, kind, ColumnarFormat.fromMicros(after), ColumnarFormat.fromMicros(watermark),
+            rowGroups, rows);
+    }
+
+    private static ByteBuffer inflate(Path file, Inflater inflater, ByteBuffer compressed, int rawLength,
+                                      int checksum) {
+        CRC32C crc = new CRC32C();
+        crc.update(compressed.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw new IllegalStateException("Columnar file " + file + " is corrupted (checksum mismatch)");
+        }
+        ByteBuffer raw = ByteBuffer.allocate(rawLength);
+        inflater.reset();
+        inflater.setInput(compressed);
+        try {
+            while (raw.hasRemaining() && !inflater.finished()) {
+                if (inflater.inflate(raw) == 0 && inflater.needsInput()) {
+                    break;
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Columnar file " + file + " is corrupted", e);
+        }
+        if (raw.hasRemaining() || !inflater.finished()) {
+            throw new IllegalStateException("Columnar file " + file + " is corrupted (unexpected block length)");
+        }
+        return raw.flip();
+    }
+
+    private static ByteBuffer read(Path file, FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IllegalStateException("Columnar file " + file + " is truncated");
+            }
+        }
+        return buffer.flip();
+    }
+}
@@ -0,0 +1,164 @@
+package com.apluz.backend.infrastructure.adapter.persistence.columnar;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.infrastructure.adapter.persistence.columnar.ColumnarFormat.Column;
+import com.apluz.backend.infrastructure.adapter.persistence.columnar.ColumnarFormat.Encoding;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+import java.util.zip.Deflater;
+
+/**
+ * Escribe un fichero columnar ({@link ColumnarFormat}) a partir de un flujo de propiedades, guardando en memoria
+ * solo el grupo de filas en curso. El fichero se construye en un temporal y {@link #commit()} lo renombra de forma
+ * atómica; cerrar sin confirmar lo descarta, así que en disco nunca queda una exportación a medias.
+ */
+public final class ColumnarFileWriter implements AutoCloseable {
+
+    private final Path file;
+    private final Path temporary;
+    private final FileChannel channel;
+    private final DataOutputStream out;
+    private final ColumnarFileInfo.Kind kind;
+    private final LocalDateTime after;
+    private final LocalDateTime watermark;
+    private final int rowGroupSize;
+    private final List<Property> group;
+    private final ByteArrayOutputStream block = new ByteArrayOutputStream(64 * 1024);
+    private final DataOutputStream blockOut = new DataOutputStream(block);
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+    private byte[] compressed = new byte[64 * 1024];
+    private int rowGroups;
+    private long rows;
+    private boolean committed;
+
+    private ColumnarFileWriter(Path file, ColumnarFileInfo.Kind kind, LocalDateTime after, LocalDateTime watermark,
+                               int rowGroupSize) throws IOException {
+        this.file = file;
+        this.temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        this.kind = kind;
+        this.after = after;
+        this.watermark = watermark;
+        this.rowGroupSize = rowGroupSize;
+        this.group = new ArrayList<>(rowGroupSize);
+        this.channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        this.out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+    }
+
+    public static ColumnarFileWriter create(Path file, ColumnarFileInfo.Kind kind, LocalDateTime after,
+                                            LocalDateTime watermark, int rowGroupSize) throws IOException {
+        if (rowGroupSize < 1) {
+            throw new IllegalArgumentException("Row group size must be positive");
+        }
+        ColumnarFileWriter writer = new ColumnarFileWriter(file, kind, after, watermark, rowGroupSize);
+        try {
+            writer.out.writeInt(ColumnarFormat.MAGIC);
+            writer.out.writeInt(ColumnarFormat.VERSION);
+            writer.out.writeByte(kind.ordinal());
+            writer.out.writeLong(after != null ? ColumnarFormat.toMicros(after) : ColumnarFormat.NO_TIMESTAMP);
+            writer.out.writeLong(ColumnarFormat.toMicros(watermark));
+            return writer;
+        } catch (IOException e) {
+            writer.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Añade una fila; al completar un grupo lo codifica y lo escribe
+     */
+    public void write(Property property) {
+        group.add(property);
+        if (group.size() == rowGroupSize) {
+            try {
+                flushGroup();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Escribe el último grupo y el pie, sincroniza con disco y publica el fichero con su nombre definitivo
+     */
+    public ColumnarFileInfo commit() throws IOException {
+        if (!group.isEmpty()) {
+            flushGroup();
+        }
+        out.writeInt(ColumnarFormat.FOOTER_MARK);
+        out.writeInt(rowGroups);
+        out.writeLong(rows);
+        out.writeInt(ColumnarFormat.MAGIC);
+        out.flush();
+        channel.force(true);
+        channel.close();
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        committed = true;
+        return new ColumnarFileInfo(file, kind, after, watermark, rowGroups, rows);
+    }
+
+    @Override
+    public void close() throws IOException {
+        deflater.end();
+        if (!committed) {
+            channel.close();
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void flushGroup() throws IOException {
+        Column[] columns = Column.values();
+        out.writeInt(group.size());
+        out.writeByte(columns.length);
+        Object[] values = new Object[group.size()];
+        for (Column column : columns) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = column.get(group.get(i));
+            }
+            block.reset();
+            Encoding encoding = ColumnarFormat.encode(column, values, blockOut);
+            int compressedLength = compress();
+            CRC32C crc = new CRC32C();
+            crc.update(compressed, 0, compressedLength);
+
+            out.writeByte(column.ordinal());
+            out.writeByte(encoding.ordinal());
+            out.writeInt(block.size());
+            out.writeInt(compressedLength);
+            out.writeInt((int) crc.getValue());
+            out.write(compressed, 0, compressedLength);
+        }
+        rowGroups++;
+        rows += group.size();
+        group.clear();
+    }
+
+    private int compress() {
+        deflater.reset();
+        deflater.setInput(block.toByteArray());
+        deflater.finish();
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == compressed.length) {
+                compressed = Arrays.copyOf(compressed, compressed.length * 2);
+            }
+            length += deflater.deflate(compressed, length, compressed.length - length);
+        }
+        return length;
+    }
+}
@@ -0,0 +1,309 @@
+package com.apluz.backend.infrastructure.adapter.persistence.columnar;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Formato de los ficheros columnares de la exportación ({@code .apc}), versión 1. Enteros de tamaño fijo en big-endian:
+ * <pre>
+ * fichero  = cabecera grupo* pie
+ * cabecera = [magic int][versión int][tipo byte][after long][watermark long]
+ * grupo    = [filas int][columnas byte] bloque*
+ * bloque   = [columna byte][codificación byte][longitud sin comprimir int][longitud comprimida int][crc32c int][deflate]
+ * pie      = [-1 int][grupos int][filas long][magic int]
+ * </pre>
+ * Los instantes van en microsegundos desde epoch (UTC); {@code after} es {@link Long#MIN_VALUE} en una exportación
+ * completa. Cada bloque, ya descomprimido, empieza con un bitmap de nulos (un bit por fila) seguido de los valores
+ * no nulos: PLAIN (cadenas como longitud varint + UTF-8, enteros zigzag varint, doubles de 8 bytes, decimales como
+ * escala y valor sin escala en zigzag varint), DICTIONARY (número de entradas, entradas como en PLAIN y un código
+ * varint por fila) o DELTA (diferencia con el valor anterior en zigzag varint). Un lector puede saltarse un bloque
+ * sin leerlo gracias a su longitud comprimida.
+ */
+final class ColumnarFormat {
+
+    static final int MAGIC = 0x4150435A;
+    static final int VERSION = 1;
+    static final int HEADER_LENGTH = 25;
+    static final int GROUP_HEADER_LENGTH = 5;
+    static final int BLOCK_HEADER_LENGTH = 14;
+    static final int FOOTER_LENGTH = 20;
+    static final int FOOTER_MARK = -1;
+    static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    /**
+     * Un diccionario con más entradas que esta fracción de los valores no compensa y el bloque se escribe en PLAIN
+     */
+    private static final int DICTIONARY_MAX_RATIO = 2;
+    private static final int DICTIONARY_MIN_ENTRIES = 16;
+
+    enum Encoding {
+        PLAIN,
+        DICTIONARY,
+        DELTA
+    }
+
+    enum ValueType {
+        STRING,
+        LONG,
+        INT,
+        DOUBLE,
+        DECIMAL
+    }
+
+    /**
+     * Columnas en el orden en que se escriben en cada grupo; el ordinal es el identificador en el fichero
+     */
+    enum Column {
+        ID(PropertyField.ID, ValueType.LONG, Encoding.DELTA,
+            Property::getId, (property, value) -> property.setId((Long) value)),
+        TITLE(PropertyField.TITLE, ValueType.STRING, Encoding.PLAIN,
+            Property::getTitle, (property, value) -> property.setTitle((String) value)),
+        DESCRIPTION(PropertyField.DESCRIPTION, ValueType.STRING, Encoding.PLAIN,
+            Property::getDescription, (property, value) -> property.setDescription((String) value)),
+        TYPE(PropertyField.TYPE, ValueType.STRING, Encoding.DICTIONARY,
+            property -> property.getType() != null ? property.getType().name() : null,
+            (property, value) -> property.setType(value != null ? PropertyType.valueOf((String) value) : null)),
+        STATUS(PropertyField.STATUS, ValueType.STRING, Encoding.DICTIONARY,
+            property -> property.getStatus() != null ? property.getStatus().name() : null,
+            (property, value) -> property.setStatus(value != null ? PropertyStatus.valueOf((String) value) : null)),
+        PRICE(PropertyField.PRICE, ValueType.DECIMAL, Encoding.PLAIN,
+            Property::getPrice, (property, value) -> property.setPrice((BigDecimal) value)),
+        ADDRESS(PropertyField.ADDRESS, ValueType.STRING, Encoding.PLAIN,
+            Property::getAddress, (property, value) -> property.setAddress((String) value)),
+        CITY(PropertyField.CITY, ValueType.STRING, Encoding.DICTIONARY,
+            Property::getCity, (property, value) -> property.setCity((String) value)),
+        STATE(PropertyField.STATE, ValueType.STRING, Encoding.DICTIONARY,
+            Property::getState, (property, value) -> property.setState((String) value)),
+        ZIP_CODE(PropertyField.ZIP_CODE, ValueType.STRING, Encoding.PLAIN,
+            Property::getZipCode, (property, value) -> property.setZipCode((String) value)),
+        AREA(PropertyField.AREA, ValueType.DOUBLE, Encoding.PLAIN,
+            Property::getArea, (property, value) -> property.setArea((Double) value)),
+        BEDROOMS(PropertyField.BEDROOMS, ValueType.INT, Encoding.PLAIN,
+            Property::getBedrooms, (property, value) -> property.setBedrooms((Integer) value)),
+        BATHROOMS(PropertyField.BATHROOMS, ValueType.INT, Encoding.PLAIN,
+            Property::getBathrooms, (property, value) -> property.setBathrooms((Integer) value)),
+        PARKING_SPACES(PropertyField.PARKING_SPACES, ValueType.INT, Encoding.PLAIN,
+            Property::getParkingSpaces, (property, value) -> property.setParkingSpaces((Integer) value)),
+        CREATED_AT(PropertyField.CREATED_AT, ValueType.LONG, Encoding.DELTA,
+            property -> property.getCreatedAt() != null ? toMicros(property.getCreatedAt()) : null,
+            (property, value) -> property.setCreatedAt(value != null ? fromMicros((Long) value) : null)),
+        UPDATED_AT(PropertyField.UPDATED_AT, ValueType.LONG, Encoding.DELTA,
+            property -> property.getUpdatedAt() != null ? toMicros(property.getUpdatedAt()) : null,
+            (property, value) -> property.setUpdatedAt(value != null ? fromMicros((Long) value) : null));
+
+        private final PropertyField field;
+        private final ValueType type;
+        private final Encoding encoding;
+        private final Function<Property, Object> getter;
+        private final BiConsumer<Property, Object> setter;
+
+        Column(PropertyField field, ValueType type, Encoding encoding,
+               Function<Property, Object> getter, BiConsumer<Property, Object> setter) {
+            this.field = field;
+            this.type = type;
+            this.encoding = encoding;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        PropertyField field() {
+            return field;
+        }
+
+        Object get(Property property) {
+            return getter.apply(property);
+        }
+
+        void set(Property property, Object value) {
+            setter.accept(property, value);
+        }
+    }
+
+    private ColumnarFormat() {
+    }
+
+    /**
+     * Escribe los valores de una columna (un elemento por fila, null permitido) y devuelve la codificación usada
+     */
+    static Encoding encode(Column column, Object[] values, DataOutput out) throws IOException {
+        byte[] nulls = new byte[(values.length + 7) / 8];
+        int present = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                nulls[i >>> 3] |= (byte) (1 << (i & 7));
+                present++;
+            }
+        }
+        out.write(nulls);
+
+        Encoding encoding = column.encoding;
+        if (encoding == Encoding.DICTIONARY) {
+            Map<String, Integer> dictionary = new LinkedHashMap<>();
+            for (Object value : values) {
+                if (value != null) {
+                    dictionary.putIfAbsent((String) value, dictionary.size());
+                }
+            }
+            if (dictionary.size() > Math.max(DICTIONARY_MIN_ENTRIES, present / DICTIONARY_MAX_RATIO)) {
+                encoding = Encoding.PLAIN;
+            } else {
+                writeVarLong(out, dictionary.size());
+                for (String entry : dictionary.keySet()) {
+                    writeString(out, entry);
+                }
+                for (Object value : values) {
+                    if (value != null) {
+                        writeVarLong(out, dictionary.get(value));
+                    }
+                }
+                return encoding;
+            }
+        }
+
+        long previous = 0;
+        for (Object value : values) {
+            if (value == null) {
+                continue;
+            }
+            switch (column.type) {
+                case STRING -> writeString(out, (String) value);
+                case INT -> writeVarLong(out, zigzag((Integer) value));
+                case DOUBLE -> out.writeDouble((Double) value);
+                case DECIMAL -> {
+                    BigDecimal decimal = (BigDecimal) value;
+                    writeVarLong(out, zigzag(decimal.scale()));
+                    writeVarLong(out, zigzag(decimal.unscaledValue().longValueExact()));
+                }
+                case LONG -> {
+                    long current = (Long) value;
+                    writeVarLong(out, zigzag(encoding == Encoding.DELTA ? current - previous : current));
+                    previous = current;
+                }
+            }
+        }
+        return encoding;
+    }
+
+    /**
+     * Inverso de {@link #encode}: un valor (o null) por cada una de las {@code rows} filas
+     */
+    static Object[] decode(Column column, Encoding encoding, ByteBuffer in, int rows) {
+        byte[] nulls = new byte[(rows + 7) / 8];
+        in.get(nulls);
+        Object[] values = new Object[rows];
+
+        if (encoding == Encoding.DICTIONARY) {
+            if (column.type != ValueType.STRING) {
+                throw new IllegalStateException("Dictionary encoding is not supported for column " + column);
+            }
+            String[] dictionary = new String[(int) readVarLong(in)];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = readString(in);
+            }
+            for (int i = 0; i < rows; i++) {
+                if (isPresent(nulls, i)) {
+                    values[i] = dictionary[(int) readVarLong(in)];
+                }
+            }
+            return values;
+        }
+        if (encoding == Encoding.DELTA && column.type != ValueType.LONG) {
+            throw new IllegalStateException("Delta encoding is not supported for column " + column);
+        }
+
+        long previous = 0;
+        for (int i = 0; i < rows; i++) {
+            if (!isPresent(nulls, i)) {
+                continue;
+            }
+            values[i] = switch (column.type) {
+                case STRING -> readString(in);
+                case INT -> (int) unzigzag(readVarLong(in));
+                case DOUBLE -> in.getDouble();
+                case DECIMAL -> {
+                    int scale = (int) unzigzag(readVarLong(in));
+                    yield BigDecimal.valueOf(unzigzag(readVarLong(in)), scale);
+                }
+                case LONG -> {
+                    long value = unzigzag(readVarLong(in));
+                    previous = encoding == Encoding.DELTA ? previous + value : value;
+                    yield previous;
+                }
+            };
+        }
+        return values;
+    }
+
+    static long toMicros(LocalDateTime timestamp) {
+        if (timestamp == null) {
+            return NO_TIMESTAMP;
+        }
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + timestamp.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        if (micros == NO_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+            Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static boolean isPresent(byte[] nulls, int row) {
+        return (nulls[row >>> 3] & (1 << (row & 7))) != 0;
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[(int) readVarLong(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint in columnar block");
+    }
+}
@@ -0,0 +1,112 @@
+package com.apluz.backend.infrastructure.adapter.persistence.columnar;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyField;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Vista de la última generación exportada de un directorio: la exportación completa más reciente y las
+ * incrementales posteriores. Los nombres ({@code properties-<watermark>-full.apc}) ordenan los ficheros por
+ * watermark, así que el propio directorio guarda el estado del exportador
+ */
+public final class ColumnarSnapshot {
+
+    private static final String PREFIX = "properties-";
+    private static final String EXTENSION = ".apc";
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss.SSSSSS");
+
+    private final List<ColumnarFileInfo> files;
+    private final List<Path> stale;
+
+    private ColumnarSnapshot(List<ColumnarFileInfo> files, List<Path> stale) {
+        this.files = files;
+        this.stale = stale;
+    }
+
+    /**
+     * Lee la cabecera y el pie de cada fichero del directorio; vacío si no existe o aún no hay exportación completa
+     */
+    public static ColumnarSnapshot open(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new ColumnarSnapshot(List.of(), List.of());
+        }
+        List<Path> paths;
+        try (Stream<Path> listing = Files.list(directory)) {
+            paths = listing
+                .filter(path -> path.getFileName().toString().startsWith(PREFIX))
+                .filter(path -> path.getFileName().toString().endsWith(EXTENSION))
+                .sorted()
+                .toList();
+        }
+        List<ColumnarFileInfo> infos = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            infos.add(ColumnarFileReader.readInfo(path));
+        }
+        int lastFull = -1;
+        for (int i = 0; i < infos.size(); i++) {
+            if (infos.get(i).kind() == ColumnarFileInfo.Kind.FULL) {
+                lastFull = i;
+            }
+        }
+        if (lastFull < 0) {
+            return new ColumnarSnapshot(List.of(), paths);
+        }
+        return new ColumnarSnapshot(List.copyOf(infos.subList(lastFull, infos.size())), paths.subList(0, lastFull));
+    }
+
+    static Path fileFor(Path directory, ColumnarFileInfo.Kind kind, LocalDateTime watermark) {
+        String suffix = kind == ColumnarFileInfo.Kind.FULL ? "-full" : "-incremental";
+        return directory.resolve(PREFIX + STAMP.format(watermark) + suffix + EXTENSION);
+    }
+
+    /**
+     * Ficheros de la generación actual: primero la exportación completa, después las incrementales por watermark
+     */
+    public List<ColumnarFileInfo> files() {
+        return files;
+    }
+
+    public Optional<ColumnarFileInfo> latest() {
+        return files.isEmpty() ? Optional.empty() : Optional.of(files.get(files.size() - 1));
+    }
+
+    public Optional<ColumnarFileInfo> full() {
+        return files.isEmpty() ? Optional.empty() : Optional.of(files.get(0));
+    }
+
+    /**
+     * Ficheros de generaciones anteriores (o incrementales sin completa de base), que ya no forman parte de la vista
+     */
+    List<Path> staleFiles() {
+        return stale;
+    }
+
+    /**
+     * Recorre la versión más reciente de cada propiedad exportada. Las incrementales se leen de la más nueva a la
+     * más antigua y después la completa, descartando los ids ya entregados; solo se guardan en memoria los ids de las
+     * incrementales. Las propiedades borradas siguen apareciendo hasta la siguiente exportación completa.
+     */
+    public void forEach(Set<PropertyField> fields, Consumer<Property> action) throws IOException {
+        Set<Long> seen = new HashSet<>();
+        for (int i = files.size() - 1; i >= 0; i--) {
+            boolean incremental = i > 0;
+            ColumnarFileReader.forEach(files.get(i).file(), fields, property -> {
+                if (incremental ? seen.add(property.getId()) : !seen.contains(property.getId())) {
+                    action.accept(property);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,563 @@
+package com.apluz.backend.infrastructure.adapter.persistence.embedded;
+
+import com.apluz.backend.domain.model.PriceChange;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyCount;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyStatusChange;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.domain.port.PropertyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Implementación del repositorio embebida, sin base de datos: las filas viven en memoria con índices
+ * secundarios por ciudad, tipo y estado (ordenados por created_at DESC) y cada escritura se añade a un
+ * log con checksum antes de aplicarse. Cada {@code snapshotEvery} registros el log se aparta como
+ * {@value #COMPACTING_LOG_FILE} y un hilo en segundo plano escribe el snapshot de las filas de ese momento
+ * sin bloquear las escrituras; el log apartado se borra cuando el snapshot está en disco. Al arrancar se
+ * carga el snapshot y se reproducen el log apartado (si quedó alguno) y el log.
+ */
+public class EmbeddedPropertyRepository implements PropertyRepository, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(EmbeddedPropertyRepository.class);
+
+    static final String SNAPSHOT_FILE = "properties.snapshot";
+    static final String LOG_FILE = "properties.wal";
+    static final String COMPACTING_LOG_FILE = "properties.wal.compacting";
+
+    /**
+     * Clave de orden de las filas: created_at DESC y, a igualdad, id DESC
+     */
+    private record RowKey(LocalDateTime createdAt, long id) {
+    }
+
+    private static final Comparator<RowKey> NEWEST_FIRST = Comparator
+        .comparing(RowKey::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparing(RowKey::id, Comparator.reverseOrder());
+
+    private final Map<Long, Property> rows = new HashMap<>();
+    private final NavigableSet<RowKey> ordered = new TreeSet<>(NEWEST_FIRST);
+    private final Map<String, NavigableSet<RowKey>> byCity = new HashMap<>();
+    private final Map<PropertyType, NavigableSet<RowKey>> byType = new EnumMap<>(PropertyType.class);
+    private final Map<PropertyStatus, NavigableSet<RowKey>> byStatus = new EnumMap<>(PropertyStatus.class);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Path snapshotFile;
+    private final Path compactingLog;
+    private final WriteAheadLog writeAheadLog;
+    private final int snapshotEvery;
+    private final ExecutorService snapshotter;
+    private CompletableFuture<Void> snapshotInProgress = CompletableFuture.completedFuture(null);
+    private long nextId = 1;
+
+    public EmbeddedPropertyRepository(Path directory, boolean fsync, int snapshotEvery) {
+        this.snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        this.compactingLog = directory.resolve(COMPACTING_LOG_FILE);
+        this.snapshotEvery = snapshotEvery;
+        try {
+            Files.createDirectories(directory);
+            SnapshotFile.load(snapshotFile).ifPresent(contents -> {
+                nextId = contents.nextId();
+                contents.properties().forEach(this::apply);
+            });
+            long replayed = 0;
+            boolean compacting = Files.exists(compactingLog);
+            if (compacting) {
+                // Su snapshot no llegó a completarse: va antes que el log actual
+                try (WriteAheadLog segment = new WriteAheadLog(compactingLog, false)) {
+                    replayed += segment.replay(this::apply);
+                }
+            }
+            this.writeAheadLog = new WriteAheadLog(directory.resolve(LOG_FILE), fsync);
+            replayed += writeAheadLog.replay(this::apply);
+            if (compacting) {
+                compact();
+            }
+            log.info("Embedded property store opened at {}: {} rows, {} log records replayed", directory, rows.size(), replayed);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open embedded property store at " + directory, e);
+        }
+        this.snapshotter = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "embedded-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Property save(Property property) {
+        lock.writeLock().lock();
+        try {
+            Property stored;
+            if (property.getId() == null) {
+                property.setId(nextId);
+                stored = copy(property);
+            } else {
+                Property current = rows.get(property.getId());
+                if (current == null) {
+                    // Igual que un UPDATE sin filas afectadas
+                    return property;
+                }
+                stored = copy(property);
+                stored.setCreatedAt(current.getCreatedAt());
+            }
+            write(List.of(WriteAheadLog.Entry.put(stored)));
+            return property;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Property> findById(Long id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(rows.get(id)).map(EmbeddedPropertyRepository::copy);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Property> findAllById(Collection<Long> ids) {
+        lock.readLock().lock();
+        try {
+            List<Property> found = new ArrayList<>();
+            for (Long id : new LinkedHashSet<>(ids)) {
+                Property property = rows.get(id);
+                if (property != null) {
+                    found.add(copy(property));
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Property> findAll() {
+        return select(PropertyFilter.all(), PropertyField.all());
+    }
+
+    @Override
+    public List<Property> findByCity(String city) {
+        return select(PropertyFilter.byCity(city), PropertyField.all());
+    }
+
+    @Override
+    public List<Property> findByType(PropertyType type) {
+        return select(PropertyFilter.byType(type), PropertyField.all());
+    }
+
+    @Override
+    public List<Property> findByStatus(PropertyStatus status) {
+        return select(PropertyFilter.byStatus(status), PropertyField.all());
+    }
+
+    @Override
+    public void forEach(PropertyFilter filter, Consumer<Property> action) {
+        forEach(filter, PropertyField.all(), action);
+    }
+
+    /**
+     * Las filas se copian bajo el cerrojo de lectura y el consumidor se invoca ya sin él, para que
+     * pueda escribir en el repositorio sin bloquearse
+     */
+    @Override
+    public void forEach(PropertyFilter filter, Set<PropertyField> fields, Consumer<Property> action) {
+        select(filter, fields).forEach(action);
+    }
+
+    @Override
+    public void forEachUpdated(LocalDateTime after, LocalDateTime until, Consumer<Property> action) {
+        List<Property> updated = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Property property : rows.values()) {
+                LocalDateTime updatedAt = property.getUpdatedAt();
+                if ((after == null || updatedAt.isAfter(after)) && !updatedAt.isAfter(until)) {
+                    updated.add(copy(property));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        updated.forEach(action);
+    }
+
+    @Override
+    public PropertyCount count(PropertyFilter filter, boolean exact) {
+        lock.readLock().lock();
+        try {
+            long total = 0;
+            for (RowKey key : candidates(filter)) {
+                if (filter.matches(rows.get(key.id()))) {
+                    total++;
+                }
+            }
+            return PropertyCount.exact(total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<Long> updateStatuses(Collection<PropertyStatusChange> changes) {
+        lock.writeLock().lock();
+        try {
+            List<WriteAheadLog.Entry> entries = new ArrayList<>();
+            Set<Long> updated = new HashSet<>();
+            for (PropertyStatusChange change : changes) {
+                Property current = rows.get(change.propertyId());
+                if (current != null && (current.getUpdatedAt() == null
+                        || !current.getUpdatedAt().isAfter(change.changedAt()))) {
+                    Property changed = copy(current);
+                    changed.setStatus(change.status());
+                    changed.setUpdatedAt(change.changedAt());
+                    entries.add(WriteAheadLog.Entry.put(changed));
+                    updated.add(change.propertyId());
+                }
+            }
+            write(entries);
+            return updated;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<Long> updatePrices(Collection<PriceChange> changes) {
+        lock.writeLock().lock();
+        try {
+            List<WriteAheadLog.Entry> entries = new ArrayList<>();
+            Set<Long> updated = new HashSet<>();
+            for (PriceChange change : changes) {
+                Property current = rows.get(change.propertyId());
+                if (current != null && current.getPrice() != null && change.oldPrice() != null
+                        && current.getPrice().compareTo(change.oldPrice()) == 0) {
+                    Property changed = copy(current);
+                    changed.setPrice(change.newPrice());
+                    changed.setUpdatedAt(change.changedAt());
+                    entries.add(WriteAheadLog.Entry.put(changed));
+                    updated.add(change.propertyId());
+                }
+            }
+            write(entries);
+            return updated;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void transitionStatus(PropertyFilter filter, Collection<Long> ids, PropertyStatus status,
+                                 LocalDateTime changedAt, Consumer<Property> updated) {
+        if (ids != null && ids.isEmpty()) {
+            return;
+        }
+        List<Property> changed = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            Set<Long> wanted = ids != null ? new HashSet<>(ids) : null;
+            List<WriteAheadLog.Entry> entries = new ArrayList<>();
+            for (RowKey key : candidates(filter)) {
+                Property current = rows.get(key.id());
+                if (current.getStatus() != status && filter.matches(current)
+                        && (wanted == null || wanted.contains(key.id()))) {
+                    Property next = copy(current);
+                    next.setStatus(status);
+                    next.setUpdatedAt(changedAt);
+                    entries.add(WriteAheadLog.Entry.put(next));
+                    changed.add(copy(next));
+                }
+            }
+            write(entries);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        changed.forEach(updated);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        lock.writeLock().lock();
+        try {
+            if (rows.containsKey(id)) {
+                write(List.of(WriteAheadLog.Entry.delete(id)));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        lock.readLock().lock();
+        try {
+            return rows.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Compacta el estado actual en un snapshot y espera a que esté en disco; el que se dispara cada
+     * {@code snapshotEvery} registros no espera
+     */
+    public void snapshot() {
+        CompletableFuture<Void> started;
+        lock.writeLock().lock();
+        try {
+            awaitSnapshotInProgress();
+            started = startSnapshot();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not rotate the write-ahead log", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            started.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            awaitSnapshotInProgress();
+            if (writeAheadLog.records() > 0 || Files.exists(compactingLog)) {
+                compact();
+            }
+            writeAheadLog.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close embedded property store", e);
+        } finally {
+            snapshotter.shutdown();
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Primero el log y después la memoria: si el log falla, el estado no cambia
+     */
+    private void write(List<WriteAheadLog.Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            writeAheadLog.append(entries);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to the write-ahead log", e);
+        }
+        entries.forEach(this::apply);
+        if (writeAheadLog.records() >= snapshotEvery && snapshotInProgress.isDone()) {
+            try {
+                startSnapshot();
+            } catch (IOException e) {
+                // La escritura ya está en el log: se reintenta con la siguiente
+                log.error("Could not rotate the write-ahead log for a snapshot", e);
+            }
+        }
+    }
+
+    /**
+     * Aparta el log y escribe en segundo plano el snapshot de las filas actuales; el log apartado se borra
+     * cuando el snapshot está en disco. Las filas guardadas nunca se modifican (cada escritura guarda una
+     * copia nueva), así que basta con copiar la lista. Se llama con el write lock y sin snapshot en curso
+     */
+    private CompletableFuture<Void> startSnapshot() throws IOException {
+        writeAheadLog.rotateTo(compactingLog);
+        long snapshotNextId = nextId;
+        List<Property> live = liveRows();
+        snapshotInProgress = CompletableFuture.runAsync(() -> {
+            try {
+                SnapshotFile.write(snapshotFile, snapshotNextId, live);
+                Files.delete(compactingLog);
+                SnapshotFile.syncDirectory(compactingLog.toAbsolutePath().getParent());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write snapshot " + snapshotFile, e);
+            }
+        }, snapshotter).whenComplete((ignored, e) -> {
+            if (e != null) {
+                // El log apartado se conserva: la siguiente rotación le añade el log y se vuelve a intentar
+                log.error("Background snapshot of the embedded property store failed", e);
+            }
+        });
+        return snapshotInProgress;
+    }
+
+    /**
+     * Snapshot síncrono que cubre el log apartado y el actual; se llama al abrir y al cerrar
+     */
+    private void compact() throws IOException {
+        SnapshotFile.write(snapshotFile, nextId, liveRows());
+        Files.deleteIfExists(compactingLog);
+        SnapshotFile.syncDirectory(compactingLog.toAbsolutePath().getParent());
+        writeAheadLog.reset();
+    }
+
+    private void awaitSnapshotInProgress() {
+        snapshotInProgress.exceptionally(e -> null).join();
+    }
+
+    private List<Property> liveRows() {
+        List<Property> live = new ArrayList<>(ordered.size());
+        ordered.forEach(key -> live.add(rows.get(key.id())));
+        return live;
+    }
+
+    private List<Property> select(PropertyFilter filter, Set<PropertyField> fields) {
+        boolean allFields = fields.size() == PropertyField.all().size();
+        lock.readLock().lock();
+        try {
+            List<Property> result = new ArrayList<>();
+            for (RowKey key : candidates(filter)) {
+                Property property = rows.get(key.id());
+                if (filter.matches(property)) {
+                    result.add(allFields ? copy(property) : project(property, fields));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * El índice más selectivo de los que aplican al filtro (ya en orden); el resto de criterios se
+     * comprueba fila a fila con {@link PropertyFilter#matches(Property)}
+     */
+    private NavigableSet<RowKey> candidates(PropertyFilter filter) {
+        NavigableSet<RowKey> best = ordered;
+        if (filter.city() != null) {
+            best = smallest(best, byCity.get(filter.city()));
+        }
+        if (filter.type() != null) {
+            best = smallest(best, byType.get(filter.type()));
+        }
+        if (filter.status() != null) {
+            best = smallest(best, byStatus.get(filter.status()));
+        }
+        return best;
+    }
+
+    private static NavigableSet<RowKey> smallest(NavigableSet<RowKey> current, NavigableSet<RowKey> index) {
+        if (index == null) {
+            return new TreeSet<>(NEWEST_FIRST);
+        }
+        return index.size() < current.size() ? index : current;
+    }
+
+    private void apply(WriteAheadLog.Entry entry) {
+        if (entry.operation() == WriteAheadLog.PUT) {
+            apply(entry.property());
+        } else {
+            remove(entry.id());
+        }
+    }
+
+    private void apply(Property property) {
+        remove(property.getId());
+        RowKey key = new RowKey(property.getCreatedAt(), property.getId());
+        rows.put(property.getId(), property);
+        ordered.add(key);
+        if (property.getCity() != null) {
+            byCity.computeIfAbsent(property.getCity(), city -> new TreeSet<>(NEWEST_FIRST)).add(key);
+        }
+        if (property.getType() != null) {
+            byType.computeIfAbsent(property.getType(), type -> new TreeSet<>(NEWEST_FIRST)).add(key);
+        }
+        if (property.getStatus() != null) {
+            byStatus.computeIfAbsent(property.getStatus(), status -> new TreeSet<>(NEWEST_FIRST)).add(key);
+        }
+        nextId = Math.max(nextId, property.getId() + 1);
+    }
+
+    private void remove(long id) {
+        Property previous = rows.remove(id);
+        if (previous == null) {
+            return;
+        }
+        RowKey key = new RowKey(previous.getCreatedAt(), id);
+        ordered.remove(key);
+        removeFromIndex(byCity, previous.getCity(), key);
+        removeFromIndex(byType, previous.getType(), key);
+        removeFromIndex(byStatus, previous.getStatus(), key);
+    }
+
+    private static <K> void removeFromIndex(Map<K, NavigableSet<RowKey>> index, K value, RowKey key) {
+        if (value == null) {
+            return;
+        }
+        NavigableSet<RowKey> keys = index.get(value);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            index.remove(value);
+        }
+    }
+
+    private static Property copy(Property p) {
+        return new Property(p.getId(), p.getTitle(), p.getDescription(), p.getType(), p.getStatus(), p.getPrice(),
+            p.getAddress(), p.getCity(), p.getState(), p.getZipCode(), p.getArea(), p.getBedrooms(),
+            p.getBathrooms(), p.getParkingSpaces(), p.getCreatedAt(), p.getUpdatedAt());
+    }
+
+    /**
+     * Copia solo el id y los campos pedidos, como la proyección de columnas del adaptador JDBC
+     */
+    private static Property project(Property source, Set<PropertyField> fields) {
+        Property property = new Property();
+        property.setId(source.getId());
+        for (PropertyField field : fields) {
+            switch (field) {
+                case ID -> { }
+                case TITLE -> property.setTitle(source.getTitle());
+                case DESCRIPTION -> property.setDescription(source.getDescription());
+                case TYPE -> property.setType(source.getType());
+                case STATUS -> property.setStatus(source.getStatus());
+                case PRICE -> property.setPrice(source.getPrice());
+                case ADDRESS -> property.setAddress(source.getAddress());
+                case CITY -> property.setCity(source.getCity());
+                case STATE -> property.setState(source.getState());
+                case ZIP_CODE -> property.setZipCode(source.getZipCode());
+                case AREA -> property.setArea(source.getArea());
+                case BEDROOMS -> property.setBedrooms(source.getBedrooms());
+                case BATHROOMS -> property.setBathrooms(source.getBathrooms());
+                case PARKING_SPACES -> property.setParkingSpaces(source.getParkingSpaces());
+                case CREATED_AT -> property.setCreatedAt(source.getCreatedAt());
+                case UPDATED_AT -> property.setUpdatedAt(source.getUpdatedAt());
+            }
+        }
+        return property;
+    }
+}
@@ -0,0 +1,25 @@
+package com.apluz.backend.infrastructure.adapter.persistence.embedded;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Almacén embebido de propiedades en {@code apluz.embedded-store.directory}, en lugar de la tabla
+ * {@code properties} de la base de datos
+ */
+@Configuration
+@ConditionalOnProperty(name = "apluz.embedded-store.enabled", havingValue = "true")
+public class EmbeddedStoreConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public EmbeddedPropertyRepository embeddedPropertyRepository(
+            @Value("${apluz.embedded-store.directory:data}") String directory,
+            @Value("${apluz.embedded-store.fsync:true}") boolean fsync,
+            @Value("${apluz.embedded-store.snapshot-every:10000}") int snapshotEvery) {
+        return new EmbeddedPropertyRepository(Path.of(directory), fsync, snapshotEvery);
+    }
+}
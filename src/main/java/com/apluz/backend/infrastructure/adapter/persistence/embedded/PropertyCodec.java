@@ -0,0 +1,133 @@
+package com.apluz.backend.infrastructure.adapter.persistence.embedded;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Codificación binaria de una propiedad para el log y el snapshot. Los campos van en orden fijo;
+ * los opcionales llevan delante un byte de presencia y los enums se guardan por nombre para que
+ * añadir valores no invalide los ficheros existentes
+ */
+final class PropertyCodec {
+
+    private PropertyCodec() {
+    }
+
+    static void write(DataOutput out, Property property) throws IOException {
+        out.writeLong(property.getId());
+        writeString(out, property.getTitle());
+        writeString(out, property.getDescription());
+        writeString(out, property.getType() != null ? property.getType().name() : null);
+        writeString(out, property.getStatus() != null ? property.getStatus().name() : null);
+        writeDecimal(out, property.getPrice());
+        writeString(out, property.getAddress());
+        writeString(out, property.getCity());
+        writeString(out, property.getState());
+        writeString(out, property.getZipCode());
+        out.writeBoolean(property.getArea() != null);
+        if (property.getArea() != null) {
+            out.writeDouble(property.getArea());
+        }
+        writeInteger(out, property.getBedrooms());
+        writeInteger(out, property.getBathrooms());
+        writeInteger(out, property.getParkingSpaces());
+        writeTimestamp(out, property.getCreatedAt());
+        writeTimestamp(out, property.getUpdatedAt());
+    }
+
+    static Property read(ByteBuffer in) {
+        Property property = new Property();
+        property.setId(in.getLong());
+        property.setTitle(readString(in));
+        property.setDescription(readString(in));
+        String type = readString(in);
+        property.setType(type != null ? PropertyType.valueOf(type) : null);
+        String status = readString(in);
+        property.setStatus(status != null ? PropertyStatus.valueOf(status) : null);
+        property.setPrice(readDecimal(in));
+        property.setAddress(readString(in));
+        property.setCity(readString(in));
+        property.setState(readString(in));
+        property.setZipCode(readString(in));
+        property.setArea(in.get() != 0 ? in.getDouble() : null);
+        property.setBedrooms(readInteger(in));
+        property.setBathrooms(readInteger(in));
+        property.setParkingSpaces(readInteger(in));
+        property.setCreatedAt(readTimestamp(in));
+        property.setUpdatedAt(readTimestamp(in));
+        return property;
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDecimal(DataOutput out, BigDecimal value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            byte[] unscaled = value.unscaledValue().toByteArray();
+            out.writeInt(value.scale());
+            out.writeInt(unscaled.length);
+            out.write(unscaled);
+        }
+    }
+
+    private static BigDecimal readDecimal(ByteBuffer in) {
+        if (in.get() == 0) {
+            return null;
+        }
+        int scale = in.getInt();
+        byte[] unscaled = new byte[in.getInt()];
+        in.get(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    private static void writeInteger(DataOutput out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(ByteBuffer in) {
+        return in.get() != 0 ? in.getInt() : null;
+    }
+
+    private static void writeTimestamp(DataOutput out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readTimestamp(ByteBuffer in) {
+        return in.get() != 0 ? LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC) : null;
+    }
+}
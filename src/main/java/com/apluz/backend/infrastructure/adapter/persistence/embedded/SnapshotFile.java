@@ -0,0 +1,118 @@
+package com.apluz.backend.infrastructure.adapter.persistence.embedded;
+
+import com.apluz.backend.domain.model.Property;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Snapshot compactado: una imagen por fila viva, sin historial. Formato
+ * {@code [magic][versión][siguiente id][filas]{[longitud][propiedad]}*[crc32c]}. Se escribe en un
+ * fichero temporal y se renombra de forma atómica (con fsync del directorio), así que en disco siempre hay
+ * un snapshot completo
+ */
+final class SnapshotFile {
+
+    private static final int MAGIC = 0x41504C5A;
+    private static final int VERSION = 1;
+
+    record Contents(long nextId, List<Property> properties) {
+    }
+
+    private SnapshotFile() {
+    }
+
+    /**
+     * Carga el snapshot mapeándolo en memoria; vacío si todavía no existe
+     */
+    static Optional<Contents> load(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Snapshot " + file + " exceeds 2 GiB");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int bodyLength = (int) size - Integer.BYTES;
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(0, bodyLength));
+            if (bodyLength < 20 || (int) crc.getValue() != buffer.getInt(bodyLength)) {
+                throw new IllegalStateException("Snapshot " + file + " is corrupted (checksum mismatch)");
+            }
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IllegalStateException("Unsupported snapshot format in " + file);
+            }
+            long nextId = buffer.getLong();
+            int count = buffer.getInt();
+            List<Property> properties = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int length = buffer.getInt();
+                properties.add(PropertyCodec.read(buffer.slice(buffer.position(), length)));
+                buffer.position(buffer.position() + length);
+            }
+            return Optional.of(new Contents(nextId, properties));
+        }
+    }
+
+    static void write(Path file, long nextId, Collection<Property> properties) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            CRC32C crc = new CRC32C();
+            OutputStream raw = new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(raw, crc));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(nextId);
+            out.writeInt(properties.size());
+            ByteArrayOutputStream record = new ByteArrayOutputStream(256);
+            DataOutputStream recordOut = new DataOutputStream(record);
+            for (Property property : properties) {
+                record.reset();
+                PropertyCodec.write(recordOut, property);
+                out.writeInt(record.size());
+                record.writeTo(out);
+            }
+            out.flush();
+            new DataOutputStream(raw).writeInt((int) crc.getValue());
+            raw.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * fsync del directorio, para que un rename o un borrado sobrevivan a una caída. Donde un directorio no
+     * se puede abrir (Windows) se omite
+     */
+    static void syncDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+}
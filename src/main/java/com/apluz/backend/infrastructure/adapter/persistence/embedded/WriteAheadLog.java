@@ -0,0 +1,199 @@
+package com.apluz.backend.infrastructure.adapter.persistence.embedded;
+
+import com.apluz.backend.domain.model.Property;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Log de escritura anticipada (append-only). Cada registro es {@code [longitud][crc32c][payload]};
+ * al reproducirlo, el primer registro incompleto o con checksum incorrecto marca el final válido
+ * (escritura interrumpida por una caída) y el fichero se trunca ahí
+ */
+final class WriteAheadLog implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteAheadLog.class);
+
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    /**
+     * Alta o modificación (imagen completa de la fila) o borrado por id
+     */
+    record Entry(byte operation, long id, Property property) {
+
+        static Entry put(Property property) {
+            return new Entry(PUT, property.getId(), property);
+        }
+
+        static Entry delete(long id) {
+            return new Entry(DELETE, id, null);
+        }
+    }
+
+    private final Path file;
+    private FileChannel channel;
+    private final boolean fsync;
+    private long records;
+
+    WriteAheadLog(Path file, boolean fsync) throws IOException {
+        this.file = file;
+        this.fsync = fsync;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Recorre los registros válidos (leyendo el fichero mapeado en memoria), trunca la cola
+     * inválida y deja el canal posicionado al final para seguir añadiendo
+     */
+    long replay(Consumer<Entry> action) throws IOException {
+        long size = channel.size();
+        long validEnd = 0;
+        records = 0;
+        if (size > 0) {
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Write-ahead log " + file + " is too large to replay, take a snapshot first");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            CRC32C crc = new CRC32C();
+            while (buffer.remaining() >= HEADER_BYTES) {
+                int start = buffer.position();
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    break;
+                }
+                ByteBuffer payload = buffer.slice(buffer.position(), length);
+                crc.reset();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    log.warn("Corrupted record in {} at offset {}, discarding the rest of the log", file, start);
+                    break;
+                }
+                action.accept(decode(payload));
+                buffer.position(buffer.position() + length);
+                validEnd = buffer.position();
+                records++;
+            }
+        }
+        if (validEnd < size) {
+            log.warn("Truncating {} bytes of incomplete records at the end of {}", size - validEnd, file);
+            channel.truncate(validEnd);
+            channel.force(true);
+        }
+        channel.position(validEnd);
+        return records;
+    }
+
+    /**
+     * Añade los registros con una sola escritura y, si está configurado, un solo fsync
+     */
+    void append(List<Entry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 * entries.size());
+        DataOutputStream out = new DataOutputStream(bytes);
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(256);
+        DataOutputStream payloadOut = new DataOutputStream(payload);
+        CRC32C crc = new CRC32C();
+        for (Entry entry : entries) {
+            payload.reset();
+            payloadOut.writeByte(entry.operation());
+            if (entry.operation() == PUT) {
+                PropertyCodec.write(payloadOut, entry.property());
+            } else {
+                payloadOut.writeLong(entry.id());
+            }
+            crc.reset();
+            crc.update(payload.toByteArray());
+            out.writeInt(payload.size());
+            out.writeInt((int) crc.getValue());
+            payload.writeTo(out);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+        records += entries.size();
+    }
+
+    /**
+     * Registros añadidos desde el último snapshot
+     */
+    long records() {
+        return records;
+    }
+
+    /**
+     * Vacía el log una vez que su contenido está en un snapshot
+     */
+    void reset() throws IOException {
+        channel.truncate(0);
+        channel.position(0);
+        channel.force(true);
+        records = 0;
+    }
+
+    /**
+     * Aparta los registros actuales en {@code segment} y sigue con un log vacío. Si {@code segment} ya existe
+     * (no se llegó a borrar porque su snapshot falló), los registros se añaden a su final
+     */
+    void rotateTo(Path segment) throws IOException {
+        channel.force(true);
+        if (Files.exists(segment)) {
+            try (FileChannel target = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                long size = channel.size();
+                for (long copied = 0; copied < size; ) {
+                    copied += channel.transferTo(copied, size - copied, target);
+                }
+                target.force(true);
+            }
+            reset();
+            return;
+        }
+        channel.close();
+        try {
+            Files.move(file, segment, StandardCopyOption.ATOMIC_MOVE);
+            SnapshotFile.syncDirectory(file.toAbsolutePath().getParent());
+        } finally {
+            // Si el rename falló se sigue añadiendo al mismo fichero
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+        }
+        records = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static Entry decode(ByteBuffer payload) {
+        byte operation = payload.get();
+        return switch (operation) {
+            case PUT -> Entry.put(PropertyCodec.read(payload));
+            case DELETE -> Entry.delete(payload.getLong());
+            default -> throw new IllegalStateException("Unknown write-ahead log operation " + operation);
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.apluz.backend.infrastructure.adapter.persistence.r2dbc;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Acceso R2DBC de la pila reactiva (perfil {@code reactive}). El pool no se publica como bean
+ * {@code ConnectionFactory} ni su gestor de transacciones como bean: así la inicialización del
+ * esquema y las transacciones JDBC de la aplicación siguen intactas
+ */
+@Configuration
+@Profile("reactive")
+public class R2dbcConfiguration implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+
+    public R2dbcConfiguration(
+            @Value("${apluz.reactive.r2dbc.url}") String url,
+            @Value("${apluz.reactive.r2dbc.username:${spring.datasource.username:}}") String username,
+            @Value("${apluz.reactive.r2dbc.password:${spring.datasource.password:}}") String password,
+            @Value("${apluz.reactive.r2dbc.pool-size:20}") int poolSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+            .option(ConnectionFactoryOptions.USER, username)
+            .option(ConnectionFactoryOptions.PASSWORD, password)
+            .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+            .name("apluz-r2dbc")
+            .maxSize(poolSize)
+            .build());
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator() {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionPool));
+    }
+
+    @Bean
+    public R2dbcPropertyRepository r2dbcPropertyRepository(DatabaseClient reactiveDatabaseClient) {
+        return new R2dbcPropertyRepository(reactiveDatabaseClient);
+    }
+
+    @Bean
+    public R2dbcPriceHistoryRepository r2dbcPriceHistoryRepository(DatabaseClient reactiveDatabaseClient) {
+        return new R2dbcPriceHistoryRepository(reactiveDatabaseClient);
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,34 @@
+package com.apluz.backend.infrastructure.adapter.persistence.r2dbc;
+
+import com.apluz.backend.domain.model.PriceChange;
+import com.apluz.backend.domain.port.ReactivePriceHistoryRepository;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Alta no bloqueante en property_price_history (la compactación sigue en el adaptador JDBC)
+ */
+public class R2dbcPriceHistoryRepository implements ReactivePriceHistoryRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcPriceHistoryRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Void> append(PriceChange change) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                INSERT INTO property_price_history (property_id, city, old_price, new_price, changed_at)
+                VALUES (:propertyId, :city, :oldPrice, :newPrice, :changedAt)
+                """)
+            .bind("propertyId", change.propertyId())
+            .bind("city", change.city())
+            .bind("newPrice", change.newPrice())
+            .bind("changedAt", change.changedAt());
+        spec = change.oldPrice() != null ? spec.bind("oldPrice", change.oldPrice()) : spec.bindNull("oldPrice", BigDecimal.class);
+        return spec.then();
+    }
+}
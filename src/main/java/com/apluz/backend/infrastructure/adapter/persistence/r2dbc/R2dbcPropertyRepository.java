@@ -0,0 +1,274 @@
+package com.apluz.backend.infrastructure.adapter.persistence.r2dbc;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyCount;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.domain.port.ReactivePropertyRepository;
+import com.apluz.backend.infrastructure.adapter.persistence.SqlDialect;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación no bloqueante del repositorio con R2DBC. Mismas sentencias que el adaptador JDBC
+ * (filtro de estados activos con literales para la poda de particiones, orden por created_at DESC);
+ * los resultados se emiten fila a fila según la demanda del suscriptor
+ */
+public class R2dbcPropertyRepository implements ReactivePropertyRepository {
+
+    private static final String ACTIVE_STATUS_CONDITION = Arrays.stream(PropertyStatus.values())
+        .filter(status -> !status.isArchived())
+        .map(status -> "'" + status.name() + "'")
+        .collect(Collectors.joining(", ", "status IN (", ")"));
+
+    private static final String ALL_COLUMNS = "id, title, description, type, status, price, address, city, state, "
+        + "zip_code, area, bedrooms, bathrooms, parking_spaces, created_at, updated_at";
+
+    private final DatabaseClient databaseClient;
+    private final String productName;
+    private final SqlDialect dialect;
+
+    public R2dbcPropertyRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+        this.productName = databaseClient.getConnectionFactory().getMetadata().getName();
+        this.dialect = SqlDialect.fromProductName(productName);
+    }
+
+    @Override
+    public Mono<Property> save(Property property) {
+        return property.getId() == null ? insert(property) : update(property);
+    }
+
+    private Mono<Property> insert(Property property) {
+        String sql = """
+            INSERT INTO properties (title, description, type, status, price, address,
+                                   city, state, zip_code, area, bedrooms, bathrooms,
+                                   parking_spaces, created_at, updated_at)
+            VALUES (:title, :description, :type, :status, :price, :address, :city, :state, :zipCode,
+                    :area, :bedrooms, :bathrooms, :parkingSpaces, :createdAt, :updatedAt)
+            """;
+        return bindColumns(databaseClient.sql(sql), property)
+            .bind("createdAt", property.getCreatedAt())
+            .filter(statement -> statement.returnGeneratedValues("id"))
+            .map(row -> row.get("id", Long.class))
+            .one()
+            .map(id -> {
+                property.setId(id);
+                return property;
+            });
+    }
+
+    private Mono<Property> update(Property property) {
+        String sql = """
+            UPDATE properties
+            SET title = :title, description = :description, type = :type, status = :status, price = :price,
+                address = :address, city = :city, state = :state, zip_code = :zipCode, area = :area,
+                bedrooms = :bedrooms, bathrooms = :bathrooms, parking_spaces = :parkingSpaces, updated_at = :updatedAt
+            WHERE id = :id
+            """;
+        return bindColumns(databaseClient.sql(sql), property)
+            .bind("id", property.getId())
+            .fetch()
+            .rowsUpdated()
+            .thenReturn(property);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindColumns(DatabaseClient.GenericExecuteSpec spec, Property property) {
+        spec = bind(spec, "title", property.getTitle(), String.class);
+        spec = bind(spec, "description", property.getDescription(), String.class);
+        spec = bind(spec, "type", property.getType() != null ? property.getType().name() : null, String.class);
+        spec = bind(spec, "status", property.getStatus() != null ? property.getStatus().name() : null, String.class);
+        spec = bind(spec, "price", property.getPrice(), BigDecimal.class);
+        spec = bind(spec, "address", property.getAddress(), String.class);
+        spec = bind(spec, "city", property.getCity(), String.class);
+        spec = bind(spec, "state", property.getState(), String.class);
+        spec = bind(spec, "zipCode", property.getZipCode(), String.class);
+        spec = bind(spec, "area", property.getArea(), Double.class);
+        spec = bind(spec, "bedrooms", property.getBedrooms(), Integer.class);
+        spec = bind(spec, "bathrooms", property.getBathrooms(), Integer.class);
+        spec = bind(spec, "parkingSpaces", property.getParkingSpaces(), Integer.class);
+        return bind(spec, "updatedAt", property.getUpdatedAt(), LocalDateTime.class);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, String name,
+                                                          Object value, Class<?> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+
+    @Override
+    public Mono<Property> findById(Long id) {
+        return databaseClient.sql("SELECT " + ALL_COLUMNS + " FROM properties WHERE id = :id")
+            .bind("id", id)
+            .map(row -> mapRow(row, PropertyField.all()))
+            .one();
+    }
+
+    @Override
+    public Flux<Property> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql("SELECT " + ALL_COLUMNS + " FROM properties WHERE id IN (:ids)")
+            .bind("ids", ids.stream().distinct().toList())
+            .map(row -> mapRow(row, PropertyField.all()))
+            .all();
+    }
+
+    @Override
+    public Flux<Property> findAll(PropertyFilter filter, Set<PropertyField> fields) {
+        Map<String, Object> args = new LinkedHashMap<>();
+        String sql = "SELECT " + selectList(fields) + " FROM properties" + where(filter, args) + " ORDER BY created_at DESC";
+        return bindAll(databaseClient.sql(sql), args)
+            .map(row -> mapRow(row, fields))
+            .all();
+    }
+
+    @Override
+    public Mono<PropertyCount> count(PropertyFilter filter) {
+        Map<String, Object> args = new LinkedHashMap<>();
+        return bindAll(databaseClient.sql("SELECT COUNT(*) AS total FROM properties" + where(filter, args)), args)
+            .map(row -> row.get("total", Long.class))
+            .one()
+            .map(PropertyCount::exact);
+    }
+
+    /**
+     * PostgreSQL: UPDATE ... RETURNING; H2: SELECT ... FROM FINAL TABLE (UPDATE ...)
+     */
+    @Override
+    public Flux<Property> transitionStatus(PropertyFilter filter, Collection<Long> ids, PropertyStatus status,
+                                           LocalDateTime changedAt) {
+        if (ids != null && ids.isEmpty()) {
+            return Flux.empty();
+        }
+        Map<String, Object> args = new LinkedHashMap<>();
+        List<String> conditions = conditions(filter, args);
+        conditions.add("status <> :newStatus");
+        if (ids != null) {
+            conditions.add("id IN (:ids)");
+            args.put("ids", ids.stream().distinct().toList());
+        }
+        args.put("newStatus", status.name());
+        args.put("changedAt", changedAt);
+        String update = "UPDATE properties SET status = :newStatus, updated_at = :changedAt WHERE "
+            + String.join(" AND ", conditions);
+        String sql = switch (dialect) {
+            case POSTGRESQL -> update + " RETURNING " + ALL_COLUMNS;
+            case H2 -> "SELECT " + ALL_COLUMNS + " FROM FINAL TABLE (" + update + ")";
+            case OTHER -> throw new IllegalStateException(
+                "Bulk status transition requires PostgreSQL or H2, not " + productName);
+        };
+        return bindAll(databaseClient.sql(sql), args)
+            .map(row -> mapRow(row, PropertyField.all()))
+            .all();
+    }
+
+    @Override
+    public Mono<Boolean> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM properties WHERE id = :id")
+            .bind("id", id)
+            .fetch()
+            .rowsUpdated()
+            .map(rows -> rows > 0);
+    }
+
+    private static String where(PropertyFilter filter, Map<String, Object> args) {
+        List<String> conditions = conditions(filter, args);
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static List<String> conditions(PropertyFilter filter, Map<String, Object> args) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.city() != null) {
+            conditions.add("city = :city");
+            args.put("city", filter.city());
+        }
+        if (filter.type() != null) {
+            conditions.add("type = :type");
+            args.put("type", filter.type().name());
+        }
+        if (filter.status() != null) {
+            conditions.add("status = :status");
+            args.put("status", filter.status().name());
+        }
+        if (filter.isActiveOnly()) {
+            conditions.add(ACTIVE_STATUS_CONDITION);
+        }
+        return conditions;
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindAll(DatabaseClient.GenericExecuteSpec spec, Map<String, Object> args) {
+        for (Map.Entry<String, Object> arg : args.entrySet()) {
+            spec = spec.bind(arg.getKey(), arg.getValue());
+        }
+        return spec;
+    }
+
+    private static String selectList(Set<PropertyField> fields) {
+        if (fields.size() == PropertyField.all().size()) {
+            return ALL_COLUMNS;
+        }
+        StringBuilder columns = new StringBuilder("id");
+        for (PropertyField field : fields) {
+            if (field != PropertyField.ID) {
+                columns.append(", ").append(column(field));
+            }
+        }
+        return columns.toString();
+    }
+
+    private static String column(PropertyField field) {
+        return switch (field) {
+            case ID -> "id";
+            case ZIP_CODE -> "zip_code";
+            case PARKING_SPACES -> "parking_spaces";
+            case CREATED_AT -> "created_at";
+            case UPDATED_AT -> "updated_at";
+            default -> field.getFieldName();
+        };
+    }
+
+    /**
+     * Mapea solo las columnas seleccionadas por {@link #selectList(Set)}
+     */
+    private static Property mapRow(Readable row, Set<PropertyField> fields) {
+        Property property = new Property();
+        property.setId(row.get("id", Long.class));
+        for (PropertyField field : fields) {
+            switch (field) {
+                case ID -> { }
+                case TITLE -> property.setTitle(row.get("title", String.class));
+                case DESCRIPTION -> property.setDescription(row.get("description", String.class));
+                case TYPE -> property.setType(PropertyType.valueOf(row.get("type", String.class)));
+                case STATUS -> property.setStatus(PropertyStatus.valueOf(row.get("status", String.class)));
+                case PRICE -> property.setPrice(row.get("price", BigDecimal.class));
+                case ADDRESS -> property.setAddress(row.get("address", String.class));
+                case CITY -> property.setCity(row.get("city", String.class));
+                case STATE -> property.setState(row.get("state", String.class));
+                case ZIP_CODE -> property.setZipCode(row.get("zip_code", String.class));
+                case AREA -> property.setArea(row.get("area", Double.class));
+                case BEDROOMS -> property.setBedrooms(row.get("bedrooms", Integer.class));
+                case BATHROOMS -> property.setBathrooms(row.get("bathrooms", Integer.class));
+                case PARKING_SPACES -> property.setParkingSpaces(row.get("parking_spaces", Integer.class));
+                case CREATED_AT -> property.setCreatedAt(row.get("created_at", LocalDateTime.class));
+                case UPDATED_AT -> property.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+            }
+        }
+        return property;
+    }
+}
@@ -0,0 +1,84 @@
+package com.apluz.backend.infrastructure.adapter.persistence.shard;
+
+import com.apluz.backend.infrastructure.adapter.persistence.JdbcPropertyRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Una base de datos del repositorio particionado: su adaptador JDBC y su propio gestor de
+ * transacciones, ya que las transacciones de la aplicación solo cubren la base de datos principal
+ */
+public final class Shard {
+
+    private final int index;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcPropertyRepository repository;
+    private final TransactionTemplate readWrite;
+    private final TransactionTemplate readOnly;
+
+    public Shard(int index, DataSource dataSource) {
+        this.index = index;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.repository = new JdbcPropertyRepository(jdbcTemplate);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        this.readWrite = new TransactionTemplate(transactionManager);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public JdbcPropertyRepository repository() {
+        return repository;
+    }
+
+    /**
+     * Comprueba que la base de datos sigue siendo el shard {@code index} de {@code shardCount}, o la marca así
+     * si es la primera vez. La ciudad decide el shard con un módulo sobre el número de shards, de modo que
+     * arrancar con otro número (o con las URLs en otro orden) dejaría la mayoría de filas en un shard equivocado.
+     *
+     * @throws IllegalStateException si la base de datos quedó registrada con otra posición o con otro número de shards
+     */
+    void claimLayout(int shardCount) {
+        jdbcTemplate.execute(
+            "CREATE TABLE IF NOT EXISTS shard_layout (shard_index INTEGER NOT NULL, shard_count INTEGER NOT NULL)");
+        List<int[]> layout = jdbcTemplate.query("SELECT shard_index, shard_count FROM shard_layout",
+            (rs, rowNum) -> new int[] {rs.getInt("shard_index"), rs.getInt("shard_count")});
+        if (layout.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO shard_layout (shard_index, shard_count) VALUES (?, ?)", index, shardCount);
+            return;
+        }
+        int[] persisted = layout.get(0);
+        if (persisted[0] != index || persisted[1] != shardCount) {
+            throw new IllegalStateException("Shard " + index + " of " + shardCount + " was created as shard "
+                + persisted[0] + " of " + persisted[1] + "; changing the shard list requires migrating the data");
+        }
+    }
+
+    /**
+     * Ejecuta {@code work} en una transacción de este shard
+     */
+    public <T> T inTransaction(boolean readOnlyTransaction, Supplier<T> work) {
+        return (readOnlyTransaction ? readOnly : readWrite).execute(status -> work.get());
+    }
+
+    public void inTransaction(boolean readOnlyTransaction, Runnable work) {
+        inTransaction(readOnlyTransaction, () -> {
+            work.run();
+            return null;
+        });
+    }
+}
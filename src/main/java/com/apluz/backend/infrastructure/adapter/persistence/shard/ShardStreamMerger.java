@@ -0,0 +1,108 @@
+package com.apluz.backend.infrastructure.adapter.persistence.shard;
+
+import com.apluz.backend.domain.model.Property;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Mezcla en streaming recorridos ordenados de varios shards: cada shard se lee en su propio hilo
+ * hacia una cola acotada y el hilo que llama entrega siempre la cabeza más reciente (k-way merge).
+ * Si el consumidor falla o termina antes, los productores se cancelan.
+ */
+final class ShardStreamMerger {
+
+    private static final int BUFFER_SIZE = 256;
+    private static final long OFFER_TIMEOUT_MS = 100;
+    private static final Object END = new Object();
+
+    private record Failure(RuntimeException error) {
+    }
+
+    private record Head(Property property, int source) {
+    }
+
+    private final ExecutorService executor;
+    private final Comparator<Property> order;
+
+    ShardStreamMerger(ExecutorService executor, Comparator<Property> order) {
+        this.executor = executor;
+        this.order = order;
+    }
+
+    /**
+     * @param sources cada fuente recorre su shard en orden entregando las filas al consumidor que recibe
+     */
+    void merge(List<Consumer<Consumer<Property>>> sources, Consumer<Property> action) {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        List<BlockingQueue<Object>> queues = new ArrayList<>(sources.size());
+        for (Consumer<Consumer<Property>> source : sources) {
+            BlockingQueue<Object> queue = new ArrayBlockingQueue<>(BUFFER_SIZE);
+            queues.add(queue);
+            executor.execute(() -> produce(source, queue, cancelled));
+        }
+        try {
+            PriorityQueue<Head> heads = new PriorityQueue<>(sources.size(), Comparator.comparing(Head::property, order));
+            for (int i = 0; i < queues.size(); i++) {
+                next(queues, i, heads);
+            }
+            while (!heads.isEmpty()) {
+                Head head = heads.poll();
+                action.accept(head.property());
+                next(queues, head.source(), heads);
+            }
+        } finally {
+            cancelled.set(true);
+        }
+    }
+
+    private static void produce(Consumer<Consumer<Property>> source, BlockingQueue<Object> queue, AtomicBoolean cancelled) {
+        try {
+            source.accept(property -> put(queue, property, cancelled));
+            put(queue, END, cancelled);
+        } catch (CancellationException e) {
+            // El consumidor ya no espera más filas
+        } catch (RuntimeException e) {
+            queue.clear();
+            queue.offer(new Failure(e));
+        }
+    }
+
+    private static void put(BlockingQueue<Object> queue, Object item, AtomicBoolean cancelled) {
+        try {
+            while (!queue.offer(item, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                if (cancelled.get()) {
+                    throw new CancellationException();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
+        }
+    }
+
+    private static void next(List<BlockingQueue<Object>> queues, int source, PriorityQueue<Head> heads) {
+        Object item;
+        try {
+            item = queues.get(source).take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while merging shard results", e);
+        }
+        if (item instanceof Failure failure) {
+            throw failure.error();
+        }
+        if (item != END) {
+            heads.add(new Head((Property) item, source));
+        }
+    }
+}
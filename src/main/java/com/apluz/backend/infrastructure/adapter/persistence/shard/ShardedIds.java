@@ -0,0 +1,28 @@
+package com.apluz.backend.infrastructure.adapter.persistence.shard;
+
+/**
+ * Ids globales de propiedades con el shard de origen en los bits bajos: {@code secuencia << 8 | shard}.
+ * La secuencia es la de la base de datos del shard, así que dos shards nunca generan el mismo id
+ * y el shard de una propiedad se obtiene del id sin consultar nada.
+ */
+public final class ShardedIds {
+
+    public static final int SHARD_BITS = 8;
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+
+    private static final long SHARD_MASK = MAX_SHARDS - 1;
+
+    private ShardedIds() {
+    }
+
+    public static long encode(long sequence, int shard) {
+        if (shard < 0 || shard >= MAX_SHARDS) {
+            throw new IllegalArgumentException("Shard index must be between 0 and " + (MAX_SHARDS - 1));
+        }
+        return sequence << SHARD_BITS | shard;
+    }
+
+    public static int shardOf(long id) {
+        return (int) (id & SHARD_MASK);
+    }
+}
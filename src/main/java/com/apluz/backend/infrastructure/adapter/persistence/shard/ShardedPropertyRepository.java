@@ -0,0 +1,401 @@
+package com.apluz.backend.infrastructure.adapter.persistence.shard;
+
+import com.apluz.backend.domain.model.PriceChange;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyCount;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyStatusChange;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.domain.port.PropertyRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Repositorio particionado horizontalmente en varias bases de datos. La clave de shard es un hash de
+ * la ciudad: las consultas por ciudad van directas a su shard y las demás (findAll, findByType,
+ * findByStatus, recorridos y conteos sin ciudad) se lanzan en paralelo a todos los shards y se
+ * mezclan por created_at DESC. Los ids son globales y llevan codificado el shard donde se creó la
+ * propiedad ({@link ShardedIds}); si un cambio de ciudad la lleva a otro shard, la fila se traslada
+ * conservando el id y las búsquedas por id que no la encuentran en su shard de origen consultan el resto.
+ * No hay transacciones distribuidas: cada shard confirma lo suyo.
+ * <p>
+ * El reparto es un módulo del hash de la ciudad sobre el número de shards, así que la lista de shards
+ * queda fija desde el primer arranque: cada base de datos guarda su posición y el total en
+ * {@code shard_layout}, y el repositorio no arranca si no coinciden. Añadir o quitar shards requiere
+ * migrar los datos con la nueva lista.
+ */
+public class ShardedPropertyRepository implements PropertyRepository, AutoCloseable {
+
+    private static final Comparator<Property> NEWEST_FIRST = Comparator
+        .comparing(Property::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparing(Property::getId, Comparator.reverseOrder());
+
+    private final List<Shard> shards;
+    private final ExecutorService executor;
+    private final ShardStreamMerger merger;
+
+    public ShardedPropertyRepository(List<Shard> shards) {
+        if (shards.isEmpty() || shards.size() > ShardedIds.MAX_SHARDS) {
+            throw new IllegalArgumentException("Sharding requires between 1 and " + ShardedIds.MAX_SHARDS + " shards");
+        }
+        this.shards = List.copyOf(shards);
+        this.shards.forEach(shard -> shard.claimLayout(this.shards.size()));
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.merger = new ShardStreamMerger(executor, NEWEST_FIRST);
+    }
+
+    /**
+     * Shard que corresponde a una ciudad (sin distinguir mayúsculas ni espacios exteriores)
+     */
+    public Shard shardFor(String city) {
+        if (city == null) {
+            return shards.get(0);
+        }
+        return shards.get(Math.floorMod(city.trim().toLowerCase(Locale.ROOT).hashCode(), shards.size()));
+    }
+
+    @Override
+    public Property save(Property property) {
+        Shard target = shardFor(property.getCity());
+        if (property.getId() == null) {
+            property.setId(ShardedIds.encode(target.repository().nextId(), target.index()));
+            return target.repository().insertWithId(property);
+        }
+        Shard current = locate(property.getId()).orElse(target);
+        if (current == target) {
+            return target.repository().save(property);
+        }
+        // La ciudad ahora corresponde a otro shard: primero se inserta y luego se borra, para que
+        // un fallo entre ambos deje un duplicado en vez de perder la fila
+        target.repository().insertWithId(property);
+        current.repository().deleteById(property.getId());
+        return property;
+    }
+
+    @Override
+    public Optional<Property> findById(Long id) {
+        Shard home = homeOf(id);
+        Optional<Property> found = home.repository().findById(id);
+        if (found.isPresent()) {
+            return found;
+        }
+        return fanOut(others(home), shard -> shard.repository().findById(id)).stream()
+            .flatMap(Optional::stream)
+            .findFirst();
+    }
+
+    @Override
+    public List<Property> findAllById(Collection<Long> ids) {
+        Map<Shard, List<Long>> byHome = new LinkedHashMap<>();
+        for (Long id : new HashSet<>(ids)) {
+            byHome.computeIfAbsent(homeOf(id), shard -> new ArrayList<>()).add(id);
+        }
+        List<Property> found = new ArrayList<>();
+        List<Shard> homes = new ArrayList<>(byHome.keySet());
+        fanOut(homes, shard -> shard.repository().findAllById(byHome.get(shard))).forEach(found::addAll);
+
+        Set<Long> missing = new HashSet<>(ids);
+        found.forEach(property -> missing.remove(property.getId()));
+        if (!missing.isEmpty()) {
+            fanOut(shards, shard -> byHome.containsKey(shard) && byHome.get(shard).containsAll(missing)
+                    ? List.<Property>of()
+                    : shard.repository().findAllById(missing))
+                .forEach(list -> list.stream().filter(property -> missing.remove(property.getId())).forEach(found::add));
+        }
+        return found;
+    }
+
+    @Override
+    public List<Property> findAll() {
+        return mergeNewestFirst(fanOut(shards, shard -> shard.repository().findAll()));
+    }
+
+    @Override
+    public List<Property> findByCity(String city) {
+        return shardFor(city).repository().findByCity(city);
+    }
+
+    @Override
+    public List<Property> findByType(PropertyType type) {
+        return mergeNewestFirst(fanOut(shards, shard -> shard.repository().findByType(type)));
+    }
+
+    @Override
+    public List<Property> findByStatus(PropertyStatus status) {
+        return mergeNewestFirst(fanOut(shards, shard -> shard.repository().findByStatus(status)));
+    }
+
+    @Override
+    public void forEach(PropertyFilter filter, Consumer<Property> action) {
+        forEach(filter, PropertyField.all(), action);
+    }
+
+    /**
+     * Sin ciudad, mezcla en streaming los recorridos de todos los shards; para poder ordenar siempre
+     * se lee created_at, aunque no esté entre los campos pedidos
+     */
+    @Override
+    public void forEach(PropertyFilter filter, Set<PropertyField> fields, Consumer<Property> action) {
+        if (filter.city() != null) {
+            Shard shard = shardFor(filter.city());
+            shard.inTransaction(true, () -> shard.repository().forEach(filter, fields, action));
+            return;
+        }
+        Set<PropertyField> readFields = EnumSet.copyOf(fields);
+        readFields.add(PropertyField.CREATED_AT);
+        List<Consumer<Consumer<Property>>> sources = shards.stream()
+            .<Consumer<Consumer<Property>>>map(shard -> sink ->
+                shard.inTransaction(true, () -> shard.repository().forEach(filter, readFields, sink)))
+            .toList();
+        merger.merge(sources, action);
+    }
+
+    /**
+     * Shard a shard, sin fusionar: el orden no está garantizado
+     */
+    @Override
+    public void forEachUpdated(LocalDateTime after, LocalDateTime until, Consumer<Property> action) {
+        for (Shard shard : shards) {
+            shard.inTransaction(true, () -> shard.repository().forEachUpdated(after, until, action));
+        }
+    }
+
+    @Override
+    public PropertyCount count(PropertyFilter filter, boolean exact) {
+        if (filter.city() != null) {
+            return shardFor(filter.city()).repository().count(filter, exact);
+        }
+        List<PropertyCount> counts = fanOut(shards, shard -> shard.repository().count(filter, exact));
+        long total = counts.stream().mapToLong(PropertyCount::total).sum();
+        boolean allExact = counts.stream().allMatch(PropertyCount::exact);
+        return new PropertyCount(total, allExact);
+    }
+
+    @Override
+    public Set<Long> updateStatuses(Collection<PropertyStatusChange> changes) {
+        Map<Shard, List<PropertyStatusChange>> byHome = new LinkedHashMap<>();
+        for (PropertyStatusChange change : changes) {
+            byHome.computeIfAbsent(homeOf(change.propertyId()), shard -> new ArrayList<>()).add(change);
+        }
+        Set<Long> updated = new HashSet<>();
+        fanOut(new ArrayList<>(byHome.keySet()), shard -> shard.repository().updateStatuses(byHome.get(shard)))
+            .forEach(updated::addAll);
+
+        // Lo que no se aplicó en casa o no está allí o lo descartó la guarda de updated_at: solo se reintenta
+        // en el shard donde vive ahora la fila, y nunca otra vez en su shard de origen
+        Map<Long, PropertyStatusChange> missing = new LinkedHashMap<>();
+        for (PropertyStatusChange change : changes) {
+            if (!updated.contains(change.propertyId())) {
+                missing.put(change.propertyId(), change);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<Shard, List<PropertyStatusChange>> moved = new LinkedHashMap<>();
+            owners(missing.keySet()).forEach((shard, shardIds) -> shardIds.stream()
+                .filter(id -> homeOf(id) != shard)
+                .forEach(id -> moved.computeIfAbsent(shard, key -> new ArrayList<>()).add(missing.get(id))));
+            fanOut(new ArrayList<>(moved.keySet()), shard -> shard.repository().updateStatuses(moved.get(shard)))
+                .forEach(updated::addAll);
+        }
+        return updated;
+    }
+
+    @Override
+    public Set<Long> updatePrices(Collection<PriceChange> changes) {
+        Map<Shard, List<PriceChange>> byHome = new LinkedHashMap<>();
+        for (PriceChange change : changes) {
+            byHome.computeIfAbsent(homeOf(change.propertyId()), shard -> new ArrayList<>()).add(change);
+        }
+        Set<Long> updated = new HashSet<>();
+        fanOut(new ArrayList<>(byHome.keySet()), shard -> shard.repository().updatePrices(byHome.get(shard)))
+            .forEach(updated::addAll);
+
+        List<PriceChange> missing = changes.stream()
+            .filter(change -> !updated.contains(change.propertyId()))
+            .toList();
+        if (!missing.isEmpty()) {
+            fanOut(shards, shard -> shard.repository().updatePrices(missing)).forEach(updated::addAll);
+        }
+        return updated;
+    }
+
+    /**
+     * Con ciudad, una sentencia en su shard; sin ciudad, un shard tras otro en el hilo que llama
+     * (el consumidor no tiene por qué ser seguro entre hilos). Con ids, primero se localiza el shard de cada
+     * uno y solo se actualiza en ese: un id que ya estaba en el estado destino no se reintenta en el resto
+     */
+    @Override
+    public void transitionStatus(PropertyFilter filter, Collection<Long> ids, PropertyStatus status,
+                                 LocalDateTime changedAt, Consumer<Property> updated) {
+        if (filter.city() != null) {
+            Shard shard = shardFor(filter.city());
+            shard.inTransaction(false, () -> shard.repository().transitionStatus(filter, ids, status, changedAt, updated));
+            return;
+        }
+        if (ids == null) {
+            for (Shard shard : shards) {
+                shard.inTransaction(false, () -> shard.repository().transitionStatus(filter, null, status, changedAt, updated));
+            }
+            return;
+        }
+        owners(ids).forEach((shard, shardIds) -> shard.inTransaction(false,
+            () -> shard.repository().transitionStatus(filter, shardIds, status, changedAt, updated)));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        locate(id).ifPresent(shard -> shard.repository().deleteById(id));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return locate(id).isPresent();
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+        for (Shard shard : shards) {
+            if (shard.dataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    throw new IllegalStateException("Could not close shard " + shard.index(), e);
+                }
+            }
+        }
+    }
+
+    private Shard homeOf(Long id) {
+        int index = ShardedIds.shardOf(id);
+        return index < shards.size() ? shards.get(index) : shards.get(0);
+    }
+
+    /**
+     * Agrupa los ids por el shard donde están ahora: primero se buscan en su shard de origen y los que no
+     * aparecen, en el resto. Los ids que no existen en ningún shard se descartan
+     */
+    private Map<Shard, List<Long>> owners(Collection<Long> ids) {
+        Map<Shard, List<Long>> byHome = new LinkedHashMap<>();
+        for (Long id : new HashSet<>(ids)) {
+            byHome.computeIfAbsent(homeOf(id), shard -> new ArrayList<>()).add(id);
+        }
+        Map<Shard, List<Long>> owners = new LinkedHashMap<>();
+        Set<Long> missing = new HashSet<>(ids);
+        List<Shard> homes = new ArrayList<>(byHome.keySet());
+        List<List<Property>> found = fanOut(homes, shard -> shard.repository().findAllById(byHome.get(shard)));
+        for (int i = 0; i < homes.size(); i++) {
+            addOwned(owners, homes.get(i), found.get(i), missing);
+        }
+        if (!missing.isEmpty()) {
+            List<Long> moved = List.copyOf(missing);
+            List<List<Property>> elsewhere = fanOut(shards, shard -> shard.repository().findAllById(moved));
+            for (int i = 0; i < shards.size(); i++) {
+                addOwned(owners, shards.get(i), elsewhere.get(i), missing);
+            }
+        }
+        return owners;
+    }
+
+    private static void addOwned(Map<Shard, List<Long>> owners, Shard shard, List<Property> found, Set<Long> missing) {
+        for (Property property : found) {
+            if (missing.remove(property.getId())) {
+                owners.computeIfAbsent(shard, key -> new ArrayList<>()).add(property.getId());
+            }
+        }
+    }
+
+    private List<Shard> others(Shard excluded) {
+        return shards.stream().filter(shard -> shard != excluded).toList();
+    }
+
+    /**
+     * Shard donde está ahora la fila: el de origen del id y, si no está allí, el resto
+     */
+    private Optional<Shard> locate(Long id) {
+        Shard home = homeOf(id);
+        if (home.repository().existsById(id)) {
+            return Optional.of(home);
+        }
+        List<Shard> candidates = others(home);
+        List<Boolean> exists = fanOut(candidates, shard -> shard.repository().existsById(id));
+        for (int i = 0; i < candidates.size(); i++) {
+            if (exists.get(i)) {
+                return Optional.of(candidates.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Ejecuta {@code query} en paralelo en cada shard y devuelve los resultados en el mismo orden
+     */
+    private <T> List<T> fanOut(List<Shard> targets, Function<Shard, T> query) {
+        if (targets.size() == 1) {
+            return List.of(query.apply(targets.get(0)));
+        }
+        List<CompletableFuture<T>> futures = targets.stream()
+            .map(shard -> CompletableFuture.supplyAsync(() -> query.apply(shard), executor))
+            .toList();
+        List<T> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Mezcla listas ya ordenadas por created_at DESC (k-way merge)
+     */
+    private static List<Property> mergeNewestFirst(List<List<Property>> sorted) {
+        record Cursor(List<Property> list, int position) {
+            Property head() {
+                return list.get(position);
+            }
+        }
+        PriorityQueue<Cursor> heads = new PriorityQueue<>(Comparator.comparing(Cursor::head, NEWEST_FIRST));
+        int total = 0;
+        for (List<Property> list : sorted) {
+            total += list.size();
+            if (!list.isEmpty()) {
+                heads.add(new Cursor(list, 0));
+            }
+        }
+        List<Property> merged = new ArrayList<>(total);
+        while (!heads.isEmpty()) {
+            Cursor cursor = heads.poll();
+            merged.add(cursor.head());
+            if (cursor.position() + 1 < cursor.list().size()) {
+                heads.add(new Cursor(cursor.list(), cursor.position() + 1));
+            }
+        }
+        return merged;
+    }
+}
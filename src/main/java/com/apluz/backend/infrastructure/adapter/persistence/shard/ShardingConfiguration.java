@@ -0,0 +1,50 @@
+package com.apluz.backend.infrastructure.adapter.persistence.shard;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Repositorio de propiedades particionado en las bases de datos de {@code apluz.sharding.urls}.
+ * Solo la tabla de propiedades se reparte; el resto (histórico de precios, jobs...) sigue en la
+ * base de datos principal de {@code spring.datasource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "apluz.sharding.enabled", havingValue = "true")
+public class ShardingConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public ShardedPropertyRepository shardedPropertyRepository(
+            @Value("${apluz.sharding.urls}") List<String> urls,
+            @Value("${apluz.sharding.username:${spring.datasource.username:}}") String username,
+            @Value("${apluz.sharding.password:${spring.datasource.password:}}") String password,
+            @Value("${apluz.sharding.pool-size:10}") int poolSize,
+            @Value("${apluz.sharding.schema-locations:}") Resource[] schemaLocations) {
+        List<Shard> shards = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("apluz-shard-" + i);
+            config.setJdbcUrl(urls.get(i).trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setMaximumPoolSize(poolSize);
+            HikariDataSource dataSource = new HikariDataSource(config);
+            if (schemaLocations.length > 0) {
+                ResourceDatabasePopulator populator = new ResourceDatabasePopulator(schemaLocations);
+                populator.setContinueOnError(false);
+                DatabasePopulatorUtils.execute(populator, dataSource);
+            }
+            shards.add(new Shard(i, dataSource));
+        }
+        return new ShardedPropertyRepository(shards);
+    }
+}
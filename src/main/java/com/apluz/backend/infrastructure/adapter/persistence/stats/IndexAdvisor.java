@@ -0,0 +1,244 @@
+package com.apluz.backend.infrastructure.adapter.persistence.stats;
+
+import com.apluz.backend.domain.model.PropertyStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Cruza las formas de consulta registradas en {@link QueryStatistics} con los índices reales de la
+ * tabla properties: qué combinaciones de predicados no tienen un índice (compuesto o parcial) que
+ * las cubra, con la sentencia sugerida, y qué índices no se usan. El uso sale de
+ * {@code pg_stat_user_indexes} en PostgreSQL; en otras bases, de si alguna forma registrada lo aprovecha.
+ */
+public class IndexAdvisor {
+
+    private static final String TABLE = "properties";
+
+    private static final String PARTITION_KEY_SQL = """
+        SELECT a.attname FROM pg_partitioned_table pt
+        JOIN pg_attribute a ON a.attrelid = pt.partrelid AND a.attnum = ANY (pt.partattrs::int2[])
+        WHERE pt.partrelid = 'properties'::regclass
+        """;
+
+    // En una tabla particionada las estadísticas están en los índices de cada partición: se suman al padre
+    private static final String INDEX_SCANS_SQL = """
+        SELECT COALESCE(parent.relname, s.indexrelname) AS index_name, SUM(s.idx_scan) AS scans
+        FROM pg_stat_user_indexes s
+        LEFT JOIN pg_inherits inh ON inh.inhrelid = s.indexrelid
+        LEFT JOIN pg_class parent ON parent.oid = inh.inhparent
+        WHERE s.relid = 'properties'::regclass
+           OR s.relid IN (SELECT inhrelid FROM pg_inherits WHERE inhparent = 'properties'::regclass)
+        GROUP BY 1
+        """;
+
+    private static final String ACTIVE_STATUSES = Arrays.stream(PropertyStatus.values())
+        .filter(status -> !status.isArchived())
+        .map(status -> "'" + status.name() + "'")
+        .collect(Collectors.joining(", "));
+
+    public record IndexDefinition(String name, List<String> columns, String filterCondition, boolean unique) {
+    }
+
+    public record ShapeReport(String shape, long calls, double avgMs, double maxMs, double totalMs,
+                              String supportingIndex, List<String> uncoveredColumns) {
+    }
+
+    public record MissingIndex(String ddl, long calls, double totalMs, List<String> shapes) {
+    }
+
+    public record IndexUsage(String name, List<String> columns, String filterCondition, Long scans,
+                             long matchedShapes, boolean unused) {
+    }
+
+    public record Report(String database, List<String> partitionKey, List<ShapeReport> shapes,
+                         List<MissingIndex> missingIndexes, List<IndexUsage> indexes) {
+    }
+
+    private record Coverage(IndexDefinition index, Set<String> covered) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final QueryStatistics statistics;
+
+    public IndexAdvisor(JdbcTemplate jdbcTemplate, QueryStatistics statistics) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.statistics = statistics;
+    }
+
+    public Report report() {
+        String database = jdbcTemplate.execute(
+            (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        boolean postgres = "PostgreSQL".equalsIgnoreCase(database);
+        List<IndexDefinition> indexes = jdbcTemplate.execute(
+            (ConnectionCallback<List<IndexDefinition>>) connection -> readIndexes(connection.getMetaData()));
+        List<String> partitionKey = postgres
+            ? jdbcTemplate.queryForList(PARTITION_KEY_SQL, String.class)
+            : List.of();
+        Map<String, Long> scans = postgres ? readIndexScans() : Map.of();
+
+        List<ShapeReport> shapes = new ArrayList<>();
+        Map<String, MissingIndex> missing = new LinkedHashMap<>();
+        Map<String, Long> matchedShapes = new HashMap<>();
+        for (QueryStatistics.Snapshot snapshot : statistics.snapshot()) {
+            QueryShape shape = snapshot.shape();
+            Set<String> needed = new LinkedHashSet<>(shape.indexableColumns());
+            partitionKey.forEach(needed::remove);
+
+            Coverage best = bestCoverage(needed, indexes);
+            List<String> uncovered = needed.stream()
+                .filter(column -> best == null || !best.covered().contains(column))
+                .toList();
+            if (best != null) {
+                matchedShapes.merge(best.index().name(), 1L, Long::sum);
+            }
+            shapes.add(new ShapeReport(shape.toString(), snapshot.calls(), snapshot.avgMs(), snapshot.maxMs(),
+                snapshot.totalMs(), best != null ? best.index().name() : null, uncovered));
+
+            if (!uncovered.isEmpty()) {
+                String ddl = suggestIndex(shape, needed);
+                missing.merge(ddl, new MissingIndex(ddl, snapshot.calls(), snapshot.totalMs(), List.of(shape.toString())),
+                    (a, b) -> new MissingIndex(ddl, a.calls() + b.calls(), a.totalMs() + b.totalMs(),
+                        concat(a.shapes(), b.shapes())));
+            }
+        }
+
+        List<IndexUsage> usage = indexes.stream()
+            .map(index -> {
+                Long indexScans = scans.get(index.name());
+                long matched = matchedShapes.getOrDefault(index.name(), 0L);
+                boolean unused = !index.unique() && (indexScans != null ? indexScans == 0 : matched == 0);
+                return new IndexUsage(index.name(), index.columns(), index.filterCondition(), indexScans, matched, unused);
+            })
+            .toList();
+
+        List<MissingIndex> missingIndexes = missing.values().stream()
+            .sorted(Comparator.comparingDouble(MissingIndex::totalMs).reversed())
+            .toList();
+        return new Report(database, partitionKey, shapes, missingIndexes, usage);
+    }
+
+    /**
+     * Índice que cubre más columnas de la consulta: el prefijo de sus columnas contenido en los
+     * predicados, más las columnas que aparecen en su condición si es parcial
+     */
+    private static Coverage bestCoverage(Set<String> needed, List<IndexDefinition> indexes) {
+        Coverage best = null;
+        for (IndexDefinition index : indexes) {
+            Set<String> covered = new LinkedHashSet<>();
+            for (String column : index.columns()) {
+                if (!needed.contains(column)) {
+                    break;
+                }
+                covered.add(column);
+            }
+            if (covered.isEmpty()) {
+                continue;
+            }
+            if (index.filterCondition() != null) {
+                for (String column : needed) {
+                    if (Pattern.compile("\\b" + column + "\\b", Pattern.CASE_INSENSITIVE)
+                            .matcher(index.filterCondition()).find()) {
+                        covered.add(column);
+                    }
+                }
+            }
+            if (best == null || covered.size() > best.covered().size()) {
+                best = new Coverage(index, covered);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Igualdades primero, luego listas y created_at al final si la consulta ordena por él.
+     * El filtro de estados activos se convierte en un índice parcial
+     */
+    private static String suggestIndex(QueryShape shape, Set<String> needed) {
+        List<String> columns = new ArrayList<>();
+        boolean partial = false;
+        for (QueryShape.Comparison comparison : QueryShape.Comparison.values()) {
+            for (QueryShape.Predicate predicate : shape.predicates()) {
+                if (predicate.comparison() == comparison && needed.contains(predicate.column())
+                        && !columns.contains(predicate.column())) {
+                    if (comparison == QueryShape.Comparison.ACTIVE) {
+                        partial = true;
+                    } else {
+                        columns.add(predicate.column());
+                    }
+                }
+            }
+        }
+        if (shape.orderedByCreatedAt()) {
+            columns.add("created_at");
+        }
+        if (columns.isEmpty()) {
+            columns.add("status");
+            partial = false;
+        }
+        String name = "idx_" + TABLE + "_" + String.join("_", columns) + (partial ? "_active" : "");
+        String definition = columns.stream()
+            .map(column -> column.equals("created_at") ? "created_at DESC" : column)
+            .collect(Collectors.joining(", "));
+        return "CREATE INDEX " + name + " ON " + TABLE + " (" + definition + ")"
+            + (partial ? " WHERE status IN (" + ACTIVE_STATUSES + ")" : "");
+    }
+
+    private static List<IndexDefinition> readIndexes(DatabaseMetaData metaData) throws SQLException {
+        String table = metaData.storesUpperCaseIdentifiers() ? TABLE.toUpperCase(Locale.ROOT) : TABLE;
+        Map<String, TreeMap<Integer, String>> columns = new LinkedHashMap<>();
+        Map<String, String> filters = new HashMap<>();
+        Map<String, Boolean> unique = new HashMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(null, null, table, false, true)) {
+            while (rs.next()) {
+                String name = rs.getString("INDEX_NAME");
+                if (name == null || rs.getShort("TYPE") == DatabaseMetaData.tableIndexStatistic) {
+                    continue;
+                }
+                name = name.toLowerCase(Locale.ROOT);
+                String column = rs.getString("COLUMN_NAME");
+                columns.computeIfAbsent(name, key -> new TreeMap<>())
+                    .put((int) rs.getShort("ORDINAL_POSITION"), column != null ? column.toLowerCase(Locale.ROOT) : "(expression)");
+                unique.put(name, !rs.getBoolean("NON_UNIQUE"));
+                String filter = rs.getString("FILTER_CONDITION");
+                if (filter != null && !filter.isBlank()) {
+                    filters.put(name, filter);
+                }
+            }
+        }
+        return columns.entrySet().stream()
+            .map(entry -> new IndexDefinition(entry.getKey(), List.copyOf(entry.getValue().values()),
+                filters.get(entry.getKey()), unique.get(entry.getKey())))
+            .toList();
+    }
+
+    private Map<String, Long> readIndexScans() {
+        Map<String, Long> scans = new HashMap<>();
+        jdbcTemplate.query(INDEX_SCANS_SQL, rs -> {
+            scans.put(rs.getString("index_name"), rs.getLong("scans"));
+        });
+        return scans;
+    }
+
+    private static List<String> concat(List<String> a, List<String> b) {
+        List<String> joined = new ArrayList<>(a);
+        joined.addAll(b);
+        return joined;
+    }
+}
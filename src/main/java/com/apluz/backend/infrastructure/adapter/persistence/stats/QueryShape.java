@@ -0,0 +1,112 @@
+package com.apluz.backend.infrastructure.adapter.persistence.stats;
+
+import com.apluz.backend.domain.model.PropertyFilter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Forma normalizada de una consulta sobre properties: operación, predicados (columna y tipo de
+ * comparación, sin valores) y si ordena por created_at. Dos llamadas con distintos valores pero
+ * las mismas columnas comparten forma.
+ */
+public record QueryShape(String operation, List<Predicate> predicates, boolean orderedByCreatedAt) {
+
+    public enum Comparison {
+        EQ("= ?"),
+        IN("IN (...)"),
+        ACTIVE("IN (active)"),
+        // Después de las igualdades: en un índice compuesto el rango va en la última columna
+        RANGE("> ? AND <= ?"),
+        NOT_EQ("<> ?");
+
+        private final String sql;
+
+        Comparison(String sql) {
+            this.sql = sql;
+        }
+
+        /**
+         * Comparaciones en las que un índice B-tree puede acotar la búsqueda
+         */
+        public boolean isIndexable() {
+            return this != NOT_EQ;
+        }
+    }
+
+    public record Predicate(String column, Comparison comparison) {
+
+        @Override
+        public String toString() {
+            return column + " " + comparison.sql;
+        }
+    }
+
+    public QueryShape {
+        predicates = predicates.stream()
+            .sorted(Comparator.comparing(Predicate::column).thenComparing(Predicate::comparison))
+            .toList();
+    }
+
+    public static Predicate eq(String column) {
+        return new Predicate(column, Comparison.EQ);
+    }
+
+    public static Predicate in(String column) {
+        return new Predicate(column, Comparison.IN);
+    }
+
+    public static Predicate range(String column) {
+        return new Predicate(column, Comparison.RANGE);
+    }
+
+    public static QueryShape of(String operation, boolean orderedByCreatedAt, Predicate... predicates) {
+        return new QueryShape(operation, List.of(predicates), orderedByCreatedAt);
+    }
+
+    /**
+     * Forma de una consulta construida a partir de un {@link PropertyFilter}, con predicados extra opcionales
+     */
+    public static QueryShape of(String operation, PropertyFilter filter, boolean orderedByCreatedAt,
+                                Predicate... extra) {
+        List<Predicate> predicates = new ArrayList<>(List.of(extra));
+        if (filter.city() != null) {
+            predicates.add(eq("city"));
+        }
+        if (filter.type() != null) {
+            predicates.add(eq("type"));
+        }
+        if (filter.status() != null) {
+            predicates.add(eq("status"));
+        } else if (filter.isActiveOnly()) {
+            predicates.add(new Predicate("status", Comparison.ACTIVE));
+        }
+        return new QueryShape(operation, predicates, orderedByCreatedAt);
+    }
+
+    /**
+     * Columnas de los predicados que un índice puede aprovechar
+     */
+    public Set<String> indexableColumns() {
+        return predicates.stream()
+            .filter(predicate -> predicate.comparison().isIndexable())
+            .map(Predicate::column)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sql = new StringBuilder(operation);
+        if (!predicates.isEmpty()) {
+            sql.append(" WHERE ").append(predicates.stream().map(Predicate::toString).collect(Collectors.joining(" AND ")));
+        }
+        if (orderedByCreatedAt) {
+            sql.append(" ORDER BY created_at DESC");
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,59 @@
+package com.apluz.backend.infrastructure.adapter.persistence.stats;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Frecuencia y latencia acumuladas por {@link QueryShape}. Se vacía al quedar lista la aplicación
+ * para que el tráfico del calentamiento no cuente como tráfico real.
+ */
+public class QueryStatistics {
+
+    /**
+     * Estadísticas de una forma de consulta en el momento de leerlas
+     */
+    public record Snapshot(QueryShape shape, long calls, double totalMs, double maxMs) {
+
+        public double avgMs() {
+            return calls == 0 ? 0 : totalMs / calls;
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+    }
+
+    private final Map<QueryShape, Counters> counters = new ConcurrentHashMap<>();
+
+    public void record(QueryShape shape, long nanos) {
+        Counters entry = counters.computeIfAbsent(shape, key -> new Counters());
+        entry.calls.increment();
+        entry.totalNanos.add(nanos);
+        entry.maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Formas registradas, de mayor a menor tiempo total
+     */
+    public List<Snapshot> snapshot() {
+        return counters.entrySet().stream()
+            .map(entry -> new Snapshot(entry.getKey(), entry.getValue().calls.sum(),
+                entry.getValue().totalNanos.sum() / 1_000_000.0, entry.getValue().maxNanos.get() / 1_000_000.0))
+            .sorted(Comparator.comparingDouble(Snapshot::totalMs).reversed())
+            .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reset() {
+        counters.clear();
+    }
+}
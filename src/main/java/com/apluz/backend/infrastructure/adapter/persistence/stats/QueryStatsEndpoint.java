@@ -0,0 +1,31 @@
+package com.apluz.backend.infrastructure.adapter.persistence.stats;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Endpoint de administración {@code /actuator/querystats}: GET devuelve el informe de formas de
+ * consulta e índices, DELETE reinicia las estadísticas
+ */
+@Endpoint(id = "querystats")
+public class QueryStatsEndpoint {
+
+    private final IndexAdvisor indexAdvisor;
+    private final QueryStatistics statistics;
+
+    public QueryStatsEndpoint(IndexAdvisor indexAdvisor, QueryStatistics statistics) {
+        this.indexAdvisor = indexAdvisor;
+        this.statistics = statistics;
+    }
+
+    @ReadOperation
+    public IndexAdvisor.Report report() {
+        return indexAdvisor.report();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.reset();
+    }
+}
@@ -0,0 +1,167 @@
+package com.apluz.backend.infrastructure.adapter.persistence.stats;
+
+import com.apluz.backend.domain.model.PriceChange;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyCount;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyStatusChange;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.domain.port.PropertyRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static com.apluz.backend.infrastructure.adapter.persistence.stats.QueryShape.eq;
+import static com.apluz.backend.infrastructure.adapter.persistence.stats.QueryShape.in;
+import static com.apluz.backend.infrastructure.adapter.persistence.stats.QueryShape.range;
+
+/**
+ * Decorador del repositorio que registra en {@link QueryStatistics} la forma y la latencia de cada
+ * consulta que llega a la base de datos. En los recorridos en streaming no cuenta el tiempo
+ * que pasa el consumidor procesando filas.
+ */
+public class QueryStatsPropertyRepository implements PropertyRepository {
+
+    private static final QueryShape.Predicate NOT_IN_TARGET_STATUS =
+        new QueryShape.Predicate("status", QueryShape.Comparison.NOT_EQ);
+
+    private final PropertyRepository delegate;
+    private final QueryStatistics statistics;
+    private final LongSupplier nanoTime;
+
+    public QueryStatsPropertyRepository(PropertyRepository delegate, QueryStatistics statistics) {
+        this(delegate, statistics, System::nanoTime);
+    }
+
+    QueryStatsPropertyRepository(PropertyRepository delegate, QueryStatistics statistics, LongSupplier nanoTime) {
+        this.delegate = delegate;
+        this.statistics = statistics;
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public Property save(Property property) {
+        QueryShape shape = property.getId() == null
+            ? QueryShape.of("insert", false)
+            : QueryShape.of("update", false, eq("id"));
+        return timed(shape, () -> delegate.save(property));
+    }
+
+    @Override
+    public Optional<Property> findById(Long id) {
+        return timed(QueryShape.of("findById", false, eq("id")), () -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Property> findAllById(Collection<Long> ids) {
+        return timed(QueryShape.of("findAllById", false, in("id")), () -> delegate.findAllById(ids));
+    }
+
+    @Override
+    public List<Property> findAll() {
+        return timed(QueryShape.of("findAll", PropertyFilter.all(), true), delegate::findAll);
+    }
+
+    @Override
+    public List<Property> findByCity(String city) {
+        return timed(QueryShape.of("findByCity", PropertyFilter.byCity(city), true), () -> delegate.findByCity(city));
+    }
+
+    @Override
+    public List<Property> findByType(PropertyType type) {
+        return timed(QueryShape.of("findByType", PropertyFilter.byType(type), true), () -> delegate.findByType(type));
+    }
+
+    @Override
+    public List<Property> findByStatus(PropertyStatus status) {
+        return timed(QueryShape.of("findByStatus", true, eq("status")), () -> delegate.findByStatus(status));
+    }
+
+    @Override
+    public void forEach(PropertyFilter filter, Consumer<Property> action) {
+        streamed(QueryShape.of("forEach", filter, true), action, timedAction -> delegate.forEach(filter, timedAction));
+    }
+
+    @Override
+    public void forEach(PropertyFilter filter, Set<PropertyField> fields, Consumer<Property> action) {
+        streamed(QueryShape.of("forEach", filter, true), action,
+            timedAction -> delegate.forEach(filter, fields, timedAction));
+    }
+
+    @Override
+    public void forEachUpdated(LocalDateTime after, LocalDateTime until, Consumer<Property> action) {
+        streamed(QueryShape.of("forEachUpdated", false, range("updated_at")), action,
+            timedAction -> delegate.forEachUpdated(after, until, timedAction));
+    }
+
+    @Override
+    public PropertyCount count(PropertyFilter filter, boolean exact) {
+        return timed(QueryShape.of("count", filter, false), () -> delegate.count(filter, exact));
+    }
+
+    @Override
+    public Set<Long> updateStatuses(Collection<PropertyStatusChange> changes) {
+        return timed(QueryShape.of("updateStatuses", false, in("id"), range("updated_at")), () -> delegate.updateStatuses(changes));
+    }
+
+    @Override
+    public Set<Long> updatePrices(Collection<PriceChange> changes) {
+        return timed(QueryShape.of("updatePrices", false, in("id"), eq("price")), () -> delegate.updatePrices(changes));
+    }
+
+    @Override
+    public void transitionStatus(PropertyFilter filter, Collection<Long> ids, PropertyStatus status,
+                                 LocalDateTime changedAt, Consumer<Property> updated) {
+        QueryShape shape = ids != null
+            ? QueryShape.of("transitionStatus", filter, false, in("id"), NOT_IN_TARGET_STATUS)
+            : QueryShape.of("transitionStatus", filter, false, NOT_IN_TARGET_STATUS);
+        streamed(shape, updated, timedAction -> delegate.transitionStatus(filter, ids, status, changedAt, timedAction));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        timed(QueryShape.of("deleteById", false, eq("id")), () -> {
+            delegate.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return timed(QueryShape.of("existsById", false, eq("id")), () -> delegate.existsById(id));
+    }
+
+    private <T> T timed(QueryShape shape, Supplier<T> query) {
+        long start = nanoTime.getAsLong();
+        try {
+            return query.get();
+        } finally {
+            statistics.record(shape, nanoTime.getAsLong() - start);
+        }
+    }
+
+    private void streamed(QueryShape shape, Consumer<Property> action, Consumer<Consumer<Property>> query) {
+        long[] consumerNanos = new long[1];
+        long start = nanoTime.getAsLong();
+        try {
+            query.accept(property -> {
+                long rowStart = nanoTime.getAsLong();
+                try {
+                    action.accept(property);
+                } finally {
+                    consumerNanos[0] += nanoTime.getAsLong() - rowStart;
+                }
+            });
+        } finally {
+            statistics.record(shape, nanoTime.getAsLong() - start - consumerNanos[0]);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.apluz.backend.infrastructure.adapter.web;
+
+import com.apluz.backend.application.service.BulkEditJobService;
+import com.apluz.backend.domain.model.BulkEdit;
+import com.apluz.backend.domain.model.BulkEditJob;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.infrastructure.adapter.web.dto.BulkEditJobRequest;
+import com.apluz.backend.infrastructure.adapter.web.dto.BulkEditJobResponse;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Controlador REST de los trabajos de edición masiva: envío (202 con la URL de estado), progreso,
+ * cancelación y reanudación
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/properties/bulk-jobs")
+@CrossOrigin(origins = "*", exposedHeaders = "Location")
+public class BulkEditJobController {
+
+    private final BulkEditJobService bulkEditJobService;
+
+    public BulkEditJobController(BulkEditJobService bulkEditJobService) {
+        this.bulkEditJobService = bulkEditJobService;
+    }
+
+    @PostMapping
+    public ResponseEntity<BulkEditJobResponse> submitJob(@Valid @RequestBody BulkEditJobRequest request) {
+        PropertyFilter filter = new PropertyFilter(request.getCity(), request.getType(), request.getCurrentStatus(),
+            request.isIncludeArchived());
+        try {
+            BulkEditJob job = bulkEditJobService.submit(filter,
+                new BulkEdit(request.getOperation(), request.getAmount(), request.getStatus()));
+            return ResponseEntity.accepted()
+                .location(URI.create("/api/properties/bulk-jobs/" + job.id()))
+                .body(mapToResponse(job));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<BulkEditJobResponse> getJob(@PathVariable Long id) {
+        return bulkEditJobService.getJob(id)
+            .map(job -> ResponseEntity.ok(mapToResponse(job)))
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 409 si el trabajo ya no está en curso
+     */
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<BulkEditJobResponse> cancelJob(@PathVariable Long id) {
+        return changeState(() -> bulkEditJobService.cancel(id));
+    }
+
+    /**
+     * Relanza los lotes pendientes de un trabajo cancelado o fallido; 409 en otro estado
+     */
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<BulkEditJobResponse> resumeJob(@PathVariable Long id) {
+        return changeState(() -> bulkEditJobService.resume(id));
+    }
+
+    private ResponseEntity<BulkEditJobResponse> changeState(Supplier<Optional<BulkEditJob>> action) {
+        try {
+            return action.get()
+                .map(job -> ResponseEntity.ok(mapToResponse(job)))
+                .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    private BulkEditJobResponse mapToResponse(BulkEditJob job) {
+        return new BulkEditJobResponse(job.id(), job.status(), job.filter().city(), job.filter().type(),
+            job.filter().status(), job.filter().includeArchived(), job.edit().operation(), job.edit().amount(),
+            job.edit().status(), job.totalChunks(), job.completedChunks(), job.updatedRows(), job.skippedRows(),
+            job.error(), job.createdAt(), job.updatedAt());
+    }
+}
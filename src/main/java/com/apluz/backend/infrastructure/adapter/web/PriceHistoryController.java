@@ -0,0 +1,102 @@
+package com.apluz.backend.infrastructure.adapter.web;
+
+import com.apluz.backend.application.service.PriceHistoryService;
+import com.apluz.backend.domain.model.PriceBucket;
+import com.apluz.backend.domain.model.PriceChange;
+import com.apluz.backend.domain.model.PriceHistory;
+import com.apluz.backend.infrastructure.adapter.web.dto.PriceBucketResponse;
+import com.apluz.backend.infrastructure.adapter.web.dto.PriceChangeResponse;
+import com.apluz.backend.infrastructure.adapter.web.dto.PriceHistoryResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Controlador REST del histórico de precios: rangos por propiedad y por ciudad, y feed de bajadas
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/properties")
+@CrossOrigin(origins = "*")
+public class PriceHistoryController {
+
+    private static final int DEFAULT_CITY_RANGE_DAYS = 30;
+    private static final int DEFAULT_DROPS_DAYS = 7;
+    private static final int MAX_DROPS = 500;
+
+    private final PriceHistoryService priceHistoryService;
+
+    public PriceHistoryController(PriceHistoryService priceHistoryService) {
+        this.priceHistoryService = priceHistoryService;
+    }
+
+    /**
+     * Histórico de una propiedad; sin {@code from} devuelve todo lo conservado
+     */
+    @GetMapping("/{id}/price-history")
+    public ResponseEntity<PriceHistoryResponse> getPropertyHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : LocalDateTime.of(1970, 1, 1, 0, 0);
+        try {
+            return ResponseEntity.ok(mapToResponse(priceHistoryService.getPropertyHistory(id, start, end)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Histórico de una ciudad; por defecto los últimos 30 días
+     */
+    @GetMapping("/price-history")
+    public ResponseEntity<PriceHistoryResponse> getCityHistory(
+            @RequestParam String city,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(DEFAULT_CITY_RANGE_DAYS);
+        try {
+            return ResponseEntity.ok(mapToResponse(priceHistoryService.getCityHistory(city, start, end)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Feed de bajadas de precio recientes (por defecto, de los últimos 7 días), la más reciente primero
+     */
+    @GetMapping("/price-drops")
+    public ResponseEntity<List<PriceChangeResponse>> getRecentDrops(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(defaultValue = "50") int limit) {
+        LocalDateTime start = since != null ? since : LocalDateTime.now().minusDays(DEFAULT_DROPS_DAYS);
+        List<PriceChangeResponse> drops = priceHistoryService
+            .getRecentDrops(city, start, Math.max(1, Math.min(limit, MAX_DROPS))).stream()
+            .map(this::mapToResponse)
+            .toList();
+        return ResponseEntity.ok(drops);
+    }
+
+    private PriceHistoryResponse mapToResponse(PriceHistory history) {
+        return new PriceHistoryResponse(
+            history.changes().stream().map(this::mapToResponse).toList(),
+            history.buckets().stream().map(this::mapToResponse).toList());
+    }
+
+    private PriceChangeResponse mapToResponse(PriceChange change) {
+        return new PriceChangeResponse(change.propertyId(), change.city(), change.oldPrice(), change.newPrice(),
+            change.changedAt());
+    }
+
+    private PriceBucketResponse mapToResponse(PriceBucket bucket) {
+        return new PriceBucketResponse(bucket.propertyId(), bucket.city(), bucket.granularity(), bucket.bucketStart(),
+            bucket.openPrice(), bucket.closePrice(), bucket.minPrice(), bucket.maxPrice(), bucket.changes());
+    }
+}
@@ -1,71 +1,318 @@
 package com.apluz.backend.infrastructure.adapter.web;
 
+import com.apluz.backend.application.dedup.PropertyDuplicateIndex;
+import com.apluz.backend.application.feed.LatestListingsFeed;
 import com.apluz.backend.application.service.PropertyService;
+import com.apluz.backend.application.similar.SimilarPropertyIndex;
+import com.apluz.backend.application.suggest.PropertySuggestionIndex;
 import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyCount;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
 import com.apluz.backend.domain.model.PropertyStatus;
 import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyBatchGetRequest;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyBatchGetResponse;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyBulkStatusRequest;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyDuplicateClusterResponse;
 import com.apluz.backend.infrastructure.adapter.web.dto.PropertyRequest;
 import com.apluz.backend.infrastructure.adapter.web.dto.PropertyResponse;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyStatusAckResponse;
 import com.apluz.backend.infrastructure.adapter.web.dto.PropertyStatusUpdateRequest;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertySuggestionResponse;
+import com.apluz.backend.infrastructure.adapter.web.cache.CachedListResponse;
+import com.apluz.backend.infrastructure.adapter.web.cache.CapturingOutputStream;
+import com.apluz.backend.infrastructure.adapter.web.cache.ListCacheKey;
+import com.apluz.backend.infrastructure.adapter.web.cache.PropertyListCache;
+import com.apluz.backend.infrastructure.adapter.web.codec.PropertyFormat;
+import com.apluz.backend.infrastructure.adapter.web.codec.PropertyFormats;
+import com.apluz.backend.infrastructure.adapter.web.codec.PropertyJsonWriter;
+import com.apluz.backend.infrastructure.adapter.web.hotkeys.HotKeyTracker;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 /**
  * Controlador REST para gestión de propiedades
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/properties")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {"X-Total-Count", "X-Total-Count-Mode", "X-Possible-Duplicates"})
 public class PropertyController {
 
+    private static final String PREFER_RESPOND_ASYNC = "respond-async";
+    private static final long WRITE_BEHIND_ACK_TIMEOUT_MS = 2_000;
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    private static final String TOTAL_COUNT_MODE_HEADER = "X-Total-Count-Mode";
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final String POSSIBLE_DUPLICATES_HEADER = "X-Possible-Duplicates";
+    private static final int MAX_DUPLICATE_CANDIDATES = 10;
+    private static final int MAX_SIMILAR = 50;
+
     private final PropertyService propertyService;
+    private final PropertyFormats propertyFormats;
+    private final PropertyListCache propertyListCache;
+    private final PropertySuggestionIndex propertySuggestionIndex;
+    private final LatestListingsFeed latestListingsFeed;
+    private final PropertyDuplicateIndex propertyDuplicateIndex;
+    private final SimilarPropertyIndex similarPropertyIndex;
+    private final HotKeyTracker hotKeyTracker;
 
-    public PropertyController(PropertyService propertyService) {
+    public PropertyController(PropertyService propertyService, PropertyFormats propertyFormats,
+                              PropertyListCache propertyListCache, PropertySuggestionIndex propertySuggestionIndex,
+                              LatestListingsFeed latestListingsFeed, PropertyDuplicateIndex propertyDuplicateIndex,
+                              SimilarPropertyIndex similarPropertyIndex, HotKeyTracker hotKeyTracker) {
         this.propertyService = propertyService;
+        this.propertyFormats = propertyFormats;
+        this.propertyListCache = propertyListCache;
+        this.propertySuggestionIndex = propertySuggestionIndex;
+        this.latestListingsFeed = latestListingsFeed;
+        this.propertyDuplicateIndex = propertyDuplicateIndex;
+        this.similarPropertyIndex = similarPropertyIndex;
+        this.hotKeyTracker = hotKeyTracker;
     }
 
+    /**
+     * Crea la propiedad; si se parece a otras activas, sus ids van en X-Possible-Duplicates
+     * (de más a menos parecida). El alta no se bloquea
+     */
     @PostMapping
     public ResponseEntity<PropertyResponse> createProperty(@Valid @RequestBody PropertyRequest request) {
         Property property = mapToEntity(request);
         Property createdProperty = propertyService.createProperty(property);
-        return ResponseEntity.status(HttpStatus.CREATED).body(mapToResponse(createdProperty));
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.CREATED);
+        List<PropertyDuplicateIndex.DuplicateCandidate> duplicates =
+            propertyDuplicateIndex.findCandidates(createdProperty, MAX_DUPLICATE_CANDIDATES);
+        if (!duplicates.isEmpty()) {
+            response.header(POSSIBLE_DUPLICATES_HEADER, duplicates.stream()
+                .map(candidate -> candidate.propertyId().toString())
+                .collect(Collectors.joining(",")));
+        }
+        return response.body(mapToResponse(createdProperty));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<PropertyResponse> getPropertyById(@PathVariable Long id) {
+        hotKeyTracker.recordPropertyRead(id);
         return propertyService.getPropertyById(id)
             .map(property -> ResponseEntity.ok(mapToResponse(property)))
             .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Propiedades activas de la misma ciudad más parecidas en precio, superficie, habitaciones y tipo,
+     * servidas desde el índice de vecinos en memoria
+     */
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<PropertyResponse>> getSimilar(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int k) {
+        return similarPropertyIndex.findSimilar(id, Math.max(1, Math.min(k, MAX_SIMILAR)))
+            .map(similar -> ResponseEntity.ok(similar.stream().map(this::mapToResponse).toList()))
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Autocompletado de ciudades y palabras de título, servido desde el índice en memoria
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<PropertySuggestionResponse>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<PropertySuggestionResponse> suggestions = propertySuggestionIndex
+            .suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS))).stream()
+            .map(suggestion -> new PropertySuggestionResponse(suggestion.text(), suggestion.kind(), suggestion.count()))
+            .toList();
+        return ResponseEntity.ok(suggestions);
+    }
+
+    /**
+     * Grupos de propiedades activas casi duplicadas en todo el catálogo, servidos desde el índice MinHash
+     */
+    @GetMapping("/duplicates")
+    public ResponseEntity<List<PropertyDuplicateClusterResponse>> getDuplicateClusters() {
+        List<PropertyDuplicateClusterResponse> clusters = propertyDuplicateIndex.clusters().stream()
+            .map(cluster -> new PropertyDuplicateClusterResponse(cluster.propertyIds()))
+            .toList();
+        return ResponseEntity.ok(clusters);
+    }
+
+    /**
+     * Últimas propiedades disponibles (global o de una ciudad), servidas desde el feed en memoria
+     */
+    @GetMapping("/latest")
+    public ResponseEntity<List<PropertyResponse>> getLatest(
+            @RequestParam(required = false) String city,
+            @RequestParam(defaultValue = "50") int limit) {
+        List<PropertyResponse> latest = latestListingsFeed
+            .latest(city, Math.max(1, Math.min(limit, latestListingsFeed.getCapacity()))).stream()
+            .map(this::mapToResponse)
+            .toList();
+        return ResponseEntity.ok(latest);
+    }
+
+    /**
+     * Obtiene varias propiedades con una sola consulta, respetando el orden pedido
+     * e informando de los ids que no existen
+     */
+    @PostMapping("/batch-get")
+    public ResponseEntity<PropertyBatchGetResponse> getPropertiesByIds(@Valid @RequestBody PropertyBatchGetRequest request) {
+        List<Property> properties = propertyService.getPropertiesByIds(request.getIds());
+        Set<Long> foundIds = new HashSet<>();
+        properties.forEach(property -> foundIds.add(property.getId()));
+
+        List<Long> missingIds = request.getIds().stream()
+            .distinct()
+            .filter(id -> !foundIds.contains(id))
+            .toList();
+        List<PropertyResponse> response = properties.stream()
+            .map(this::mapToResponse)
+            .toList();
+
+        return ResponseEntity.ok(new PropertyBatchGetResponse(response, missingIds));
+    }
+
+    /**
+     * Escribe la lista en streaming directamente desde el repositorio,
+     * sin construir la lista de entidades ni de DTOs. El formato (JSON, CBOR, Smile o Protobuf)
+     * se negocia con la cabecera Accept. Las respuestas pequeñas se guardan preserializadas en
+     * {@link PropertyListCache} y se sirven como bytes, comprimidos si el cliente acepta gzip.
+     * Salvo {@code includeArchived=true} o un {@code status} explícito, solo se listan propiedades activas.
+     * Con {@code fields=id,price,...} solo se leen de la base de datos y se escriben esos campos.
+     * Con {@code count=exact|estimated} se añade el total en {@code X-Total-Count} y el modo con el que
+     * se obtuvo en {@code X-Total-Count-Mode} (una estimación puede resolverse como exacta si es barata)
+     */
     @GetMapping
-    public ResponseEntity<List<PropertyResponse>> getAllProperties(
+    public void getAllProperties(
             @RequestParam(required = false) String city,
             @RequestParam(required = false) PropertyType type,
-            @RequestParam(required = false) PropertyStatus status) {
+            @RequestParam(required = false) PropertyStatus status,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String count,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException, HttpMediaTypeNotAcceptableException {
+
+        Set<PropertyField> selectedFields = parseFields(fields);
+        Boolean exactCount = parseCountMode(count);
+        PropertyFormat format = propertyFormats.negotiate(accept);
+        PropertyJsonWriter writer = propertyFormats.writer(format);
 
-        List<Property> properties;
+        PropertyFilter filter;
 
         if (city != null) {
-            properties = propertyService.getPropertiesByCity(city);
+            filter = PropertyFilter.byCity(city);
         } else if (type != null) {
-            properties = propertyService.getPropertiesByType(type);
+            filter = PropertyFilter.byType(type);
         } else if (status != null) {
-            properties = propertyService.getPropertiesByStatus(status);
+            filter = PropertyFilter.byStatus(status);
         } else {
-            properties = propertyService.getAllProperties();
+            filter = PropertyFilter.all();
         }
+        filter = filter.withArchived(includeArchived);
+        hotKeyTracker.recordListQuery(filter);
 
-        List<PropertyResponse> response = properties.stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        ListCacheKey cacheKey = new ListCacheKey(filter, format, selectedFields);
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(format.getMediaType().toString());
+        response.setHeader(HttpHeaders.VARY, "Accept, Accept-Encoding");
+        if (exactCount != null) {
+            PropertyCount total = propertyService.countProperties(filter, exactCount);
+            response.setHeader(TOTAL_COUNT_HEADER, Long.toString(total.total()));
+            response.setHeader(TOTAL_COUNT_MODE_HEADER, total.exact() ? "exact" : "estimated");
+        }
+
+        CachedListResponse cached = propertyListCache.get(cacheKey);
+        if (cached != null) {
+            writeCached(cached, acceptsGzip(acceptEncoding), response);
+            return;
+        }
+
+        long stamp = propertyListCache.stamp();
+        int captureLimit = propertyListCache.isEnabled() ? propertyListCache.getMaxEntryBytes() : 0;
+        CapturingOutputStream out = new CapturingOutputStream(response.getOutputStream(), captureLimit);
+        LongStream.Builder ids = LongStream.builder();
+
+        try (JsonGenerator gen = writer.createGenerator(out)) {
+            writer.writeStartList(gen);
+            propertyService.streamProperties(filter, selectedFields, property -> {
+                ids.add(property.getId());
+                writer.writePropertyUnchecked(gen, property, selectedFields);
+            });
+            writer.writeEndList(gen);
+        }
+
+        byte[] body = out.getCaptured();
+        if (body != null) {
+            propertyListCache.put(cacheKey, stamp, body, ids.build().toArray());
+        }
+    }
+
+    private static Set<PropertyField> parseFields(String fields) {
+        try {
+            return PropertyField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * @return true para exacto, false para estimado, null si no se pidió total
+     */
+    private static Boolean parseCountMode(String count) {
+        if (count == null) {
+            return null;
+        }
+        return switch (count.toLowerCase()) {
+            case "exact" -> true;
+            case "estimated" -> false;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Unknown count mode '" + count + "'. Allowed: exact, estimated");
+        };
+    }
+
+    private void writeCached(CachedListResponse cached, boolean gzip, HttpServletResponse response) throws IOException {
+        byte[] body = gzip ? cached.getGzippedBody() : cached.getBody();
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
 
-        return ResponseEntity.ok(response);
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
 
     @PutMapping("/{id}")
@@ -81,10 +328,19 @@ public class PropertyController {
         }
     }
 
+    /**
+     * Con write-behind activo el cambio se encola y se responde con un acuse de durabilidad:
+     * por defecto se espera a que el lote se persista (200 PERSISTED); con {@code Prefer: respond-async}
+     * se responde en cuanto se acepta (202 ACCEPTED)
+     */
     @PatchMapping("/{id}/status")
-    public ResponseEntity<PropertyResponse> updatePropertyStatus(
+    public ResponseEntity<?> updatePropertyStatus(
             @PathVariable Long id,
-            @Valid @RequestBody PropertyStatusUpdateRequest request) {
+            @Valid @RequestBody PropertyStatusUpdateRequest request,
+            @RequestHeader(value = "Prefer", required = false) String prefer) {
+        if (propertyService.isStatusWriteBehindEnabled()) {
+            return enqueuePropertyStatus(id, request.getStatus(), prefer);
+        }
         try {
             Property updatedProperty = propertyService.updatePropertyStatus(id, request.getStatus());
             return ResponseEntity.ok(mapToResponse(updatedProperty));
@@ -93,6 +349,58 @@ public class PropertyController {
         }
     }
 
+    /**
+     * Cambia de estado en bloque, con una sola sentencia, las propiedades indicadas por ids y/o filtro
+     * (city, type, currentStatus). Los ids afectados se escriben en streaming a medida que se actualizan.
+     */
+    @PostMapping("/bulk-status")
+    public void transitionPropertyStatus(@Valid @RequestBody PropertyBulkStatusRequest request,
+                                         HttpServletResponse response) throws IOException {
+        PropertyFilter filter = new PropertyFilter(request.getCity(), request.getType(), request.getCurrentStatus(), true);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        try (JsonGenerator gen = propertyFormats.mapper(PropertyFormat.JSON).getFactory()
+                .createGenerator(response.getOutputStream())) {
+            gen.writeStartObject();
+            gen.writeStringField("status", request.getStatus().name());
+            gen.writeArrayFieldStart("updatedIds");
+            long count = propertyService.transitionPropertyStatus(filter, request.getIds(), request.getStatus(), property -> {
+                try {
+                    gen.writeNumber(property.getId());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            gen.writeEndArray();
+            gen.writeNumberField("count", count);
+            gen.writeEndObject();
+        }
+    }
+
+    private ResponseEntity<?> enqueuePropertyStatus(Long id, PropertyStatus status, String prefer) {
+        CompletableFuture<Boolean> persisted = propertyService.enqueuePropertyStatus(id, status);
+        PropertyStatusAckResponse accepted = new PropertyStatusAckResponse(id, status, PropertyStatusAckResponse.Durability.ACCEPTED);
+
+        if (prefer != null && prefer.toLowerCase().contains(PREFER_RESPOND_ASYNC)) {
+            return ResponseEntity.accepted().header("Preference-Applied", PREFER_RESPOND_ASYNC).body(accepted);
+        }
+        try {
+            if (!persisted.get(WRITE_BEHIND_ACK_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(new PropertyStatusAckResponse(id, status, PropertyStatusAckResponse.Durability.PERSISTED));
+        } catch (TimeoutException e) {
+            return ResponseEntity.accepted().body(accepted);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResponseEntity.accepted().body(accepted);
+        } catch (ExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProperty(@PathVariable Long id) {
         try {
@@ -0,0 +1,46 @@
+package com.apluz.backend.infrastructure.adapter.web.cache;
+
+import java.util.Arrays;
+
+/**
+ * Respuesta de lista preserializada, en claro y comprimida con gzip.
+ * {@code propertyIds} (ordenados) permite invalidar con precisión cuando cambia o se borra una propiedad.
+ */
+public final class CachedListResponse {
+
+    private final byte[] body;
+    private final byte[] gzippedBody;
+    private final long[] propertyIds;
+    private volatile long lastAccessNanos;
+
+    CachedListResponse(byte[] body, byte[] gzippedBody, long[] propertyIds) {
+        this.body = body;
+        this.gzippedBody = gzippedBody;
+        this.propertyIds = propertyIds;
+        this.lastAccessNanos = System.nanoTime();
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public byte[] getGzippedBody() {
+        return gzippedBody;
+    }
+
+    boolean contains(long propertyId) {
+        return Arrays.binarySearch(propertyIds, propertyId) >= 0;
+    }
+
+    long sizeInBytes() {
+        return body.length + gzippedBody.length + propertyIds.length * (long) Long.BYTES;
+    }
+
+    long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+}
@@ -0,0 +1,63 @@
+package com.apluz.backend.infrastructure.adapter.web.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * OutputStream que reenvía todo al destino y guarda una copia mientras no supere {@code limit} bytes.
+ * Permite cachear una respuesta sin renunciar al streaming hacia el cliente.
+ */
+public class CapturingOutputStream extends OutputStream {
+
+    private final OutputStream target;
+    private final int limit;
+    private ByteArrayOutputStream capture;
+
+    public CapturingOutputStream(OutputStream target, int limit) {
+        this.target = target;
+        this.limit = limit;
+        this.capture = limit > 0 ? new ByteArrayOutputStream(Math.min(limit, 8192)) : null;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        target.write(b);
+        if (capture != null) {
+            if (capture.size() + 1 > limit) {
+                capture = null;
+            } else {
+                capture.write(b);
+            }
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        target.write(b, off, len);
+        if (capture != null) {
+            if (capture.size() + len > limit) {
+                capture = null;
+            } else {
+                capture.write(b, off, len);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        target.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        target.close();
+    }
+
+    /**
+     * Copia de lo escrito, o null si se superó el límite
+     */
+    public byte[] getCaptured() {
+        return capture != null ? capture.toByteArray() : null;
+    }
+}
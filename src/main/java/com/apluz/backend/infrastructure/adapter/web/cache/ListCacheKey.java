@@ -0,0 +1,17 @@
+package com.apluz.backend.infrastructure.adapter.web.cache;
+
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.infrastructure.adapter.web.codec.PropertyFormat;
+
+import java.util.Set;
+
+/**
+ * Clave normalizada de una respuesta de lista: filtro efectivo + formato negociado + campos pedidos
+ */
+public record ListCacheKey(PropertyFilter filter, PropertyFormat format, Set<PropertyField> fields) {
+
+    public ListCacheKey(PropertyFilter filter, PropertyFormat format) {
+        this(filter, format, PropertyField.all());
+    }
+}
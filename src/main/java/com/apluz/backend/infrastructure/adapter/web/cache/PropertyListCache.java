@@ -0,0 +1,170 @@
+package com.apluz.backend.infrastructure.adapter.web.cache;
+
+import com.apluz.backend.domain.event.PropertyChangedEvent;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.infrastructure.adapter.web.hotkeys.HotKeyTracker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caché de respuestas de lista preserializadas (y pregzipeadas), acotada por bytes totales.
+ * Se invalida con precisión a partir de {@link PropertyChangedEvent}: una entrada se descarta si
+ * contenía la propiedad modificada o si su filtro coincide con el nuevo estado de la propiedad.
+ * Al superar el tamaño se descarta la entrada menos usada recientemente, salvo las de filtros calientes
+ * según {@link HotKeyTracker}, que solo salen si no queda otra.
+ */
+@Component
+public class PropertyListCache {
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final int maxEntryBytes;
+    private final HotKeyTracker hotKeyTracker;
+
+    private final Map<ListCacheKey, CachedListResponse> entries = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PropertyListCache(
+            @Value("${apluz.list-cache.enabled:true}") boolean enabled,
+            @Value("${apluz.list-cache.max-bytes:33554432}") long maxBytes,
+            @Value("${apluz.list-cache.max-entry-bytes:4194304}") int maxEntryBytes,
+            HotKeyTracker hotKeyTracker) {
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.hotKeyTracker = hotKeyTracker;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Tamaño máximo de una respuesta en claro para ser cacheada
+     */
+    public int getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    public CachedListResponse get(ListCacheKey key) {
+        if (!enabled) {
+            return null;
+        }
+        CachedListResponse cached = entries.get(key);
+        if (cached != null) {
+            cached.touch();
+        }
+        return cached;
+    }
+
+    /**
+     * Marca de versión a tomar antes de leer los datos de una respuesta; ver {@link #put}
+     */
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * Guarda una respuesta si no hubo invalidaciones desde {@code stamp}; así una escritura
+     * concurrente con la construcción de la respuesta nunca deja un cuerpo obsoleto en la caché.
+     */
+    public CachedListResponse put(ListCacheKey key, long stamp, byte[] body, long[] propertyIds) {
+        if (!enabled || body.length > maxEntryBytes) {
+            return null;
+        }
+        long[] sortedIds = propertyIds.clone();
+        Arrays.sort(sortedIds);
+        CachedListResponse response = new CachedListResponse(body, gzip(body), sortedIds);
+
+        synchronized (this) {
+            if (invalidations.get() != stamp) {
+                return null;
+            }
+            CachedListResponse previous = entries.put(key, response);
+            totalBytes.addAndGet(response.sizeInBytes() - (previous != null ? previous.sizeInBytes() : 0));
+            evictIfNeeded();
+        }
+        return response;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPropertyChanged(PropertyChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Property property = event.property();
+        long id = event.propertyId();
+        synchronized (this) {
+            invalidations.incrementAndGet();
+            entries.entrySet().removeIf(entry -> {
+                boolean stale = entry.getValue().contains(id)
+                    || (property != null && mayContain(entry.getKey().filter(), property));
+                if (stale) {
+                    totalBytes.addAndGet(-entry.getValue().sizeInBytes());
+                }
+                return stale;
+            });
+        }
+    }
+
+    /**
+     * Los cambios de estado diferidos (write-behind) publican una propiedad parcial, sin ciudad ni tipo:
+     * se da por hecho que cumple esos criterios y solo se compara el estado
+     */
+    private static boolean mayContain(PropertyFilter filter, Property property) {
+        if (property.getCity() == null && property.getType() == null) {
+            return new PropertyFilter(null, null, filter.status(), filter.includeArchived()).matches(property);
+        }
+        return filter.matches(property);
+    }
+
+    public synchronized void clear() {
+        invalidations.incrementAndGet();
+        entries.clear();
+        totalBytes.set(0);
+    }
+
+    public long getTotalBytes() {
+        return totalBytes.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictIfNeeded() {
+        while (totalBytes.get() > maxBytes && !entries.isEmpty()) {
+            entries.entrySet().stream()
+                .min(Comparator.comparing((Map.Entry<ListCacheKey, CachedListResponse> entry) ->
+                        hotKeyTracker.isHotListQuery(entry.getKey().filter()))
+                    .thenComparingLong(entry -> entry.getValue().getLastAccessNanos()))
+                .ifPresent(eldest -> {
+                    entries.remove(eldest.getKey());
+                    totalBytes.addAndGet(-eldest.getValue().sizeInBytes());
+                });
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,53 @@
+package com.apluz.backend.infrastructure.adapter.web.codec;
+
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyBatchGetRequest;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyBatchGetResponse;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyRequest;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyResponse;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyStatusUpdateRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuración de negociación de contenido binaria (CBOR, Smile, Protobuf).
+ * Sustituye los conversores CBOR/Smile por defecto para que usen la misma
+ * configuración de Jackson que JSON (fechas ISO, zona horaria).
+ */
+@Configuration
+public class BinaryFormatsConfiguration implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    public BinaryFormatsConfiguration(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Bean
+    public PropertyFormats propertyFormats() {
+        return new PropertyFormats(objectMapper);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        PropertyFormats formats = propertyFormats();
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+            || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(formats.mapper(PropertyFormat.CBOR)));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(formats.mapper(PropertyFormat.SMILE)));
+        converters.add(new ProtobufJacksonHttpMessageConverter(formats, Map.of(
+            PropertyResponse.class, PropertyFormats.PROTO_PROPERTY,
+            PropertyRequest.class, PropertyFormats.PROTO_PROPERTY,
+            PropertyStatusUpdateRequest.class, PropertyFormats.PROTO_STATUS_UPDATE,
+            PropertyBatchGetRequest.class, PropertyFormats.PROTO_ID_LIST,
+            PropertyBatchGetResponse.class, PropertyFormats.PROTO_BATCH_GET
+        )));
+    }
+}
@@ -0,0 +1,23 @@
+package com.apluz.backend.infrastructure.adapter.web.codec;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Enum: Formatos de representación soportados por la API de propiedades
+ */
+public enum PropertyFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(new MediaType("application", "x-jackson-smile")),
+    PROTOBUF(new MediaType("application", "x-protobuf"));
+
+    private final MediaType mediaType;
+
+    PropertyFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,109 @@
+package com.apluz.backend.infrastructure.adapter.web.codec;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registro de formatos: mapper, serializador de listas y esquema Protobuf por formato.
+ * Todos los mappers derivan del ObjectMapper de la aplicación, por lo que comparten su configuración.
+ */
+public class PropertyFormats {
+
+    public static final String PROTO_SCHEMA_LOCATION = "static/proto/property.proto";
+    public static final String PROTO_PROPERTY = "Property";
+    public static final String PROTO_PROPERTY_LIST = "PropertyList";
+    public static final String PROTO_STATUS_UPDATE = "PropertyStatusUpdate";
+    public static final String PROTO_ID_LIST = "PropertyIdList";
+    public static final String PROTO_BATCH_GET = "PropertyBatchGet";
+
+    private static final List<MediaType> SUPPORTED = Arrays.stream(PropertyFormat.values())
+        .map(PropertyFormat::getMediaType)
+        .toList();
+
+    private final Map<PropertyFormat, ObjectMapper> mappers = new EnumMap<>(PropertyFormat.class);
+    private final Map<PropertyFormat, PropertyJsonWriter> writers = new EnumMap<>(PropertyFormat.class);
+    private final ProtobufSchema protobufSchema;
+
+    public PropertyFormats(ObjectMapper objectMapper) {
+        this.protobufSchema = loadProtobufSchema();
+
+        ObjectMapper protobufMapper = objectMapper.copyWith(new ProtobufFactory());
+        protobufMapper.configOverride(BigDecimal.class)
+            .setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.STRING));
+
+        mappers.put(PropertyFormat.JSON, objectMapper);
+        mappers.put(PropertyFormat.CBOR, objectMapper.copyWith(new CBORFactory()));
+        mappers.put(PropertyFormat.SMILE, objectMapper.copyWith(new SmileFactory()));
+        mappers.put(PropertyFormat.PROTOBUF, protobufMapper);
+
+        for (PropertyFormat format : PropertyFormat.values()) {
+            if (format == PropertyFormat.PROTOBUF) {
+                writers.put(format, new PropertyJsonWriter(protobufMapper.getFactory(),
+                    protobufSchema(PROTO_PROPERTY_LIST), "properties", true));
+            } else {
+                writers.put(format, new PropertyJsonWriter(mappers.get(format).getFactory()));
+            }
+        }
+    }
+
+    /**
+     * Elige el formato según la cabecera Accept (calidad y especificidad); JSON si no hay cabecera
+     */
+    public PropertyFormat negotiate(String acceptHeader) throws HttpMediaTypeNotAcceptableException {
+        if (acceptHeader == null || acceptHeader.isBlank()) {
+            return PropertyFormat.JSON;
+        }
+        List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(acceptHeader));
+        // Orden estable: a igual calidad se mantiene el orden por especificidad
+        MimeTypeUtils.sortBySpecificity(accepted);
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : accepted) {
+            for (PropertyFormat format : PropertyFormat.values()) {
+                if (mediaType.includes(format.getMediaType())) {
+                    return format;
+                }
+            }
+        }
+        throw new HttpMediaTypeNotAcceptableException(SUPPORTED);
+    }
+
+    public ObjectMapper mapper(PropertyFormat format) {
+        return mappers.get(format);
+    }
+
+    public PropertyJsonWriter writer(PropertyFormat format) {
+        return writers.get(format);
+    }
+
+    public ProtobufSchema protobufSchema(String rootType) {
+        return protobufSchema.withRootType(rootType);
+    }
+
+    private static ProtobufSchema loadProtobufSchema() {
+        try (InputStream in = new ClassPathResource(PROTO_SCHEMA_LOCATION).getInputStream()) {
+            return ProtobufSchemaLoader.std.load(in, PROTO_PROPERTY);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load protobuf schema " + PROTO_SCHEMA_LOCATION, e);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.apluz.backend.infrastructure.adapter.web.codec;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyField;
+import com.fasterxml.jackson.core.FormatSchema;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+
+/**
+ * Serializador precompilado de propiedades: escribe cada {@link Property} directamente
+ * sobre un {@link JsonGenerator}, sin reflexión ni DTO intermedio.
+ * Produce el mismo JSON que Jackson genera para PropertyResponse; con una factoría
+ * binaria (CBOR, Smile, Protobuf) produce el equivalente en ese formato.
+ */
+public class PropertyJsonWriter {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString TYPE = new SerializedString("type");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString PRICE = new SerializedString("price");
+    private static final SerializedString ADDRESS = new SerializedString("address");
+    private static final SerializedString CITY = new SerializedString("city");
+    private static final SerializedString STATE = new SerializedString("state");
+    private static final SerializedString ZIP_CODE = new SerializedString("zipCode");
+    private static final SerializedString AREA = new SerializedString("area");
+    private static final SerializedString BEDROOMS = new SerializedString("bedrooms");
+    private static final SerializedString BATHROOMS = new SerializedString("bathrooms");
+    private static final SerializedString PARKING_SPACES = new SerializedString("parkingSpaces");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+
+    private final JsonFactory jsonFactory;
+    private final FormatSchema listSchema;
+    private final SerializedString listField;
+    private final boolean decimalsAsText;
+
+    public PropertyJsonWriter(JsonFactory jsonFactory) {
+        this(jsonFactory, null, null, false);
+    }
+
+    /**
+     * @param listSchema     esquema a fijar en el generador (requerido por Protobuf), o null
+     * @param listField      si no es null, la lista se envuelve en un objeto con este campo
+     *                       (los mensajes Protobuf no pueden ser un array en la raíz)
+     * @param decimalsAsText escribe el precio como texto para conservar la escala
+     */
+    public PropertyJsonWriter(JsonFactory jsonFactory, FormatSchema listSchema,
+                              String listField, boolean decimalsAsText) {
+        this.jsonFactory = jsonFactory;
+        this.listSchema = listSchema;
+        this.listField = listField != null ? new SerializedString(listField) : null;
+        this.decimalsAsText = decimalsAsText;
+    }
+
+    /**
+     * Abre un generador sobre el stream; quien llama es responsable de cerrarlo
+     */
+    public JsonGenerator createGenerator(OutputStream out) throws IOException {
+        JsonGenerator gen = jsonFactory.createGenerator(out);
+        if (listSchema != null) {
+            gen.setSchema(listSchema);
+        }
+        return gen;
+    }
+
+    public void writeStartList(JsonGenerator gen) throws IOException {
+        if (listField != null) {
+            gen.writeStartObject();
+            gen.writeFieldName(listField);
+        }
+        gen.writeStartArray();
+    }
+
+    public void writeEndList(JsonGenerator gen) throws IOException {
+        gen.writeEndArray();
+        if (listField != null) {
+            gen.writeEndObject();
+        }
+    }
+
+    public void writeProperty(JsonGenerator gen, Property property) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(ID);
+        writeNumber(gen, property.getId());
+        gen.writeFieldName(TITLE);
+        gen.writeString(property.getTitle());
+        gen.writeFieldName(DESCRIPTION);
+        gen.writeString(property.getDescription());
+        gen.writeFieldName(TYPE);
+        gen.writeString(property.getType() != null ? property.getType().name() : null);
+        gen.writeFieldName(STATUS);
+        gen.writeString(property.getStatus() != null ? property.getStatus().name() : null);
+        gen.writeFieldName(PRICE);
+        writePrice(gen, property);
+        gen.writeFieldName(ADDRESS);
+        gen.writeString(property.getAddress());
+        gen.writeFieldName(CITY);
+        gen.writeString(property.getCity());
+        gen.writeFieldName(STATE);
+        gen.writeString(property.getState());
+        gen.writeFieldName(ZIP_CODE);
+        gen.writeString(property.getZipCode());
+        gen.writeFieldName(AREA);
+        writeNumber(gen, property.getArea());
+        gen.writeFieldName(BEDROOMS);
+        writeNumber(gen, property.getBedrooms());
+        gen.writeFieldName(BATHROOMS);
+        writeNumber(gen, property.getBathrooms());
+        gen.writeFieldName(PARKING_SPACES);
+        writeNumber(gen, property.getParkingSpaces());
+        gen.writeFieldName(CREATED_AT);
+        writeDateTime(gen, property.getCreatedAt());
+        gen.writeFieldName(UPDATED_AT);
+        writeDateTime(gen, property.getUpdatedAt());
+        gen.writeEndObject();
+    }
+
+    /**
+     * Escribe solo los campos pedidos, en orden de iteración de {@code fields}
+     */
+    public void writeProperty(JsonGenerator gen, Property property, Set<PropertyField> fields) throws IOException {
+        if (fields.size() == PropertyField.all().size()) {
+            writeProperty(gen, property);
+            return;
+        }
+        gen.writeStartObject();
+        for (PropertyField field : fields) {
+            switch (field) {
+                case ID -> {
+                    gen.writeFieldName(ID);
+                    writeNumber(gen, property.getId());
+                }
+                case TITLE -> {
+                    gen.writeFieldName(TITLE);
+                    gen.writeString(property.getTitle());
+                }
+                case DESCRIPTION -> {
+                    gen.writeFieldName(DESCRIPTION);
+                    gen.writeString(property.getDescription());
+                }
+                case TYPE -> {
+                    gen.writeFieldName(TYPE);
+                    gen.writeString(property.getType() != null ? property.getType().name() : null);
+                }
+                case STATUS -> {
+                    gen.writeFieldName(STATUS);
+                    gen.writeString(property.getStatus() != null ? property.getStatus().name() : null);
+                }
+                case PRICE -> {
+                    gen.writeFieldName(PRICE);
+                    writePrice(gen, property);
+                }
+                case ADDRESS -> {
+                    gen.writeFieldName(ADDRESS);
+                    gen.writeString(property.getAddress());
+                }
+                case CITY -> {
+                    gen.writeFieldName(CITY);
+                    gen.writeString(property.getCity());
+                }
+                case STATE -> {
+                    gen.writeFieldName(STATE);
+                    gen.writeString(property.getState());
+                }
+                case ZIP_CODE -> {
+                    gen.writeFieldName(ZIP_CODE);
+                    gen.writeString(property.getZipCode());
+                }
+                case AREA -> {
+                    gen.writeFieldName(AREA);
+                    writeNumber(gen, property.getArea());
+                }
+                case BEDROOMS -> {
+                    gen.writeFieldName(BEDROOMS);
+                    writeNumber(gen, property.getBedrooms());
+                }
+                case BATHROOMS -> {
+                    gen.writeFieldName(BATHROOMS);
+                    writeNumber(gen, property.getBathrooms());
+                }
+                case PARKING_SPACES -> {
+                    gen.writeFieldName(PARKING_SPACES);
+                    writeNumber(gen, property.getParkingSpaces());
+                }
+                case CREATED_AT -> {
+                    gen.writeFieldName(CREATED_AT);
+                    writeDateTime(gen, property.getCreatedAt());
+                }
+                case UPDATED_AT -> {
+                    gen.writeFieldName(UPDATED_AT);
+                    writeDateTime(gen, property.getUpdatedAt());
+                }
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    /**
+     * Adaptador para usar el serializador desde callbacks que no admiten IOException
+     */
+    public void writePropertyUnchecked(JsonGenerator gen, Property property) {
+        try {
+            writeProperty(gen, property);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void writePropertyUnchecked(JsonGenerator gen, Property property, Set<PropertyField> fields) {
+        try {
+            writeProperty(gen, property, fields);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writePrice(JsonGenerator gen, Property property) throws IOException {
+        if (decimalsAsText && property.getPrice() != null) {
+            gen.writeString(property.getPrice().toPlainString());
+        } else {
+            gen.writeNumber(property.getPrice());
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, Integer value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, Double value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator gen, LocalDateTime value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        }
+    }
+}
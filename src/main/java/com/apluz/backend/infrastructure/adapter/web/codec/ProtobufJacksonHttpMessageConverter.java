@@ -0,0 +1,53 @@
+package com.apluz.backend.infrastructure.adapter.web.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * Conversor HTTP Protobuf basado en Jackson: asocia cada DTO con su mensaje del esquema publicado.
+ * Solo acepta las clases registradas, ya que Protobuf exige un esquema por tipo raíz.
+ */
+public class ProtobufJacksonHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    private final PropertyFormats formats;
+    private final Map<Class<?>, String> rootTypes;
+
+    public ProtobufJacksonHttpMessageConverter(PropertyFormats formats, Map<Class<?>, String> rootTypes) {
+        super(formats.mapper(PropertyFormat.PROTOBUF), PropertyFormat.PROTOBUF.getMediaType());
+        this.formats = formats;
+        this.rootTypes = rootTypes;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return rootTypes.containsKey(clazz) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return type instanceof Class<?> clazz && canRead(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return rootTypes.containsKey(clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    protected ObjectReader customizeReader(ObjectReader reader, JavaType javaType) {
+        return reader.with(formats.protobufSchema(rootTypes.get(javaType.getRawClass())));
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType contentType) {
+        Class<?> rawClass = javaType != null ? javaType.getRawClass() : null;
+        String rootType = rootTypes.get(rawClass);
+        return rootType != null ? writer.with(formats.protobufSchema(rootType)) : writer;
+    }
+}
@@ -0,0 +1,115 @@
+package com.apluz.backend.infrastructure.adapter.web.dto;
+
+import com.apluz.backend.domain.model.BulkEdit;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO para enviar un trabajo de edición masiva: filtro (city, type, currentStatus) y transformación.
+ * Con PRICE_PERCENT {@code amount} es un porcentaje (-5 = un 5 % menos); con PRICE_AMOUNT, un importe
+ * que se suma al precio; con STATUS se usa {@code status}
+ */
+public class BulkEditJobRequest {
+
+    private String city;
+
+    private PropertyType type;
+
+    private PropertyStatus currentStatus;
+
+    private boolean includeArchived;
+
+    @NotNull(message = "Operation is required")
+    private BulkEdit.Operation operation;
+
+    private BigDecimal amount;
+
+    private PropertyStatus status;
+
+    public BulkEditJobRequest() {
+    }
+
+    public BulkEditJobRequest(String city, PropertyType type, PropertyStatus currentStatus, boolean includeArchived,
+                              BulkEdit.Operation operation, BigDecimal amount, PropertyStatus status) {
+        this.city = city;
+        this.type = type;
+        this.currentStatus = currentStatus;
+        this.includeArchived = includeArchived;
+        this.operation = operation;
+        this.amount = amount;
+        this.status = status;
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "At least one filter (city, type, currentStatus) is required")
+    public boolean isSelectionPresent() {
+        return city != null || type != null || currentStatus != null;
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "Status is required for STATUS and amount for price operations")
+    public boolean isEditComplete() {
+        return operation == null || (operation == BulkEdit.Operation.STATUS ? status != null : amount != null);
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public PropertyType getType() {
+        return type;
+    }
+
+    public void setType(PropertyType type) {
+        this.type = type;
+    }
+
+    public PropertyStatus getCurrentStatus() {
+        return currentStatus;
+    }
+
+    public void setCurrentStatus(PropertyStatus currentStatus) {
+        this.currentStatus = currentStatus;
+    }
+
+    public boolean isIncludeArchived() {
+        return includeArchived;
+    }
+
+    public void setIncludeArchived(boolean includeArchived) {
+        this.includeArchived = includeArchived;
+    }
+
+    public BulkEdit.Operation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(BulkEdit.Operation operation) {
+        this.operation = operation;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public PropertyStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(PropertyStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,186 @@
+package com.apluz.backend.infrastructure.adapter.web.dto;
+
+import com.apluz.backend.domain.model.BulkEdit;
+import com.apluz.backend.domain.model.BulkEditJob;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de respuesta con el estado y el progreso de un trabajo de edición masiva
+ */
+public class BulkEditJobResponse {
+
+    private Long id;
+    private BulkEditJob.Status state;
+    private String city;
+    private PropertyType type;
+    private PropertyStatus currentStatus;
+    private boolean includeArchived;
+    private BulkEdit.Operation operation;
+    private BigDecimal amount;
+    private PropertyStatus status;
+    private int totalChunks;
+    private int completedChunks;
+    private long updatedRows;
+    private long skippedRows;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public BulkEditJobResponse() {
+    }
+
+    public BulkEditJobResponse(Long id, BulkEditJob.Status state, String city, PropertyType type,
+                               PropertyStatus currentStatus, boolean includeArchived, BulkEdit.Operation operation,
+                               BigDecimal amount, PropertyStatus status, int totalChunks, int completedChunks,
+                               long updatedRows, long skippedRows, String error, LocalDateTime createdAt,
+                               LocalDateTime updatedAt) {
+        this.id = id;
+        this.state = state;
+        this.city = city;
+        this.type = type;
+        this.currentStatus = currentStatus;
+        this.includeArchived = includeArchived;
+        this.operation = operation;
+        this.amount = amount;
+        this.status = status;
+        this.totalChunks = totalChunks;
+        this.completedChunks = completedChunks;
+        this.updatedRows = updatedRows;
+        this.skippedRows = skippedRows;
+        this.error = error;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public BulkEditJob.Status getState() {
+        return state;
+    }
+
+    public void setState(BulkEditJob.Status state) {
+        this.state = state;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public PropertyType getType() {
+        return type;
+    }
+
+    public void setType(PropertyType type) {
+        this.type = type;
+    }
+
+    public PropertyStatus getCurrentStatus() {
+        return currentStatus;
+    }
+
+    public void setCurrentStatus(PropertyStatus currentStatus) {
+        this.currentStatus = currentStatus;
+    }
+
+    public boolean isIncludeArchived() {
+        return includeArchived;
+    }
+
+    public void setIncludeArchived(boolean includeArchived) {
+        this.includeArchived = includeArchived;
+    }
+
+    public BulkEdit.Operation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(BulkEdit.Operation operation) {
+        this.operation = operation;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public PropertyStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(PropertyStatus status) {
+        this.status = status;
+    }
+
+    public int getTotalChunks() {
+        return totalChunks;
+    }
+
+    public void setTotalChunks(int totalChunks) {
+        this.totalChunks = totalChunks;
+    }
+
+    public int getCompletedChunks() {
+        return completedChunks;
+    }
+
+    public void setCompletedChunks(int completedChunks) {
+        this.completedChunks = completedChunks;
+    }
+
+    public long getUpdatedRows() {
+        return updatedRows;
+    }
+
+    public void setUpdatedRows(long updatedRows) {
+        this.updatedRows = updatedRows;
+    }
+
+    public long getSkippedRows() {
+        return skippedRows;
+    }
+
+    public void setSkippedRows(long skippedRows) {
+        this.skippedRows = skippedRows;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,108 @@
+package com.apluz.backend.infrastructure.adapter.web.dto;
+
+import com.apluz.backend.domain.model.PriceBucket;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO de respuesta para un bucket compactado (diario o mensual) del histórico de precios
+ */
+public class PriceBucketResponse {
+
+    private Long propertyId;
+    private String city;
+    private PriceBucket.Granularity granularity;
+    private LocalDate bucketStart;
+    private BigDecimal openPrice;
+    private BigDecimal closePrice;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private int changes;
+
+    public PriceBucketResponse() {
+    }
+
+    public PriceBucketResponse(Long propertyId, String city, PriceBucket.Granularity granularity, LocalDate bucketStart, BigDecimal openPrice, BigDecimal closePrice, BigDecimal minPrice, BigDecimal maxPrice, int changes) {
+        this.propertyId = propertyId;
+        this.city = city;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.openPrice = openPrice;
+        this.closePrice = closePrice;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.changes = changes;
+    }
+
+    public Long getPropertyId() {
+        return propertyId;
+    }
+
+    public void setPropertyId(Long propertyId) {
+        this.propertyId = propertyId;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public PriceBucket.Granularity getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(PriceBucket.Granularity granularity) {
+        this.granularity = granularity;
+    }
+
+    public LocalDate getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDate bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public BigDecimal getOpenPrice() {
+        return openPrice;
+    }
+
+    public void setOpenPrice(BigDecimal openPrice) {
+        this.openPrice = openPrice;
+    }
+
+    public BigDecimal getClosePrice() {
+        return closePrice;
+    }
+
+    public void setClosePrice(BigDecimal closePrice) {
+        this.closePrice = closePrice;
+    }
+
+    public BigDecimal getMinPrice() {
+        return minPrice;
+    }
+
+    public void setMinPrice(BigDecimal minPrice) {
+        this.minPrice = minPrice;
+    }
+
+    public BigDecimal getMaxPrice() {
+        return maxPrice;
+    }
+
+    public void setMaxPrice(BigDecimal maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
+    public int getChanges() {
+        return changes;
+    }
+
+    public void setChanges(int changes) {
+        this.changes = changes;
+    }
+}
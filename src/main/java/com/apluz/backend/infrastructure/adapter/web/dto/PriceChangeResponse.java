@@ -0,0 +1,67 @@
+package com.apluz.backend.infrastructure.adapter.web.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de respuesta para un cambio de precio del histórico
+ */
+public class PriceChangeResponse {
+
+    private Long propertyId;
+    private String city;
+    private BigDecimal oldPrice;
+    private BigDecimal newPrice;
+    private LocalDateTime changedAt;
+
+    public PriceChangeResponse() {
+    }
+
+    public PriceChangeResponse(Long propertyId, String city, BigDecimal oldPrice, BigDecimal newPrice, LocalDateTime changedAt) {
+        this.propertyId = propertyId;
+        this.city = city;
+        this.oldPrice = oldPrice;
+        this.newPrice = newPrice;
+        this.changedAt = changedAt;
+    }
+
+    public Long getPropertyId() {
+        return propertyId;
+    }
+
+    public void setPropertyId(Long propertyId) {
+        this.propertyId = propertyId;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public BigDecimal getOldPrice() {
+        return oldPrice;
+    }
+
+    public void setOldPrice(BigDecimal oldPrice) {
+        this.oldPrice = oldPrice;
+    }
+
+    public BigDecimal getNewPrice() {
+        return newPrice;
+    }
+
+    public void setNewPrice(BigDecimal newPrice) {
+        this.newPrice = newPrice;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
@@ -0,0 +1,36 @@
+package com.apluz.backend.infrastructure.adapter.web.dto;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta para el histórico de precios: cambios en detalle y buckets compactados
+ */
+public class PriceHistoryResponse {
+
+    private List<PriceChangeResponse> changes;
+    private List<PriceBucketResponse> buckets;
+
+    public PriceHistoryResponse() {
+    }
+
+    public PriceHistoryResponse(List<PriceChangeResponse> changes, List<PriceBucketResponse> buckets) {
+        this.changes = changes;
+        this.buckets = buckets;
+    }
+
+    public List<PriceChangeResponse> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<PriceChangeResponse> changes) {
+        this.changes = changes;
+    }
+
+    public List<PriceBucketResponse> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<PriceBucketResponse> buckets) {
+        this.buckets = buckets;
+    }
+}
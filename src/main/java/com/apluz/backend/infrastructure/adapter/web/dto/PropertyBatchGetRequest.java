@@ -0,0 +1,34 @@
+package com.apluz.backend.infrastructure.adapter.web.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO para obtener varias propiedades por id en una sola petición
+ */
+public class PropertyBatchGetRequest {
+
+    public static final int MAX_IDS = 500;
+
+    @NotEmpty(message = "At least one id is required")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " ids per request")
+    private List<@NotNull Long> ids;
+
+    public PropertyBatchGetRequest() {
+    }
+
+    public PropertyBatchGetRequest(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,36 @@
+package com.apluz.backend.infrastructure.adapter.web.dto;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta de la obtención múltiple: propiedades en el orden pedido e ids no encontrados
+ */
+public class PropertyBatchGetResponse {
+
+    private List<PropertyResponse> properties;
+    private List<Long> missingIds;
+
+    public PropertyBatchGetResponse() {
+    }
+
+    public PropertyBatchGetResponse(List<PropertyResponse> properties, List<Long> missingIds) {
+        this.properties = properties;
+        this.missingIds = missingIds;
+    }
+
+    public List<PropertyResponse> getProperties() {
+        return properties;
+    }
+
+    public void setProperties(List<PropertyResponse> properties) {
+        this.properties = properties;
+    }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<Long> missingIds) {
+        this.missingIds = missingIds;
+    }
+}
@@ -0,0 +1,88 @@
+package com.apluz.backend.infrastructure.adapter.web.dto;
+
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO para cambiar el estado de muchas propiedades a la vez, seleccionadas por ids y/o filtro
+ */
+public class PropertyBulkStatusRequest {
+
+    public static final int MAX_IDS = 10_000;
+
+    @Size(min = 1, max = MAX_IDS, message = "Between 1 and " + MAX_IDS + " ids per request")
+    private List<@NotNull Long> ids;
+
+    private String city;
+
+    private PropertyType type;
+
+    private PropertyStatus currentStatus;
+
+    @NotNull(message = "Status is required")
+    private PropertyStatus status;
+
+    public PropertyBulkStatusRequest() {
+    }
+
+    public PropertyBulkStatusRequest(List<Long> ids, String city, PropertyType type,
+                                     PropertyStatus currentStatus, PropertyStatus status) {
+        this.ids = ids;
+        this.city = city;
+        this.type = type;
+        this.currentStatus = currentStatus;
+        this.status = status;
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "Either ids or at least one filter (city, type, currentStatus) is required")
+    public boolean isSelectionPresent() {
+        return ids != null || city != null || type != null || currentStatus != null;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public PropertyType getType() {
+        return type;
+    }
+
+    public void setType(PropertyType type) {
+        this.type = type;
+    }
+
+    public PropertyStatus getCurrentStatus() {
+        return currentStatus;
+    }
+
+    public void setCurrentStatus(PropertyStatus currentStatus) {
+        this.currentStatus = currentStatus;
+    }
+
+    public PropertyStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(PropertyStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,36 @@
+package com.apluz.backend.infrastructure.adapter.web.dto;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta para un grupo de propiedades casi duplicadas
+ */
+public class PropertyDuplicateClusterResponse {
+
+    private List<Long> propertyIds;
+    private int size;
+
+    public PropertyDuplicateClusterResponse() {
+    }
+
+    public PropertyDuplicateClusterResponse(List<Long> propertyIds) {
+        this.propertyIds = propertyIds;
+        this.size = propertyIds.size();
+    }
+
+    public List<Long> getPropertyIds() {
+        return propertyIds;
+    }
+
+    public void setPropertyIds(List<Long> propertyIds) {
+        this.propertyIds = propertyIds;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,54 @@
+package com.apluz.backend.infrastructure.adapter.web.dto;
+
+import com.apluz.backend.domain.model.PropertyStatus;
+
+/**
+ * DTO de acuse de un cambio de estado en modo write-behind
+ */
+public class PropertyStatusAckResponse {
+
+    /**
+     * ACCEPTED: encolado, se persistirá en el próximo lote. PERSISTED: ya escrito en la base de datos.
+     */
+    public enum Durability {
+        ACCEPTED,
+        PERSISTED
+    }
+
+    private Long id;
+    private PropertyStatus status;
+    private Durability durability;
+
+    public PropertyStatusAckResponse() {
+    }
+
+    public PropertyStatusAckResponse(Long id, PropertyStatus status, Durability durability) {
+        this.id = id;
+        this.status = status;
+        this.durability = durability;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public PropertyStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(PropertyStatus status) {
+        this.status = status;
+    }
+
+    public Durability getDurability() {
+        return durability;
+    }
+
+    public void setDurability(Durability durability) {
+        this.durability = durability;
+    }
+}
@@ -0,0 +1,46 @@
+package com.apluz.backend.infrastructure.adapter.web.dto;
+
+import com.apluz.backend.application.suggest.PropertySuggestionIndex.Suggestion;
+
+/**
+ * DTO de respuesta para una sugerencia de autocompletado
+ */
+public class PropertySuggestionResponse {
+
+    private String text;
+    private Suggestion.Kind kind;
+    private int count;
+
+    public PropertySuggestionResponse() {
+    }
+
+    public PropertySuggestionResponse(String text, Suggestion.Kind kind, int count) {
+        this.text = text;
+        this.kind = kind;
+        this.count = count;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public Suggestion.Kind getKind() {
+        return kind;
+    }
+
+    public void setKind(Suggestion.Kind kind) {
+        this.kind = kind;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,83 @@
+package com.apluz.backend.infrastructure.adapter.web.hotkeys;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Count-min sketch sin bloqueos: {@value #DEPTH} filas de contadores atómicos. La estimación de una clave
+ * es el mínimo de sus contadores, así que nunca se queda corta y solo se pasa por colisiones.
+ * Los contadores de una clave caen en el mismo bloque de 64 bytes (una fila en cada cuarto del bloque),
+ * de modo que un incremento toca una sola línea de caché.
+ * El envejecimiento divide todos los contadores entre dos; los incrementos concurrentes con él pueden
+ * perderse, lo que es aceptable para una estimación.
+ */
+final class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int BLOCK_INTS = 16;
+    private static final int SLOTS_PER_ROW = BLOCK_INTS / DEPTH;
+
+    private final AtomicIntegerArray counters;
+    private final int blockMask;
+
+    /**
+     * @param width contadores por fila (se redondea a potencia de dos)
+     */
+    FrequencySketch(int width) {
+        int blocks = Integer.highestOneBit(Math.max(SLOTS_PER_ROW, width - 1) << 1) / SLOTS_PER_ROW;
+        this.blockMask = blocks - 1;
+        this.counters = new AtomicIntegerArray(blocks * BLOCK_INTS);
+    }
+
+    /**
+     * Suma uno a la clave y devuelve su nueva estimación
+     */
+    int increment(Object key) {
+        long hash = spread(key.hashCode());
+        int block = block(hash);
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(block, hash, row)));
+        }
+        return estimate;
+    }
+
+    int estimate(Object key) {
+        long hash = spread(key.hashCode());
+        int block = block(hash);
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.get(index(block, hash, row)));
+        }
+        return estimate;
+    }
+
+    void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >>> 1);
+        }
+    }
+
+    void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    private int block(long hash) {
+        return (int) (hash >>> 32) & blockMask;
+    }
+
+    /**
+     * Cada fila usa su cuarto del bloque y elige uno de sus contadores con bits distintos del hash
+     */
+    private static int index(int block, long hash, int row) {
+        int slot = (int) (hash >>> (8 * row)) & (SLOTS_PER_ROW - 1);
+        return block * BLOCK_INTS + row * SLOTS_PER_ROW + slot;
+    }
+
+    private static long spread(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,119 @@
+package com.apluz.backend.infrastructure.adapter.web.hotkeys;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Claves más frecuentes (top-K) sobre un {@link FrequencySketch}. Registrar una visita solo toca contadores
+ * atómicos y una lectura volátil; el bloqueo se toma únicamente cuando una clave supera el umbral de entrada
+ * (la menos frecuente del top) y hay que cambiar los miembros. Por encima de {@value #EAGER_ADMISSION_COUNT}
+ * visitas la pertenencia solo se comprueba cada {@value #ADMISSION_STRIDE}, para que las claves más calientes
+ * no consulten el mapa en cada petición. Cada {@code halfLife} las frecuencias se dividen entre dos, para que
+ * el top refleje el tráfico reciente; el vencimiento se comprueba en una de cada
+ * {@value #DECAY_CHECK_INTERVAL} visitas para no leer el reloj en cada una.
+ */
+public final class HeavyHitters<K> {
+
+    private static final int EAGER_ADMISSION_COUNT = 64;
+    private static final int ADMISSION_STRIDE = 16;
+    private static final int DECAY_CHECK_INTERVAL = 256;
+
+    /**
+     * Clave y su frecuencia estimada (con envejecimiento)
+     */
+    public record HotKey<K>(K key, long count) {
+    }
+
+    private final FrequencySketch sketch;
+    private final int capacity;
+    private final long halfLifeNanos;
+    private final AtomicLong nextDecayNanos;
+    private final Map<K, Boolean> members = new ConcurrentHashMap<>();
+    private volatile long admissionThreshold;
+
+    public HeavyHitters(int sketchWidth, int capacity, Duration halfLife) {
+        this.sketch = new FrequencySketch(sketchWidth);
+        this.capacity = capacity;
+        this.halfLifeNanos = halfLife.toNanos();
+        this.nextDecayNanos = new AtomicLong(System.nanoTime() + halfLifeNanos);
+    }
+
+    public void record(K key) {
+        if (ThreadLocalRandom.current().nextInt(DECAY_CHECK_INTERVAL) == 0) {
+            decayIfDue();
+        }
+        int estimate = sketch.increment(key);
+        if (estimate > admissionThreshold
+                && (estimate <= EAGER_ADMISSION_COUNT || estimate % ADMISSION_STRIDE == 0)
+                && !members.containsKey(key)) {
+            admit(key);
+        }
+    }
+
+    public boolean isHot(K key) {
+        return members.containsKey(key);
+    }
+
+    public long estimate(K key) {
+        return sketch.estimate(key);
+    }
+
+    /**
+     * Miembros del top, del más al menos frecuente
+     */
+    public List<HotKey<K>> top() {
+        return members.keySet().stream()
+            .map(key -> new HotKey<>(key, sketch.estimate(key)))
+            .sorted(Comparator.comparingLong((HotKey<K> hotKey) -> hotKey.count()).reversed())
+            .toList();
+    }
+
+    public synchronized void reset() {
+        sketch.clear();
+        members.clear();
+        admissionThreshold = 0;
+    }
+
+    private void decayIfDue() {
+        long now = System.nanoTime();
+        long nextDecay = nextDecayNanos.get();
+        if (now - nextDecay >= 0 && nextDecayNanos.compareAndSet(nextDecay, now + halfLifeNanos)) {
+            decay();
+        }
+    }
+
+    synchronized void decay() {
+        sketch.halve();
+        admissionThreshold >>>= 1;
+    }
+
+    private synchronized void admit(K key) {
+        if (members.containsKey(key)) {
+            return;
+        }
+        members.put(key, Boolean.TRUE);
+        if (members.size() <= capacity) {
+            return;
+        }
+        K weakest = null;
+        long weakestCount = Long.MAX_VALUE;
+        long secondWeakestCount = Long.MAX_VALUE;
+        for (K member : members.keySet()) {
+            long count = sketch.estimate(member);
+            if (count < weakestCount) {
+                secondWeakestCount = weakestCount;
+                weakest = member;
+                weakestCount = count;
+            } else if (count < secondWeakestCount) {
+                secondWeakestCount = count;
+            }
+        }
+        members.remove(weakest);
+        admissionThreshold = secondWeakestCount;
+    }
+}
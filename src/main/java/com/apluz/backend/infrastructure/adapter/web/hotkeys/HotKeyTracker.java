@@ -0,0 +1,91 @@
+package com.apluz.backend.infrastructure.adapter.web.hotkeys;
+
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Frecuencia de acceso de las claves calientes del API: propiedades leídas por id y filtros de lista.
+ * Lo alimenta el controlador en cada petición; lo consultan las cachés para fijar entradas calientes y
+ * se publica en {@code /actuator/hotkeys}
+ */
+@Component
+public class HotKeyTracker {
+
+    private static final int PROPERTY_SKETCH_WIDTH = 16_384;
+    private static final int LIST_SKETCH_WIDTH = 1_024;
+
+    public record HotProperty(Long id, long count) {
+    }
+
+    public record HotListQuery(String city, PropertyType type, PropertyStatus status, boolean includeArchived,
+                               long count) {
+    }
+
+    public record Report(List<HotProperty> properties, List<HotListQuery> listQueries) {
+    }
+
+    private final boolean enabled;
+    private final HeavyHitters<Long> properties;
+    private final HeavyHitters<PropertyFilter> listFilters;
+
+    public HotKeyTracker(@Value("${apluz.hot-keys.enabled:true}") boolean enabled,
+                         @Value("${apluz.hot-keys.top-k:50}") int topK,
+                         @Value("${apluz.hot-keys.half-life:PT10M}") Duration halfLife) {
+        this.enabled = enabled;
+        this.properties = new HeavyHitters<>(PROPERTY_SKETCH_WIDTH, topK, halfLife);
+        this.listFilters = new HeavyHitters<>(LIST_SKETCH_WIDTH, topK, halfLife);
+    }
+
+    public void recordPropertyRead(Long id) {
+        if (enabled) {
+            properties.record(id);
+        }
+    }
+
+    public void recordListQuery(PropertyFilter filter) {
+        if (enabled) {
+            listFilters.record(filter);
+        }
+    }
+
+    public boolean isHotProperty(Long id) {
+        return enabled && properties.isHot(id);
+    }
+
+    public boolean isHotListQuery(PropertyFilter filter) {
+        return enabled && listFilters.isHot(filter);
+    }
+
+    /**
+     * Frecuencia estimada de un filtro de lista, para decisiones de admisión
+     */
+    public long estimateListQuery(PropertyFilter filter) {
+        return enabled ? listFilters.estimate(filter) : 0;
+    }
+
+    public Report report() {
+        return new Report(
+            properties.top().stream().map(hot -> new HotProperty(hot.key(), hot.count())).toList(),
+            listFilters.top().stream()
+                .map(hot -> new HotListQuery(hot.key().city(), hot.key().type(), hot.key().status(),
+                    hot.key().includeArchived(), hot.count()))
+                .toList());
+    }
+
+    /**
+     * También al arrancar, cuando ya terminó el calentamiento: sus peticiones no son tráfico real
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reset() {
+        properties.reset();
+        listFilters.reset();
+    }
+}
@@ -0,0 +1,31 @@
+package com.apluz.backend.infrastructure.adapter.web.hotkeys;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Endpoint de administración {@code /actuator/hotkeys}: GET devuelve las propiedades y los filtros de
+ * lista más pedidos, DELETE reinicia los contadores
+ */
+@Component
+@Endpoint(id = "hotkeys")
+public class HotKeysEndpoint {
+
+    private final HotKeyTracker hotKeyTracker;
+
+    public HotKeysEndpoint(HotKeyTracker hotKeyTracker) {
+        this.hotKeyTracker = hotKeyTracker;
+    }
+
+    @ReadOperation
+    public HotKeyTracker.Report report() {
+        return hotKeyTracker.report();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        hotKeyTracker.reset();
+    }
+}
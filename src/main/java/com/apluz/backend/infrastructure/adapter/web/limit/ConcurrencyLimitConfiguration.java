@@ -0,0 +1,37 @@
+package com.apluz.backend.infrastructure.adapter.web.limit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registra el limitador de concurrencia adaptativo delante de {@code /api/*}
+ */
+@Configuration
+@ConditionalOnProperty(name = "apluz.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfiguration {
+
+    @Bean
+    public GradientConcurrencyLimiter gradientConcurrencyLimiter(
+            @Value("${apluz.concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${apluz.concurrency-limit.min-limit:2}") int minLimit,
+            @Value("${apluz.concurrency-limit.max-limit:200}") int maxLimit) {
+        return new GradientConcurrencyLimiter(initialLimit, minLimit, maxLimit);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            GradientConcurrencyLimiter limiter,
+            MeterRegistry meterRegistry,
+            @Value("${apluz.concurrency-limit.retry-after-seconds:1}") long retryAfterSeconds) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+            new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limiter, retryAfterSeconds, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
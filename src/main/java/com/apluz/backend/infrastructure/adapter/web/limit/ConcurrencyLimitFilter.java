@@ -0,0 +1,93 @@
+package com.apluz.backend.infrastructure.adapter.web.limit;
+
+import com.apluz.backend.infrastructure.adapter.web.limit.GradientConcurrencyLimiter.Priority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Aplica {@link GradientConcurrencyLimiter} a la API: si no hay hueco para la prioridad de la
+ * petición se responde al instante con 503 y {@code Retry-After} en lugar de encolarla en el pool.
+ * Publica el límite, las peticiones en curso y los rechazos como métricas.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * Rutas que recorren o modifican una parte grande del catálogo ("MÉTODO ruta"); el resto se clasifica
+     * por método. Una ruta nueva de este tipo hay que añadirla aquí
+     */
+    static final Set<String> HEAVY_ROUTES = Set.of(
+        "POST /api/properties/bulk-status",
+        "POST /api/properties/bulk-jobs",
+        "GET /api/properties/duplicates");
+
+    private final GradientConcurrencyLimiter limiter;
+    private final long retryAfterSeconds;
+    private final Map<Priority, Counter> rejected = new EnumMap<>(Priority.class);
+
+    public ConcurrencyLimitFilter(GradientConcurrencyLimiter limiter, long retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = retryAfterSeconds;
+        Gauge.builder("apluz.concurrency.limit", limiter, GradientConcurrencyLimiter::getLimit)
+            .description("Current adaptive concurrency limit")
+            .register(meterRegistry);
+        Gauge.builder("apluz.concurrency.in-flight", limiter, GradientConcurrencyLimiter::getInFlight)
+            .description("Requests currently holding a concurrency slot")
+            .register(meterRegistry);
+        for (Priority priority : Priority.values()) {
+            rejected.put(priority, Counter.builder("apluz.concurrency.rejected")
+                .description("Requests shed because the concurrency limit was reached")
+                .tag("priority", priority.name().toLowerCase())
+                .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Priority priority = classify(request);
+        if (!limiter.tryAcquire(priority)) {
+            rejected.get(priority).increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            chain.doFilter(request, response);
+            completed = true;
+        } finally {
+            limiter.release(System.nanoTime() - start, completed && response.getStatus() < 500);
+        }
+    }
+
+    /**
+     * Lecturas (incluido batch-get) con prioridad máxima; las rutas de {@link #HEAVY_ROUTES} con la mínima
+     */
+    static Priority classify(HttpServletRequest request) {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        if (HEAVY_ROUTES.contains(method + " " + uri)) {
+            return Priority.BULK;
+        }
+        if (HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || uri.endsWith("/batch-get")) {
+            return Priority.READ;
+        }
+        return Priority.WRITE;
+    }
+}
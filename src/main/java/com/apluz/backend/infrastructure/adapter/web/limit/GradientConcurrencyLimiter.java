@@ -0,0 +1,119 @@
+package com.apluz.backend.infrastructure.adapter.web.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limitador de concurrencia adaptativo de tipo gradiente: compara la latencia reciente con la
+ * latencia de referencia a largo plazo y ajusta el número de peticiones simultáneas permitidas.
+ * Si la latencia sube (la base de datos se satura) el límite baja; si vuelve a la normalidad, sube.
+ * Cada prioridad solo puede ocupar una fracción del límite, así que las operaciones masivas
+ * se rechazan antes que las lecturas.
+ */
+public class GradientConcurrencyLimiter {
+
+    /**
+     * Prioridad de una petición: fracción del límite que puede ocupar
+     */
+    public enum Priority {
+        READ(1.0),
+        WRITE(0.9),
+        BULK(0.5);
+
+        private final double share;
+
+        Priority(double share) {
+            this.share = share;
+        }
+
+        public double getShare() {
+            return share;
+        }
+    }
+
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final int SHORT_WINDOW = 10;
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double shortRttNanos;
+    private double longRttNanos;
+    private long samples;
+
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Reserva un hueco si la prioridad aún cabe en el límite actual; debe liberarse con {@link #release}
+     */
+    public boolean tryAcquire(Priority priority) {
+        int allowed = Math.max(1, (int) (limit * priority.getShare()));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera el hueco y, si la petición terminó con normalidad, usa su latencia para ajustar el límite
+     *
+     * @param sample false para peticiones cuya latencia no es representativa (errores, fallos rápidos)
+     */
+    public void release(long rttNanos, boolean sample) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (sample && rttNanos > 0) {
+            onSample(rttNanos, inFlightAtCompletion);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        samples++;
+        if (samples == 1) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) / SHORT_WINDOW;
+        longRttNanos += (shortRttNanos - longRttNanos) / Math.min(samples, LONG_WINDOW);
+
+        // Si la latencia baja mucho respecto a la referencia, la referencia se corrige hacia abajo
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // Con poca carga la latencia no informa sobre la capacidad: no se hace crecer el límite
+        if (inFlightAtCompletion < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, RTT_TOLERANCE * longRttNanos / shortRttNanos));
+        double queueSize = Math.sqrt(limit);
+        double newLimit = limit * gradient + queueSize;
+        newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
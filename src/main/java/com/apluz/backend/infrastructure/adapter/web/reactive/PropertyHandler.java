@@ -0,0 +1,294 @@
+package com.apluz.backend.infrastructure.adapter.web.reactive;
+
+import com.apluz.backend.application.service.PropertyService;
+import com.apluz.backend.application.service.ReactivePropertyService;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.infrastructure.adapter.web.codec.PropertyFormat;
+import com.apluz.backend.infrastructure.adapter.web.codec.PropertyFormats;
+import com.apluz.backend.infrastructure.adapter.web.codec.PropertyJsonWriter;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyBatchGetRequest;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyBatchGetResponse;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyBulkStatusRequest;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyRequest;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyResponse;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyStatusUpdateRequest;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Handlers de las rutas funcionales de la pila reactiva; mismo contrato HTTP que
+ * {@link com.apluz.backend.infrastructure.adapter.web.PropertyController}. Los listados se escriben
+ * elemento a elemento a medida que llegan de R2DBC, así que el ritmo lo marca el cliente.
+ * Formatos: JSON (array) y NDJSON ({@code Accept: application/x-ndjson}).
+ */
+public class PropertyHandler {
+
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    private static final String TOTAL_COUNT_MODE_HEADER = "X-Total-Count-Mode";
+
+    private final ReactivePropertyService propertyService;
+    private final PropertyJsonWriter jsonWriter;
+    private final Validator validator;
+
+    public PropertyHandler(ReactivePropertyService propertyService, PropertyFormats propertyFormats, Validator validator) {
+        this.propertyService = propertyService;
+        this.jsonWriter = propertyFormats.writer(PropertyFormat.JSON);
+        this.validator = validator;
+    }
+
+    public Mono<ServerResponse> create(ServerRequest request) {
+        return validBody(request, PropertyRequest.class)
+            .flatMap(body -> propertyService.createProperty(mapToEntity(body)))
+            .flatMap(created -> ServerResponse.status(HttpStatus.CREATED).bodyValue(mapToResponse(created)));
+    }
+
+    public Mono<ServerResponse> get(ServerRequest request) {
+        return propertyService.getPropertyById(pathId(request))
+            .flatMap(property -> ServerResponse.ok().bodyValue(mapToResponse(property)))
+            .switchIfEmpty(ServerResponse.notFound().build());
+    }
+
+    /**
+     * Mismos parámetros que el listado servlet (city, type, status, includeArchived, fields, count).
+     * El total siempre es exacto: R2DBC no usa la estimación del planificador
+     */
+    public Mono<ServerResponse> list(ServerRequest request) {
+        PropertyFilter filter = listFilter(request);
+        Set<PropertyField> fields = parseFields(request.queryParam("fields").orElse(null));
+        boolean ndjson = request.headers().accept().stream()
+            .anyMatch(mediaType -> mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON) && !mediaType.isWildcardType());
+
+        Flux<DataBuffer> body = ndjson
+            ? propertyService.streamProperties(filter, fields).map(property -> encode("", property, fields, "\n"))
+            : Flux.concat(
+                Mono.fromSupplier(() -> wrap("[")),
+                propertyService.streamProperties(filter, fields)
+                    .index()
+                    .map(indexed -> encode(indexed.getT1() == 0 ? "" : ",", indexed.getT2(), fields, "")),
+                Mono.fromSupplier(() -> wrap("]")));
+
+        ServerResponse.BodyBuilder response = ServerResponse.ok()
+            .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.VARY, "Accept");
+        String count = request.queryParam("count").orElse(null);
+        if (count == null) {
+            return response.body(BodyInserters.fromDataBuffers(body));
+        }
+        if (!count.equalsIgnoreCase("exact") && !count.equalsIgnoreCase("estimated")) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Unknown count mode '" + count + "'. Allowed: exact, estimated"));
+        }
+        return propertyService.countProperties(filter).flatMap(total -> response
+            .header(TOTAL_COUNT_HEADER, Long.toString(total.total()))
+            .header(TOTAL_COUNT_MODE_HEADER, total.exact() ? "exact" : "estimated")
+            .body(BodyInserters.fromDataBuffers(body)));
+    }
+
+    public Mono<ServerResponse> batchGet(ServerRequest request) {
+        return validBody(request, PropertyBatchGetRequest.class).flatMap(body ->
+            propertyService.getPropertiesByIds(body.getIds()).flatMap(properties -> {
+                Set<Long> foundIds = new HashSet<>();
+                properties.forEach(property -> foundIds.add(property.getId()));
+                List<Long> missingIds = body.getIds().stream()
+                    .distinct()
+                    .filter(id -> !foundIds.contains(id))
+                    .toList();
+                List<PropertyResponse> found = properties.stream().map(this::mapToResponse).toList();
+                return ServerResponse.ok().bodyValue(new PropertyBatchGetResponse(found, missingIds));
+            }));
+    }
+
+    public Mono<ServerResponse> update(ServerRequest request) {
+        Long id = pathId(request);
+        return validBody(request, PropertyRequest.class)
+            .flatMap(body -> propertyService.updateProperty(id, mapToEntity(body)))
+            .flatMap(updated -> ServerResponse.ok().bodyValue(mapToResponse(updated)))
+            .onErrorResume(PropertyService.PropertyNotFoundException.class, e -> ServerResponse.notFound().build());
+    }
+
+    /**
+     * Sin write-behind: el cambio se persiste antes de responder
+     */
+    public Mono<ServerResponse> updateStatus(ServerRequest request) {
+        Long id = pathId(request);
+        return validBody(request, PropertyStatusUpdateRequest.class)
+            .flatMap(body -> propertyService.updatePropertyStatus(id, body.getStatus()))
+            .flatMap(updated -> ServerResponse.ok().bodyValue(mapToResponse(updated)))
+            .onErrorResume(PropertyService.PropertyNotFoundException.class, e -> ServerResponse.notFound().build());
+    }
+
+    /**
+     * Escribe {@code {"status":..., "updatedIds":[...], "count":n}} con los ids a medida que se actualizan
+     */
+    public Mono<ServerResponse> bulkStatus(ServerRequest request) {
+        return validBody(request, PropertyBulkStatusRequest.class).flatMap(body -> {
+            PropertyFilter filter = new PropertyFilter(body.getCity(), body.getType(), body.getCurrentStatus(), true);
+            if (body.getIds() == null && filter.isUnfiltered()) {
+                // Se comprueba antes de escribir la cabecera: con la respuesta ya en curso no cabe un 400
+                return ServerResponse.badRequest().bodyValue(
+                    Map.of("message", "Bulk status transition requires ids or at least one filter criterion"));
+            }
+            AtomicLong count = new AtomicLong();
+            Flux<DataBuffer> ids = propertyService.transitionPropertyStatus(filter, body.getIds(), body.getStatus())
+                .map(property -> wrap((count.getAndIncrement() == 0 ? "" : ",") + property.getId()));
+            Flux<DataBuffer> response = Flux.concat(
+                Mono.fromSupplier(() -> wrap("{\"status\":\"" + body.getStatus().name() + "\",\"updatedIds\":[")),
+                ids,
+                Mono.fromSupplier(() -> wrap("],\"count\":" + count.get() + "}")));
+            return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).body(BodyInserters.fromDataBuffers(response));
+        });
+    }
+
+    public Mono<ServerResponse> delete(ServerRequest request) {
+        return propertyService.deleteProperty(pathId(request))
+            .then(ServerResponse.noContent().build())
+            .onErrorResume(PropertyService.PropertyNotFoundException.class, e -> ServerResponse.notFound().build());
+    }
+
+    private <T> Mono<T> validBody(ServerRequest request, Class<T> type) {
+        return request.bodyToMono(type)
+            .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Request body is required")))
+            .handle((body, sink) -> {
+                Set<ConstraintViolation<T>> violations = validator.validate(body);
+                if (violations.isEmpty()) {
+                    sink.next(body);
+                } else {
+                    sink.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; "))));
+                }
+            });
+    }
+
+    private static Long pathId(ServerRequest request) {
+        try {
+            return Long.valueOf(request.pathVariable("id"));
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid property id '" + request.pathVariable("id") + "'");
+        }
+    }
+
+    /**
+     * Igual que el listado servlet: ciudad, tipo o estado (el primero presente), más includeArchived
+     */
+    private static PropertyFilter listFilter(ServerRequest request) {
+        String city = request.queryParam("city").orElse(null);
+        PropertyType type = request.queryParam("type").map(value -> parseEnum(PropertyType.class, "type", value)).orElse(null);
+        PropertyStatus status = request.queryParam("status").map(value -> parseEnum(PropertyStatus.class, "status", value)).orElse(null);
+        boolean includeArchived = request.queryParam("includeArchived").map(Boolean::parseBoolean).orElse(false);
+
+        PropertyFilter filter;
+        if (city != null) {
+            filter = PropertyFilter.byCity(city);
+        } else if (type != null) {
+            filter = PropertyFilter.byType(type);
+        } else if (status != null) {
+            filter = PropertyFilter.byStatus(status);
+        } else {
+            filter = PropertyFilter.all();
+        }
+        return filter.withArchived(includeArchived);
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String name, String value) {
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid " + name + " '" + value + "'");
+        }
+    }
+
+    private static Set<PropertyField> parseFields(String fields) {
+        try {
+            return PropertyField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private DataBuffer encode(String prefix, Property property, Set<PropertyField> fields, String suffix) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        try {
+            out.write(prefix.getBytes(StandardCharsets.UTF_8));
+            try (JsonGenerator gen = jsonWriter.createGenerator(out)) {
+                jsonWriter.writeProperty(gen, property, fields);
+            }
+            out.write(suffix.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return DefaultDataBufferFactory.sharedInstance.wrap(out.toByteArray());
+    }
+
+    private static DataBuffer wrap(String text) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Mappers
+    private Property mapToEntity(PropertyRequest request) {
+        Property property = new Property();
+        property.setTitle(request.getTitle());
+        property.setDescription(request.getDescription());
+        property.setType(request.getType());
+        property.setStatus(request.getStatus());
+        property.setPrice(request.getPrice());
+        property.setAddress(request.getAddress());
+        property.setCity(request.getCity());
+        property.setState(request.getState());
+        property.setZipCode(request.getZipCode());
+        property.setArea(request.getArea());
+        property.setBedrooms(request.getBedrooms());
+        property.setBathrooms(request.getBathrooms());
+        property.setParkingSpaces(request.getParkingSpaces());
+        return property;
+    }
+
+    private PropertyResponse mapToResponse(Property property) {
+        return new PropertyResponse(
+            property.getId(),
+            property.getTitle(),
+            property.getDescription(),
+            property.getType(),
+            property.getStatus(),
+            property.getPrice(),
+            property.getAddress(),
+            property.getCity(),
+            property.getState(),
+            property.getZipCode(),
+            property.getArea(),
+            property.getBedrooms(),
+            property.getBathrooms(),
+            property.getParkingSpaces(),
+            property.getCreatedAt(),
+            property.getUpdatedAt()
+        );
+    }
+}
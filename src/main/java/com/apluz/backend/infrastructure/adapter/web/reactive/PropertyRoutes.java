@@ -0,0 +1,64 @@
+package com.apluz.backend.infrastructure.adapter.web.reactive;
+
+import com.apluz.backend.application.service.ReactivePropertyService;
+import com.apluz.backend.infrastructure.adapter.web.codec.PropertyFormats;
+import jakarta.validation.Validator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.util.List;
+
+/**
+ * Rutas funcionales WebFlux de /api/properties para el perfil {@code reactive}
+ */
+@Configuration
+@Profile("reactive")
+public class PropertyRoutes {
+
+    @Bean
+    public PropertyHandler propertyHandler(ReactivePropertyService propertyService, PropertyFormats propertyFormats,
+                                           Validator validator) {
+        return new PropertyHandler(propertyService, propertyFormats, validator);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> propertyRouterFunction(PropertyHandler handler) {
+        return routes(handler);
+    }
+
+    /**
+     * Mismos CORS que el controlador servlet
+     */
+    @Bean
+    public CorsWebFilter propertyCorsFilter() {
+        CorsConfiguration cors = new CorsConfiguration();
+        cors.addAllowedOrigin("*");
+        cors.addAllowedMethod("*");
+        cors.addAllowedHeader("*");
+        cors.setExposedHeaders(List.of("X-Total-Count", "X-Total-Count-Mode"));
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/api/properties/**", cors);
+        return new CorsWebFilter(source);
+    }
+
+    static RouterFunction<ServerResponse> routes(PropertyHandler handler) {
+        return RouterFunctions.route()
+            .path("/api/properties", builder -> builder
+                .GET("", handler::list)
+                .POST("", handler::create)
+                .POST("/batch-get", handler::batchGet)
+                .POST("/bulk-status", handler::bulkStatus)
+                .GET("/{id}", handler::get)
+                .PUT("/{id}", handler::update)
+                .PATCH("/{id}/status", handler::updateStatus)
+                .DELETE("/{id}", handler::delete))
+            .build();
+    }
+}
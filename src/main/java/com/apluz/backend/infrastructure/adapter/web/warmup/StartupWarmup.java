@@ -0,0 +1,422 @@
+package com.apluz.backend.infrastructure.adapter.web.warmup;
+
+import com.apluz.backend.infrastructure.adapter.web.hotkeys.HotKeyTracker;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.ssl.SslBundle;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.boot.web.server.Ssl;
+import org.springframework.boot.web.server.WebServerSslBundle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fase de calentamiento al arrancar. Se ejecuta como {@link ApplicationRunner}, antes de que Spring
+ * publique la disponibilidad ACCEPTING_TRAFFIC, así que {@code /actuator/health/readiness} no da la
+ * instancia por lista hasta que termina. Abre las conexiones del pool y repite contra el propio servidor
+ * las peticiones más frecuentes de la ejecución anterior: las claves calientes de {@link HotKeyTracker}
+ * se guardan en {@code hot-keys-file} al parar y aquí se leen (listas filtradas y detalle de las propiedades
+ * más leídas), más las ciudades de {@code apluz.warmup.cities}. Así se llenan las cachés con lo que de verdad
+ * se pide y se compilan en caliente los caminos de serialización. Nunca se pide la lista sin filtro.
+ * Las peticiones van a la dirección y el esquema en los que escucha el servidor (con TLS, confiando solo
+ * en su propio certificado) y bajo su context path.
+ */
+@Component
+@ConditionalOnProperty(name = "apluz.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private final DataSource dataSource;
+    private final Environment environment;
+    private final ServerProperties serverProperties;
+    private final SslBundles sslBundles;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final HotKeyTracker hotKeyTracker;
+    private final int iterations;
+    private final int detailRequests;
+    private final long maxDurationMs;
+    private final List<String> cities;
+    private final Path hotKeysFile;
+    private volatile WarmupReport report;
+
+    public StartupWarmup(
+            DataSource dataSource,
+            Environment environment,
+            ServerProperties serverProperties,
+            SslBundles sslBundles,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            HotKeyTracker hotKeyTracker,
+            @Value("${apluz.warmup.iterations:50}") int iterations,
+            @Value("${apluz.warmup.detail-requests:20}") int detailRequests,
+            @Value("${apluz.warmup.max-duration-ms:30000}") long maxDurationMs,
+            @Value("${apluz.warmup.cities:}") List<String> cities,
+            @Value("${apluz.warmup.hot-keys-file:}") String hotKeysFile) {
+        this.dataSource = dataSource;
+        this.environment = environment;
+        this.serverProperties = serverProperties;
+        this.sslBundles = sslBundles;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.hotKeyTracker = hotKeyTracker;
+        this.iterations = iterations;
+        this.detailRequests = detailRequests;
+        this.maxDurationMs = maxDurationMs;
+        this.cities = cities;
+        this.hotKeysFile = hotKeysFile.isBlank() ? null : Path.of(hotKeysFile);
+    }
+
+    /**
+     * Resultado del calentamiento, también publicado como métricas
+     */
+    public record WarmupReport(int connections, int requests, int failedRequests,
+                               long firstIterationMs, long lastIterationMs, long durationMs) {
+    }
+
+    public WarmupReport getReport() {
+        return report;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        int connections = openPoolConnections();
+
+        String port = environment.getProperty("local.server.port");
+        WarmupReport report = port != null
+            ? exerciseEndpoints(Integer.parseInt(port), connections, start)
+            : new WarmupReport(connections, 0, 0, 0, 0, elapsedMs(start));
+
+        Timer.builder("apluz.warmup.duration")
+            .description("Time spent warming up before accepting traffic")
+            .register(meterRegistry)
+            .record(report.durationMs(), TimeUnit.MILLISECONDS);
+        this.report = report;
+        Gauge.builder("apluz.warmup.connections", this, w -> w.report.connections()).register(meterRegistry);
+        Gauge.builder("apluz.warmup.requests", this, w -> w.report.requests()).register(meterRegistry);
+        Gauge.builder("apluz.warmup.iteration.latency", this, w -> w.report.firstIterationMs())
+            .tag("iteration", "first").baseUnit("milliseconds").register(meterRegistry);
+        Gauge.builder("apluz.warmup.iteration.latency", this, w -> w.report.lastIterationMs())
+            .tag("iteration", "last").baseUnit("milliseconds").register(meterRegistry);
+
+        log.info("Warm-up finished in {} ms: {} pool connections open, {} requests ({} failed), "
+                + "iteration latency {} ms -> {} ms",
+            report.durationMs(), report.connections(), report.requests(), report.failedRequests(),
+            report.firstIterationMs(), report.lastIterationMs());
+    }
+
+    /**
+     * Abre a la vez tantas conexiones como admite el pool y las devuelve, para no pagar el
+     * establecimiento de conexiones (TLS, autenticación) con las primeras peticiones
+     */
+    int openPoolConnections() {
+        int target = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 1;
+        List<Connection> opened = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                Connection connection = dataSource.getConnection();
+                opened.add(connection);
+                connection.isValid(1);
+            }
+        } catch (SQLException e) {
+            log.warn("Warm-up could only open {} of {} pool connections: {}", opened.size(), target, e.getMessage());
+        } finally {
+            for (Connection connection : opened) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.debug("Failed to return warm-up connection to the pool", e);
+                }
+            }
+        }
+        return opened.size();
+    }
+
+    /**
+     * Guarda las claves calientes de esta ejecución para que el próximo arranque caliente lo mismo
+     */
+    @PreDestroy
+    public void saveHotKeys() {
+        if (hotKeysFile == null) {
+            return;
+        }
+        try {
+            Path parent = hotKeysFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempFile(parent, hotKeysFile.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(tmp.toFile(), hotKeyTracker.report());
+            Files.move(tmp, hotKeysFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not save hot keys for the next warm-up to {}: {}", hotKeysFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Claves calientes guardadas por la ejecución anterior; vacío si no hay fichero o no se puede leer
+     */
+    HotKeyTracker.Report loadHotKeys() {
+        if (hotKeysFile == null || !Files.isRegularFile(hotKeysFile)) {
+            return new HotKeyTracker.Report(List.of(), List.of());
+        }
+        try {
+            return objectMapper.readValue(hotKeysFile.toFile(), HotKeyTracker.Report.class);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable warm-up hot keys file {}: {}", hotKeysFile, e.getMessage());
+            return new HotKeyTracker.Report(List.of(), List.of());
+        }
+    }
+
+    /**
+     * Listas filtradas a repetir: las calientes de la ejecución anterior (salvo la lista sin filtro, que no
+     * está acotada) y las ciudades configuradas, sin repetir
+     */
+    static List<String> listPaths(HotKeyTracker.Report hotKeys, List<String> cities) {
+        Set<String> paths = new LinkedHashSet<>();
+        for (HotKeyTracker.HotListQuery query : hotKeys.listQueries()) {
+            String params = query.city() != null ? "city=" + encode(query.city())
+                : query.type() != null ? "type=" + query.type()
+                : query.status() != null ? "status=" + query.status()
+                : null;
+            if (params != null) {
+                paths.add("/api/properties?" + params + (query.includeArchived() ? "&includeArchived=true" : ""));
+            }
+        }
+        for (String city : cities) {
+            if (!city.isBlank()) {
+                paths.add("/api/properties?city=" + encode(city.trim()));
+            }
+        }
+        return new ArrayList<>(paths);
+    }
+
+    /**
+     * URL base del propio servidor: https si tiene TLS, la dirección a la que está ligado (loopback si escucha
+     * en todas) y el context path, servlet o WebFlux
+     */
+    static String baseUrl(ServerProperties server, int port, String contextPath) {
+        InetAddress bound = server.getAddress();
+        InetAddress target = bound == null || bound.isAnyLocalAddress() ? InetAddress.getLoopbackAddress() : bound;
+        String host = target instanceof Inet6Address
+            ? "[" + target.getHostAddress().replace("%", "%25") + "]"
+            : target.getHostAddress();
+        String path = contextPath == null ? "" : contextPath.replaceAll("/+$", "");
+        return (Ssl.isEnabled(server.getSsl()) ? "https" : "http") + "://" + host + ":" + port + path;
+    }
+
+    /**
+     * Contexto TLS que solo acepta los certificados del almacén de claves del servidor. Al fijar el certificado
+     * no hace falta comprobar el nombre de host: la dirección a la que se conecta no tiene por qué estar en él
+     */
+    static SSLContext ownCertificateContext(SslBundle bundle) throws GeneralSecurityException {
+        KeyStore keyStore = bundle.getStores().getKeyStore();
+        Set<Certificate> own = new HashSet<>();
+        for (String alias : Collections.list(keyStore.aliases())) {
+            Certificate certificate = keyStore.getCertificate(alias);
+            if (certificate != null) {
+                own.add(certificate);
+            }
+        }
+        SSLContext context = SSLContext.getInstance("TLS");
+        context.init(null, new TrustManager[]{new OwnCertificateTrustManager(own)}, null);
+        return context;
+    }
+
+    private WarmupReport exerciseEndpoints(int port, int connections, long start) {
+        HttpClient.Builder clientBuilder = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2));
+        Ssl ssl = serverProperties.getSsl();
+        if (Ssl.isEnabled(ssl)) {
+            try {
+                clientBuilder.sslContext(ownCertificateContext(WebServerSslBundle.get(ssl, sslBundles)));
+            } catch (GeneralSecurityException | RuntimeException e) {
+                log.warn("Warm-up requests skipped, could not trust the server's own certificate: {}", e.getMessage());
+                return new WarmupReport(connections, 0, 0, 0, 0, elapsedMs(start));
+            }
+        }
+        HttpClient client = clientBuilder.build();
+        String baseUrl = baseUrl(serverProperties, port, environment.getProperty("spring.webflux.base-path",
+            Objects.toString(serverProperties.getServlet().getContextPath(), "")));
+        HotKeyTracker.Report hotKeys = loadHotKeys();
+        List<String> listPaths = listPaths(hotKeys, cities);
+        List<String> paths = new ArrayList<>(listPaths);
+        paths.addAll(detailPaths(client, baseUrl, hotKeys, listPaths));
+
+        int requests = 0;
+        int failed = 0;
+        long firstIterationMs = 0;
+        long lastIterationMs = 0;
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxDurationMs);
+        for (int i = 0; i < iterations && System.nanoTime() < deadline; i++) {
+            long iterationStart = System.nanoTime();
+            for (String path : paths) {
+                requests++;
+                if (get(client, baseUrl + path) == null) {
+                    failed++;
+                }
+            }
+            lastIterationMs = elapsedMs(iterationStart);
+            if (i == 0) {
+                firstIterationMs = lastIterationMs;
+            }
+        }
+        return new WarmupReport(connections, requests, failed, firstIterationMs, lastIterationMs, elapsedMs(start));
+    }
+
+    /**
+     * Detalle de hasta {@code detail-requests} propiedades: primero las más leídas en la ejecución anterior
+     * y, si faltan, las primeras de las listas que se van a calentar
+     */
+    private List<String> detailPaths(HttpClient client, String baseUrl, HotKeyTracker.Report hotKeys,
+                                     List<String> listPaths) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (HotKeyTracker.HotProperty property : hotKeys.properties()) {
+            if (ids.size() >= detailRequests) {
+                break;
+            }
+            ids.add(property.id());
+        }
+        for (String listPath : listPaths) {
+            if (ids.size() >= detailRequests) {
+                break;
+            }
+            String body = get(client, baseUrl + listPath + "&fields=id");
+            if (body == null) {
+                continue;
+            }
+            try {
+                for (JsonNode node : objectMapper.readTree(body)) {
+                    if (ids.size() >= detailRequests) {
+                        break;
+                    }
+                    ids.add(node.path("id").asLong());
+                }
+            } catch (IOException e) {
+                log.debug("Could not read property ids for warm-up", e);
+            }
+        }
+        return ids.stream().map(id -> "/api/properties/" + id).toList();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private String get(HttpClient client, String url) {
+        try {
+            HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(5)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() < 400 ? response.body() : null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Solo para conexiones de servidor: acepta la cadena cuyo certificado final es uno de los propios
+     */
+    private static final class OwnCertificateTrustManager extends X509ExtendedTrustManager {
+
+        private final Set<Certificate> own;
+
+        private OwnCertificateTrustManager(Set<Certificate> own) {
+            this.own = own;
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+            if (chain == null || chain.length == 0 || !own.contains(chain[0])) {
+                throw new CertificateException("Not this server's own certificate");
+            }
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket)
+                throws CertificateException {
+            checkServerTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+                throws CertificateException {
+            checkServerTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+            throw new CertificateException("Client certificates are not trusted");
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket)
+                throws CertificateException {
+            checkClientTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+                throws CertificateException {
+            checkClientTrusted(chain, authType);
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
@@ -0,0 +1,5 @@
+-- Migración: índice sobre updated_at para la exportación columnar incremental (ver schema.sql)
+-- Ejecutar una sola vez, después de partition-properties-by-status.sql si la base de datos se migró con él:
+--   psql -U postgres -d apluz_db -f src/main/resources/db/add-properties-updated-at-index.sql
+
+CREATE INDEX IF NOT EXISTS idx_properties_updated_at ON properties(updated_at);
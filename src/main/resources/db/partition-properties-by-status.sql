@@ -0,0 +1,57 @@
+-- Migración: convierte una tabla properties sin particionar en la versión particionada por estado de schema.sql
+-- Ejecutar una sola vez, con la aplicación parada:
+--   psql -U postgres -d apluz_db -f src/main/resources/db/partition-properties-by-status.sql
+
+BEGIN;
+
+ALTER TABLE properties RENAME TO properties_legacy;
+ALTER TABLE properties_legacy RENAME CONSTRAINT properties_pkey TO properties_legacy_pkey;
+ALTER SEQUENCE properties_id_seq OWNED BY NONE;
+
+DROP INDEX IF EXISTS idx_properties_city;
+DROP INDEX IF EXISTS idx_properties_type;
+DROP INDEX IF EXISTS idx_properties_status;
+DROP INDEX IF EXISTS idx_properties_price;
+DROP INDEX IF EXISTS idx_properties_created_at;
+
+CREATE TABLE properties (
+    id BIGINT NOT NULL DEFAULT nextval('properties_id_seq'),
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    type VARCHAR(50) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    price DECIMAL(15, 2) NOT NULL,
+    address VARCHAR(500) NOT NULL,
+    city VARCHAR(100) NOT NULL,
+    state VARCHAR(100),
+    zip_code VARCHAR(20),
+    area DOUBLE PRECISION NOT NULL,
+    bedrooms INTEGER NOT NULL,
+    bathrooms INTEGER NOT NULL,
+    parking_spaces INTEGER DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, status)
+) PARTITION BY LIST (status);
+
+CREATE TABLE properties_active PARTITION OF properties
+    FOR VALUES IN ('AVAILABLE', 'RESERVED');
+
+CREATE TABLE properties_archive PARTITION OF properties
+    FOR VALUES IN ('SOLD', 'RENTED', 'INACTIVE');
+
+INSERT INTO properties SELECT * FROM properties_legacy;
+
+ALTER SEQUENCE properties_id_seq OWNED BY properties.id;
+
+CREATE INDEX idx_properties_city ON properties(city);
+CREATE INDEX idx_properties_type ON properties(type);
+CREATE INDEX idx_properties_status ON properties(status);
+CREATE INDEX idx_properties_price ON properties(price);
+CREATE INDEX idx_properties_created_at ON properties(created_at);
+
+DROP TABLE properties_legacy;
+
+COMMIT;
+
+ANALYZE properties;
@@ -0,0 +1,82 @@
+-- Schema SQL para H2 (perfil test, desarrollo local y los tests con @Sql)
+-- Equivalente sin particionado de schema.sql: el filtrado de estados archivados se hace solo con WHERE
+
+CREATE TABLE IF NOT EXISTS properties (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    type VARCHAR(50) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    price DECIMAL(15, 2) NOT NULL,
+    address VARCHAR(500) NOT NULL,
+    city VARCHAR(100) NOT NULL,
+    state VARCHAR(100),
+    zip_code VARCHAR(20),
+    area DOUBLE NOT NULL,
+    bedrooms INTEGER NOT NULL,
+    bathrooms INTEGER NOT NULL,
+    parking_spaces INTEGER DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Ids globales del repositorio particionado (en PostgreSQL es la secuencia del BIGSERIAL)
+CREATE SEQUENCE IF NOT EXISTS properties_id_seq;
+
+
+-- Histórico de precios (en PostgreSQL el índice de tiempo es BRIN)
+CREATE TABLE IF NOT EXISTS property_price_history (
+    property_id BIGINT NOT NULL,
+    city VARCHAR(100) NOT NULL,
+    old_price DECIMAL(15, 2),
+    new_price DECIMAL(15, 2) NOT NULL,
+    changed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_price_history_changed_at ON property_price_history(changed_at);
+CREATE INDEX IF NOT EXISTS idx_price_history_property ON property_price_history(property_id, changed_at);
+
+CREATE TABLE IF NOT EXISTS property_price_rollup (
+    property_id BIGINT NOT NULL,
+    city VARCHAR(100) NOT NULL,
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start DATE NOT NULL,
+    open_price DECIMAL(15, 2) NOT NULL,
+    close_price DECIMAL(15, 2) NOT NULL,
+    min_price DECIMAL(15, 2) NOT NULL,
+    max_price DECIMAL(15, 2) NOT NULL,
+    changes INTEGER NOT NULL,
+    PRIMARY KEY (property_id, granularity, bucket_start)
+);
+
+CREATE INDEX IF NOT EXISTS idx_price_rollup_city ON property_price_rollup(city, bucket_start);
+
+-- Trabajos de edición masiva y sus lotes
+CREATE TABLE IF NOT EXISTS bulk_edit_jobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    filter_city VARCHAR(100),
+    filter_type VARCHAR(50),
+    filter_status VARCHAR(50),
+    include_archived BOOLEAN NOT NULL,
+    operation VARCHAR(20) NOT NULL,
+    amount DECIMAL(15, 4),
+    target_status VARCHAR(50),
+    status VARCHAR(20) NOT NULL,
+    total_chunks INTEGER NOT NULL,
+    completed_chunks INTEGER NOT NULL DEFAULT 0,
+    updated_rows BIGINT NOT NULL DEFAULT 0,
+    skipped_rows BIGINT NOT NULL DEFAULT 0,
+    error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_bulk_edit_jobs_status ON bulk_edit_jobs(status);
+
+CREATE TABLE IF NOT EXISTS bulk_edit_job_chunks (
+    job_id BIGINT NOT NULL REFERENCES bulk_edit_jobs(id) ON DELETE CASCADE,
+    chunk_index INTEGER NOT NULL,
+    property_ids CLOB NOT NULL,
+    done BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (job_id, chunk_index)
+);
@@ -1,8 +1,16 @@
 -- Schema SQL para PostgreSQL
--- Tabla de propiedades
+-- Tabla de propiedades, particionada por estado:
+--   properties_active  -> AVAILABLE, RESERVED (lo que se lista por defecto)
+--   properties_archive -> SOLD, RENTED, INACTIVE (histórico)
+-- Un cambio de estado mueve la fila de partición automáticamente.
+-- La clave primaria debe incluir la columna de partición, así que la base de datos ya no impide dos filas con el
+-- mismo id y distinto estado. La unicidad depende de que los ids salgan siempre de properties_id_seq: la aplicación
+-- nunca inserta un id explícito (salvo el traslado entre shards, que borra el original) y un cambio de estado es
+-- un UPDATE que mueve la fila, no un INSERT. Las cargas manuales no deben fijar id.
+-- Para migrar una tabla existente sin particionar ver db/partition-properties-by-status.sql
 
 CREATE TABLE IF NOT EXISTS properties (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGSERIAL,
     title VARCHAR(255) NOT NULL,
     description TEXT,
     type VARCHAR(50) NOT NULL,
@@ -17,13 +25,81 @@ CREATE TABLE IF NOT EXISTS properties (
     bathrooms INTEGER NOT NULL,
     parking_spaces INTEGER DEFAULT 0,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
-);
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, status)
+) PARTITION BY LIST (status);
+
+CREATE TABLE IF NOT EXISTS properties_active PARTITION OF properties
+    FOR VALUES IN ('AVAILABLE', 'RESERVED');
 
--- Índices para optimizar búsquedas
+CREATE TABLE IF NOT EXISTS properties_archive PARTITION OF properties
+    FOR VALUES IN ('SOLD', 'RENTED', 'INACTIVE');
+
+-- Índices para optimizar búsquedas (se crean en cada partición)
 CREATE INDEX IF NOT EXISTS idx_properties_city ON properties(city);
 CREATE INDEX IF NOT EXISTS idx_properties_type ON properties(type);
 CREATE INDEX IF NOT EXISTS idx_properties_status ON properties(status);
 CREATE INDEX IF NOT EXISTS idx_properties_price ON properties(price);
 CREATE INDEX IF NOT EXISTS idx_properties_created_at ON properties(created_at);
+-- Exportación columnar incremental: filas con updated_at posterior a la última marca
+CREATE INDEX IF NOT EXISTS idx_properties_updated_at ON properties(updated_at);
 
+-- Histórico de precios: append-only, se escribe en la misma transacción que el cambio de precio.
+-- Las filas llegan en orden de changed_at, así que un índice BRIN (unos pocos KB) basta para rangos de tiempo.
+CREATE TABLE IF NOT EXISTS property_price_history (
+    property_id BIGINT NOT NULL,
+    city VARCHAR(100) NOT NULL,
+    old_price DECIMAL(15, 2),
+    new_price DECIMAL(15, 2) NOT NULL,
+    changed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_price_history_changed_at ON property_price_history USING BRIN (changed_at);
+CREATE INDEX IF NOT EXISTS idx_price_history_property ON property_price_history(property_id, changed_at);
+
+-- Buckets compactados (DAY, MONTH) del histórico antiguo
+CREATE TABLE IF NOT EXISTS property_price_rollup (
+    property_id BIGINT NOT NULL,
+    city VARCHAR(100) NOT NULL,
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start DATE NOT NULL,
+    open_price DECIMAL(15, 2) NOT NULL,
+    close_price DECIMAL(15, 2) NOT NULL,
+    min_price DECIMAL(15, 2) NOT NULL,
+    max_price DECIMAL(15, 2) NOT NULL,
+    changes INTEGER NOT NULL,
+    PRIMARY KEY (property_id, granularity, bucket_start)
+);
+
+CREATE INDEX IF NOT EXISTS idx_price_rollup_city ON property_price_rollup(city, bucket_start);
+
+-- Trabajos de edición masiva (POST /api/properties/bulk-jobs). Cada lote guarda sus ids y se marca
+-- como hecho en la misma transacción que sus cambios, de modo que un trabajo se reanuda sin repetir lotes.
+CREATE TABLE IF NOT EXISTS bulk_edit_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    filter_city VARCHAR(100),
+    filter_type VARCHAR(50),
+    filter_status VARCHAR(50),
+    include_archived BOOLEAN NOT NULL,
+    operation VARCHAR(20) NOT NULL,
+    amount DECIMAL(15, 4),
+    target_status VARCHAR(50),
+    status VARCHAR(20) NOT NULL,
+    total_chunks INTEGER NOT NULL,
+    completed_chunks INTEGER NOT NULL DEFAULT 0,
+    updated_rows BIGINT NOT NULL DEFAULT 0,
+    skipped_rows BIGINT NOT NULL DEFAULT 0,
+    error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_bulk_edit_jobs_status ON bulk_edit_jobs(status);
+
+CREATE TABLE IF NOT EXISTS bulk_edit_job_chunks (
+    job_id BIGINT NOT NULL REFERENCES bulk_edit_jobs(id) ON DELETE CASCADE,
+    chunk_index INTEGER NOT NULL,
+    property_ids TEXT NOT NULL,
+    done BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (job_id, chunk_index)
+);
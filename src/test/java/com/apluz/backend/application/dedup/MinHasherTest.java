@@ -0,0 +1,73 @@
+package com.apluz.backend.application.dedup;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para MinHasher
+ */
+class MinHasherTest {
+
+    private final MinHasher minHasher = new MinHasher(42L);
+
+    @Test
+    void testNormalizationIgnoresAccentsCaseAndPunctuation() {
+        // Act & Assert
+        assertEquals("atico en cordoba 3 b", MinHasher.normalize("  Ático en CÓRDOBA, 3-B! "));
+        assertEquals("", MinHasher.normalize(null));
+    }
+
+    @Test
+    void testSmallEditsKeepHighSimilarity() {
+        // Arrange
+        Property original = property("Piso luminoso con terraza en el centro", "Calle Mayor 12, 3B", "Madrid");
+        Property reposted = property("PISO LUMINOSO con terraza en el céntro!!", "Calle Mayor, 12 - 3B", "madrid");
+        Property edited = property("Piso luminoso con gran terraza en el centro", "Calle Mayor 12, 3B", "Madrid");
+        Property other = property("Chalet adosado con piscina", "Avenida del Mar 5", "Valencia");
+
+        // Act
+        int[] signature = minHasher.signature(original);
+
+        // Assert
+        assertEquals(1.0, MinHasher.similarity(signature, minHasher.signature(reposted)));
+        assertTrue(MinHasher.similarity(signature, minHasher.signature(edited)) >= 0.8);
+        assertTrue(MinHasher.similarity(signature, minHasher.signature(other)) < 0.3);
+    }
+
+    @Test
+    void testNumericAttributesLowerSimilarity() {
+        // Arrange
+        Property original = property("Piso luminoso con terraza en el centro", "Calle Mayor 12, 3B", "Madrid");
+        Property bigger = property("Piso luminoso con terraza en el centro", "Calle Mayor 12, 3B", "Madrid");
+        bigger.setBedrooms(5);
+        bigger.setArea(180.0);
+        bigger.setPrice(new BigDecimal("480000"));
+
+        // Act & Assert
+        assertTrue(MinHasher.similarity(minHasher.signature(original), minHasher.signature(bigger)) < 1.0);
+    }
+
+    @Test
+    void testPropertyWithoutTextHasNoSignature() {
+        // Act & Assert
+        assertNull(minHasher.signature(new Property()));
+    }
+
+    static Property property(String title, String address, String city) {
+        Property property = new Property();
+        property.setTitle(title);
+        property.setAddress(address);
+        property.setCity(city);
+        property.setType(PropertyType.APARTMENT);
+        property.setPrice(new BigDecimal("250000"));
+        property.setArea(90.0);
+        property.setBedrooms(3);
+        property.setBathrooms(2);
+        return property;
+    }
+}
@@ -0,0 +1,95 @@
+package com.apluz.backend.application.dedup;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.domain.port.PropertyRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmark: latencia de {@link PropertyDuplicateIndex#findCandidates} con LSH frente a comparar la firma
+ * con todo el catálogo, y tiempo del agrupado completo. Se ejecuta con {@code mvn test -Pbenchmark}
+ */
+@Tag("benchmark")
+class PropertyDuplicateIndexBenchmarkTest {
+
+    private static final int CATALOGUE = 50_000;
+    private static final int QUERIES = 2_000;
+    private static final String[] CITIES = {"Madrid", "Barcelona", "Córdoba", "Sevilla", "Valencia"};
+    private static final String[] KINDS = {"Piso", "Ático", "Chalet", "Estudio", "Dúplex"};
+    private static final String[] FEATURES = {"con terraza", "reformado", "con piscina", "junto al metro", "luminoso",
+        "exterior", "con garaje", "para entrar a vivir", "con vistas", "céntrico", "amueblado"};
+    private static final String[] STREETS = {"Calle Mayor", "Calle Alcalá", "Avenida de la Constitución", "Calle Sierpes",
+        "Paseo de Gracia", "Calle Colón", "Gran Vía", "Calle Larios", "Ronda de Triana", "Calle del Carmen",
+        "Avenida del Puerto", "Calle San Fernando", "Plaza Nueva", "Calle Real", "Camino de Ronda"};
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void compareWithBruteForce() {
+        List<Property> catalogue = new ArrayList<>();
+        for (int i = 0; i < CATALOGUE; i++) {
+            catalogue.add(property((long) i, i));
+        }
+        PropertyRepository repository = mock(PropertyRepository.class);
+        doAnswer(invocation -> {
+            catalogue.forEach(invocation.<Consumer<Property>>getArgument(2));
+            return null;
+        }).when(repository).forEach(any(), any(), any(Consumer.class));
+        PropertyDuplicateIndex index = new PropertyDuplicateIndex(repository, 0.8);
+
+        long start = System.nanoTime();
+        index.rebuild();
+        System.out.printf("%n%-28s %10d ms%n", "rebuild " + CATALOGUE, (System.nanoTime() - start) / 1_000_000);
+
+        MinHasher minHasher = new MinHasher(7L);
+        List<int[]> signatures = catalogue.stream().map(minHasher::signature).toList();
+        int found = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            found += index.findCandidates(property(null, i * 13), 10).size();
+        }
+        System.out.printf("%-28s %10d us%n", "findCandidates (lsh)", (System.nanoTime() - start) / 1_000 / QUERIES);
+
+        start = System.nanoTime();
+        for (int i = 0; i < QUERIES / 20; i++) {
+            int[] signature = minHasher.signature(property(null, i * 13));
+            signatures.forEach(other -> MinHasher.similarity(signature, other));
+        }
+        System.out.printf("%-28s %10d us%n", "findCandidates (brute)", (System.nanoTime() - start) / 1_000 / (QUERIES / 20));
+
+        start = System.nanoTime();
+        int clusters = index.clusters().size();
+        System.out.printf("%-28s %10d ms (%d clusters)%n", "clusters", (System.nanoTime() - start) / 1_000_000, clusters);
+        assertFalse(found == 0);
+    }
+
+    /**
+     * Cada 10 propiedades hay una que repite el anuncio de la anterior con la dirección reescrita
+     */
+    private static Property property(Long id, int i) {
+        int base = i % 10 == 9 ? i - 1 : i;
+        String street = STREETS[(base / 7) % STREETS.length] + " " + (1 + base % 97);
+        Property property = MinHasherTest.property(KINDS[base % KINDS.length] + " " + FEATURES[(base / 5) % FEATURES.length]
+            + " " + FEATURES[(base / 25) % FEATURES.length], i % 10 == 9 ? street.replace("Calle", "C/") + ", bajo" : street,
+            CITIES[(base / 3) % CITIES.length]);
+        property.setId(id);
+        property.setStatus(PropertyStatus.AVAILABLE);
+        property.setType(PropertyType.values()[base % PropertyType.values().length]);
+        property.setPrice(BigDecimal.valueOf(80_000 + (base * 7919L) % 600_000));
+        property.setArea(40.0 + (base * 31) % 260);
+        property.setBedrooms(1 + base % 5);
+        property.setBathrooms(1 + base % 3);
+        return property;
+    }
+}
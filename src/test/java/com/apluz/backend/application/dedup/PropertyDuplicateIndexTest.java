@@ -0,0 +1,106 @@
+package com.apluz.backend.application.dedup;
+
+import com.apluz.backend.application.dedup.PropertyDuplicateIndex.DuplicateCandidate;
+import com.apluz.backend.application.dedup.PropertyDuplicateIndex.DuplicateCluster;
+import com.apluz.backend.domain.event.PropertyChangedEvent;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.port.PropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Tests unitarios para PropertyDuplicateIndex
+ */
+@ExtendWith(MockitoExtension.class)
+class PropertyDuplicateIndexTest {
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    private PropertyDuplicateIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        index = new PropertyDuplicateIndex(propertyRepository, 0.8);
+        doAnswer(invocation -> {
+            Consumer<Property> action = invocation.getArgument(2);
+            action.accept(property(1L, "Piso luminoso con terraza en el centro", "Calle Mayor 12, 3B", "Madrid",
+                PropertyStatus.AVAILABLE));
+            action.accept(property(2L, "Piso luminoso con gran terraza en el centro", "Calle Mayor, 12 - 3B", "Madrid",
+                PropertyStatus.RESERVED));
+            action.accept(property(3L, "Chalet adosado con piscina", "Avenida del Mar 5", "Valencia",
+                PropertyStatus.AVAILABLE));
+            action.accept(property(4L, "Chalet adosado con piscina", "Avenida del Mar 5", "Valencia",
+                PropertyStatus.SOLD));
+            return null;
+        }).when(propertyRepository).forEach(any(), any(), any(Consumer.class));
+        index.rebuild();
+    }
+
+    @Test
+    void testFindCandidatesForRepost() {
+        // Arrange
+        Property repost = property(10L, "PISO LUMINOSO con terraza en el céntro!!", "Calle Mayor 12 3B", "madrid",
+            PropertyStatus.AVAILABLE);
+
+        // Act
+        List<DuplicateCandidate> candidates = index.findCandidates(repost, 10);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), candidates.stream().map(DuplicateCandidate::propertyId).toList());
+        assertEquals(1.0, candidates.get(0).similarity());
+        assertTrue(candidates.get(1).similarity() >= 0.8);
+    }
+
+    @Test
+    void testFindCandidatesExcludesItselfAndArchived() {
+        // Act & Assert: la 4 está vendida
+        assertEquals(List.of(), index.findCandidates(property(3L, "Chalet adosado con piscina", "Avenida del Mar 5",
+            "Valencia", PropertyStatus.AVAILABLE), 10));
+        assertEquals(List.of(), index.findCandidates(property(11L, "Local comercial", "Plaza Nueva 1", "Sevilla",
+            PropertyStatus.AVAILABLE), 10));
+    }
+
+    @Test
+    void testClustersGroupActiveDuplicates() {
+        // Act & Assert
+        assertEquals(List.of(new DuplicateCluster(List.of(1L, 2L))), index.clusters());
+    }
+
+    @Test
+    void testEventsKeepIndexUpToDate() {
+        // Arrange
+        Property partial = new Property();
+        partial.setId(4L);
+        partial.setStatus(PropertyStatus.AVAILABLE);
+
+        // Act
+        index.onPropertyChanged(PropertyChangedEvent.statusChanged(partial));
+        index.onPropertyChanged(PropertyChangedEvent.deleted(2L));
+
+        // Assert: la 4 vuelve a estar activa y la 2 ya no existe
+        assertEquals(List.of(new DuplicateCluster(List.of(3L, 4L))), index.clusters());
+        index.onPropertyChanged(PropertyChangedEvent.updated(property(3L, "Ático reformado", "Calle Sol 8", "Valencia",
+            PropertyStatus.AVAILABLE)));
+        assertEquals(List.of(), index.clusters());
+    }
+
+    private static Property property(Long id, String title, String address, String city, PropertyStatus status) {
+        Property property = MinHasherTest.property(title, address, city);
+        property.setId(id);
+        property.setStatus(status);
+        return property;
+    }
+}
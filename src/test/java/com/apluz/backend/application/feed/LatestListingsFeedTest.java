@@ -0,0 +1,197 @@
+package com.apluz.backend.application.feed;
+
+import com.apluz.backend.domain.event.PropertyChangedEvent;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.port.PropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para LatestListingsFeed
+ */
+class LatestListingsFeedTest {
+
+    private PropertyRepository propertyRepository;
+    private LatestListingsFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        propertyRepository = mock(PropertyRepository.class);
+        feed = new LatestListingsFeed(propertyRepository, 4);
+    }
+
+    @Test
+    void rebuildKeepsNewestFirstGlobalAndPerCity() {
+        // Arrange: el repositorio entrega de la más reciente a la más antigua
+        stubAvailable(
+            property(6L, "Madrid"), property(5L, "Madrid"), property(4L, "Sevilla"),
+            property(3L, "Madrid"), property(2L, "Madrid"), property(1L, "Madrid"));
+
+        // Act
+        feed.rebuild();
+
+        // Assert
+        assertEquals(List.of(6L, 5L, 4L, 3L), ids(feed.latest(null, 10)));
+        assertEquals(List.of(6L, 5L, 3L, 2L), ids(feed.latest("Madrid", 10)));
+        assertEquals(List.of(4L), ids(feed.latest("Sevilla", 10)));
+        assertEquals(List.of(6L, 5L), ids(feed.latest(null, 2)));
+    }
+
+    @Test
+    void eventsPublishUpdateAndRemoveListings() {
+        // Arrange
+        stubAvailable(property(1L, "Madrid"), property(2L, "Madrid"));
+        feed.rebuild();
+
+        // Act
+        feed.onPropertyChanged(PropertyChangedEvent.created(property(3L, "Madrid")));
+        Property sold = property(1L, "Madrid");
+        sold.setStatus(PropertyStatus.SOLD);
+        feed.onPropertyChanged(PropertyChangedEvent.statusChanged(sold));
+        Property retitled = property(2L, "Madrid");
+        retitled.setTitle("Nuevo título");
+        feed.onPropertyChanged(PropertyChangedEvent.updated(retitled));
+        feed.onPropertyChanged(PropertyChangedEvent.updated(property(3L, "Bilbao")));
+
+        // Assert
+        assertEquals(List.of(3L, 2L), ids(feed.latest(null, 10)));
+        assertEquals(List.of(2L), ids(feed.latest("Madrid", 10)));
+        assertEquals("Nuevo título", feed.latest("Madrid", 10).get(0).getTitle());
+        assertEquals(List.of(3L), ids(feed.latest("Bilbao", 10)));
+
+        feed.onPropertyChanged(PropertyChangedEvent.deleted(3L));
+        assertEquals(List.of(2L), ids(feed.latest(null, 10)));
+    }
+
+    @Test
+    void overwrittenSlotsReleaseTheirListings() {
+        // Arrange
+        stubAvailable();
+        feed.rebuild();
+
+        // Act: 100 altas en Madrid y una en Sevilla, con buffers de 4
+        feed.onPropertyChanged(PropertyChangedEvent.created(property(1_000L, "Sevilla")));
+        for (long id = 1; id <= 100; id++) {
+            feed.onPropertyChanged(PropertyChangedEvent.created(property(id, "Madrid")));
+        }
+
+        // Assert: Madrid ocupa el global y su buffer; Sevilla sigue viva solo en el suyo
+        assertEquals(5, feed.size());
+        assertEquals(List.of(100L, 99L, 98L, 97L), ids(feed.latest(null, 10)));
+        assertEquals(List.of(1_000L), ids(feed.latest("Sevilla", 10)));
+    }
+
+    @Test
+    void staleSlotsAreNotRefilledFromTheDatabase() {
+        // Arrange
+        stubAvailable(property(4L, "Madrid"), property(3L, "Madrid"), property(2L, "Madrid"), property(1L, "Madrid"));
+        feed.rebuild();
+
+        // Act
+        for (long id : new long[] {4L, 2L}) {
+            Property sold = property(id, "Madrid");
+            sold.setStatus(PropertyStatus.SOLD);
+            feed.onPropertyChanged(PropertyChangedEvent.statusChanged(sold));
+        }
+
+        // Assert: hay disponibles más antiguas en la BD, pero el feed solo devuelve lo que tiene en memoria
+        assertEquals(List.of(3L, 1L), ids(feed.latest(null, 4)));
+        assertEquals(List.of(3L, 1L), ids(feed.latest("Madrid", 4)));
+        verify(propertyRepository, never()).findById(any());
+    }
+
+    @Test
+    void partialWriteBehindEventLoadsUnknownProperty() {
+        // Arrange
+        stubAvailable();
+        feed.rebuild();
+        Property stored = property(9L, "Valencia");
+        stored.setStatus(PropertyStatus.RESERVED);
+        when(propertyRepository.findById(9L)).thenReturn(Optional.of(stored));
+        Property partial = new Property();
+        partial.setId(9L);
+        partial.setStatus(PropertyStatus.AVAILABLE);
+        partial.setUpdatedAt(LocalDateTime.now());
+
+        // Act
+        feed.onPropertyChanged(PropertyChangedEvent.statusChanged(partial));
+
+        // Assert
+        List<Property> latest = feed.latest("Valencia", 10);
+        assertEquals(List.of(9L), ids(latest));
+        assertEquals(PropertyStatus.AVAILABLE, latest.get(0).getStatus());
+    }
+
+    @Test
+    void concurrentPublishersNeverExceedCapacityOrDuplicate() throws Exception {
+        // Arrange
+        stubAvailable();
+        feed.rebuild();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        for (long id = 1; id <= 2_000; id++) {
+            long propertyId = id;
+            executor.submit(() -> {
+                start.await();
+                feed.onPropertyChanged(PropertyChangedEvent.created(property(propertyId, "Madrid")));
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Assert
+        List<Long> latest = ids(feed.latest(null, 10));
+        assertEquals(4, latest.size());
+        assertEquals(4, Set.copyOf(latest).size());
+    }
+
+    private void stubAvailable(Property... newestFirst) {
+        doAnswer(invocation -> {
+            Consumer<Property> action = invocation.getArgument(1);
+            for (Property property : newestFirst) {
+                action.accept(property);
+            }
+            return null;
+        }).when(propertyRepository).forEach(eq(PropertyFilter.byStatus(PropertyStatus.AVAILABLE)), any());
+    }
+
+    private static Property property(Long id, String city) {
+        Property property = new Property();
+        property.setId(id);
+        property.setCity(city);
+        property.setTitle("Propiedad " + id);
+        property.setStatus(PropertyStatus.AVAILABLE);
+        return property;
+    }
+
+    private static List<Long> ids(List<Property> properties) {
+        return properties.stream().map(Property::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,198 @@
+package com.apluz.backend.application.service;
+
+import com.apluz.backend.domain.model.BulkEdit;
+import com.apluz.backend.domain.model.BulkEditJob;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.infrastructure.adapter.persistence.JdbcBulkEditJobRepository;
+import com.apluz.backend.infrastructure.adapter.persistence.JdbcPriceHistoryRepository;
+import com.apluz.backend.infrastructure.adapter.persistence.JdbcPropertyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de integración para BulkEditJobService sobre H2: los lotes se ejecutan en los hilos del servicio,
+ * así que cada test confirma sus datos en lugar de ir dentro de una transacción
+ */
+@JdbcTest
+@ActiveProfiles("test")
+@Sql(scripts = "/db/schema-h2.sql")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BulkEditJobServiceTest {
+
+    private static final int CHUNK_SIZE = 10;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcPropertyRepository propertyRepository;
+    private JdbcBulkEditJobRepository jobRepository;
+    private BulkEditJobService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM bulk_edit_job_chunks");
+        jdbcTemplate.update("DELETE FROM bulk_edit_jobs");
+        jdbcTemplate.update("DELETE FROM property_price_history");
+        jdbcTemplate.update("DELETE FROM properties");
+        propertyRepository = new JdbcPropertyRepository(jdbcTemplate);
+        jobRepository = new JdbcBulkEditJobRepository(jdbcTemplate, transactionManager);
+        StatusWriteBehindQueue writeBehind = new StatusWriteBehindQueue(propertyRepository, event -> {
+        }, false, 50, 500);
+        PropertyService propertyService = new PropertyService(propertyRepository, event -> {
+        }, writeBehind, new JdbcPriceHistoryRepository(jdbcTemplate));
+        service = new BulkEditJobService(propertyService, jobRepository, transactionManager, CHUNK_SIZE, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void pricePercentJobUpdatesMatchingPropertiesInParallelChunks() throws InterruptedException {
+        // Arrange
+        List<Long> commercial = save(25, "Córdoba", PropertyType.COMMERCIAL, "200000.00");
+        List<Long> others = new ArrayList<>(save(3, "Córdoba", PropertyType.HOUSE, "200000.00"));
+        others.addAll(save(3, "Madrid", PropertyType.COMMERCIAL, "200000.00"));
+
+        // Act
+        BulkEditJob submitted = service.submit(new PropertyFilter("Córdoba", PropertyType.COMMERCIAL, null),
+            BulkEdit.pricePercent(new BigDecimal("-5")));
+        BulkEditJob job = awaitFinished(submitted.id());
+
+        // Assert
+        assertEquals(BulkEditJob.Status.COMPLETED, job.status());
+        assertEquals(3, job.totalChunks());
+        assertEquals(3, job.completedChunks());
+        assertEquals(25, job.updatedRows());
+        assertEquals(0, job.skippedRows());
+        for (Long id : commercial) {
+            assertEquals(0, new BigDecimal("190000.00").compareTo(propertyRepository.findById(id).orElseThrow().getPrice()));
+        }
+        for (Long id : others) {
+            assertEquals(0, new BigDecimal("200000.00").compareTo(propertyRepository.findById(id).orElseThrow().getPrice()));
+        }
+        assertEquals(25, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM property_price_history WHERE new_price = 190000.00", Integer.class));
+    }
+
+    @Test
+    void statusJobTransitionsMatchingPropertiesOnly() throws InterruptedException {
+        // Arrange
+        List<Long> ids = save(12, "Sevilla", PropertyType.APARTMENT, "90000.00");
+        Long other = save(1, "Cádiz", PropertyType.APARTMENT, "90000.00").get(0);
+
+        // Act
+        BulkEditJob submitted = service.submit(PropertyFilter.byCity("Sevilla"), BulkEdit.status(PropertyStatus.INACTIVE));
+        BulkEditJob job = awaitFinished(submitted.id());
+
+        // Assert
+        assertEquals(BulkEditJob.Status.COMPLETED, job.status());
+        assertEquals(2, job.totalChunks());
+        assertEquals(12, job.updatedRows());
+        assertEquals(PropertyStatus.INACTIVE, propertyRepository.findById(ids.get(11)).orElseThrow().getStatus());
+        assertEquals(PropertyStatus.AVAILABLE, propertyRepository.findById(other).orElseThrow().getStatus());
+    }
+
+    @Test
+    void resumeRunningJobsOnlyRunsPendingChunks() throws InterruptedException {
+        // Arrange: trabajo interrumpido por un reinicio con el primer lote ya confirmado
+        List<Long> ids = save(20, "Málaga", PropertyType.HOUSE, "300000.00");
+        BulkEditJob interrupted = jobRepository.create(PropertyFilter.byCity("Málaga"),
+            BulkEdit.priceAmount(new BigDecimal("-10000")), List.of(ids.subList(0, 10), ids.subList(10, 20)),
+            LocalDateTime.now());
+        jobRepository.completeChunk(interrupted.id(), 0, 10, 0, LocalDateTime.now());
+
+        // Act
+        service.resumeRunningJobs();
+        BulkEditJob job = awaitFinished(interrupted.id());
+
+        // Assert
+        assertEquals(BulkEditJob.Status.COMPLETED, job.status());
+        assertEquals(20, job.updatedRows());
+        assertEquals(0, new BigDecimal("300000.00").compareTo(propertyRepository.findById(ids.get(0)).orElseThrow().getPrice()));
+        assertEquals(0, new BigDecimal("290000.00").compareTo(propertyRepository.findById(ids.get(19)).orElseThrow().getPrice()));
+    }
+
+    @Test
+    void cancelledJobCanBeResumed() throws InterruptedException {
+        // Arrange
+        List<Long> ids = save(5, "Bilbao", PropertyType.LAND, "50000.00");
+        BulkEditJob job = jobRepository.create(PropertyFilter.byCity("Bilbao"), BulkEdit.pricePercent(BigDecimal.TEN),
+            List.of(ids), LocalDateTime.now());
+
+        // Act
+        BulkEditJob cancelled = service.cancel(job.id()).orElseThrow();
+        BulkEditJob resumed = service.resume(job.id()).orElseThrow();
+        BulkEditJob finished = awaitFinished(job.id());
+
+        // Assert
+        assertEquals(BulkEditJob.Status.CANCELLED, cancelled.status());
+        assertNotEquals(BulkEditJob.Status.CANCELLED, resumed.status());
+        assertEquals(BulkEditJob.Status.COMPLETED, finished.status());
+        assertEquals(0, new BigDecimal("55000.00").compareTo(propertyRepository.findById(ids.get(0)).orElseThrow().getPrice()));
+        assertThrows(IllegalStateException.class, () -> service.cancel(job.id()));
+        assertTrue(service.cancel(999L).isEmpty());
+    }
+
+    @Test
+    void submitWithoutFilterIsRejected() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> service.submit(PropertyFilter.all(), BulkEdit.pricePercent(BigDecimal.ONE)));
+    }
+
+    private BulkEditJob awaitFinished(Long id) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            BulkEditJob job = jobRepository.findById(id).orElseThrow();
+            if (job.status() != BulkEditJob.Status.RUNNING || System.currentTimeMillis() > deadline) {
+                return job;
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private List<Long> save(int count, String city, PropertyType type, String price) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Property property = new Property();
+            property.setTitle("Propiedad " + i);
+            property.setType(type);
+            property.setStatus(PropertyStatus.AVAILABLE);
+            property.setPrice(new BigDecimal(price));
+            property.setAddress("Calle " + i);
+            property.setCity(city);
+            property.setArea(100.0);
+            property.setBedrooms(2);
+            property.setBathrooms(1);
+            property.setParkingSpaces(0);
+            property.setCreatedAt(LocalDateTime.now());
+            property.setUpdatedAt(LocalDateTime.now());
+            ids.add(propertyRepository.save(property).getId());
+        }
+        return ids;
+    }
+}
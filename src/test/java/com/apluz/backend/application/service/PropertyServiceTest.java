@@ -1,24 +1,39 @@
 package com.apluz.backend.application.service;
 
+import com.apluz.backend.domain.event.PropertyChangedEvent;
+import com.apluz.backend.domain.model.BulkEdit;
+import com.apluz.backend.domain.model.PriceChange;
 import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyFilter;
 import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyStatusChange;
 import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.domain.port.PriceHistoryRepository;
 import com.apluz.backend.domain.port.PropertyRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -30,6 +45,15 @@ class PropertyServiceTest {
     @Mock
     private PropertyRepository propertyRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private StatusWriteBehindQueue statusWriteBehindQueue;
+
+    @Mock
+    private PriceHistoryRepository priceHistoryRepository;
+
     @InjectMocks
     private PropertyService propertyService;
 
@@ -84,6 +108,7 @@ class PropertyServiceTest {
         assertNotNull(createdProperty.getCreatedAt());
         assertNotNull(createdProperty.getUpdatedAt());
         verify(propertyRepository, times(1)).save(any(Property.class));
+        verify(eventPublisher).publishEvent(PropertyChangedEvent.created(newProperty));
     }
 
     @Test
@@ -114,6 +139,21 @@ class PropertyServiceTest {
         verify(propertyRepository, times(1)).findAll();
     }
 
+    @Test
+    void testGetPropertiesByIdsPreservesRequestOrder() {
+        // Arrange
+        Property other = new Property();
+        other.setId(2L);
+        when(propertyRepository.findAllById(List.of(2L, 5L, 1L))).thenReturn(Arrays.asList(testProperty, other));
+
+        // Act
+        List<Property> properties = propertyService.getPropertiesByIds(List.of(2L, 5L, 1L));
+
+        // Assert
+        assertEquals(List.of(2L, 1L), properties.stream().map(Property::getId).toList());
+        verify(propertyRepository, times(1)).findAllById(List.of(2L, 5L, 1L));
+    }
+
     @Test
     void testGetPropertiesByCity() {
         // Arrange
@@ -158,6 +198,41 @@ class PropertyServiceTest {
         verify(propertyRepository, times(1)).save(any(Property.class));
     }
 
+    @Test
+    void updatePropertyAppendsPriceChangeToHistory() {
+        // Arrange
+        Property updatedProperty = copyOf(testProperty);
+        updatedProperty.setPrice(new BigDecimal("240000.00"));
+        BigDecimal previousPrice = testProperty.getPrice();
+        when(propertyRepository.findById(1L)).thenReturn(Optional.of(testProperty));
+        when(propertyRepository.save(any(Property.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        propertyService.updateProperty(1L, updatedProperty);
+
+        // Assert
+        verify(priceHistoryRepository).append(argThat((PriceChange change) ->
+            change.propertyId().equals(1L)
+                && change.oldPrice().equals(previousPrice)
+                && change.newPrice().equals(new BigDecimal("240000.00"))
+                && change.isDrop()));
+    }
+
+    @Test
+    void updatePropertyWithSamePriceDoesNotTouchHistory() {
+        // Arrange
+        Property updatedProperty = copyOf(testProperty);
+        updatedProperty.setTitle("Only the title changes");
+        when(propertyRepository.findById(1L)).thenReturn(Optional.of(testProperty));
+        when(propertyRepository.save(any(Property.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        propertyService.updateProperty(1L, updatedProperty);
+
+        // Assert
+        verifyNoInteractions(priceHistoryRepository);
+    }
+
     @Test
     void testUpdatePropertyNotFound() {
         // Arrange
@@ -180,6 +255,7 @@ class PropertyServiceTest {
         // Assert
         verify(propertyRepository, times(1)).existsById(1L);
         verify(propertyRepository, times(1)).deleteById(1L);
+        verify(eventPublisher).publishEvent(PropertyChangedEvent.deleted(1L));
     }
 
     @Test
@@ -191,6 +267,7 @@ class PropertyServiceTest {
         assertThrows(PropertyService.PropertyNotFoundException.class, () -> {
             propertyService.deleteProperty(999L);
         });
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -204,8 +281,114 @@ class PropertyServiceTest {
 
         // Assert
         assertNotNull(result);
+        assertEquals(PropertyStatus.SOLD, result.getStatus());
+        verify(eventPublisher).publishEvent(PropertyChangedEvent.statusChanged(testProperty));
         verify(propertyRepository, times(1)).findById(1L);
         verify(propertyRepository, times(1)).save(any(Property.class));
     }
-}
 
+    @Test
+    void testEnqueuePropertyStatus() {
+        // Arrange
+        CompletableFuture<Boolean> persisted = new CompletableFuture<>();
+        when(statusWriteBehindQueue.enqueue(any(PropertyStatusChange.class))).thenReturn(persisted);
+
+        // Act
+        CompletableFuture<Boolean> result = propertyService.enqueuePropertyStatus(1L, PropertyStatus.RESERVED);
+
+        // Assert
+        assertSame(persisted, result);
+        verify(propertyRepository, never()).findById(any());
+        verify(propertyRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(any(PropertyChangedEvent.class));
+    }
+
+    @Test
+    void testGetPropertyByIdReflectsPendingStatus() {
+        // Arrange
+        when(propertyRepository.findById(1L)).thenReturn(Optional.of(testProperty));
+        when(statusWriteBehindQueue.pendingStatus(1L)).thenReturn(Optional.of(PropertyStatus.RESERVED));
+
+        // Act
+        Optional<Property> foundProperty = propertyService.getPropertyById(1L);
+
+        // Assert
+        assertEquals(PropertyStatus.RESERVED, foundProperty.orElseThrow().getStatus());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testTransitionPropertyStatusPublishesEventPerRow() {
+        // Arrange
+        PropertyFilter filter = new PropertyFilter("Madrid", null, PropertyStatus.AVAILABLE);
+        testProperty.setStatus(PropertyStatus.INACTIVE);
+        doAnswer(invocation -> {
+            Consumer<Property> updated = invocation.getArgument(4);
+            updated.accept(testProperty);
+            return null;
+        }).when(propertyRepository).transitionStatus(eq(filter), isNull(), eq(PropertyStatus.INACTIVE),
+            any(LocalDateTime.class), any(Consumer.class));
+        List<Property> streamed = new ArrayList<>();
+
+        // Act
+        long count = propertyService.transitionPropertyStatus(filter, null, PropertyStatus.INACTIVE, streamed::add);
+
+        // Assert
+        assertEquals(1, count);
+        assertEquals(List.of(testProperty), streamed);
+        verify(eventPublisher).publishEvent(PropertyChangedEvent.statusChanged(testProperty));
+    }
+
+    @Test
+    void testTransitionPropertyStatusRequiresSelection() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> propertyService.transitionPropertyStatus(PropertyFilter.all(), null, PropertyStatus.INACTIVE, property -> { }));
+        verifyNoInteractions(propertyRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testApplyBulkPriceEditWritesOnlyMatchingRowsAndHistory() {
+        // Arrange
+        Property otherCity = copyOf(testProperty);
+        otherCity.setId(2L);
+        otherCity.setCity("Sevilla");
+        when(propertyRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(testProperty, otherCity));
+        when(propertyRepository.updatePrices(any())).thenReturn(Set.of(1L));
+
+        // Act
+        long updated = propertyService.applyBulkEdit(PropertyFilter.byCity("Madrid"), List.of(1L, 2L, 3L),
+            BulkEdit.pricePercent(new BigDecimal("-5")));
+
+        // Assert
+        assertEquals(1, updated);
+        ArgumentCaptor<Collection<PriceChange>> changes = ArgumentCaptor.forClass(Collection.class);
+        verify(propertyRepository).updatePrices(changes.capture());
+        PriceChange change = changes.getValue().iterator().next();
+        assertEquals(1, changes.getValue().size());
+        assertEquals(new BigDecimal("250000.00"), change.oldPrice());
+        assertEquals(new BigDecimal("237500.00"), change.newPrice());
+        verify(priceHistoryRepository).appendAll(List.of(change));
+        assertEquals(new BigDecimal("237500.00"), testProperty.getPrice());
+        verify(eventPublisher).publishEvent(PropertyChangedEvent.updated(testProperty));
+    }
+
+    private static Property copyOf(Property source) {
+        Property copy = new Property();
+        copy.setTitle(source.getTitle());
+        copy.setDescription(source.getDescription());
+        copy.setType(source.getType());
+        copy.setStatus(source.getStatus());
+        copy.setPrice(source.getPrice());
+        copy.setAddress(source.getAddress());
+        copy.setCity(source.getCity());
+        copy.setState(source.getState());
+        copy.setZipCode(source.getZipCode());
+        copy.setArea(source.getArea());
+        copy.setBedrooms(source.getBedrooms());
+        copy.setBathrooms(source.getBathrooms());
+        copy.setParkingSpaces(source.getParkingSpaces());
+        return copy;
+    }
+}
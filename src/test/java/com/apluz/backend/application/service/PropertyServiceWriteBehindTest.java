@@ -0,0 +1,111 @@
+package com.apluz.backend.application.service;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyStatusChange;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.infrastructure.adapter.persistence.JdbcPriceHistoryRepository;
+import com.apluz.backend.infrastructure.adapter.persistence.JdbcPropertyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de integración sobre H2 de la cola write-behind frente a las escrituras síncronas de PropertyService:
+ * un estado encolado nunca debe acabar encima de una escritura posterior de la misma fila
+ */
+@JdbcTest
+@ActiveProfiles("test")
+@Sql(scripts = "/db/schema-h2.sql")
+class PropertyServiceWriteBehindTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcPropertyRepository propertyRepository;
+    private StatusWriteBehindQueue writeBehind;
+    private PropertyService propertyService;
+
+    @BeforeEach
+    void setUp() {
+        propertyRepository = new JdbcPropertyRepository(jdbcTemplate);
+        // Intervalo largo: los tests disparan el flush a mano
+        writeBehind = new StatusWriteBehindQueue(propertyRepository, event -> {
+        }, true, 60_000, 500);
+        propertyService = new PropertyService(propertyRepository, event -> {
+        }, writeBehind, new JdbcPriceHistoryRepository(jdbcTemplate));
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeBehind.shutdown();
+    }
+
+    @Test
+    void putAfterQueuedStatusWinsOnceQueueIsFlushed() {
+        // Arrange
+        Long id = save(LocalDateTime.now().minusMinutes(1));
+        CompletableFuture<Boolean> queued = propertyService.enqueuePropertyStatus(id, PropertyStatus.RESERVED);
+        Property put = propertyRepository.findById(id).orElseThrow();
+        put.setStatus(PropertyStatus.SOLD);
+
+        // Act
+        Property saved = propertyService.updateProperty(id, put);
+        writeBehind.flush();
+
+        // Assert
+        assertTrue(queued.join());
+        assertEquals(0, writeBehind.pendingCount());
+        Property reloaded = propertyRepository.findById(id).orElseThrow();
+        assertEquals(PropertyStatus.SOLD, reloaded.getStatus());
+        // TIMESTAMP guarda microsegundos (redondeando)
+        assertTrue(Duration.between(saved.getUpdatedAt(), reloaded.getUpdatedAt()).abs().toNanos() < 1_000);
+    }
+
+    @Test
+    void queuedStatusOlderThanRowIsNotApplied() {
+        // Arrange: la fila se escribió (p. ej. desde otra instancia) después de aceptar el cambio
+        LocalDateTime writtenAt = LocalDateTime.of(2030, 1, 1, 12, 0);
+        Long id = save(writtenAt);
+        CompletableFuture<Boolean> queued =
+            writeBehind.enqueue(new PropertyStatusChange(id, PropertyStatus.RESERVED, writtenAt.minusSeconds(5)));
+
+        // Act
+        writeBehind.flush();
+
+        // Assert
+        assertFalse(queued.join());
+        Property reloaded = propertyRepository.findById(id).orElseThrow();
+        assertEquals(PropertyStatus.AVAILABLE, reloaded.getStatus());
+        assertEquals(writtenAt, reloaded.getUpdatedAt());
+    }
+
+    private Long save(LocalDateTime updatedAt) {
+        Property property = new Property();
+        property.setTitle("Piso en el centro");
+        property.setType(PropertyType.APARTMENT);
+        property.setStatus(PropertyStatus.AVAILABLE);
+        property.setPrice(new BigDecimal("180000.00"));
+        property.setAddress("Calle Mayor 1");
+        property.setCity("Madrid");
+        property.setArea(75.0);
+        property.setBedrooms(2);
+        property.setBathrooms(1);
+        property.setParkingSpaces(0);
+        property.setCreatedAt(updatedAt);
+        property.setUpdatedAt(updatedAt);
+        return propertyRepository.save(property).getId();
+    }
+}
@@ -0,0 +1,153 @@
+package com.apluz.backend.application.service;
+
+import com.apluz.backend.domain.event.PropertyChangedEvent;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyStatusChange;
+import com.apluz.backend.domain.port.PropertyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para StatusWriteBehindQueue
+ */
+@ExtendWith(MockitoExtension.class)
+class StatusWriteBehindQueueTest {
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private StatusWriteBehindQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        // Intervalo largo: los tests disparan el flush a mano
+        queue = new StatusWriteBehindQueue(propertyRepository, eventPublisher, true, 60_000, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCoalescesChangesPerIdLastWriterWins() {
+        // Arrange
+        when(propertyRepository.updateStatuses(anyCollection())).thenReturn(Set.of(1L));
+        CompletableFuture<Boolean> first = queue.enqueue(change(1L, PropertyStatus.RESERVED));
+        CompletableFuture<Boolean> second = queue.enqueue(change(1L, PropertyStatus.SOLD));
+
+        // Act
+        assertEquals(PropertyStatus.SOLD, queue.pendingStatus(1L).orElseThrow());
+        queue.flush();
+
+        // Assert
+        ArgumentCaptor<Collection<PropertyStatusChange>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(propertyRepository, times(1)).updateStatuses(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(PropertyStatus.SOLD, captor.getValue().iterator().next().status());
+        assertTrue(first.join());
+        assertTrue(second.join());
+        assertTrue(queue.pendingStatus(1L).isEmpty());
+        verify(eventPublisher).publishEvent(any(PropertyChangedEvent.class));
+    }
+
+    @Test
+    void testPendingStatusVisibleUntilBatchIsWritten() {
+        // Arrange: durante la escritura llega otro cambio para el mismo id
+        AtomicReference<CompletableFuture<Boolean>> during = new AtomicReference<>();
+        when(propertyRepository.updateStatuses(anyCollection())).thenAnswer(invocation -> {
+            if (during.get() == null) {
+                assertEquals(PropertyStatus.SOLD, queue.pendingStatus(1L).orElseThrow());
+                during.set(queue.enqueue(change(1L, PropertyStatus.AVAILABLE)));
+            }
+            return Set.of(1L);
+        });
+        CompletableFuture<Boolean> first = queue.enqueue(change(1L, PropertyStatus.SOLD));
+
+        // Act
+        queue.flush();
+
+        // Assert
+        assertTrue(first.join());
+        assertTrue(during.get().join());
+        verify(propertyRepository, times(2)).updateStatuses(anyCollection());
+        assertEquals(0, queue.pendingCount());
+    }
+
+    @Test
+    void testMissingIdCompletesWithFalse() {
+        // Arrange
+        when(propertyRepository.updateStatuses(anyCollection())).thenReturn(Set.of());
+        CompletableFuture<Boolean> persisted = queue.enqueue(change(999L, PropertyStatus.SOLD));
+
+        // Act
+        queue.flush();
+
+        // Assert
+        assertFalse(persisted.join());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testSizeTriggerFlushesWithoutWaitingForInterval() throws Exception {
+        // Arrange
+        when(propertyRepository.updateStatuses(anyCollection()))
+            .thenAnswer(invocation -> {
+                Collection<PropertyStatusChange> changes = invocation.getArgument(0);
+                return Set.copyOf(changes.stream().map(PropertyStatusChange::propertyId).toList());
+            });
+
+        // Act
+        CompletableFuture<Boolean> last = null;
+        for (long id = 1; id <= 100; id++) {
+            last = queue.enqueue(change(id, PropertyStatus.INACTIVE));
+        }
+
+        // Assert
+        assertTrue(last.get(5, TimeUnit.SECONDS));
+        assertEquals(0, queue.pendingCount());
+    }
+
+    @Test
+    void testFailedFlushIsRequeued() {
+        // Arrange
+        when(propertyRepository.updateStatuses(anyCollection()))
+            .thenThrow(new IllegalStateException("db down"))
+            .thenReturn(Set.of(1L));
+        CompletableFuture<Boolean> persisted = queue.enqueue(change(1L, PropertyStatus.SOLD));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, queue::flush);
+        assertTrue(persisted.isCompletedExceptionally());
+        assertEquals(PropertyStatus.SOLD, queue.pendingStatus(1L).orElseThrow());
+
+        queue.flush();
+        assertEquals(0, queue.pendingCount());
+    }
+
+    private static PropertyStatusChange change(Long id, PropertyStatus status) {
+        return new PropertyStatusChange(id, status, LocalDateTime.now());
+    }
+}
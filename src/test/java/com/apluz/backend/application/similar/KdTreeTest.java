@@ -0,0 +1,103 @@
+package com.apluz.backend.application.similar;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para KdTree
+ */
+class KdTreeTest {
+
+    @Test
+    void testNearestExcludesReferenceAndOrdersByDistance() {
+        // Arrange
+        KdTree tree = new KdTree(2);
+        tree.insert(1, new double[]{0, 0});
+        tree.insert(2, new double[]{1, 0});
+        tree.insert(3, new double[]{5, 5});
+        tree.insert(4, new double[]{0, 2});
+
+        // Act
+        List<KdTree.Neighbour> nearest = tree.nearest(new double[]{0, 0}, 2, 1);
+
+        // Assert
+        assertEquals(List.of(new KdTree.Neighbour(2, 1.0), new KdTree.Neighbour(4, 4.0)), nearest);
+    }
+
+    @Test
+    void testRemovedPointsAreNotReturned() {
+        // Arrange
+        KdTree tree = new KdTree(2);
+        tree.insert(1, new double[]{0, 0});
+        tree.insert(2, new double[]{1, 1});
+
+        // Act
+        boolean removed = tree.remove(2, new double[]{1, 1});
+
+        // Assert
+        assertTrue(removed);
+        assertFalse(tree.remove(2, new double[]{1, 1}));
+        assertEquals(1, tree.size());
+        assertEquals(List.of(new KdTree.Neighbour(1, 2.0)), tree.nearest(new double[]{1, 1}, 5, -1));
+    }
+
+    @Test
+    void testMatchesBruteForceAcrossInsertsRemovesAndRebalances() {
+        // Arrange: enteros pequeños para forzar empates en los ejes
+        Random random = new Random(7);
+        KdTree tree = new KdTree(4);
+        Map<Long, double[]> live = new HashMap<>();
+        List<Long> ids = new ArrayList<>();
+        List<double[]> points = new ArrayList<>();
+        for (long id = 0; id < 500; id++) {
+            ids.add(id);
+            points.add(point(random));
+            live.put(id, points.get(points.size() - 1));
+        }
+        tree.insertAll(ids, points);
+
+        // Act
+        for (long id = 500; id < 3_000; id++) {
+            double[] point = point(random);
+            tree.insert(id, point);
+            live.put(id, point);
+            long victim = random.nextInt((int) id);
+            if (live.containsKey(victim) && random.nextBoolean()) {
+                assertTrue(tree.remove(victim, live.remove(victim)));
+            }
+        }
+
+        // Assert
+        assertEquals(live.size(), tree.size());
+        for (int query = 0; query < 200; query++) {
+            double[] target = point(random);
+            List<Double> expected = live.values().stream()
+                .map(point -> distanceSquared(target, point))
+                .sorted(Comparator.naturalOrder())
+                .limit(10)
+                .toList();
+            List<Double> actual = tree.nearest(target, 10, -1).stream().map(KdTree.Neighbour::distanceSquared).toList();
+            assertEquals(expected, actual);
+        }
+    }
+
+    private static double[] point(Random random) {
+        return new double[]{random.nextInt(20), random.nextInt(5), random.nextInt(3), random.nextDouble() * 10};
+    }
+
+    private static double distanceSquared(double[] left, double[] right) {
+        double sum = 0;
+        for (int i = 0; i < left.length; i++) {
+            sum += (left[i] - right[i]) * (left[i] - right[i]);
+        }
+        return sum;
+    }
+}
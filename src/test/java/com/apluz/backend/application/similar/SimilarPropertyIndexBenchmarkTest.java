@@ -0,0 +1,104 @@
+package com.apluz.backend.application.similar;
+
+import com.apluz.backend.domain.event.PropertyChangedEvent;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.domain.port.PropertyRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmark: latencia de {@link SimilarPropertyIndex#findSimilar} frente a ordenar por distancia todas las
+ * propiedades de la ciudad (lo que haría un ORDER BY distancia), y coste de las actualizaciones incrementales.
+ * Se ejecuta con {@code mvn test -Pbenchmark}
+ */
+@Tag("benchmark")
+class SimilarPropertyIndexBenchmarkTest {
+
+    private static final int CATALOGUE = 100_000;
+    private static final int QUERIES = 10_000;
+    private static final int UPDATES = 10_000;
+    private static final int K = 10;
+    private static final String[] CITIES = {"Madrid", "Barcelona", "Córdoba", "Sevilla", "Valencia"};
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void compareWithFullScan() {
+        Random random = new Random(42);
+        List<Property> catalogue = new ArrayList<>();
+        for (long id = 0; id < CATALOGUE; id++) {
+            catalogue.add(property(id, random));
+        }
+        PropertyRepository repository = mock(PropertyRepository.class);
+        doAnswer(invocation -> {
+            catalogue.forEach(invocation.<Consumer<Property>>getArgument(1));
+            return null;
+        }).when(repository).forEach(any(), any(Consumer.class));
+        SimilarPropertyIndex index = new SimilarPropertyIndex(repository);
+
+        long start = System.nanoTime();
+        index.rebuild();
+        System.out.printf("%n%-28s %10d ms%n", "rebuild " + CATALOGUE, (System.nanoTime() - start) / 1_000_000);
+
+        start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            index.findSimilar((long) random.nextInt(CATALOGUE), K);
+        }
+        System.out.printf("%-28s %10d us%n", "findSimilar (kd-tree)", (System.nanoTime() - start) / 1_000 / QUERIES);
+
+        start = System.nanoTime();
+        for (int i = 0; i < QUERIES / 100; i++) {
+            Property reference = catalogue.get(random.nextInt(CATALOGUE));
+            double[] vector = PropertyFeatures.of(reference);
+            catalogue.stream()
+                .filter(other -> other.getCity().equals(reference.getCity()) && other != reference)
+                .sorted(Comparator.comparingDouble(other -> distanceSquared(vector, PropertyFeatures.of(other))))
+                .limit(K)
+                .toList();
+        }
+        System.out.printf("%-28s %10d us%n", "findSimilar (full scan)", (System.nanoTime() - start) / 1_000 / (QUERIES / 100));
+
+        start = System.nanoTime();
+        for (int i = 0; i < UPDATES; i++) {
+            index.onPropertyChanged(PropertyChangedEvent.updated(property((long) random.nextInt(CATALOGUE), random)));
+        }
+        System.out.printf("%-28s %10d us%n", "update", (System.nanoTime() - start) / 1_000 / UPDATES);
+        assertEquals(K, index.findSimilar(0L, K).orElseThrow().size());
+    }
+
+    private static Property property(Long id, Random random) {
+        Property property = new Property();
+        property.setId(id);
+        property.setTitle("Propiedad " + id);
+        property.setCity(CITIES[random.nextInt(CITIES.length)]);
+        property.setType(PropertyType.values()[random.nextInt(PropertyType.values().length)]);
+        property.setStatus(PropertyStatus.AVAILABLE);
+        property.setPrice(BigDecimal.valueOf(50_000 + random.nextInt(900_000)));
+        property.setArea(30.0 + random.nextInt(300));
+        property.setBedrooms(1 + random.nextInt(5));
+        property.setBathrooms(1 + random.nextInt(3));
+        property.setParkingSpaces(random.nextInt(3));
+        return property;
+    }
+
+    private static double distanceSquared(double[] left, double[] right) {
+        double sum = 0;
+        for (int i = 0; i < left.length; i++) {
+            sum += (left[i] - right[i]) * (left[i] - right[i]);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,135 @@
+package com.apluz.backend.application.similar;
+
+import com.apluz.backend.domain.event.PropertyChangedEvent;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.domain.port.PropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para SimilarPropertyIndex
+ */
+@ExtendWith(MockitoExtension.class)
+class SimilarPropertyIndexTest {
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    private SimilarPropertyIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        index = new SimilarPropertyIndex(propertyRepository);
+        doAnswer(invocation -> {
+            Consumer<Property> action = invocation.getArgument(1);
+            action.accept(property(1L, "Madrid", PropertyType.APARTMENT, "250000", 90.0, 3));
+            action.accept(property(2L, "Madrid", PropertyType.APARTMENT, "260000", 95.0, 3));
+            action.accept(property(3L, "Madrid", PropertyType.APARTMENT, "600000", 180.0, 5));
+            action.accept(property(4L, "Madrid", PropertyType.HOUSE, "250000", 90.0, 3));
+            action.accept(property(5L, "madrid ", PropertyType.APARTMENT, "240000", 85.0, 2));
+            action.accept(property(6L, "Sevilla", PropertyType.APARTMENT, "250000", 90.0, 3));
+            return null;
+        }).when(propertyRepository).forEach(any(), any(Consumer.class));
+        index.rebuild();
+    }
+
+    @Test
+    void testFindSimilarInSameCityOrderedByDistance() {
+        // Act
+        Optional<List<Property>> similar = index.findSimilar(1L, 3);
+
+        // Assert: la de Sevilla no cuenta aunque sea idéntica
+        assertEquals(List.of(2L, 5L, 4L), ids(similar.orElseThrow()));
+    }
+
+    @Test
+    void testFindSimilarForUnknownAndArchivedProperty() {
+        // Arrange
+        Property sold = property(7L, "Sevilla", PropertyType.APARTMENT, "250000", 90.0, 3);
+        sold.setStatus(PropertyStatus.SOLD);
+        when(propertyRepository.findById(7L)).thenReturn(Optional.of(sold));
+        when(propertyRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertEquals(List.of(6L), ids(index.findSimilar(7L, 5).orElseThrow()));
+        assertTrue(index.findSimilar(99L, 5).isEmpty());
+    }
+
+    @Test
+    void testEventsUpdateIndexIncrementally() {
+        // Arrange
+        Property moved = property(2L, "Sevilla", PropertyType.APARTMENT, "260000", 95.0, 3);
+        Property sold = new Property();
+        sold.setId(5L);
+        sold.setStatus(PropertyStatus.SOLD);
+
+        // Act
+        index.onPropertyChanged(PropertyChangedEvent.updated(moved));
+        index.onPropertyChanged(PropertyChangedEvent.statusChanged(sold));
+        index.onPropertyChanged(PropertyChangedEvent.deleted(4L));
+        index.onPropertyChanged(PropertyChangedEvent.created(property(8L, "Madrid", PropertyType.APARTMENT, "255000", 90.0, 3)));
+
+        // Assert
+        assertEquals(List.of(8L, 3L), ids(index.findSimilar(1L, 5).orElseThrow()));
+        assertEquals(List.of(6L), ids(index.findSimilar(2L, 5).orElseThrow()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testEventDuringRebuildIsAppliedAfterTheLoad() throws InterruptedException {
+        // Arrange: la propiedad 6 se borra mientras el rebuild aún la está leyendo
+        Thread delete = new Thread(() -> index.onPropertyChanged(PropertyChangedEvent.deleted(6L)));
+        doAnswer(invocation -> {
+            Consumer<Property> action = invocation.getArgument(1);
+            action.accept(property(1L, "Sevilla", PropertyType.APARTMENT, "250000", 90.0, 3));
+            delete.start();
+            while (delete.getState() != Thread.State.WAITING && delete.getState() != Thread.State.TERMINATED) {
+                Thread.onSpinWait();
+            }
+            action.accept(property(6L, "Sevilla", PropertyType.APARTMENT, "250000", 90.0, 3));
+            return null;
+        }).when(propertyRepository).forEach(any(), any(Consumer.class));
+
+        // Act
+        index.rebuild();
+        delete.join();
+
+        // Assert
+        assertEquals(List.of(), ids(index.findSimilar(1L, 5).orElseThrow()));
+    }
+
+    private static List<Long> ids(List<Property> properties) {
+        return properties.stream().map(Property::getId).toList();
+    }
+
+    private static Property property(Long id, String city, PropertyType type, String price, double area, int bedrooms) {
+        Property property = new Property();
+        property.setId(id);
+        property.setTitle("Propiedad " + id);
+        property.setCity(city);
+        property.setType(type);
+        property.setStatus(PropertyStatus.AVAILABLE);
+        property.setPrice(new BigDecimal(price));
+        property.setArea(area);
+        property.setBedrooms(bedrooms);
+        property.setBathrooms(2);
+        property.setParkingSpaces(1);
+        return property;
+    }
+}
@@ -0,0 +1,82 @@
+package com.apluz.backend.application.suggest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para PrefixTrie
+ */
+class PrefixTrieTest {
+
+    private PrefixTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new PrefixTrie();
+    }
+
+    @Test
+    void testCollectsByPrefixOrderedByCount() {
+        // Arrange: "mar" obliga a partir la arista "madrid"
+        trie.add("madrid", "Madrid", 5);
+        trie.add("malaga", "Málaga", 7);
+        trie.add("marbella", "Marbella", 1);
+        trie.add("sevilla", "Sevilla", 9);
+
+        // Act
+        List<PrefixTrie.Entry> entries = trie.collect("ma", 10);
+
+        // Assert
+        assertEquals(List.of(
+            new PrefixTrie.Entry("Málaga", 7),
+            new PrefixTrie.Entry("Madrid", 5),
+            new PrefixTrie.Entry("Marbella", 1)), entries);
+        assertEquals(List.of(new PrefixTrie.Entry("Madrid", 5)), trie.collect("madr", 10));
+        assertEquals(List.of(), trie.collect("mx", 10));
+    }
+
+    @Test
+    void testPrefixEndingInsideEdge() {
+        // Arrange
+        trie.add("barcelona", "Barcelona", 2);
+
+        // Act & Assert
+        assertEquals(List.of(new PrefixTrie.Entry("Barcelona", 2)), trie.collect("barc", 10));
+        assertEquals(List.of(), trie.collect("barcelonas", 10));
+    }
+
+    @Test
+    void testLimitKeepsMostFrequent() {
+        // Arrange
+        trie.add("piso", "piso", 10);
+        trie.add("piscina", "piscina", 4);
+        trie.add("pista", "pista", 1);
+
+        // Act
+        List<PrefixTrie.Entry> entries = trie.collect("pi", 2);
+
+        // Assert
+        assertEquals(List.of(new PrefixTrie.Entry("piso", 10), new PrefixTrie.Entry("piscina", 4)), entries);
+    }
+
+    @Test
+    void testRemovingKeysPrunesAndMergesNodes() {
+        // Arrange
+        trie.add("casa", "casa", 1);
+        trie.add("casas", "casas", 1);
+        trie.add("castillo", "castillo", 1);
+
+        // Act
+        trie.add("casa", "casa", -1);
+        trie.add("castillo", "castillo", -1);
+
+        // Assert
+        assertEquals(1, trie.size());
+        assertEquals(List.of(new PrefixTrie.Entry("casas", 1)), trie.collect("c", 10));
+        assertEquals(List.of(new PrefixTrie.Entry("casas", 1)), trie.collect("casas", 10));
+    }
+}
@@ -0,0 +1,101 @@
+package com.apluz.backend.application.suggest;
+
+import com.apluz.backend.application.suggest.PropertySuggestionIndex.Suggestion;
+import com.apluz.backend.domain.event.PropertyChangedEvent;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.port.PropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Tests unitarios para PropertySuggestionIndex
+ */
+@ExtendWith(MockitoExtension.class)
+class PropertySuggestionIndexTest {
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    private PropertySuggestionIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        index = new PropertySuggestionIndex(propertyRepository);
+        doAnswer(invocation -> {
+            Consumer<Property> action = invocation.getArgument(2);
+            action.accept(property(1L, "Ático con vistas al río", "Córdoba", PropertyStatus.AVAILABLE));
+            action.accept(property(2L, "Casa de campo", "Córdoba", PropertyStatus.RESERVED));
+            action.accept(property(3L, "Cortijo andaluz", "Sevilla", PropertyStatus.SOLD));
+            return null;
+        }).when(propertyRepository).forEach(any(), any(), any(Consumer.class));
+        index.rebuild();
+    }
+
+    @Test
+    void testSuggestIsAccentAndCaseInsensitive() {
+        // Act
+        List<Suggestion> suggestions = index.suggest("CÓR", 10);
+
+        // Assert: la propiedad vendida (Cortijo) no cuenta
+        assertEquals(List.of(new Suggestion("Córdoba", Suggestion.Kind.CITY, 2)), suggestions);
+        assertEquals(List.of(new Suggestion("ático", Suggestion.Kind.TITLE, 1)), index.suggest("ati", 10));
+    }
+
+    @Test
+    void testShortWordsAndStopWordsAreNotIndexed() {
+        // Act & Assert
+        assertEquals(List.of(), index.suggest("con", 10));
+        assertEquals(List.of(), index.suggest("al", 10));
+    }
+
+    @Test
+    void testUpdatesIncrementallyOnEvents() {
+        // Act: nueva propiedad, cambio de ciudad y eliminación
+        index.onPropertyChanged(PropertyChangedEvent.created(property(4L, "Piso céntrico", "Cordoba", PropertyStatus.AVAILABLE)));
+        index.onPropertyChanged(PropertyChangedEvent.updated(property(2L, "Casa de campo", "Sevilla", PropertyStatus.AVAILABLE)));
+        index.onPropertyChanged(PropertyChangedEvent.deleted(1L));
+
+        // Assert
+        assertEquals(List.of(new Suggestion("Córdoba", Suggestion.Kind.CITY, 1)), index.suggest("cordoba", 10));
+        assertEquals(List.of(new Suggestion("Sevilla", Suggestion.Kind.CITY, 1)), index.suggest("sev", 10));
+        assertEquals(List.of(), index.suggest("atico", 10));
+    }
+
+    @Test
+    void testPartialStatusChangeReactivatesKnownTerms() {
+        // Arrange: evento de write-behind, solo id y estado
+        Property statusOnly = new Property();
+        statusOnly.setId(3L);
+        statusOnly.setStatus(PropertyStatus.AVAILABLE);
+
+        // Act
+        index.onPropertyChanged(PropertyChangedEvent.statusChanged(statusOnly));
+
+        // Assert
+        assertEquals(List.of(new Suggestion("cortijo", Suggestion.Kind.TITLE, 1)), index.suggest("cortij", 10));
+        assertEquals(List.of(new Suggestion("Sevilla", Suggestion.Kind.CITY, 1)), index.suggest("sevilla", 10));
+    }
+
+    private Property property(Long id, String title, String city, PropertyStatus status) {
+        Property property = new Property();
+        property.setId(id);
+        property.setTitle(title);
+        property.setCity(city);
+        property.setStatus(status);
+        property.setUpdatedAt(LocalDateTime.now());
+        return property;
+    }
+}
@@ -0,0 +1,133 @@
+package com.apluz.backend.infrastructure.adapter.persistence;
+
+import com.apluz.backend.domain.model.BulkEdit;
+import com.apluz.backend.domain.model.BulkEditChunk;
+import com.apluz.backend.domain.model.BulkEditJob;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de integración para JdbcBulkEditJobRepository
+ */
+@JdbcTest
+@ActiveProfiles("test")
+@Sql(scripts = "/db/schema-h2.sql")
+class JdbcBulkEditJobRepositoryTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 5, 1, 10, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcBulkEditJobRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new JdbcBulkEditJobRepository(jdbcTemplate, transactionManager);
+        jdbcTemplate.update("DELETE FROM bulk_edit_job_chunks");
+        jdbcTemplate.update("DELETE FROM bulk_edit_jobs");
+    }
+
+    @Test
+    void createStoresFilterEditAndPendingChunks() {
+        // Arrange
+        PropertyFilter filter = new PropertyFilter("Córdoba", PropertyType.COMMERCIAL, null, false);
+
+        // Act
+        BulkEditJob created = repository.create(filter, BulkEdit.pricePercent(new BigDecimal("-5")),
+            List.of(List.of(1L, 2L, 3L), List.of(7L, 9L)), T0);
+
+        // Assert
+        BulkEditJob found = repository.findById(created.id()).orElseThrow();
+        assertEquals(filter, found.filter());
+        assertEquals(BulkEdit.Operation.PRICE_PERCENT, found.edit().operation());
+        assertEquals(0, new BigDecimal("-5").compareTo(found.edit().amount()));
+        assertEquals(BulkEditJob.Status.RUNNING, found.status());
+        assertEquals(2, found.totalChunks());
+        assertEquals(List.of(new BulkEditChunk(created.id(), 0, List.of(1L, 2L, 3L)),
+            new BulkEditChunk(created.id(), 1, List.of(7L, 9L))), repository.findPendingChunks(created.id()));
+        assertEquals(List.of(found), repository.findByStatus(BulkEditJob.Status.RUNNING));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void createLeavesNoJobWhenTheChunkInsertFails() {
+        // Arrange: sin la transacción del test, para ver lo que queda confirmado
+        JdbcTemplate failingChunks = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs, int[] argTypes) {
+                throw new DataAccessResourceFailureException("Connection lost while inserting chunks");
+            }
+        };
+        JdbcBulkEditJobRepository failing = new JdbcBulkEditJobRepository(failingChunks, transactionManager);
+
+        // Act
+        assertThrows(DataAccessResourceFailureException.class, () -> failing.create(PropertyFilter.byCity("Madrid"),
+            BulkEdit.status(PropertyStatus.INACTIVE), List.of(List.of(1L, 2L)), T0));
+
+        // Assert
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bulk_edit_jobs", Integer.class));
+        assertEquals(List.of(), repository.findByStatus(BulkEditJob.Status.RUNNING));
+    }
+
+    @Test
+    void completeChunkCountsEachChunkOnceAndCompletesTheJob() {
+        // Arrange
+        BulkEditJob job = repository.create(PropertyFilter.byCity("Madrid"), BulkEdit.status(PropertyStatus.INACTIVE),
+            List.of(List.of(1L, 2L), List.of(3L)), T0);
+
+        // Act
+        assertTrue(repository.completeChunk(job.id(), 0, 2, 0, T0.plusMinutes(1)));
+        assertFalse(repository.completeChunk(job.id(), 0, 2, 0, T0.plusMinutes(1)));
+        assertFalse(repository.completeIfFinished(job.id(), T0.plusMinutes(1)));
+        assertTrue(repository.completeChunk(job.id(), 1, 0, 1, T0.plusMinutes(2)));
+
+        // Assert
+        assertTrue(repository.completeIfFinished(job.id(), T0.plusMinutes(2)));
+        BulkEditJob completed = repository.findById(job.id()).orElseThrow();
+        assertEquals(BulkEditJob.Status.COMPLETED, completed.status());
+        assertEquals(2, completed.completedChunks());
+        assertEquals(2, completed.updatedRows());
+        assertEquals(1, completed.skippedRows());
+        assertEquals(PropertyStatus.INACTIVE, completed.edit().status());
+        assertTrue(repository.findPendingChunks(job.id()).isEmpty());
+    }
+
+    @Test
+    void chunksAreNotCompletedOnceTheJobIsCancelled() {
+        // Arrange
+        BulkEditJob job = repository.create(PropertyFilter.byCity("Madrid"), BulkEdit.priceAmount(new BigDecimal("1000")),
+            List.of(List.of(1L)), T0);
+
+        // Act
+        assertTrue(repository.transition(job.id(), BulkEditJob.Status.RUNNING, BulkEditJob.Status.CANCELLED, null, T0));
+        assertFalse(repository.transition(job.id(), BulkEditJob.Status.RUNNING, BulkEditJob.Status.FAILED, "boom", T0));
+
+        // Assert
+        assertFalse(repository.completeChunk(job.id(), 0, 1, 0, T0));
+        BulkEditJob cancelled = repository.findById(job.id()).orElseThrow();
+        assertEquals(BulkEditJob.Status.CANCELLED, cancelled.status());
+        assertEquals(0, cancelled.completedChunks());
+    }
+}
@@ -0,0 +1,150 @@
+package com.apluz.backend.infrastructure.adapter.persistence;
+
+import com.apluz.backend.domain.model.PriceBucket;
+import com.apluz.backend.domain.model.PriceChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de integración para JdbcPriceHistoryRepository
+ */
+@JdbcTest
+@ActiveProfiles("test")
+@Sql(scripts = "/db/schema-h2.sql")
+class JdbcPriceHistoryRepositoryTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 10, 9, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcPriceHistoryRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new JdbcPriceHistoryRepository(jdbcTemplate);
+        jdbcTemplate.update("DELETE FROM property_price_history");
+        jdbcTemplate.update("DELETE FROM property_price_rollup");
+    }
+
+    @Test
+    void appendAllInsertsEveryChange() {
+        // Arrange
+        List<PriceChange> changes = List.of(
+            change(1L, "Cordoba", "100000", "95000", T0),
+            change(2L, "Cordoba", "200000", "190000", T0));
+
+        // Act
+        repository.appendAll(changes);
+        repository.appendAll(List.of());
+
+        // Assert
+        List<PriceChange> byCity = repository.findByCity("Cordoba", T0, T0.plusDays(1));
+        assertEquals(2, byCity.size());
+        assertTrue(byCity.stream().allMatch(PriceChange::isDrop));
+    }
+
+    @Test
+    void findByPropertyAndCityReturnRangeInTimeOrder() {
+        // Arrange
+        repository.append(change(1L, "Madrid", null, "100000", T0));
+        repository.append(change(1L, "Madrid", "100000", "95000", T0.plusDays(1)));
+        repository.append(change(2L, "Sevilla", null, "80000", T0.plusDays(1)));
+        repository.append(change(1L, "Madrid", "95000", "97000", T0.plusDays(5)));
+
+        // Act
+        List<PriceChange> byProperty = repository.findByProperty(1L, T0.plusHours(1), T0.plusDays(5));
+        List<PriceChange> byCity = repository.findByCity("Madrid", T0, T0.plusDays(10));
+
+        // Assert
+        assertEquals(1, byProperty.size());
+        assertEquals(0, new BigDecimal("95000").compareTo(byProperty.get(0).newPrice()));
+        assertEquals(3, byCity.size());
+        assertEquals(T0, byCity.get(0).changedAt());
+    }
+
+    @Test
+    void findDropsReturnsOnlyDecreasesNewestFirst() {
+        // Arrange
+        repository.append(change(1L, "Madrid", "100000", "95000", T0));
+        repository.append(change(2L, "Sevilla", "80000", "75000", T0.plusHours(1)));
+        repository.append(change(3L, "Madrid", "50000", "55000", T0.plusHours(2)));
+        repository.append(change(4L, "Madrid", null, "60000", T0.plusHours(3)));
+
+        // Act
+        List<PriceChange> all = repository.findDrops(null, T0, 10);
+        List<PriceChange> madrid = repository.findDrops("Madrid", T0, 10);
+
+        // Assert
+        assertEquals(List.of(2L, 1L), all.stream().map(PriceChange::propertyId).toList());
+        assertEquals(List.of(1L), madrid.stream().map(PriceChange::propertyId).toList());
+    }
+
+    @Test
+    void rollUpChangesBuildsDailyBucketsAndDeletesRawRows() {
+        // Arrange
+        repository.append(change(1L, "Madrid", "100000", "90000", T0));
+        repository.append(change(1L, "Madrid", "90000", "120000", T0.plusHours(2)));
+        repository.append(change(1L, "Madrid", "120000", "110000", T0.plusHours(4)));
+        repository.append(change(1L, "Madrid", "110000", "105000", T0.plusDays(1)));
+        repository.append(change(1L, "Madrid", "105000", "104000", T0.plusDays(30)));
+
+        // Act
+        int compacted = repository.rollUpChanges(T0.plusDays(2).toLocalDate().atStartOfDay());
+
+        // Assert
+        assertEquals(4, compacted);
+        assertEquals(1, repository.findByProperty(1L, T0, T0.plusDays(60)).size());
+        List<PriceBucket> buckets = repository.findBucketsByProperty(1L, T0.minusDays(1), T0.plusDays(60));
+        assertEquals(2, buckets.size());
+        PriceBucket first = buckets.get(0);
+        assertEquals(PriceBucket.Granularity.DAY, first.granularity());
+        assertEquals(T0.toLocalDate(), first.bucketStart());
+        assertEquals(0, new BigDecimal("100000").compareTo(first.openPrice()));
+        assertEquals(0, new BigDecimal("110000").compareTo(first.closePrice()));
+        assertEquals(0, new BigDecimal("90000").compareTo(first.minPrice()));
+        assertEquals(0, new BigDecimal("120000").compareTo(first.maxPrice()));
+        assertEquals(3, first.changes());
+    }
+
+    @Test
+    void rollUpDaysMergesDailyBucketsIntoMonths() {
+        // Arrange
+        repository.append(change(1L, "Madrid", "100000", "90000", T0));
+        repository.append(change(1L, "Madrid", "90000", "95000", T0.plusDays(5)));
+        repository.append(change(1L, "Madrid", "95000", "93000", T0.plusDays(25)));
+        repository.rollUpChanges(T0.plusDays(40));
+
+        // Act
+        int compacted = repository.rollUpDays(LocalDate.of(2024, 2, 1));
+
+        // Assert
+        assertEquals(2, compacted);
+        List<PriceBucket> buckets = repository.findBucketsByCity("Madrid", T0, T0.plusDays(60));
+        assertEquals(2, buckets.size());
+        PriceBucket january = buckets.get(0);
+        assertEquals(PriceBucket.Granularity.MONTH, january.granularity());
+        assertEquals(LocalDate.of(2024, 1, 1), january.bucketStart());
+        assertEquals(0, new BigDecimal("100000").compareTo(january.openPrice()));
+        assertEquals(0, new BigDecimal("95000").compareTo(january.closePrice()));
+        assertEquals(2, january.changes());
+        assertEquals(PriceBucket.Granularity.DAY, buckets.get(1).granularity());
+    }
+
+    private static PriceChange change(Long propertyId, String city, String oldPrice, String newPrice, LocalDateTime at) {
+        return new PriceChange(propertyId, city, oldPrice != null ? new BigDecimal(oldPrice) : null,
+            new BigDecimal(newPrice), at);
+    }
+}
@@ -0,0 +1,458 @@
+package com.apluz.backend.infrastructure.adapter.persistence;
+
+import com.apluz.backend.domain.model.PriceChange;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyStatusChange;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.domain.port.PropertyRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Contrato común de los adaptadores de {@link PropertyRepository}: cada subclase asigna
+ * {@code repository} vacío antes de cada test. Con {@code mvn test} se ejecuta sobre H2
+ * ({@link JdbcPropertyRepositoryTest}) y sobre el almacén embebido ({@code EmbeddedPropertyRepositoryTest}).
+ * Las ramas de {@link SqlDialect#POSTGRESQL} del adaptador JDBC ({@code id = ANY(?)}, {@code UPDATE ... FROM
+ * (VALUES ...)}, {@code RETURNING}, la estimación con {@code EXPLAIN}) y el particionado por estado solo se
+ * prueban contra PostgreSQL, que esta suite no levanta
+ */
+public abstract class PropertyRepositoryContractTest {
+
+    protected PropertyRepository repository;
+
+    @Test
+    void testSaveNewProperty() {
+        // Arrange
+        Property property = createTestProperty();
+
+        // Act
+        Property savedProperty = repository.save(property);
+
+        // Assert
+        assertNotNull(savedProperty.getId());
+        assertEquals("Test Property", savedProperty.getTitle());
+    }
+
+    @Test
+    void testFindById() {
+        // Arrange
+        Property property = createTestProperty();
+        Property savedProperty = repository.save(property);
+
+        // Act
+        Optional<Property> foundProperty = repository.findById(savedProperty.getId());
+
+        // Assert
+        assertTrue(foundProperty.isPresent());
+        assertEquals("Test Property", foundProperty.get().getTitle());
+    }
+
+    @Test
+    void testFindByIdNotFound() {
+        // Act
+        Optional<Property> foundProperty = repository.findById(999L);
+
+        // Assert
+        assertFalse(foundProperty.isPresent());
+    }
+
+    @Test
+    void testFindAllById() {
+        // Arrange
+        Property property1 = repository.save(createTestProperty());
+        Property property2 = repository.save(createTestProperty());
+        repository.save(createTestProperty());
+
+        // Act
+        List<Property> found = repository.findAllById(List.of(property2.getId(), 999L, property1.getId(), property2.getId()));
+
+        // Assert
+        assertEquals(Set.of(property1.getId(), property2.getId()),
+            Set.copyOf(found.stream().map(Property::getId).toList()));
+        assertEquals(2, found.size());
+        assertTrue(repository.findAllById(List.of()).isEmpty());
+    }
+
+    @Test
+    void testFindAll() {
+        // Arrange
+        repository.save(createTestProperty());
+        repository.save(createTestProperty());
+
+        // Act
+        List<Property> properties = repository.findAll();
+
+        // Assert
+        assertEquals(2, properties.size());
+    }
+
+    @Test
+    void testFindAllSkipsArchived() {
+        // Arrange
+        Property available = repository.save(createTestProperty());
+        Property sold = createTestProperty();
+        sold.setStatus(PropertyStatus.SOLD);
+        repository.save(sold);
+
+        // Act
+        List<Property> properties = repository.findAll();
+
+        // Assert
+        assertEquals(1, properties.size());
+        assertEquals(available.getId(), properties.get(0).getId());
+    }
+
+    @Test
+    void testFindByCity() {
+        // Arrange
+        Property property1 = createTestProperty();
+        property1.setCity("Madrid");
+        repository.save(property1);
+
+        Property property2 = createTestProperty();
+        property2.setCity("Barcelona");
+        repository.save(property2);
+
+        // Act
+        List<Property> madridProperties = repository.findByCity("Madrid");
+
+        // Assert
+        assertEquals(1, madridProperties.size());
+        assertEquals("Madrid", madridProperties.get(0).getCity());
+    }
+
+    @Test
+    void testFindByType() {
+        // Arrange
+        Property property1 = createTestProperty();
+        property1.setType(PropertyType.HOUSE);
+        repository.save(property1);
+
+        Property property2 = createTestProperty();
+        property2.setType(PropertyType.APARTMENT);
+        repository.save(property2);
+
+        // Act
+        List<Property> houses = repository.findByType(PropertyType.HOUSE);
+
+        // Assert
+        assertEquals(1, houses.size());
+        assertEquals(PropertyType.HOUSE, houses.get(0).getType());
+    }
+
+    @Test
+    void testFindByStatus() {
+        // Arrange
+        Property property1 = createTestProperty();
+        property1.setStatus(PropertyStatus.AVAILABLE);
+        repository.save(property1);
+
+        Property property2 = createTestProperty();
+        property2.setStatus(PropertyStatus.SOLD);
+        repository.save(property2);
+
+        // Act
+        List<Property> availableProperties = repository.findByStatus(PropertyStatus.AVAILABLE);
+
+        // Assert
+        assertEquals(1, availableProperties.size());
+        assertEquals(PropertyStatus.AVAILABLE, availableProperties.get(0).getStatus());
+    }
+
+    @Test
+    void testForEachWithCombinedFilter() {
+        // Arrange
+        Property property1 = createTestProperty();
+        property1.setStatus(PropertyStatus.AVAILABLE);
+        repository.save(property1);
+
+        Property property2 = createTestProperty();
+        property2.setStatus(PropertyStatus.SOLD);
+        repository.save(property2);
+
+        Property property3 = createTestProperty();
+        property3.setCity("Barcelona");
+        repository.save(property3);
+
+        // Act
+        List<Property> streamed = new ArrayList<>();
+        repository.forEach(new PropertyFilter("Madrid", null, PropertyStatus.AVAILABLE), streamed::add);
+
+        // Assert
+        assertEquals(1, streamed.size());
+        assertEquals(property1.getId(), streamed.get(0).getId());
+    }
+
+    @Test
+    void testForEachUnfiltered() {
+        // Arrange
+        repository.save(createTestProperty());
+        repository.save(createTestProperty());
+
+        // Act
+        List<Property> streamed = new ArrayList<>();
+        repository.forEach(PropertyFilter.all(), streamed::add);
+
+        // Assert
+        assertEquals(2, streamed.size());
+    }
+
+    @Test
+    void testForEachIncludeArchived() {
+        // Arrange
+        repository.save(createTestProperty());
+        Property rented = createTestProperty();
+        rented.setStatus(PropertyStatus.RENTED);
+        repository.save(rented);
+        Property inactive = createTestProperty();
+        inactive.setStatus(PropertyStatus.INACTIVE);
+        repository.save(inactive);
+
+        // Act
+        List<Property> activeOnly = new ArrayList<>();
+        repository.forEach(PropertyFilter.byCity("Madrid"), activeOnly::add);
+        List<Property> withArchived = new ArrayList<>();
+        repository.forEach(PropertyFilter.byCity("Madrid").withArchived(true), withArchived::add);
+        List<Property> byArchivedStatus = new ArrayList<>();
+        repository.forEach(PropertyFilter.byStatus(PropertyStatus.RENTED), byArchivedStatus::add);
+
+        // Assert
+        assertEquals(1, activeOnly.size());
+        assertEquals(3, withArchived.size());
+        assertEquals(1, byArchivedStatus.size());
+    }
+
+    @Test
+    void testForEachProjectsRequestedFields() {
+        // Arrange
+        Property saved = repository.save(createTestProperty());
+
+        // Act
+        List<Property> streamed = new ArrayList<>();
+        repository.forEach(PropertyFilter.all(), PropertyField.parse("price,city"), streamed::add);
+
+        // Assert
+        Property projected = streamed.get(0);
+        assertEquals(saved.getId(), projected.getId());
+        assertEquals(new BigDecimal("250000.00"), projected.getPrice());
+        assertEquals("Madrid", projected.getCity());
+        assertNull(projected.getTitle());
+        assertNull(projected.getBedrooms());
+        assertNull(projected.getCreatedAt());
+    }
+
+    @Test
+    void testForEachUpdatedWithinWatermarkRange() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.of(2024, 3, 1, 12, 0);
+        Property old = createTestProperty();
+        old.setUpdatedAt(base.minusDays(1));
+        Property onWatermark = createTestProperty();
+        onWatermark.setUpdatedAt(base);
+        Property archived = createTestProperty();
+        archived.setStatus(PropertyStatus.SOLD);
+        archived.setUpdatedAt(base.plusHours(1));
+        Property future = createTestProperty();
+        future.setUpdatedAt(base.plusHours(3));
+        Long oldId = repository.save(old).getId();
+        Long onWatermarkId = repository.save(onWatermark).getId();
+        Long archivedId = repository.save(archived).getId();
+        repository.save(future);
+
+        // Act
+        List<Long> full = new ArrayList<>();
+        repository.forEachUpdated(null, base.plusHours(2), property -> full.add(property.getId()));
+        List<Property> incremental = new ArrayList<>();
+        repository.forEachUpdated(base, base.plusHours(2), incremental::add);
+
+        // Assert
+        assertEquals(Set.of(oldId, onWatermarkId, archivedId), Set.copyOf(full));
+        assertEquals(1, incremental.size());
+        assertEquals(archivedId, incremental.get(0).getId());
+        assertEquals(PropertyStatus.SOLD, incremental.get(0).getStatus());
+        assertEquals("123 Test St", incremental.get(0).getAddress());
+    }
+
+    @Test
+    void testUpdateProperty() {
+        // Arrange
+        Property property = createTestProperty();
+        Property savedProperty = repository.save(property);
+
+        savedProperty.setTitle("Updated Title");
+        savedProperty.setPrice(new BigDecimal("300000.00"));
+
+        // Act
+        Property updatedProperty = repository.save(savedProperty);
+
+        // Assert
+        assertEquals("Updated Title", updatedProperty.getTitle());
+        assertEquals(new BigDecimal("300000.00"), updatedProperty.getPrice());
+    }
+
+    @Test
+    void testUpdateStatuses() {
+        // Arrange
+        Property property1 = repository.save(createTestProperty());
+        Property property2 = repository.save(createTestProperty());
+        LocalDateTime changedAt = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+        // Act
+        Set<Long> updated = repository.updateStatuses(List.of(
+            new PropertyStatusChange(property1.getId(), PropertyStatus.SOLD, changedAt),
+            new PropertyStatusChange(property2.getId(), PropertyStatus.RESERVED, changedAt),
+            new PropertyStatusChange(999L, PropertyStatus.SOLD, changedAt)
+        ));
+
+        // Assert
+        assertEquals(Set.of(property1.getId(), property2.getId()), updated);
+        Property reloaded = repository.findById(property1.getId()).orElseThrow();
+        assertEquals(PropertyStatus.SOLD, reloaded.getStatus());
+        assertEquals(changedAt, reloaded.getUpdatedAt());
+        assertEquals("Test Property", reloaded.getTitle());
+        assertEquals(PropertyStatus.RESERVED, repository.findById(property2.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testUpdateStatusesSkipsChangesOlderThanRow() {
+        // Arrange: la fila ya se escribió después de que se aceptara el cambio
+        Property property = createTestProperty();
+        LocalDateTime writtenAt = LocalDateTime.of(2030, 1, 1, 12, 0);
+        property.setUpdatedAt(writtenAt);
+        property = repository.save(property);
+
+        // Act
+        Set<Long> updated = repository.updateStatuses(List.of(
+            new PropertyStatusChange(property.getId(), PropertyStatus.SOLD, writtenAt.minusSeconds(1))));
+
+        // Assert
+        assertTrue(updated.isEmpty());
+        Property reloaded = repository.findById(property.getId()).orElseThrow();
+        assertEquals(PropertyStatus.AVAILABLE, reloaded.getStatus());
+        assertEquals(writtenAt, reloaded.getUpdatedAt());
+    }
+
+    @Test
+    void testUpdatePricesOnlyWhenPriceUnchanged() {
+        // Arrange
+        Property property1 = repository.save(createTestProperty());
+        Property property2 = repository.save(createTestProperty());
+        LocalDateTime changedAt = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+        // Act: el segundo cambio parte de un precio que ya no es el actual
+        Set<Long> updated = repository.updatePrices(List.of(
+            new PriceChange(property1.getId(), "Madrid", new BigDecimal("250000.00"), new BigDecimal("237500.00"), changedAt),
+            new PriceChange(property2.getId(), "Madrid", new BigDecimal("199000.00"), new BigDecimal("189050.00"), changedAt),
+            new PriceChange(999L, "Madrid", new BigDecimal("250000.00"), new BigDecimal("1.00"), changedAt)
+        ));
+
+        // Assert
+        assertEquals(Set.of(property1.getId()), updated);
+        Property reloaded = repository.findById(property1.getId()).orElseThrow();
+        assertEquals(0, new BigDecimal("237500.00").compareTo(reloaded.getPrice()));
+        assertEquals(changedAt, reloaded.getUpdatedAt());
+        assertEquals("Test Property", reloaded.getTitle());
+        assertEquals(0, new BigDecimal("250000.00").compareTo(repository.findById(property2.getId()).orElseThrow().getPrice()));
+    }
+
+    @Test
+    void testTransitionStatusByFilter() {
+        // Arrange
+        Property available = repository.save(createTestProperty());
+        Property reserved = createTestProperty();
+        reserved.setStatus(PropertyStatus.RESERVED);
+        reserved = repository.save(reserved);
+        Property otherCity = createTestProperty();
+        otherCity.setCity("Barcelona");
+        repository.save(otherCity);
+        LocalDateTime changedAt = LocalDateTime.of(2030, 1, 1, 12, 0);
+        List<Property> updated = new ArrayList<>();
+
+        // Act
+        repository.transitionStatus(new PropertyFilter("Madrid", null, PropertyStatus.AVAILABLE), null,
+            PropertyStatus.INACTIVE, changedAt, updated::add);
+
+        // Assert
+        assertEquals(1, updated.size());
+        assertEquals(available.getId(), updated.get(0).getId());
+        assertEquals(PropertyStatus.INACTIVE, updated.get(0).getStatus());
+        assertEquals("Test Property", updated.get(0).getTitle());
+        assertEquals(changedAt, repository.findById(available.getId()).orElseThrow().getUpdatedAt());
+        assertEquals(PropertyStatus.RESERVED, repository.findById(reserved.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testTransitionStatusByIdsSkipsUnchanged() {
+        // Arrange
+        Property property1 = repository.save(createTestProperty());
+        Property property2 = createTestProperty();
+        property2.setStatus(PropertyStatus.INACTIVE);
+        property2 = repository.save(property2);
+        Property property3 = repository.save(createTestProperty());
+        List<Long> updatedIds = new ArrayList<>();
+
+        // Act
+        repository.transitionStatus(PropertyFilter.all(), List.of(property1.getId(), property2.getId(), 999L),
+            PropertyStatus.INACTIVE, LocalDateTime.now(), property -> updatedIds.add(property.getId()));
+
+        // Assert
+        assertEquals(List.of(property1.getId()), updatedIds);
+        assertEquals(PropertyStatus.AVAILABLE, repository.findById(property3.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testDeleteById() {
+        // Arrange
+        Property property = createTestProperty();
+        Property savedProperty = repository.save(property);
+
+        // Act
+        repository.deleteById(savedProperty.getId());
+
+        // Assert
+        Optional<Property> foundProperty = repository.findById(savedProperty.getId());
+        assertFalse(foundProperty.isPresent());
+    }
+
+    @Test
+    void testExistsById() {
+        // Arrange
+        Property property = createTestProperty();
+        Property savedProperty = repository.save(property);
+
+        // Act & Assert
+        assertTrue(repository.existsById(savedProperty.getId()));
+        assertFalse(repository.existsById(999L));
+    }
+
+    protected Property createTestProperty() {
+        Property property = new Property();
+        property.setTitle("Test Property");
+        property.setDescription("Test description");
+        property.setType(PropertyType.HOUSE);
+        property.setStatus(PropertyStatus.AVAILABLE);
+        property.setPrice(new BigDecimal("250000.00"));
+        property.setAddress("123 Test St");
+        property.setCity("Madrid");
+        property.setState("Madrid");
+        property.setZipCode("28001");
+        property.setArea(150.0);
+        property.setBedrooms(3);
+        property.setBathrooms(2);
+        property.setParkingSpaces(2);
+        property.setCreatedAt(LocalDateTime.now());
+        property.setUpdatedAt(LocalDateTime.now());
+        return property;
+    }
+}
@@ -0,0 +1,250 @@
+package com.apluz.backend.infrastructure.adapter.persistence;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.port.PropertyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para SingleFlightPropertyRepository, incluido un test de contención
+ */
+@ExtendWith(MockitoExtension.class)
+class SingleFlightPropertyRepositoryTest {
+
+    private static final int CALLERS = 50;
+
+    @Mock
+    private PropertyRepository delegate;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger dbCalls = new AtomicInteger();
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentIdenticalReadsShareOneQuery() throws Exception {
+        // Arrange: la consulta tarda hasta que el test la libera
+        SingleFlightPropertyRepository repository = new SingleFlightPropertyRepository(delegate, 5_000);
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            dbCalls.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(property(1L));
+        });
+        CountDownLatch started = new CountDownLatch(CALLERS);
+
+        // Act
+        List<Future<Optional<Property>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                started.countDown();
+                return repository.findById(1L);
+            }));
+        }
+        started.await(5, TimeUnit.SECONDS);
+        Thread.sleep(200);
+        release.countDown();
+        List<Property> properties = new ArrayList<>();
+        for (Future<Optional<Property>> result : results) {
+            properties.add(result.get(5, TimeUnit.SECONDS).orElseThrow());
+        }
+
+        // Assert: 50 llamadas concurrentes, una sola consulta; cada llamada recibe su propia copia
+        assertEquals(1, dbCalls.get());
+        assertEquals(1, repository.getExecutedCount());
+        assertEquals(CALLERS - 1, repository.getCoalescedCount());
+        assertTrue(properties.stream().allMatch(property -> property.getTitle().equals("Piso 1")));
+        assertEquals(CALLERS, properties.stream().map(System::identityHashCode).distinct().count());
+    }
+
+    @Test
+    void testConcurrentIdenticalCityStreamsShareOneQuery() throws Exception {
+        // Arrange: el recorrido de GET ?city= (forEach con filtro y campos), liberado por el test
+        SingleFlightPropertyRepository repository = new SingleFlightPropertyRepository(delegate, 5_000);
+        PropertyFilter madrid = PropertyFilter.byCity("Madrid");
+        Set<PropertyField> fields = EnumSet.of(PropertyField.ID, PropertyField.TITLE);
+        doAnswer(invocation -> {
+            dbCalls.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            Consumer<Property> action = invocation.getArgument(2);
+            for (long id = 1; id <= 3; id++) {
+                action.accept(property(id));
+            }
+            return null;
+        }).when(delegate).forEach(eq(madrid), eq(fields), any());
+        CountDownLatch started = new CountDownLatch(CALLERS);
+
+        // Act
+        List<Future<List<Property>>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                started.countDown();
+                List<Property> rows = new ArrayList<>();
+                repository.forEach(madrid, fields, rows::add);
+                return rows;
+            }));
+        }
+        started.await(5, TimeUnit.SECONDS);
+        Thread.sleep(200);
+        release.countDown();
+        List<List<Property>> streamed = new ArrayList<>();
+        for (Future<List<Property>> result : results) {
+            streamed.add(result.get(5, TimeUnit.SECONDS));
+        }
+
+        // Assert: una sola consulta; todos reciben las filas en orden y cada uno sus propias copias
+        assertEquals(1, dbCalls.get());
+        assertEquals(1, repository.getExecutedCount());
+        assertEquals(CALLERS - 1, repository.getCoalescedCount());
+        for (List<Property> rows : streamed) {
+            assertEquals(List.of(1L, 2L, 3L), rows.stream().map(Property::getId).toList());
+        }
+        assertEquals(CALLERS, streamed.stream().map(rows -> System.identityHashCode(rows.get(0))).distinct().count());
+    }
+
+    @Test
+    void testStreamsPastSharedRowLimitAreNotShared() throws Exception {
+        // Arrange
+        SingleFlightPropertyRepository repository = new SingleFlightPropertyRepository(delegate, 5_000);
+        PropertyFilter all = PropertyFilter.all();
+        doAnswer(invocation -> {
+            boolean leader = dbCalls.incrementAndGet() == 1;
+            Consumer<Property> action = invocation.getArgument(2);
+            for (long id = 1; id <= SingleFlightPropertyRepository.MAX_SHARED_ROWS + 1; id++) {
+                action.accept(property(id));
+                if (leader && id == 1) {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+            }
+            return null;
+        }).when(delegate).forEach(eq(all), eq(PropertyField.all()), any());
+        Future<?> first = executor.submit(() -> repository.forEach(all, property -> {
+        }));
+        while (dbCalls.get() == 0) {
+            Thread.sleep(5);
+        }
+
+        // Act
+        Future<Integer> second = executor.submit(() -> {
+            AtomicInteger rows = new AtomicInteger();
+            repository.forEach(all, property -> rows.incrementAndGet());
+            return rows.get();
+        });
+        Thread.sleep(100);
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(SingleFlightPropertyRepository.MAX_SHARED_ROWS + 1, second.get(5, TimeUnit.SECONDS));
+        assertEquals(2, dbCalls.get());
+        assertEquals(0, repository.getCoalescedCount());
+    }
+
+    @Test
+    void testWriteStopsSharingInFlightRead() throws Exception {
+        // Arrange: la primera lectura queda en curso con el valor anterior a la escritura
+        SingleFlightPropertyRepository repository = new SingleFlightPropertyRepository(delegate, 5_000);
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            if (dbCalls.incrementAndGet() == 1) {
+                release.await(5, TimeUnit.SECONDS);
+                return Optional.of(property(1L));
+            }
+            Property updated = property(1L);
+            updated.setStatus(PropertyStatus.SOLD);
+            return Optional.of(updated);
+        });
+        when(delegate.save(any(Property.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        Future<Optional<Property>> beforeWrite = executor.submit(() -> repository.findById(1L));
+        while (dbCalls.get() == 0) {
+            Thread.sleep(5);
+        }
+
+        // Act
+        repository.save(property(1L));
+        Optional<Property> afterWrite = repository.findById(1L);
+        release.countDown();
+
+        // Assert
+        assertEquals(PropertyStatus.SOLD, afterWrite.orElseThrow().getStatus());
+        assertEquals(PropertyStatus.AVAILABLE, beforeWrite.get(5, TimeUnit.SECONDS).orElseThrow().getStatus());
+        assertEquals(2, dbCalls.get());
+    }
+
+    @Test
+    void testFollowerQueriesOnItsOwnAfterTimeout() throws Exception {
+        // Arrange
+        SingleFlightPropertyRepository repository = new SingleFlightPropertyRepository(delegate, 50);
+        when(delegate.findByCity("Madrid")).thenAnswer(invocation -> {
+            if (dbCalls.incrementAndGet() == 1) {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return List.of(property(1L));
+        });
+        executor.submit(() -> repository.findByCity("Madrid"));
+        while (dbCalls.get() == 0) {
+            Thread.sleep(5);
+        }
+
+        // Act
+        List<Property> properties = repository.findByCity("Madrid");
+
+        // Assert
+        assertEquals(1, properties.size());
+        assertEquals(2, dbCalls.get());
+        assertEquals(0, repository.getCoalescedCount());
+    }
+
+    @Test
+    void testSequentialReadsAreNotCached() {
+        // Arrange
+        SingleFlightPropertyRepository repository = new SingleFlightPropertyRepository(delegate, 5_000);
+        when(delegate.existsById(1L)).thenReturn(true, false);
+
+        // Act & Assert
+        assertTrue(repository.existsById(1L));
+        assertFalse(repository.existsById(1L));
+        verify(delegate, times(2)).existsById(1L);
+    }
+
+    private Property property(Long id) {
+        Property property = new Property();
+        property.setId(id);
+        property.setTitle("Piso " + id);
+        property.setStatus(PropertyStatus.AVAILABLE);
+        return property;
+    }
+}
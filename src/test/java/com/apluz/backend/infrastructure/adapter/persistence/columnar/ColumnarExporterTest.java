@@ -0,0 +1,196 @@
+package com.apluz.backend.infrastructure.adapter.persistence.columnar;
+
+import com.apluz.backend.application.service.StatusWriteBehindQueue;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyStatusChange;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.infrastructure.adapter.persistence.JdbcPropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests de integración para ColumnarExporter sobre H2
+ */
+@JdbcTest
+@ActiveProfiles("test")
+@Sql(scripts = "/db/schema-h2.sql")
+class ColumnarExporterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+    private static final Duration LAG = Duration.ofMinutes(1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path directory;
+
+    private JdbcPropertyRepository repository;
+    private ColumnarExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM properties");
+        repository = new JdbcPropertyRepository(jdbcTemplate);
+        StatusWriteBehindQueue writeBehind = new StatusWriteBehindQueue(repository, event -> {
+        }, false, 50, 500);
+        exporter = new ColumnarExporter(repository, writeBehind, transactionManager, directory.toString(),
+            Duration.ofDays(1), LAG, 2);
+    }
+
+    @Test
+    void incrementalExportOnlyWritesRowsPastTheWatermark() throws IOException {
+        // Arrange
+        Property madrid = repository.save(property("Madrid", NOW.minusHours(5)));
+        Property sevilla = repository.save(property("Sevilla", NOW.minusHours(4)));
+        repository.save(property("Bilbao", NOW.minusHours(3)));
+        ColumnarFileInfo full = exporter.exportAsOf(NOW).orElseThrow();
+
+        madrid.setPrice(new BigDecimal("199000.00"));
+        madrid.setUpdatedAt(NOW.plusMinutes(10));
+        repository.save(madrid);
+        Property malaga = repository.save(property("Málaga", NOW.plusMinutes(20)));
+        repository.save(property("Cádiz", NOW.plusHours(2)));
+
+        // Act
+        ColumnarFileInfo incremental = exporter.exportAsOf(NOW.plusHours(1)).orElseThrow();
+
+        // Assert
+        assertEquals(ColumnarFileInfo.Kind.FULL, full.kind());
+        assertEquals(3, full.rows());
+        assertEquals(2, full.rowGroups());
+        assertEquals(NOW.minus(LAG), full.watermark());
+        assertEquals(ColumnarFileInfo.Kind.INCREMENTAL, incremental.kind());
+        assertEquals(full.watermark(), incremental.after());
+        assertEquals(2, incremental.rows());
+
+        Map<Long, Property> snapshot = readSnapshot();
+        assertEquals(4, snapshot.size());
+        assertEquals(new BigDecimal("199000.00"), snapshot.get(madrid.getId()).getPrice());
+        assertEquals("Sevilla", snapshot.get(sevilla.getId()).getCity());
+        assertTrue(snapshot.containsKey(malaga.getId()));
+    }
+
+    @Test
+    void exportWithoutNewWatermarkWritesNothing() throws IOException {
+        // Arrange
+        repository.save(property("Madrid", NOW.minusHours(5)));
+        exporter.exportAsOf(NOW);
+
+        // Act
+        Optional<ColumnarFileInfo> again = exporter.exportAsOf(NOW);
+
+        // Assert
+        assertTrue(again.isEmpty());
+        assertEquals(1, ColumnarSnapshot.open(directory).files().size());
+    }
+
+    @Test
+    void fullExportAfterIntervalReplacesPreviousGeneration() throws IOException {
+        // Arrange: la fila borrada sigue en la vista hasta la siguiente exportación completa
+        Property sold = repository.save(property("Madrid", NOW.minusHours(5)));
+        repository.save(property("Sevilla", NOW.minusHours(4)));
+        exporter.exportAsOf(NOW);
+        exporter.exportAsOf(NOW.plusHours(1));
+        repository.deleteById(sold.getId());
+        assertEquals(2, readSnapshot().size());
+
+        // Act
+        ColumnarFileInfo full = exporter.exportAsOf(NOW.plusDays(1)).orElseThrow();
+
+        // Assert
+        assertEquals(ColumnarFileInfo.Kind.FULL, full.kind());
+        assertEquals(List.of(full), ColumnarSnapshot.open(directory).files());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+        Map<Long, Property> snapshot = readSnapshot();
+        assertEquals(1, snapshot.size());
+        assertFalse(snapshot.containsKey(sold.getId()));
+    }
+
+    @Test
+    void pendingStatusChangeThatCommitsLateIsNotSkipped() throws IOException {
+        // Arrange: el cambio se acepta antes del watermark pero el primer volcado de la cola falla
+        JdbcPropertyRepository flaky = spy(repository);
+        doThrow(new DataAccessResourceFailureException("connection reset"))
+            .doCallRealMethod()
+            .when(flaky).updateStatuses(anyCollection());
+        StatusWriteBehindQueue writeBehind = new StatusWriteBehindQueue(flaky, event -> {
+        }, true, 60_000, 500);
+        ColumnarExporter withWriteBehind = new ColumnarExporter(flaky, writeBehind, transactionManager,
+            directory.toString(), Duration.ofDays(1), LAG, 2);
+        Property madrid = repository.save(property("Madrid", NOW.minusHours(5)));
+        LocalDateTime acceptedAt = NOW.minusMinutes(5);
+        writeBehind.enqueue(new PropertyStatusChange(madrid.getId(), PropertyStatus.SOLD, acceptedAt));
+
+        try {
+            // Act
+            ColumnarFileInfo first = withWriteBehind.exportAsOf(NOW).orElseThrow();
+            ColumnarFileInfo second = withWriteBehind.exportAsOf(NOW.plusHours(1)).orElseThrow();
+
+            // Assert
+            assertEquals(acceptedAt.minus(1, ChronoUnit.MICROS), first.watermark());
+            assertEquals(ColumnarFileInfo.Kind.INCREMENTAL, second.kind());
+            assertEquals(1, second.rows());
+            assertEquals(0, writeBehind.pendingCount());
+            assertEquals(PropertyStatus.SOLD, readSnapshot().get(madrid.getId()).getStatus());
+        } finally {
+            writeBehind.shutdown();
+        }
+    }
+
+    private Map<Long, Property> readSnapshot() throws IOException {
+        Map<Long, Property> properties = new HashMap<>();
+        ColumnarSnapshot.open(directory).forEach(PropertyField.all(),
+            property -> assertNull(properties.put(property.getId(), property)));
+        return properties;
+    }
+
+    private static Property property(String city, LocalDateTime updatedAt) {
+        Property property = new Property();
+        property.setTitle("Propiedad en " + city);
+        property.setType(PropertyType.APARTMENT);
+        property.setStatus(PropertyStatus.AVAILABLE);
+        property.setPrice(new BigDecimal("210000.00"));
+        property.setAddress("Calle Mayor 1");
+        property.setCity(city);
+        property.setArea(90.0);
+        property.setBedrooms(2);
+        property.setBathrooms(1);
+        property.setParkingSpaces(0);
+        property.setCreatedAt(updatedAt.minusDays(1));
+        property.setUpdatedAt(updatedAt);
+        return property;
+    }
+}
@@ -0,0 +1,175 @@
+package com.apluz.backend.infrastructure.adapter.persistence.columnar;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para ColumnarFileWriter y ColumnarFileReader
+ */
+class ColumnarFileTest {
+
+    private static final LocalDateTime WATERMARK = LocalDateTime.of(2024, 6, 1, 12, 0, 0, 123_456_000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripKeepsEveryColumnAcrossRowGroups() throws IOException {
+        // Arrange
+        List<Property> properties = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            properties.add(property(100L + i * 3, i % 2 == 0 ? "Madrid" : "Sevilla", "2150" + i + "00.50"));
+        }
+        properties.get(3).setDescription(null);
+        properties.get(3).setState(null);
+        properties.get(3).setParkingSpaces(null);
+        Path file = directory.resolve("properties.apc");
+
+        // Act
+        ColumnarFileInfo written;
+        try (ColumnarFileWriter writer = ColumnarFileWriter.create(file, ColumnarFileInfo.Kind.INCREMENTAL,
+                WATERMARK.minusHours(1), WATERMARK, 3)) {
+            properties.forEach(writer::write);
+            written = writer.commit();
+        }
+        List<Property> read = new ArrayList<>();
+        ColumnarFileInfo info = ColumnarFileReader.forEach(file, PropertyField.all(), read::add);
+
+        // Assert
+        assertEquals(new ColumnarFileInfo(file, ColumnarFileInfo.Kind.INCREMENTAL, WATERMARK.minusHours(1), WATERMARK,
+            3, 7), info);
+        assertEquals(written, info);
+        assertEquals(7, read.size());
+        for (int i = 0; i < properties.size(); i++) {
+            Property expected = properties.get(i);
+            Property actual = read.get(i);
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getTitle(), actual.getTitle());
+            assertEquals(expected.getDescription(), actual.getDescription());
+            assertEquals(expected.getType(), actual.getType());
+            assertEquals(expected.getStatus(), actual.getStatus());
+            assertEquals(expected.getPrice(), actual.getPrice());
+            assertEquals(expected.getCity(), actual.getCity());
+            assertEquals(expected.getState(), actual.getState());
+            assertEquals(expected.getArea(), actual.getArea());
+            assertEquals(expected.getParkingSpaces(), actual.getParkingSpaces());
+            assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+            assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+        }
+        assertFalse(Files.exists(directory.resolve("properties.apc.tmp")));
+    }
+
+    @Test
+    void readingProjectedFieldsLeavesTheRestNull() throws IOException {
+        // Arrange
+        Path file = write(List.of(property(1L, "Madrid", "100000.00"), property(2L, "Bilbao", "200000.00")));
+
+        // Act
+        List<Property> read = new ArrayList<>();
+        ColumnarFileReader.forEach(file, PropertyField.parse("city,price"), read::add);
+
+        // Assert
+        assertEquals(2L, read.get(1).getId());
+        assertEquals("Bilbao", read.get(1).getCity());
+        assertEquals(new BigDecimal("200000.00"), read.get(1).getPrice());
+        assertNull(read.get(1).getTitle());
+        assertNull(read.get(1).getStatus());
+        assertNull(read.get(1).getUpdatedAt());
+    }
+
+    @Test
+    void dictionaryColumnsCompressRepeatedValues() throws IOException {
+        // Arrange
+        List<Property> properties = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            properties.add(property(i + 1L, i % 3 == 0 ? "Valencia" : "Zaragoza", "150000.00"));
+        }
+
+        // Act
+        Path file = write(properties);
+
+        // Assert: unas pocas decenas de bytes por fila frente a los ~200 del texto original
+        assertTrue(Files.size(file) < 5_000 * 40, "file size " + Files.size(file));
+        List<Property> read = new ArrayList<>();
+        ColumnarFileReader.forEach(file, PropertyField.parse("city"), read::add);
+        assertEquals("Zaragoza", read.get(4_999).getCity());
+    }
+
+    @Test
+    void corruptedBlockIsDetectedOnlyWhenItsColumnIsRead() throws IOException {
+        // Arrange: se altera el último byte del bloque de updated_at, la última columna del grupo
+        Path file = write(List.of(property(1L, "Madrid", "100000.00")));
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - ColumnarFormat.FOOTER_LENGTH - 1] ^= 0x5A;
+        Files.write(file, bytes);
+
+        // Act & Assert
+        List<Property> read = new ArrayList<>();
+        ColumnarFileReader.forEach(file, PropertyField.parse("city"), read::add);
+        assertEquals("Madrid", read.get(0).getCity());
+        assertThrows(IllegalStateException.class,
+            () -> ColumnarFileReader.forEach(file, PropertyField.all(), property -> {
+            }));
+    }
+
+    @Test
+    void closingWithoutCommitLeavesNoFile() throws IOException {
+        // Arrange
+        Path file = directory.resolve("aborted.apc");
+
+        // Act
+        try (ColumnarFileWriter writer = ColumnarFileWriter.create(file, ColumnarFileInfo.Kind.FULL, null,
+                WATERMARK, 10)) {
+            writer.write(property(1L, "Madrid", "1.00"));
+        }
+
+        // Assert
+        assertFalse(Files.exists(file));
+        assertFalse(Files.exists(directory.resolve("aborted.apc.tmp")));
+    }
+
+    private Path write(List<Property> properties) throws IOException {
+        Path file = directory.resolve("properties.apc");
+        try (ColumnarFileWriter writer = ColumnarFileWriter.create(file, ColumnarFileInfo.Kind.FULL, null,
+                WATERMARK, 1_024)) {
+            properties.forEach(writer::write);
+            writer.commit();
+        }
+        return file;
+    }
+
+    private static Property property(Long id, String city, String price) {
+        Property property = new Property();
+        property.setId(id);
+        property.setTitle("Piso " + id);
+        property.setDescription("Luminoso, reformado");
+        property.setType(id % 2 == 0 ? PropertyType.APARTMENT : PropertyType.HOUSE);
+        property.setStatus(PropertyStatus.AVAILABLE);
+        property.setPrice(new BigDecimal(price));
+        property.setAddress("Calle " + id);
+        property.setCity(city);
+        property.setState(city);
+        property.setZipCode("28001");
+        property.setArea(80.5 + id);
+        property.setBedrooms(3);
+        property.setBathrooms(2);
+        property.setParkingSpaces(1);
+        property.setCreatedAt(WATERMARK.minusDays(id));
+        property.setUpdatedAt(WATERMARK.minusMinutes(id));
+        return property;
+    }
+}
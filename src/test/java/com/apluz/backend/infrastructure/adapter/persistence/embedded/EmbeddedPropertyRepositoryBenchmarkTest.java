@@ -0,0 +1,146 @@
+package com.apluz.backend.infrastructure.adapter.persistence.embedded;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyStatusChange;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.domain.port.PropertyRepository;
+import com.apluz.backend.infrastructure.adapter.persistence.JdbcPropertyRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark: almacén embebido frente al adaptador JDBC (H2 en memoria) en inserciones, lecturas
+ * por id, listados por ciudad, recorrido completo y cambios de estado en lote, y tiempo de reapertura.
+ * Se ejecuta con {@code mvn test -Pbenchmark}
+ */
+@Tag("benchmark")
+class EmbeddedPropertyRepositoryBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int LOOKUPS = 20_000;
+    private static final int ROUNDS = 5;
+    private static final String[] CITIES = {"Madrid", "Barcelona", "Córdoba", "Sevilla", "Valencia"};
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void compareWithJdbcAdapter() {
+        SingleConnectionDataSource dataSource =
+            new SingleConnectionDataSource("jdbc:h2:mem:embedded-benchmark;DB_CLOSE_DELAY=-1", "sa", "", true);
+        DatabasePopulatorUtils.execute(new ResourceDatabasePopulator(new ClassPathResource("db/schema-h2.sql")), dataSource);
+        JdbcPropertyRepository jdbc = new JdbcPropertyRepository(new JdbcTemplate(dataSource));
+
+        System.out.printf("%n%-26s %12s %12s%n", "operation (ms)", "jdbc-h2", "embedded");
+        try (EmbeddedPropertyRepository embedded = new EmbeddedPropertyRepository(directory, false, 50_000)) {
+            report("insert " + ROWS, () -> insert(jdbc), () -> insert(embedded));
+            List<Long> ids = jdbc.findAll().stream().map(Property::getId).toList();
+            report("findById x" + LOOKUPS, () -> lookups(jdbc, ids), () -> lookups(embedded, ids));
+            report("findByCity x" + CITIES.length, () -> byCity(jdbc), () -> byCity(embedded));
+            report("forEach (all rows)", () -> stream(jdbc), () -> stream(embedded));
+            report("updateStatuses 1000", () -> statuses(jdbc, ids), () -> statuses(embedded, ids));
+            embedded.snapshot();
+        }
+        long start = System.nanoTime();
+        try (EmbeddedPropertyRepository reopened = new EmbeddedPropertyRepository(directory, false, 50_000)) {
+            System.out.printf("%-26s %12s %12d%n", "reopen (snapshot)", "-", (System.nanoTime() - start) / 1_000_000);
+            assertEquals(ROWS, reopened.count(PropertyFilter.all().withArchived(true), true).total());
+        }
+        dataSource.destroy();
+    }
+
+    private static void report(String operation, Supplier<Integer> jdbc, Supplier<Integer> embedded) {
+        long jdbcNanos = measure(jdbc);
+        long embeddedNanos = measure(embedded);
+        System.out.printf("%-26s %12d %12d%n", operation, jdbcNanos / 1_000_000, embeddedNanos / 1_000_000);
+    }
+
+    /**
+     * La inserción solo se mide una vez (cambia el estado); el resto, el mejor de varias vueltas
+     */
+    private static long measure(Supplier<Integer> work) {
+        long best = Long.MAX_VALUE;
+        int rounds = 0;
+        do {
+            long start = System.nanoTime();
+            int result = work.get();
+            best = Math.min(best, System.nanoTime() - start);
+            if (result < 0) {
+                break;
+            }
+        } while (++rounds < ROUNDS);
+        return best;
+    }
+
+    private static int insert(PropertyRepository repository) {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < ROWS; i++) {
+            Property property = new Property();
+            property.setTitle("Propiedad " + i);
+            property.setDescription("Descripción de la propiedad número " + i);
+            property.setType(PropertyType.values()[i % PropertyType.values().length]);
+            property.setStatus(PropertyStatus.AVAILABLE);
+            property.setPrice(new BigDecimal(100_000 + i * 37).setScale(2));
+            property.setAddress("Calle " + i);
+            property.setCity(CITIES[i % CITIES.length]);
+            property.setState(CITIES[i % CITIES.length]);
+            property.setZipCode(String.valueOf(10_000 + i));
+            property.setArea(50.0 + i % 200);
+            property.setBedrooms(1 + i % 5);
+            property.setBathrooms(1 + i % 3);
+            property.setParkingSpaces(i % 2);
+            property.setCreatedAt(base.plusMinutes(i));
+            property.setUpdatedAt(base.plusMinutes(i));
+            repository.save(property);
+        }
+        return -1;
+    }
+
+    private static int lookups(PropertyRepository repository, List<Long> ids) {
+        int found = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            found += repository.findById(ids.get((i * 7919) % ids.size())).isPresent() ? 1 : 0;
+        }
+        return found;
+    }
+
+    private static int byCity(PropertyRepository repository) {
+        int rows = 0;
+        for (String city : CITIES) {
+            rows += repository.findByCity(city).size();
+        }
+        return rows;
+    }
+
+    private static int stream(PropertyRepository repository) {
+        int[] rows = {0};
+        repository.forEach(PropertyFilter.all(), property -> rows[0]++);
+        return rows[0];
+    }
+
+    private static int statuses(PropertyRepository repository, List<Long> ids) {
+        List<PropertyStatusChange> changes = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 1_000; i++) {
+            changes.add(new PropertyStatusChange(ids.get(i), i % 2 == 0 ? PropertyStatus.RESERVED : PropertyStatus.AVAILABLE, now));
+        }
+        return repository.updateStatuses(changes).size();
+    }
+}
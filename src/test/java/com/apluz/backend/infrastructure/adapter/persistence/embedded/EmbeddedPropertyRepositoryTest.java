@@ -0,0 +1,164 @@
+package com.apluz.backend.infrastructure.adapter.persistence.embedded;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyCount;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyStatusChange;
+import com.apluz.backend.infrastructure.adapter.persistence.PropertyRepositoryContractTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del almacén embebido: el contrato común del repositorio y la recuperación tras reabrir
+ */
+class EmbeddedPropertyRepositoryTest extends PropertyRepositoryContractTest {
+
+    @TempDir
+    Path directory;
+
+    private EmbeddedPropertyRepository embedded;
+
+    @BeforeEach
+    void setUp() {
+        embedded = new EmbeddedPropertyRepository(directory, true, 1_000);
+        repository = embedded;
+    }
+
+    @AfterEach
+    void tearDown() {
+        embedded.close();
+    }
+
+    @Test
+    void testCountIsAlwaysExact() {
+        // Arrange
+        repository.save(createTestProperty());
+        Property sold = createTestProperty();
+        sold.setStatus(PropertyStatus.SOLD);
+        repository.save(sold);
+
+        // Act & Assert
+        assertEquals(PropertyCount.exact(1), repository.count(PropertyFilter.byCity("Madrid"), false));
+        assertEquals(PropertyCount.exact(2), repository.count(PropertyFilter.all().withArchived(true), true));
+    }
+
+    @Test
+    void testReopenReplaysLogWithoutSnapshot() {
+        // Arrange
+        Property kept = repository.save(createTestProperty());
+        Property deleted = repository.save(createTestProperty());
+        repository.deleteById(deleted.getId());
+        repository.updateStatuses(List.of(new PropertyStatusChange(kept.getId(), PropertyStatus.RESERVED, LocalDateTime.now())));
+
+        // Act: reabrir sin cerrar (caída) obliga a reproducir el log
+        EmbeddedPropertyRepository reopened = new EmbeddedPropertyRepository(directory, true, 1_000);
+
+        // Assert
+        assertFalse(Files.exists(directory.resolve(EmbeddedPropertyRepository.SNAPSHOT_FILE)));
+        assertEquals(PropertyStatus.RESERVED, reopened.findById(kept.getId()).orElseThrow().getStatus());
+        assertFalse(reopened.existsById(deleted.getId()));
+        assertTrue(reopened.save(createTestProperty()).getId() > deleted.getId());
+    }
+
+    @Test
+    void testSnapshotCompactsLogAndSurvivesRestart() throws Exception {
+        // Arrange
+        embedded.close();
+        embedded = new EmbeddedPropertyRepository(directory, false, 3);
+        for (int i = 0; i < 4; i++) {
+            embedded.save(createTestProperty());
+        }
+
+        // Act
+        embedded.close();
+        embedded = new EmbeddedPropertyRepository(directory, false, 3);
+
+        // Assert
+        assertEquals(0, Files.size(directory.resolve(EmbeddedPropertyRepository.LOG_FILE)));
+        assertEquals(4, embedded.findByCity("Madrid").size());
+        assertEquals(new BigDecimal("250000.00"), embedded.findAll().get(0).getPrice());
+    }
+
+    @Test
+    void testBackgroundSnapshotKeepsWritesMadeWhileItRuns() throws Exception {
+        // Arrange
+        embedded.close();
+        embedded = new EmbeddedPropertyRepository(directory, false, 3);
+        Path compactingLog = directory.resolve(EmbeddedPropertyRepository.COMPACTING_LOG_FILE);
+
+        // Act: el tercer registro dispara el snapshot y los dos siguientes van al log nuevo
+        for (int i = 0; i < 5; i++) {
+            embedded.save(createTestProperty());
+        }
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (Files.exists(compactingLog) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        // Reabrir sin cerrar (caída): snapshot de tres filas más el log con las otras dos
+        EmbeddedPropertyRepository reopened = new EmbeddedPropertyRepository(directory, false, 1_000);
+
+        // Assert
+        assertFalse(Files.exists(compactingLog));
+        assertTrue(Files.exists(directory.resolve(EmbeddedPropertyRepository.SNAPSHOT_FILE)));
+        assertEquals(5, reopened.findByCity("Madrid").size());
+        assertEquals(6L, reopened.save(createTestProperty()).getId());
+    }
+
+    @Test
+    void testLeftoverCompactingLogIsReplayedBeforeTheLog() throws Exception {
+        // Arrange: caída con un snapshot en segundo plano sin terminar; el alta quedó en el log apartado
+        // y el cambio de estado posterior en el log nuevo
+        Path logFile = directory.resolve(EmbeddedPropertyRepository.LOG_FILE);
+        Property first = repository.save(createTestProperty());
+        byte[] rotated = Files.readAllBytes(logFile);
+        repository.updateStatuses(List.of(new PropertyStatusChange(first.getId(), PropertyStatus.SOLD, LocalDateTime.now())));
+        byte[] all = Files.readAllBytes(logFile);
+        Files.write(directory.resolve(EmbeddedPropertyRepository.COMPACTING_LOG_FILE), rotated);
+        Files.write(logFile, Arrays.copyOfRange(all, rotated.length, all.length));
+
+        // Act
+        EmbeddedPropertyRepository reopened = new EmbeddedPropertyRepository(directory, false, 1_000);
+
+        // Assert
+        assertEquals(PropertyStatus.SOLD, reopened.findById(first.getId()).orElseThrow().getStatus());
+        assertFalse(Files.exists(directory.resolve(EmbeddedPropertyRepository.COMPACTING_LOG_FILE)));
+        assertEquals(0, Files.size(logFile));
+    }
+
+    @Test
+    void testTornOrCorruptedTailIsDiscarded() throws Exception {
+        // Arrange
+        Property first = repository.save(createTestProperty());
+        Property second = repository.save(createTestProperty());
+        Path logFile = directory.resolve(EmbeddedPropertyRepository.LOG_FILE);
+        long size = Files.size(logFile);
+        try (RandomAccessFile file = new RandomAccessFile(logFile.toFile(), "rw")) {
+            // Un byte cambiado en el último registro y medio registro más al final
+            file.seek(size - 3);
+            file.write(file.read() ^ 0xFF);
+            file.seek(size);
+            file.write(new byte[] {0, 0, 0, 42, 1, 2});
+        }
+
+        // Act
+        EmbeddedPropertyRepository reopened = new EmbeddedPropertyRepository(directory, true, 1_000);
+
+        // Assert
+        assertTrue(reopened.existsById(first.getId()));
+        assertFalse(reopened.existsById(second.getId()));
+        assertTrue(Files.size(logFile) < size);
+    }
+}
@@ -0,0 +1,136 @@
+package com.apluz.backend.infrastructure.adapter.persistence.r2dbc;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyCount;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del adaptador R2DBC sobre H2 en memoria (driver r2dbc-h2)
+ */
+class R2dbcPropertyRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private R2dbcPropertyRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory =
+            ConnectionFactories.get("r2dbc:h2:mem:///r2dbc" + UUID.randomUUID().toString().replace("-", "") + ";DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/schema-h2.sql")).populate(connectionFactory).block();
+        repository = new R2dbcPropertyRepository(DatabaseClient.create(connectionFactory));
+    }
+
+    @Test
+    void testSaveAndFindById() {
+        // Arrange
+        Property saved = repository.save(createTestProperty("Madrid", 0)).block();
+
+        // Act & Assert
+        assertNotNull(saved.getId());
+        StepVerifier.create(repository.findById(saved.getId()))
+            .assertNext(found -> {
+                assertEquals("Test Property", found.getTitle());
+                assertEquals(0, new BigDecimal("250000.00").compareTo(found.getPrice()));
+                assertEquals(BASE, found.getCreatedAt());
+            })
+            .verifyComplete();
+        StepVerifier.create(repository.findById(999L)).verifyComplete();
+    }
+
+    @Test
+    void testFindAllStreamsNewestFirstWithBackPressure() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            repository.save(createTestProperty(i % 2 == 0 ? "Madrid" : "Barcelona", i)).block();
+        }
+        Property sold = createTestProperty("Madrid", 10);
+        sold.setStatus(PropertyStatus.SOLD);
+        repository.save(sold).block();
+
+        // Act & Assert: se piden las filas de dos en dos
+        StepVerifier.create(repository.findAll(PropertyFilter.all(), PropertyField.all()), 2)
+            .assertNext(property -> assertEquals(BASE.plusMinutes(4), property.getCreatedAt()))
+            .assertNext(property -> assertEquals(BASE.plusMinutes(3), property.getCreatedAt()))
+            .thenRequest(3)
+            .expectNextCount(3)
+            .verifyComplete();
+        StepVerifier.create(repository.findAll(PropertyFilter.byCity("Madrid").withArchived(true), PropertyField.all()))
+            .expectNextCount(4)
+            .verifyComplete();
+    }
+
+    @Test
+    void testFindAllProjectsRequestedFields() {
+        // Arrange
+        repository.save(createTestProperty("Madrid", 0)).block();
+
+        // Act & Assert
+        StepVerifier.create(repository.findAll(PropertyFilter.all(), PropertyField.parse("price,city")))
+            .assertNext(property -> {
+                assertNotNull(property.getId());
+                assertEquals("Madrid", property.getCity());
+                assertNull(property.getTitle());
+                assertNull(property.getCreatedAt());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void testCountTransitionAndDelete() {
+        // Arrange
+        Property first = repository.save(createTestProperty("Madrid", 0)).block();
+        Property second = repository.save(createTestProperty("Madrid", 1)).block();
+        repository.save(createTestProperty("Barcelona", 2)).block();
+
+        // Act
+        List<Property> updated = repository.transitionStatus(PropertyFilter.byCity("Madrid"), List.of(first.getId(), 999L),
+            PropertyStatus.RESERVED, BASE.plusDays(1)).collectList().block();
+
+        // Assert
+        assertEquals(1, updated.size());
+        assertEquals(PropertyStatus.RESERVED, updated.get(0).getStatus());
+        assertEquals(PropertyCount.exact(3), repository.count(PropertyFilter.all()).block());
+        assertEquals(2, repository.findAllById(List.of(first.getId(), second.getId(), 999L)).count().block());
+        assertTrue(repository.deleteById(second.getId()).block());
+        assertFalse(repository.deleteById(second.getId()).block());
+    }
+
+    private static Property createTestProperty(String city, int minute) {
+        Property property = new Property();
+        property.setTitle("Test Property");
+        property.setDescription("Test description");
+        property.setType(PropertyType.HOUSE);
+        property.setStatus(PropertyStatus.AVAILABLE);
+        property.setPrice(new BigDecimal("250000.00"));
+        property.setAddress("123 Test St");
+        property.setCity(city);
+        property.setState(city);
+        property.setZipCode("28001");
+        property.setArea(150.0);
+        property.setBedrooms(3);
+        property.setBathrooms(2);
+        property.setParkingSpaces(2);
+        property.setCreatedAt(BASE.plusMinutes(minute));
+        property.setUpdatedAt(BASE.plusMinutes(minute));
+        return property;
+    }
+}
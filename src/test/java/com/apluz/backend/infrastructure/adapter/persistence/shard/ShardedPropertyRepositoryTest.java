@@ -0,0 +1,244 @@
+package com.apluz.backend.infrastructure.adapter.persistence.shard;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyCount;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyStatusChange;
+import com.apluz.backend.domain.model.PropertyType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del repositorio particionado sobre tres bases de datos H2 en memoria
+ */
+class ShardedPropertyRepositoryTest {
+
+    private static final List<String> CANDIDATE_CITIES = List.of(
+        "Madrid", "Barcelona", "Valencia", "Sevilla", "Bilbao", "Malaga", "Zaragoza", "Murcia", "Vigo", "Gijon");
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private List<Shard> shards;
+    private ShardedPropertyRepository repository;
+    private final String[] cityOfShard = new String[3];
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString();
+        shards = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:shard" + i + "-" + run + ";DB_CLOSE_DELAY=-1", "sa", "");
+            DatabasePopulatorUtils.execute(new ResourceDatabasePopulator(new ClassPathResource("db/schema-h2.sql")), dataSource);
+            shards.add(new Shard(i, dataSource));
+        }
+        repository = new ShardedPropertyRepository(shards);
+        for (String city : CANDIDATE_CITIES) {
+            int index = repository.shardFor(city).index();
+            if (cityOfShard[index] == null) {
+                cityOfShard[index] = city;
+            }
+        }
+        for (String city : cityOfShard) {
+            assertNotNull(city, "Every shard needs a test city");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Shard shard : shards) {
+            new JdbcTemplate(shard.dataSource()).execute("DROP ALL OBJECTS");
+        }
+        repository.close();
+    }
+
+    @Test
+    void testSaveRoutesByCityAndEncodesShardInId() {
+        // Act
+        Property saved = repository.save(property(cityOfShard[2], PropertyType.HOUSE, 0));
+
+        // Assert
+        assertEquals(2, ShardedIds.shardOf(saved.getId()));
+        assertTrue(shards.get(2).repository().existsById(saved.getId()));
+        assertFalse(shards.get(0).repository().existsById(saved.getId()));
+        assertEquals(saved.getId(), repository.findById(saved.getId()).orElseThrow().getId());
+        assertEquals(1, repository.findByCity(cityOfShard[2]).size());
+    }
+
+    @Test
+    void testCrossShardQueriesAreMergedByCreatedAtDescending() {
+        // Arrange
+        for (int i = 0; i < 9; i++) {
+            PropertyType type = i % 2 == 0 ? PropertyType.HOUSE : PropertyType.APARTMENT;
+            repository.save(property(cityOfShard[i % 3], type, i));
+        }
+
+        // Act
+        List<Property> all = repository.findAll();
+        List<Property> houses = repository.findByType(PropertyType.HOUSE);
+        List<Property> available = repository.findByStatus(PropertyStatus.AVAILABLE);
+
+        // Assert
+        assertEquals(9, all.size());
+        assertNewestFirst(all);
+        assertEquals(5, houses.size());
+        assertNewestFirst(houses);
+        assertTrue(houses.stream().allMatch(property -> property.getType() == PropertyType.HOUSE));
+        assertEquals(9, available.size());
+        assertEquals(BASE.plusMinutes(8), all.get(0).getCreatedAt());
+    }
+
+    @Test
+    void testForEachStreamsMergedRowsWithRequestedFields() {
+        // Arrange
+        for (int i = 0; i < 6; i++) {
+            repository.save(property(cityOfShard[i % 3], PropertyType.HOUSE, i));
+        }
+        List<Property> seen = new ArrayList<>();
+
+        // Act
+        repository.forEach(PropertyFilter.all(), EnumSet.of(PropertyField.ID, PropertyField.TITLE), seen::add);
+
+        // Assert
+        assertEquals(6, seen.size());
+        assertNewestFirst(seen);
+        assertEquals("Property 5", seen.get(0).getTitle());
+        assertNull(seen.get(0).getPrice());
+    }
+
+    @Test
+    void testCityChangeMovesRowAndKeepsId() {
+        // Arrange
+        Property saved = repository.save(property(cityOfShard[0], PropertyType.HOUSE, 0));
+
+        // Act
+        saved.setCity(cityOfShard[1]);
+        repository.save(saved);
+
+        // Assert
+        assertFalse(shards.get(0).repository().existsById(saved.getId()));
+        assertTrue(shards.get(1).repository().existsById(saved.getId()));
+        assertEquals(cityOfShard[1], repository.findById(saved.getId()).orElseThrow().getCity());
+        assertEquals(1, repository.findAllById(List.of(saved.getId())).size());
+        assertTrue(repository.existsById(saved.getId()));
+    }
+
+    @Test
+    void testCountAndTransitionStatusAcrossShards() {
+        // Arrange
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            ids.add(repository.save(property(cityOfShard[i % 3], PropertyType.HOUSE, i)).getId());
+        }
+        List<Property> updated = new ArrayList<>();
+
+        // Act
+        PropertyCount total = repository.count(PropertyFilter.all(), true);
+        PropertyCount inCity = repository.count(PropertyFilter.byCity(cityOfShard[0]), true);
+        repository.transitionStatus(PropertyFilter.all(), ids.subList(0, 4), PropertyStatus.SOLD, BASE.plusDays(1), updated::add);
+
+        // Assert
+        assertEquals(4, updated.size());
+        assertEquals(4, repository.findByStatus(PropertyStatus.SOLD).size());
+        assertEquals(PropertyCount.exact(6), total);
+        assertEquals(PropertyCount.exact(2), inCity);
+        assertEquals(PropertyCount.exact(2), repository.count(PropertyFilter.all(), true));
+    }
+
+    @Test
+    void testTransitionStatusByIdsUpdatesEachRowOnlyOnItsCurrentShard() {
+        // Arrange: una fila trasladada de shard y otra que ya está en el estado destino
+        Property moved = repository.save(property(cityOfShard[0], PropertyType.HOUSE, 0));
+        moved.setCity(cityOfShard[2]);
+        repository.save(moved);
+        Property sold = property(cityOfShard[1], PropertyType.HOUSE, 1);
+        sold.setStatus(PropertyStatus.SOLD);
+        sold = repository.save(sold);
+        List<Property> updated = new ArrayList<>();
+
+        // Act
+        repository.transitionStatus(PropertyFilter.all(), List.of(moved.getId(), sold.getId(), 999_999L),
+            PropertyStatus.SOLD, BASE.plusDays(1), updated::add);
+
+        // Assert
+        assertEquals(List.of(moved.getId()), updated.stream().map(Property::getId).toList());
+        assertEquals(PropertyStatus.SOLD, shards.get(2).repository().findById(moved.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testUpdateStatusesFollowsMovedRowsAndKeepsNewerWrites() {
+        // Arrange: una fila trasladada de shard y otra escrita después del cambio encolado
+        Property moved = repository.save(property(cityOfShard[0], PropertyType.HOUSE, 0));
+        moved.setCity(cityOfShard[2]);
+        repository.save(moved);
+        Property newer = repository.save(property(cityOfShard[1], PropertyType.HOUSE, 30));
+
+        // Act
+        Set<Long> updated = repository.updateStatuses(List.of(
+            new PropertyStatusChange(moved.getId(), PropertyStatus.SOLD, BASE.plusMinutes(10)),
+            new PropertyStatusChange(newer.getId(), PropertyStatus.SOLD, BASE.plusMinutes(10))));
+
+        // Assert
+        assertEquals(Set.of(moved.getId()), updated);
+        assertEquals(PropertyStatus.SOLD, shards.get(2).repository().findById(moved.getId()).orElseThrow().getStatus());
+        Property kept = repository.findById(newer.getId()).orElseThrow();
+        assertEquals(PropertyStatus.AVAILABLE, kept.getStatus());
+        assertEquals(BASE.plusMinutes(30), kept.getUpdatedAt());
+    }
+
+    @Test
+    void testStartupFailsWhenShardListChanges() {
+        // Act & Assert: menos shards, o los mismos en otro orden
+        assertThrows(IllegalStateException.class, () -> new ShardedPropertyRepository(shards.subList(0, 2)));
+        assertThrows(IllegalStateException.class,
+            () -> new ShardedPropertyRepository(List.of(new Shard(0, shards.get(1).dataSource()),
+                new Shard(1, shards.get(0).dataSource()), new Shard(2, shards.get(2).dataSource()))));
+        new ShardedPropertyRepository(List.of(new Shard(0, shards.get(0).dataSource()),
+            new Shard(1, shards.get(1).dataSource()), new Shard(2, shards.get(2).dataSource()))).close();
+    }
+
+    private static void assertNewestFirst(List<Property> properties) {
+        for (int i = 1; i < properties.size(); i++) {
+            assertFalse(properties.get(i).getCreatedAt().isAfter(properties.get(i - 1).getCreatedAt()),
+                "Results must be ordered by created_at descending");
+        }
+    }
+
+    private static Property property(String city, PropertyType type, int minute) {
+        Property property = new Property();
+        property.setTitle("Property " + minute);
+        property.setDescription("Description");
+        property.setType(type);
+        property.setStatus(PropertyStatus.AVAILABLE);
+        property.setPrice(new BigDecimal("100000.00"));
+        property.setAddress("Street " + minute);
+        property.setCity(city);
+        property.setState("State");
+        property.setZipCode("28001");
+        property.setArea(80.0);
+        property.setBedrooms(2);
+        property.setBathrooms(1);
+        property.setParkingSpaces(1);
+        property.setCreatedAt(BASE.plusMinutes(minute));
+        property.setUpdatedAt(BASE.plusMinutes(minute));
+        return property;
+    }
+}
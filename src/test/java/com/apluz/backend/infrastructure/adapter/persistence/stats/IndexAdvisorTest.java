@@ -0,0 +1,90 @@
+package com.apluz.backend.infrastructure.adapter.persistence.stats;
+
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests de integración para IndexAdvisor sobre H2
+ */
+@JdbcTest
+@ActiveProfiles("test")
+@Sql(scripts = "/db/schema-h2.sql")
+class IndexAdvisorTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private QueryStatistics statistics;
+    private IndexAdvisor advisor;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_properties_city ON properties(city)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_properties_price ON properties(price)");
+        statistics = new QueryStatistics();
+        advisor = new IndexAdvisor(jdbcTemplate, statistics);
+    }
+
+    @Test
+    void reportsUncoveredCombinationWithSuggestedCompositeIndex() {
+        // Arrange
+        statistics.record(QueryShape.of("forEach", new PropertyFilter("Madrid", PropertyType.HOUSE, null), true), 4_000_000);
+        statistics.record(QueryShape.of("forEach", new PropertyFilter("Madrid", PropertyType.HOUSE, null), true), 2_000_000);
+        statistics.record(QueryShape.of("findById", false, QueryShape.eq("id")), 1_000_000);
+
+        // Act
+        IndexAdvisor.Report report = advisor.report();
+
+        // Assert
+        IndexAdvisor.ShapeReport byCityAndType = report.shapes().get(0);
+        assertEquals(2, byCityAndType.calls());
+        assertEquals(3.0, byCityAndType.avgMs(), 0.001);
+        assertEquals("idx_properties_city", byCityAndType.supportingIndex());
+        assertEquals(List.of("status", "type"), byCityAndType.uncoveredColumns());
+
+        IndexAdvisor.ShapeReport byId = report.shapes().get(1);
+        assertTrue(byId.uncoveredColumns().isEmpty());
+
+        assertEquals(1, report.missingIndexes().size());
+        assertEquals("CREATE INDEX idx_properties_city_type_created_at_active ON properties "
+                + "(city, type, created_at DESC) WHERE status IN ('AVAILABLE', 'RESERVED')",
+            report.missingIndexes().get(0).ddl());
+    }
+
+    @Test
+    void flagsIndexesNoRecordedQueryCanUse() {
+        // Arrange
+        statistics.record(QueryShape.of("findByCity", PropertyFilter.byCity("Madrid"), true), 1_000_000);
+
+        // Act
+        IndexAdvisor.Report report = advisor.report();
+
+        // Assert
+        IndexAdvisor.IndexUsage price = usage(report, "idx_properties_price");
+        IndexAdvisor.IndexUsage city = usage(report, "idx_properties_city");
+        assertTrue(price.unused());
+        assertNull(price.scans());
+        assertFalse(city.unused());
+        assertEquals(1, city.matchedShapes());
+        assertTrue(report.indexes().stream().filter(IndexAdvisor.IndexUsage::unused)
+            .noneMatch(index -> index.columns().equals(List.of("id"))));
+    }
+
+    private static IndexAdvisor.IndexUsage usage(IndexAdvisor.Report report, String name) {
+        return report.indexes().stream().filter(index -> index.name().equals(name)).findFirst().orElseThrow();
+    }
+}
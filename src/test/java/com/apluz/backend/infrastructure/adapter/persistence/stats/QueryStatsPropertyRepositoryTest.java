@@ -0,0 +1,90 @@
+package com.apluz.backend.infrastructure.adapter.persistence.stats;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.domain.port.PropertyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests unitarios para QueryStatsPropertyRepository
+ */
+class QueryStatsPropertyRepositoryTest {
+
+    private PropertyRepository delegate;
+    private QueryStatistics statistics;
+    private QueryStatsPropertyRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(PropertyRepository.class);
+        statistics = new QueryStatistics();
+        repository = new QueryStatsPropertyRepository(delegate, statistics);
+    }
+
+    @Test
+    void sameColumnsWithDifferentValuesShareOneShape() {
+        // Act
+        repository.findByCity("Madrid");
+        repository.findByCity("Sevilla");
+        repository.forEach(new PropertyFilter("Madrid", PropertyType.HOUSE, null), property -> { });
+        repository.forEach(new PropertyFilter("Bilbao", PropertyType.APARTMENT, null), property -> { });
+
+        // Assert
+        List<QueryStatistics.Snapshot> snapshot = statistics.snapshot();
+        assertEquals(2, snapshot.size());
+        assertTrue(snapshot.stream().allMatch(entry -> entry.calls() == 2));
+        assertTrue(snapshot.stream().anyMatch(entry -> entry.shape().toString()
+            .equals("forEach WHERE city = ? AND status IN (active) AND type = ? ORDER BY created_at DESC")));
+    }
+
+    @Test
+    void streamingExcludesConsumerTime() {
+        // Arrange: reloj manual, la consulta tarda 5 ms y el consumidor 50 ms
+        AtomicLong clock = new AtomicLong();
+        repository = new QueryStatsPropertyRepository(delegate, statistics, clock::get);
+        PropertyFilter filter = PropertyFilter.byStatus(PropertyStatus.SOLD);
+        doAnswer(invocation -> {
+            Consumer<Property> action = invocation.getArgument(2);
+            clock.addAndGet(5_000_000);
+            action.accept(new Property());
+            return null;
+        }).when(delegate).forEach(eq(filter), anySet(), any());
+
+        // Act
+        repository.forEach(filter, Set.of(), property -> clock.addAndGet(50_000_000));
+
+        // Assert
+        QueryStatistics.Snapshot entry = statistics.snapshot().get(0);
+        assertEquals("forEach WHERE status = ? ORDER BY created_at DESC", entry.shape().toString());
+        assertEquals(1, entry.calls());
+        assertEquals(5.0, entry.totalMs(), 0.001);
+    }
+
+    @Test
+    void transitionByIdsRecordsIdListAndTargetStatus() {
+        // Act
+        repository.transitionStatus(PropertyFilter.all().withArchived(true), List.of(1L, 2L),
+            PropertyStatus.SOLD, null, property -> { });
+
+        // Assert
+        QueryShape shape = statistics.snapshot().get(0).shape();
+        assertEquals(Set.of("id"), shape.indexableColumns());
+        assertEquals("transitionStatus WHERE id IN (...) AND status <> ?", shape.toString());
+    }
+}
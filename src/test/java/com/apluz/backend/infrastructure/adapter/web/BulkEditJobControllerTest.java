@@ -0,0 +1,108 @@
+package com.apluz.backend.infrastructure.adapter.web;
+
+import com.apluz.backend.application.service.BulkEditJobService;
+import com.apluz.backend.domain.model.BulkEdit;
+import com.apluz.backend.domain.model.BulkEditJob;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tests de integración para BulkEditJobController
+ */
+@WebMvcTest(BulkEditJobController.class)
+class BulkEditJobControllerTest {
+
+    private static final PropertyFilter FILTER = new PropertyFilter("Córdoba", PropertyType.COMMERCIAL, null);
+    private static final BulkEdit EDIT = BulkEdit.pricePercent(new BigDecimal("-5"));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BulkEditJobService bulkEditJobService;
+
+    @Test
+    void submitJobReturnsAcceptedWithStatusLocation() throws Exception {
+        // Arrange
+        when(bulkEditJobService.submit(FILTER, EDIT)).thenReturn(job(BulkEditJob.Status.RUNNING, 1));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/properties/bulk-jobs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"city\":\"Córdoba\",\"type\":\"COMMERCIAL\",\"operation\":\"PRICE_PERCENT\",\"amount\":-5}"))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Location", "/api/properties/bulk-jobs/7"))
+            .andExpect(jsonPath("$.id").value(7))
+            .andExpect(jsonPath("$.state").value("RUNNING"))
+            .andExpect(jsonPath("$.totalChunks").value(4))
+            .andExpect(jsonPath("$.completedChunks").value(1));
+    }
+
+    @Test
+    void submitJobWithoutFilterOrAmountReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/properties/bulk-jobs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"operation\":\"PRICE_PERCENT\",\"amount\":-5}"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/properties/bulk-jobs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"city\":\"Córdoba\",\"operation\":\"STATUS\"}"))
+            .andExpect(status().isBadRequest());
+        verify(bulkEditJobService, never()).submit(any(), any());
+    }
+
+    @Test
+    void getJobReturnsProgressOrNotFound() throws Exception {
+        // Arrange
+        when(bulkEditJobService.getJob(7L)).thenReturn(Optional.of(job(BulkEditJob.Status.COMPLETED, 4)));
+        when(bulkEditJobService.getJob(8L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/properties/bulk-jobs/7"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.state").value("COMPLETED"))
+            .andExpect(jsonPath("$.updatedRows").value(1800))
+            .andExpect(jsonPath("$.operation").value("PRICE_PERCENT"));
+        mockMvc.perform(get("/api/properties/bulk-jobs/8"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void cancelFinishedJobReturnsConflict() throws Exception {
+        // Arrange
+        when(bulkEditJobService.cancel(7L)).thenThrow(new IllegalStateException("Bulk edit job 7 is not running"));
+        when(bulkEditJobService.resume(7L)).thenReturn(Optional.of(job(BulkEditJob.Status.RUNNING, 2)));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/properties/bulk-jobs/7/cancel"))
+            .andExpect(status().isConflict());
+        mockMvc.perform(post("/api/properties/bulk-jobs/7/resume"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.state").value("RUNNING"));
+    }
+
+    private static BulkEditJob job(BulkEditJob.Status status, int completedChunks) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 0);
+        return new BulkEditJob(7L, FILTER, EDIT, status, 4, completedChunks, completedChunks * 450L, 0, null,
+            createdAt, createdAt.plusSeconds(completedChunks));
+    }
+}
@@ -0,0 +1,87 @@
+package com.apluz.backend.infrastructure.adapter.web;
+
+import com.apluz.backend.application.service.PriceHistoryService;
+import com.apluz.backend.domain.model.PriceBucket;
+import com.apluz.backend.domain.model.PriceChange;
+import com.apluz.backend.domain.model.PriceHistory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tests de integración para PriceHistoryController
+ */
+@WebMvcTest(PriceHistoryController.class)
+class PriceHistoryControllerTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 3, 1, 0, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PriceHistoryService priceHistoryService;
+
+    @Test
+    void getPropertyHistoryReturnsChangesAndBuckets() throws Exception {
+        // Arrange
+        PriceChange change = new PriceChange(1L, "Madrid", new BigDecimal("100000"), new BigDecimal("95000"),
+            LocalDateTime.of(2024, 2, 10, 12, 0));
+        PriceBucket bucket = new PriceBucket(1L, "Madrid", PriceBucket.Granularity.DAY, LocalDate.of(2024, 1, 5),
+            new BigDecimal("110000"), new BigDecimal("100000"), new BigDecimal("100000"), new BigDecimal("110000"), 2);
+        when(priceHistoryService.getPropertyHistory(1L, FROM, TO))
+            .thenReturn(new PriceHistory(List.of(change), List.of(bucket)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/properties/1/price-history")
+                .param("from", "2024-01-01T00:00:00")
+                .param("to", "2024-03-01T00:00:00"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes[0].newPrice").value(95000))
+            .andExpect(jsonPath("$.buckets[0].granularity").value("DAY"))
+            .andExpect(jsonPath("$.buckets[0].changes").value(2));
+    }
+
+    @Test
+    void getCityHistoryWithInvertedRangeReturnsBadRequest() throws Exception {
+        // Arrange
+        when(priceHistoryService.getCityHistory(eq("Madrid"), any(), any()))
+            .thenThrow(new IllegalArgumentException("Range start must be before its end"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/properties/price-history")
+                .param("city", "Madrid")
+                .param("from", "2024-03-01T00:00:00")
+                .param("to", "2024-01-01T00:00:00"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getRecentDropsClampsLimit() throws Exception {
+        // Arrange
+        PriceChange drop = new PriceChange(7L, "Sevilla", new BigDecimal("80000"), new BigDecimal("75000"),
+            LocalDateTime.of(2024, 2, 10, 12, 0));
+        when(priceHistoryService.getRecentDrops(isNull(), any(), eq(500))).thenReturn(List.of(drop));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/properties/price-drops").param("limit", "10000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].propertyId").value(7))
+            .andExpect(jsonPath("$[0].oldPrice").value(80000));
+    }
+}
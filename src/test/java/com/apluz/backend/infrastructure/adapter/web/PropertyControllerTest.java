@@ -1,25 +1,52 @@
 package com.apluz.backend.infrastructure.adapter.web;
 
+import com.apluz.backend.application.dedup.PropertyDuplicateIndex;
+import com.apluz.backend.application.feed.LatestListingsFeed;
 import com.apluz.backend.application.service.PropertyService;
+import com.apluz.backend.application.similar.SimilarPropertyIndex;
+import com.apluz.backend.application.suggest.PropertySuggestionIndex;
 import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyCount;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
 import com.apluz.backend.domain.model.PropertyStatus;
 import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.infrastructure.adapter.web.cache.PropertyListCache;
+import com.apluz.backend.infrastructure.adapter.web.hotkeys.HotKeyTracker;
+import com.apluz.backend.infrastructure.adapter.web.codec.PropertyFormat;
+import com.apluz.backend.infrastructure.adapter.web.codec.PropertyFormats;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyRequest;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyResponse;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -28,6 +55,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Tests de integración para PropertyController
  */
 @WebMvcTest(PropertyController.class)
+@Import({PropertyListCache.class, HotKeyTracker.class})
 class PropertyControllerTest {
 
     @Autowired
@@ -36,13 +64,36 @@ class PropertyControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private PropertyFormats propertyFormats;
+
+    @Autowired
+    private PropertyListCache propertyListCache;
+
+    @Autowired
+    private HotKeyTracker hotKeyTracker;
+
     @MockBean
     private PropertyService propertyService;
 
+    @MockBean
+    private PropertySuggestionIndex propertySuggestionIndex;
+
+    @MockBean
+    private LatestListingsFeed latestListingsFeed;
+
+    @MockBean
+    private PropertyDuplicateIndex propertyDuplicateIndex;
+
+    @MockBean
+    private SimilarPropertyIndex similarPropertyIndex;
+
     private Property testProperty;
 
     @BeforeEach
     void setUp() {
+        propertyListCache.clear();
+        hotKeyTracker.reset();
         testProperty = new Property();
         testProperty.setId(1L);
         testProperty.setTitle("Beautiful House");
@@ -85,18 +136,318 @@ class PropertyControllerTest {
             .andExpect(status().isNotFound());
     }
 
+    @Test
+    void testSuggest() throws Exception {
+        // Arrange
+        when(propertySuggestionIndex.suggest("cor", 5)).thenReturn(List.of(
+            new PropertySuggestionIndex.Suggestion("Córdoba", PropertySuggestionIndex.Suggestion.Kind.CITY, 12),
+            new PropertySuggestionIndex.Suggestion("cortijo", PropertySuggestionIndex.Suggestion.Kind.TITLE, 3)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/properties/suggest?prefix=cor&limit=5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].text").value("Córdoba"))
+            .andExpect(jsonPath("$[0].kind").value("CITY"))
+            .andExpect(jsonPath("$[0].count").value(12))
+            .andExpect(jsonPath("$[1].kind").value("TITLE"));
+    }
+
+    @Test
+    void testCreatePropertyFlagsPossibleDuplicates() throws Exception {
+        // Arrange
+        when(propertyService.createProperty(any(Property.class))).thenReturn(testProperty);
+        when(propertyDuplicateIndex.findCandidates(testProperty, 10)).thenReturn(List.of(
+            new PropertyDuplicateIndex.DuplicateCandidate(7L, 0.95),
+            new PropertyDuplicateIndex.DuplicateCandidate(3L, 0.81)));
+        PropertyRequest request = new PropertyRequest();
+        request.setTitle("Beautiful House");
+        request.setType(PropertyType.HOUSE);
+        request.setPrice(new BigDecimal("250000.00"));
+        request.setAddress("123 Main St");
+        request.setCity("Madrid");
+        request.setArea(150.0);
+        request.setBedrooms(3);
+        request.setBathrooms(2);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/properties")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(header().string("X-Possible-Duplicates", "7,3"))
+            .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    void testGetDuplicateClusters() throws Exception {
+        // Arrange
+        when(propertyDuplicateIndex.clusters()).thenReturn(List.of(
+            new PropertyDuplicateIndex.DuplicateCluster(List.of(1L, 4L, 9L)),
+            new PropertyDuplicateIndex.DuplicateCluster(List.of(2L, 3L))));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/properties/duplicates"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].propertyIds[2]").value(9))
+            .andExpect(jsonPath("$[0].size").value(3))
+            .andExpect(jsonPath("$[1].size").value(2));
+    }
+
+    @Test
+    void testReadsAreTrackedAsHotKeys() throws Exception {
+        // Arrange
+        when(propertyService.getPropertyById(1L)).thenReturn(Optional.of(testProperty));
+
+        // Act
+        mockMvc.perform(get("/api/properties/1")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/properties/1")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/properties?city=Madrid")).andExpect(status().isOk());
+
+        // Assert
+        HotKeyTracker.Report report = hotKeyTracker.report();
+        assertEquals(List.of(new HotKeyTracker.HotProperty(1L, 2)), report.properties());
+        assertEquals("Madrid", report.listQueries().get(0).city());
+        assertTrue(hotKeyTracker.isHotListQuery(PropertyFilter.byCity("Madrid")));
+    }
+
+    @Test
+    void testGetSimilarClampsK() throws Exception {
+        // Arrange
+        Property similar = new Property();
+        similar.setId(4L);
+        similar.setCity("Madrid");
+        when(similarPropertyIndex.findSimilar(1L, 50)).thenReturn(Optional.of(List.of(similar)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/properties/1/similar?k=500"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].id").value(4));
+    }
+
+    @Test
+    void testGetSimilarNotFound() throws Exception {
+        // Arrange
+        when(similarPropertyIndex.findSimilar(999L, 10)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/properties/999/similar"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGetLatestClampsLimitToFeedCapacity() throws Exception {
+        // Arrange
+        when(latestListingsFeed.getCapacity()).thenReturn(200);
+        when(latestListingsFeed.latest("Madrid", 200)).thenReturn(List.of(testProperty));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/properties/latest?city=Madrid&limit=1000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(1))
+            .andExpect(jsonPath("$.length()").value(1));
+        verify(propertyService, times(0)).getPropertiesByStatus(any());
+    }
+
+    @Test
+    void testBatchGetProperties() throws Exception {
+        // Arrange
+        Property second = new Property();
+        second.setId(3L);
+        second.setTitle("Flat");
+        when(propertyService.getPropertiesByIds(List.of(3L, 7L, 1L))).thenReturn(List.of(second, testProperty));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/properties/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [3, 7, 1]}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.properties[0].id").value(3))
+            .andExpect(jsonPath("$.properties[1].id").value(1))
+            .andExpect(jsonPath("$.missingIds[0]").value(7));
+    }
+
+    @Test
+    void testBatchGetPropertiesRequiresIds() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/properties/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": []}"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetAllProperties() throws Exception {
         // Arrange
-        when(propertyService.getAllProperties()).thenReturn(Arrays.asList(testProperty));
+        stubStream(PropertyFilter.all(), testProperty);
 
         // Act & Assert
         mockMvc.perform(get("/api/properties"))
             .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
             .andExpect(jsonPath("$[0].id").value(1))
             .andExpect(jsonPath("$[0].title").value("Beautiful House"));
     }
 
+    @Test
+    void testGetAllPropertiesFilterPrecedence() throws Exception {
+        // Arrange: la ciudad tiene prioridad sobre tipo y estado
+        stubStream(PropertyFilter.byCity("Madrid"), testProperty);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/properties?city=Madrid&type=LAND&status=SOLD"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].city").value("Madrid"));
+    }
+
+    @Test
+    void testGetAllPropertiesIncludeArchived() throws Exception {
+        // Arrange
+        testProperty.setStatus(PropertyStatus.SOLD);
+        stubStream(PropertyFilter.byCity("Madrid").withArchived(true), testProperty);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/properties?city=Madrid&includeArchived=true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].status").value("SOLD"));
+    }
+
+    @Test
+    void testGetAllPropertiesSparseFields() throws Exception {
+        // Arrange
+        stubStream(PropertyFilter.all(), PropertyField.parse("id,price,type"), testProperty);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/properties?fields=id,price,type"))
+            .andExpect(status().isOk())
+            .andExpect(content().json("[{\"id\":1,\"type\":\"HOUSE\",\"price\":250000.00}]", true));
+    }
+
+    @Test
+    void testGetAllPropertiesUnknownField() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/properties?fields=id,ownerEmail"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetAllPropertiesWithEstimatedCount() throws Exception {
+        // Arrange
+        stubStream(PropertyFilter.byCity("Madrid"), testProperty);
+        when(propertyService.countProperties(PropertyFilter.byCity("Madrid"), false))
+            .thenReturn(PropertyCount.estimated(120_000));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/properties?city=Madrid&count=estimated"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "120000"))
+            .andExpect(header().string("X-Total-Count-Mode", "estimated"));
+    }
+
+    @Test
+    void testGetAllPropertiesWithoutCountSkipsCounting() throws Exception {
+        // Arrange
+        stubStream(PropertyFilter.all(), testProperty);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/properties"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"));
+        verify(propertyService, times(0)).countProperties(any(), anyBoolean());
+    }
+
+    @Test
+    void testGetAllPropertiesEmpty() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/properties?status=SOLD"))
+            .andExpect(status().isOk())
+            .andExpect(content().json("[]"));
+    }
+
+    @Test
+    void testGetAllPropertiesServedFromCacheGzipped() throws Exception {
+        // Arrange
+        stubStream(PropertyFilter.byCity("Madrid"), testProperty);
+        mockMvc.perform(get("/api/properties?city=Madrid"))
+            .andExpect(status().isOk());
+
+        // Act: misma consulta normalizada (type se ignora cuando hay city)
+        byte[] body = mockMvc.perform(get("/api/properties?type=HOUSE&city=Madrid")
+                .header("Accept-Encoding", "br, gzip"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Encoding", "gzip"))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        JsonNode tree = objectMapper.readTree(new GZIPInputStream(new ByteArrayInputStream(body)));
+        assertEquals("Beautiful House", tree.get(0).get("title").asText());
+        verify(propertyService, times(1)).streamProperties(eq(PropertyFilter.byCity("Madrid")), eq(PropertyField.all()), any());
+    }
+
+    @Test
+    void testGetAllPropertiesAsCbor() throws Exception {
+        // Arrange
+        stubStream(PropertyFilter.all(), testProperty);
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/properties").accept(PropertyFormat.CBOR.getMediaType()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(PropertyFormat.CBOR.getMediaType()))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        JsonNode tree = propertyFormats.mapper(PropertyFormat.CBOR).readTree(body);
+        assertEquals(1, tree.size());
+        assertEquals("Beautiful House", tree.get(0).get("title").asText());
+    }
+
+    @Test
+    void testGetAllPropertiesNotAcceptable() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/properties").accept(MediaType.TEXT_HTML))
+            .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    void testCreatePropertyWithProtobuf() throws Exception {
+        // Arrange
+        when(propertyService.createProperty(any(Property.class))).thenReturn(testProperty);
+
+        PropertyRequest request = new PropertyRequest();
+        request.setTitle("Beautiful House");
+        request.setType(PropertyType.HOUSE);
+        request.setPrice(new BigDecimal("250000.00"));
+        request.setAddress("123 Main St");
+        request.setCity("Madrid");
+        request.setArea(150.0);
+        request.setBedrooms(3);
+        request.setBathrooms(2);
+
+        ObjectMapper protobufMapper = propertyFormats.mapper(PropertyFormat.PROTOBUF);
+        byte[] requestBody = protobufMapper
+            .writer(propertyFormats.protobufSchema(PropertyFormats.PROTO_PROPERTY))
+            .writeValueAsBytes(request);
+
+        // Act
+        byte[] body = mockMvc.perform(post("/api/properties")
+                .contentType(PropertyFormat.PROTOBUF.getMediaType())
+                .accept(PropertyFormat.PROTOBUF.getMediaType())
+                .content(requestBody))
+            .andExpect(status().isCreated())
+            .andExpect(content().contentType(PropertyFormat.PROTOBUF.getMediaType()))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        PropertyResponse response = protobufMapper.readerFor(PropertyResponse.class)
+            .with(propertyFormats.protobufSchema(PropertyFormats.PROTO_PROPERTY))
+            .readValue(body);
+        assertEquals(1L, response.getId());
+        assertEquals("Madrid", response.getCity());
+        assertEquals(PropertyStatus.AVAILABLE, response.getStatus());
+    }
+
     @Test
     void testCreateProperty() throws Exception {
         // Arrange
@@ -185,5 +536,100 @@ class PropertyControllerTest {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.status").value("SOLD"));
     }
-}
 
+    @Test
+    void testUpdatePropertyStatusWriteBehindPersisted() throws Exception {
+        // Arrange
+        when(propertyService.isStatusWriteBehindEnabled()).thenReturn(true);
+        when(propertyService.enqueuePropertyStatus(1L, PropertyStatus.SOLD))
+            .thenReturn(CompletableFuture.completedFuture(true));
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/properties/1/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"SOLD\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("SOLD"))
+            .andExpect(jsonPath("$.durability").value("PERSISTED"));
+    }
+
+    @Test
+    void testUpdatePropertyStatusWriteBehindRespondAsync() throws Exception {
+        // Arrange
+        when(propertyService.isStatusWriteBehindEnabled()).thenReturn(true);
+        when(propertyService.enqueuePropertyStatus(1L, PropertyStatus.SOLD)).thenReturn(new CompletableFuture<>());
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/properties/1/status")
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"SOLD\"}"))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Preference-Applied", "respond-async"))
+            .andExpect(jsonPath("$.durability").value("ACCEPTED"));
+    }
+
+    @Test
+    void testUpdatePropertyStatusWriteBehindNotFound() throws Exception {
+        // Arrange
+        when(propertyService.isStatusWriteBehindEnabled()).thenReturn(true);
+        when(propertyService.enqueuePropertyStatus(999L, PropertyStatus.SOLD))
+            .thenReturn(CompletableFuture.completedFuture(false));
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/properties/999/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"SOLD\"}"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testBulkStatusTransitionStreamsUpdatedIds() throws Exception {
+        // Arrange
+        Property second = new Property();
+        second.setId(2L);
+        doAnswer(invocation -> {
+            Consumer<Property> onUpdated = invocation.getArgument(3);
+            onUpdated.accept(testProperty);
+            onUpdated.accept(second);
+            return 2L;
+        }).when(propertyService).transitionPropertyStatus(eq(new PropertyFilter("Madrid", null, PropertyStatus.AVAILABLE, true)),
+            isNull(), eq(PropertyStatus.INACTIVE), any(Consumer.class));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/properties/bulk-status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"city\": \"Madrid\", \"currentStatus\": \"AVAILABLE\", \"status\": \"INACTIVE\"}"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.status").value("INACTIVE"))
+            .andExpect(jsonPath("$.updatedIds[0]").value(1))
+            .andExpect(jsonPath("$.updatedIds[1]").value(2))
+            .andExpect(jsonPath("$.count").value(2));
+    }
+
+    @Test
+    void testBulkStatusTransitionRequiresSelection() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/properties/bulk-status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"INACTIVE\"}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private void stubStream(PropertyFilter filter, Property... properties) {
+        stubStream(filter, PropertyField.all(), properties);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubStream(PropertyFilter filter, Set<PropertyField> fields, Property... properties) {
+        doAnswer(invocation -> {
+            Consumer<Property> action = invocation.getArgument(2);
+            for (Property property : properties) {
+                action.accept(property);
+            }
+            return null;
+        }).when(propertyService).streamProperties(eq(filter), eq(fields), any(Consumer.class));
+    }
+}
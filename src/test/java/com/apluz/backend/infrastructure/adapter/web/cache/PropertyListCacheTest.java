@@ -0,0 +1,195 @@
+package com.apluz.backend.infrastructure.adapter.web.cache;
+
+import com.apluz.backend.domain.event.PropertyChangedEvent;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.infrastructure.adapter.web.codec.PropertyFormat;
+import com.apluz.backend.infrastructure.adapter.web.hotkeys.HotKeyTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para PropertyListCache
+ */
+class PropertyListCacheTest {
+
+    private static final ListCacheKey MADRID = new ListCacheKey(PropertyFilter.byCity("Madrid"), PropertyFormat.JSON);
+    private static final ListCacheKey SEVILLA = new ListCacheKey(PropertyFilter.byCity("Sevilla"), PropertyFormat.JSON);
+    private static final ListCacheKey AVAILABLE = new ListCacheKey(PropertyFilter.byStatus(PropertyStatus.AVAILABLE), PropertyFormat.JSON);
+
+    private HotKeyTracker hotKeyTracker;
+    private PropertyListCache cache;
+
+    @BeforeEach
+    void setUp() {
+        hotKeyTracker = new HotKeyTracker(true, 1, Duration.ofMinutes(10));
+        cache = new PropertyListCache(true, 1_000_000, 100_000, hotKeyTracker);
+    }
+
+    @Test
+    void testPutStoresPlainAndGzippedBody() throws Exception {
+        // Act
+        cache.put(MADRID, cache.stamp(), bytes("[{\"id\":1}]"), new long[] {1});
+
+        // Assert
+        CachedListResponse cached = cache.get(MADRID);
+        assertNotNull(cached);
+        assertEquals("[{\"id\":1}]", new String(cached.getBody(), StandardCharsets.UTF_8));
+        byte[] unzipped = new GZIPInputStream(new ByteArrayInputStream(cached.getGzippedBody())).readAllBytes();
+        assertArrayEquals(cached.getBody(), unzipped);
+    }
+
+    @Test
+    void testInvalidatesOnlyMatchingEntries() {
+        // Arrange
+        cache.put(MADRID, cache.stamp(), bytes("[1,2]"), new long[] {2, 1});
+        cache.put(SEVILLA, cache.stamp(), bytes("[3]"), new long[] {3});
+        cache.put(AVAILABLE, cache.stamp(), bytes("[1,3]"), new long[] {1, 3});
+
+        // Act: la propiedad 3 (Sevilla) pasa a SOLD
+        cache.onPropertyChanged(PropertyChangedEvent.statusChanged(property(3L, "Sevilla", PropertyStatus.SOLD)));
+
+        // Assert
+        assertNotNull(cache.get(MADRID));
+        assertNull(cache.get(SEVILLA));
+        assertNull(cache.get(AVAILABLE));
+    }
+
+    @Test
+    void testStatusOnlyEventInvalidatesCityAndTypeLists() {
+        // Arrange
+        ListCacheKey houses = new ListCacheKey(PropertyFilter.byType(PropertyType.HOUSE), PropertyFormat.JSON);
+        ListCacheKey sold = new ListCacheKey(PropertyFilter.byStatus(PropertyStatus.SOLD), PropertyFormat.JSON);
+        cache.put(MADRID, cache.stamp(), bytes("[1]"), new long[] {1});
+        cache.put(houses, cache.stamp(), bytes("[1]"), new long[] {1});
+        cache.put(sold, cache.stamp(), bytes("[5]"), new long[] {5});
+
+        // Act: la propiedad 9 (vendida, fuera de toda lista) vuelve a AVAILABLE por write-behind
+        Property statusOnly = new Property();
+        statusOnly.setId(9L);
+        statusOnly.setStatus(PropertyStatus.AVAILABLE);
+        cache.onPropertyChanged(PropertyChangedEvent.statusChanged(statusOnly));
+
+        // Assert
+        assertNull(cache.get(MADRID));
+        assertNull(cache.get(houses));
+        assertNotNull(cache.get(sold));
+    }
+
+    @Test
+    void testInvalidatesListThatPropertyJoins() {
+        // Arrange
+        cache.put(MADRID, cache.stamp(), bytes("[1]"), new long[] {1});
+        cache.put(SEVILLA, cache.stamp(), bytes("[3]"), new long[] {3});
+
+        // Act: nueva propiedad en Madrid
+        cache.onPropertyChanged(PropertyChangedEvent.created(property(9L, "Madrid", PropertyStatus.AVAILABLE)));
+
+        // Assert
+        assertNull(cache.get(MADRID));
+        assertNotNull(cache.get(SEVILLA));
+    }
+
+    @Test
+    void testArchivedPropertyDoesNotInvalidateActiveList() {
+        // Arrange
+        ListCacheKey madridWithArchived = new ListCacheKey(PropertyFilter.byCity("Madrid").withArchived(true), PropertyFormat.JSON);
+        cache.put(MADRID, cache.stamp(), bytes("[1]"), new long[] {1});
+        cache.put(madridWithArchived, cache.stamp(), bytes("[1]"), new long[] {1});
+
+        // Act: se da de alta una propiedad ya vendida en Madrid
+        cache.onPropertyChanged(PropertyChangedEvent.created(property(9L, "Madrid", PropertyStatus.SOLD)));
+
+        // Assert
+        assertNotNull(cache.get(MADRID));
+        assertNull(cache.get(madridWithArchived));
+    }
+
+    @Test
+    void testDeleteInvalidatesEntriesContainingId() {
+        // Arrange
+        cache.put(MADRID, cache.stamp(), bytes("[1]"), new long[] {1});
+        cache.put(SEVILLA, cache.stamp(), bytes("[3]"), new long[] {3});
+
+        // Act
+        cache.onPropertyChanged(PropertyChangedEvent.deleted(1L));
+
+        // Assert
+        assertNull(cache.get(MADRID));
+        assertNotNull(cache.get(SEVILLA));
+    }
+
+    @Test
+    void testPutIgnoredWhenWriteHappenedDuringBuild() {
+        // Arrange
+        long stamp = cache.stamp();
+        cache.onPropertyChanged(PropertyChangedEvent.deleted(42L));
+
+        // Act
+        CachedListResponse stored = cache.put(MADRID, stamp, bytes("[1]"), new long[] {1});
+
+        // Assert
+        assertNull(stored);
+        assertNull(cache.get(MADRID));
+    }
+
+    @Test
+    void testBoundedByTotalBytes() {
+        // Arrange
+        cache = new PropertyListCache(true, 2_500, 2_000, hotKeyTracker);
+        byte[] body = new byte[1_000];
+
+        // Act
+        cache.put(MADRID, cache.stamp(), body, new long[0]);
+        cache.put(SEVILLA, cache.stamp(), body, new long[0]);
+        cache.put(AVAILABLE, cache.stamp(), body, new long[0]);
+
+        // Assert
+        assertTrue(cache.getTotalBytes() <= 2_500);
+        assertTrue(cache.size() < 3);
+        assertNotNull(cache.get(AVAILABLE));
+        assertNull(cache.put(MADRID, cache.stamp(), new byte[2_001], new long[0]));
+    }
+
+    @Test
+    void testEvictionKeepsHotFilters() {
+        // Arrange
+        cache = new PropertyListCache(true, 2_500, 2_000, hotKeyTracker);
+        byte[] body = new byte[1_000];
+        for (int i = 0; i < 3; i++) {
+            hotKeyTracker.recordListQuery(MADRID.filter());
+        }
+
+        // Act: Madrid es la menos usada recientemente, pero está en el top
+        cache.put(MADRID, cache.stamp(), body, new long[0]);
+        cache.put(SEVILLA, cache.stamp(), body, new long[0]);
+        cache.put(AVAILABLE, cache.stamp(), body, new long[0]);
+
+        // Assert
+        assertNotNull(cache.get(MADRID));
+        assertNull(cache.get(SEVILLA));
+        assertNotNull(cache.get(AVAILABLE));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Property property(Long id, String city, PropertyStatus status) {
+        Property property = new Property();
+        property.setId(id);
+        property.setCity(city);
+        property.setType(PropertyType.HOUSE);
+        property.setStatus(status);
+        return property;
+    }
+}
@@ -0,0 +1,128 @@
+package com.apluz.backend.infrastructure.adapter.web.codec;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark: tamaño y coste de codificación/decodificación de cada formato frente a JSON.
+ * Se ejecuta con {@code mvn test -Pbenchmark}
+ */
+@Tag("benchmark")
+class PropertyFormatBenchmarkTest {
+
+    private static final int LIST_SIZE = 1_000;
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int MEASURED_ROUNDS = 200;
+
+    @Test
+    void reportSizeAndCostAgainstJson() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        PropertyFormats formats = new PropertyFormats(objectMapper);
+        List<Property> properties = createProperties();
+
+        System.out.printf("%n%-9s %10s %10s %12s %12s%n", "format", "bytes", "gzip", "encode(us)", "decode(us)");
+        long jsonBytes = 0;
+        for (PropertyFormat format : PropertyFormat.values()) {
+            byte[] encoded = encode(formats, format, properties);
+            ObjectReader reader = reader(formats, format);
+
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                encode(formats, format, properties);
+                reader.readValue(encoded);
+            }
+            long encodeNanos = Long.MAX_VALUE;
+            long decodeNanos = Long.MAX_VALUE;
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                long start = System.nanoTime();
+                encode(formats, format, properties);
+                encodeNanos = Math.min(encodeNanos, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                reader.readValue(encoded);
+                decodeNanos = Math.min(decodeNanos, System.nanoTime() - start);
+            }
+
+            if (format == PropertyFormat.JSON) {
+                jsonBytes = encoded.length;
+            }
+            System.out.printf("%-9s %10d %10d %12d %12d%n", format, encoded.length, gzipSize(encoded),
+                encodeNanos / 1_000, decodeNanos / 1_000);
+        }
+        assertTrue(jsonBytes > 0);
+    }
+
+    private static byte[] encode(PropertyFormats formats, PropertyFormat format, List<Property> properties) throws Exception {
+        PropertyJsonWriter writer = formats.writer(format);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 * LIST_SIZE);
+        try (JsonGenerator gen = writer.createGenerator(out)) {
+            writer.writeStartList(gen);
+            for (Property property : properties) {
+                writer.writeProperty(gen, property);
+            }
+            writer.writeEndList(gen);
+        }
+        return out.toByteArray();
+    }
+
+    private static ObjectReader reader(PropertyFormats formats, PropertyFormat format) {
+        ObjectReader reader = formats.mapper(format).readerFor(JsonNode.class);
+        return format == PropertyFormat.PROTOBUF
+            ? reader.with(formats.protobufSchema(PropertyFormats.PROTO_PROPERTY_LIST))
+            : reader;
+    }
+
+    private static int gzipSize(byte[] data) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.size();
+    }
+
+    private static List<Property> createProperties() {
+        PropertyType[] types = PropertyType.values();
+        String[] cities = {"Madrid", "Barcelona", "Córdoba", "Sevilla", "Valencia"};
+        List<Property> properties = new ArrayList<>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            Property property = new Property();
+            property.setId((long) i + 1);
+            property.setTitle("Propiedad " + i + " con vistas");
+            property.setDescription("Descripción de la propiedad número " + i);
+            property.setType(types[i % types.length]);
+            property.setStatus(PropertyStatus.AVAILABLE);
+            property.setPrice(new BigDecimal(100_000 + i * 37).setScale(2));
+            property.setAddress("Calle " + i);
+            property.setCity(cities[i % cities.length]);
+            property.setState(cities[i % cities.length]);
+            property.setZipCode(String.valueOf(10_000 + i));
+            property.setArea(50.0 + i % 200);
+            property.setBedrooms(1 + i % 5);
+            property.setBathrooms(1 + i % 3);
+            property.setParkingSpaces(i % 2);
+            property.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i));
+            property.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i));
+            properties.add(property);
+        }
+        return properties;
+    }
+}
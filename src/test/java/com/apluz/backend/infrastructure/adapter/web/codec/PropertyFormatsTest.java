@@ -0,0 +1,141 @@
+package com.apluz.backend.infrastructure.adapter.web.codec;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyRequest;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para PropertyFormats: negociación y round-trip en cada formato
+ */
+class PropertyFormatsTest {
+
+    private PropertyFormats formats;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        formats = new PropertyFormats(objectMapper);
+    }
+
+    @Test
+    void testNegotiate() throws Exception {
+        assertEquals(PropertyFormat.JSON, formats.negotiate(null));
+        assertEquals(PropertyFormat.JSON, formats.negotiate("*/*"));
+        assertEquals(PropertyFormat.CBOR, formats.negotiate("application/cbor"));
+        assertEquals(PropertyFormat.PROTOBUF, formats.negotiate("application/json;q=0.5, application/x-protobuf"));
+        assertEquals(PropertyFormat.SMILE, formats.negotiate("text/html, application/x-jackson-smile;q=0.9"));
+        assertEquals(PropertyFormat.CBOR, formats.negotiate("application/*, application/cbor"));
+        assertEquals(PropertyFormat.JSON, formats.negotiate("application/cbor;q=0.8, */*"));
+        assertThrows(HttpMediaTypeNotAcceptableException.class, () -> formats.negotiate("text/html"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(PropertyFormat.class)
+    void testPropertyRequestRoundTrip(PropertyFormat format) throws Exception {
+        // Arrange
+        PropertyRequest request = createTestRequest();
+        ObjectMapper mapper = formats.mapper(format);
+
+        // Act
+        byte[] encoded = format == PropertyFormat.PROTOBUF
+            ? mapper.writer(formats.protobufSchema(PropertyFormats.PROTO_PROPERTY)).writeValueAsBytes(request)
+            : mapper.writeValueAsBytes(request);
+        PropertyRequest decoded = format == PropertyFormat.PROTOBUF
+            ? mapper.readerFor(PropertyRequest.class).with(formats.protobufSchema(PropertyFormats.PROTO_PROPERTY)).readValue(encoded)
+            : mapper.readValue(encoded, PropertyRequest.class);
+
+        // Assert
+        assertEquals(request.getTitle(), decoded.getTitle());
+        assertEquals(request.getDescription(), decoded.getDescription());
+        assertEquals(request.getType(), decoded.getType());
+        assertEquals(request.getStatus(), decoded.getStatus());
+        assertEquals(request.getPrice(), decoded.getPrice());
+        assertEquals(request.getCity(), decoded.getCity());
+        assertEquals(request.getArea(), decoded.getArea());
+        assertEquals(request.getBedrooms(), decoded.getBedrooms());
+        assertEquals(request.getParkingSpaces(), decoded.getParkingSpaces());
+    }
+
+    @ParameterizedTest
+    @EnumSource(PropertyFormat.class)
+    void testStreamedListDecodes(PropertyFormat format) throws Exception {
+        // Arrange
+        PropertyJsonWriter writer = formats.writer(format);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        try (JsonGenerator gen = writer.createGenerator(out)) {
+            writer.writeStartList(gen);
+            writer.writeProperty(gen, createTestProperty(1L));
+            writer.writeProperty(gen, createTestProperty(2L));
+            writer.writeEndList(gen);
+        }
+        JsonNode tree = format == PropertyFormat.PROTOBUF
+            ? formats.mapper(format).readerFor(JsonNode.class)
+                .with(formats.protobufSchema(PropertyFormats.PROTO_PROPERTY_LIST))
+                .<JsonNode>readValue(out.toByteArray()).get("properties")
+            : formats.mapper(format).readTree(out.toByteArray());
+
+        // Assert
+        assertEquals(2, tree.size());
+        assertEquals(2L, tree.get(1).get("id").asLong());
+        assertEquals("Córdoba", tree.get(0).get("city").asText());
+        assertEquals(0, new BigDecimal("250000.00").compareTo(new BigDecimal(tree.get(0).get("price").asText())));
+        assertEquals("2024-05-03T12:30:00", tree.get(0).get("createdAt").asText());
+    }
+
+    private PropertyRequest createTestRequest() {
+        PropertyRequest request = new PropertyRequest();
+        request.setTitle("Casa con jardín");
+        request.setDescription("Reformada");
+        request.setType(PropertyType.COMMERCIAL);
+        request.setStatus(PropertyStatus.RESERVED);
+        request.setPrice(new BigDecimal("250000.00"));
+        request.setAddress("Calle Mayor 1");
+        request.setCity("Córdoba");
+        request.setState("Córdoba");
+        request.setZipCode("14001");
+        request.setArea(150.5);
+        request.setBedrooms(3);
+        request.setBathrooms(2);
+        request.setParkingSpaces(1);
+        return request;
+    }
+
+    private Property createTestProperty(Long id) {
+        Property property = new Property();
+        property.setId(id);
+        property.setTitle("Casa con jardín");
+        property.setType(PropertyType.HOUSE);
+        property.setStatus(PropertyStatus.AVAILABLE);
+        property.setPrice(new BigDecimal("250000.00"));
+        property.setAddress("Calle Mayor 1");
+        property.setCity("Córdoba");
+        property.setArea(150.0);
+        property.setBedrooms(3);
+        property.setBathrooms(2);
+        property.setParkingSpaces(0);
+        property.setCreatedAt(LocalDateTime.of(2024, 5, 3, 12, 30));
+        property.setUpdatedAt(LocalDateTime.of(2024, 5, 3, 12, 30));
+        return property;
+    }
+}
@@ -0,0 +1,119 @@
+package com.apluz.backend.infrastructure.adapter.web.codec;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.infrastructure.adapter.web.dto.PropertyResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para PropertyJsonWriter: debe producir el mismo JSON que Jackson por reflexión
+ */
+class PropertyJsonWriterTest {
+
+    private ObjectMapper objectMapper;
+    private PropertyJsonWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = new PropertyJsonWriter(objectMapper.getFactory());
+    }
+
+    @Test
+    void testMatchesReflectiveSerialization() throws Exception {
+        // Arrange
+        Property property = createTestProperty();
+
+        // Act
+        String written = write(property);
+        String reflective = objectMapper.writeValueAsString(toResponse(property));
+
+        // Assert
+        assertEquals(reflective, written);
+    }
+
+    @Test
+    void testNullFieldsAndWholeSecondTimestamps() throws Exception {
+        // Arrange
+        Property property = createTestProperty();
+        property.setDescription(null);
+        property.setState(null);
+        property.setParkingSpaces(null);
+        property.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+
+        // Act
+        String written = write(property);
+        String reflective = objectMapper.writeValueAsString(toResponse(property));
+
+        // Assert
+        assertEquals(reflective, written);
+        assertTrue(written.contains("\"createdAt\":\"2024-01-01T10:00:00\""));
+    }
+
+    @Test
+    void testWritesOnlyRequestedFields() throws Exception {
+        // Arrange
+        Property property = createTestProperty();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        try (JsonGenerator gen = writer.createGenerator(out)) {
+            writer.writeProperty(gen, property, PropertyField.parse("price,id,city"));
+        }
+
+        // Assert: orden de declaración, no el de la petición
+        assertEquals("{\"id\":7,\"price\":199999.90,\"city\":\"Córdoba\"}", out.toString(StandardCharsets.UTF_8));
+    }
+
+    private String write(Property property) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator gen = writer.createGenerator(out)) {
+            writer.writeProperty(gen, property);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private PropertyResponse toResponse(Property p) {
+        return new PropertyResponse(p.getId(), p.getTitle(), p.getDescription(), p.getType(),
+            p.getStatus(), p.getPrice(), p.getAddress(), p.getCity(), p.getState(), p.getZipCode(),
+            p.getArea(), p.getBedrooms(), p.getBathrooms(), p.getParkingSpaces(),
+            p.getCreatedAt(), p.getUpdatedAt());
+    }
+
+    private Property createTestProperty() {
+        Property property = new Property();
+        property.setId(7L);
+        property.setTitle("Ático con \"vistas\"");
+        property.setDescription("Luminoso\ny reformado");
+        property.setType(PropertyType.APARTMENT);
+        property.setStatus(PropertyStatus.AVAILABLE);
+        property.setPrice(new BigDecimal("199999.90"));
+        property.setAddress("Calle Mayor 1");
+        property.setCity("Córdoba");
+        property.setState("Córdoba");
+        property.setZipCode("14001");
+        property.setArea(82.5);
+        property.setBedrooms(2);
+        property.setBathrooms(1);
+        property.setParkingSpaces(1);
+        property.setCreatedAt(LocalDateTime.of(2024, 5, 3, 12, 30, 15, 123456000));
+        property.setUpdatedAt(LocalDateTime.of(2024, 5, 4, 9, 15, 0, 5000));
+        return property;
+    }
+}
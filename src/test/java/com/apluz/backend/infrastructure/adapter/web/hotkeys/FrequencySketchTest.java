@@ -0,0 +1,49 @@
+package com.apluz.backend.infrastructure.adapter.web.hotkeys;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para FrequencySketch
+ */
+class FrequencySketchTest {
+
+    @Test
+    void testEstimateNeverUnderCountsAndRarelyOverCounts() {
+        // Arrange
+        FrequencySketch sketch = new FrequencySketch(4_096);
+
+        // Act: la clave k se ve k % 10 veces
+        for (long key = 0; key < 2_000; key++) {
+            for (int i = 0; i < key % 10; i++) {
+                sketch.increment(key);
+            }
+        }
+
+        // Assert
+        int exact = 0;
+        for (long key = 0; key < 2_000; key++) {
+            long estimate = sketch.estimate(key);
+            assertTrue(estimate >= key % 10);
+            exact += estimate == key % 10 ? 1 : 0;
+        }
+        // Con los contadores agrupados por bloque se admiten algo más de colisiones que en filas independientes
+        assertTrue(exact > 1_800, "exact estimates: " + exact);
+    }
+
+    @Test
+    void testHalveAndClear() {
+        // Arrange
+        FrequencySketch sketch = new FrequencySketch(64);
+        for (int i = 0; i < 9; i++) {
+            sketch.increment("Madrid");
+        }
+
+        // Act & Assert
+        sketch.halve();
+        assertEquals(4, sketch.estimate("Madrid"));
+        sketch.clear();
+        assertEquals(0, sketch.estimate("Madrid"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.apluz.backend.infrastructure.adapter.web.hotkeys;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para HeavyHitters
+ */
+class HeavyHittersTest {
+
+    @Test
+    void testTopFollowsSkewedTraffic() {
+        // Arrange
+        HeavyHitters<Long> hitters = new HeavyHitters<>(4_096, 3, Duration.ofMinutes(10));
+
+        // Act: la clave k (1..200) recibe 1000 / k visitas, intercaladas
+        for (int round = 0; round < 1_000; round++) {
+            for (long key = 1; key <= 200; key++) {
+                if (round % key == 0) {
+                    hitters.record(key);
+                }
+            }
+        }
+
+        // Assert
+        List<HeavyHitters.HotKey<Long>> top = hitters.top();
+        assertEquals(List.of(1L, 2L, 3L), top.stream().map(HeavyHitters.HotKey::key).toList());
+        assertEquals(1_000, top.get(0).count());
+        assertTrue(hitters.isHot(2L));
+        assertFalse(hitters.isHot(150L));
+    }
+
+    @Test
+    void testDecayLetsNewTrafficTakeOver() {
+        // Arrange
+        HeavyHitters<String> hitters = new HeavyHitters<>(1_024, 1, Duration.ofMinutes(10));
+        for (int i = 0; i < 100; i++) {
+            hitters.record("Madrid");
+        }
+
+        // Act: tras varias vidas medias, Sevilla supera a Madrid con menos visitas
+        for (int i = 0; i < 4; i++) {
+            hitters.decay();
+        }
+        for (int i = 0; i < 20; i++) {
+            hitters.record("Sevilla");
+        }
+
+        // Assert
+        assertEquals(6, hitters.estimate("Madrid"));
+        assertEquals(List.of(new HeavyHitters.HotKey<>("Sevilla", 20L)), hitters.top());
+    }
+
+    @Test
+    void testConcurrentRecordersAndReset() throws Exception {
+        // Arrange
+        HeavyHitters<Long> hitters = new HeavyHitters<>(4_096, 5, Duration.ofMinutes(10));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act: cada hilo visita 10.000 veces las claves 0..4 y una vez 1000 claves propias
+        for (int thread = 0; thread < 8; thread++) {
+            long offset = 1_000L * (thread + 1);
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 10_000; i++) {
+                    hitters.record((long) (i % 5));
+                    if (i % 10 == 0) {
+                        hitters.record(offset + i / 10);
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L), hitters.top().stream().map(HeavyHitters.HotKey::key).sorted().toList());
+        assertTrue(hitters.estimate(0L) >= 16_000);
+        hitters.reset();
+        assertEquals(List.of(), hitters.top());
+        assertEquals(0, hitters.estimate(0L));
+    }
+}
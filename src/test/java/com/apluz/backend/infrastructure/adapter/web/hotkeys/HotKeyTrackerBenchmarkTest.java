@@ -0,0 +1,136 @@
+package com.apluz.backend.infrastructure.adapter.web.hotkeys;
+
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.infrastructure.adapter.persistence.JdbcPropertyRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark: coste de registrar una lectura en {@link HotKeyTracker} (un hilo y 8 hilos con claves sesgadas)
+ * frente a la lectura por id más barata posible, JDBC sobre H2 en memoria.
+ * Se ejecuta con {@code mvn test -Pbenchmark}
+ */
+@Tag("benchmark")
+class HotKeyTrackerBenchmarkTest {
+
+    private static final int ROWS = 10_000;
+    private static final int OPERATIONS = 2_000_000;
+    private static final int LOOKUPS = 100_000;
+    private static final int THREADS = 8;
+
+    @Test
+    void measureOverheadOnReadPath() throws Exception {
+        long[] keys = zipfKeys(OPERATIONS, ROWS);
+        HotKeyTracker tracker = new HotKeyTracker(true, 50, Duration.ofMinutes(10));
+
+        for (int round = 0; round < 3; round++) {
+            record(tracker, keys);
+        }
+        long start = System.nanoTime();
+        record(tracker, keys);
+        double trackerNanos = (double) (System.nanoTime() - start) / OPERATIONS;
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        start = System.nanoTime();
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executor.submit(() -> record(tracker, keys)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double contendedNanos = (double) (System.nanoTime() - start) / ((long) OPERATIONS * THREADS);
+        executor.shutdown();
+
+        SingleConnectionDataSource dataSource =
+            new SingleConnectionDataSource("jdbc:h2:mem:hotkeys-benchmark;DB_CLOSE_DELAY=-1", "sa", "", true);
+        DatabasePopulatorUtils.execute(new ResourceDatabasePopulator(new ClassPathResource("db/schema-h2.sql")), dataSource);
+        JdbcPropertyRepository repository = new JdbcPropertyRepository(new JdbcTemplate(dataSource));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            ids.add(repository.save(property(i)).getId());
+        }
+        for (int round = 0; round < 2; round++) {
+            lookups(repository, ids, keys);
+        }
+        start = System.nanoTime();
+        lookups(repository, ids, keys);
+        double lookupNanos = (double) (System.nanoTime() - start) / LOOKUPS;
+        dataSource.destroy();
+
+        System.out.printf("%n%-34s %10.1f ns%n", "record (1 thread)", trackerNanos);
+        System.out.printf("%-34s %10.1f ns (%d cores)%n", "record (" + THREADS + " threads, amortized)", contendedNanos,
+            Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-34s %10.1f ns%n", "findById (jdbc-h2)", lookupNanos);
+        System.out.printf("%-34s %10.2f %%%n", "overhead vs findById", 100 * trackerNanos / lookupNanos);
+        assertTrue(tracker.report().properties().size() <= 50);
+    }
+
+    private static void record(HotKeyTracker tracker, long[] keys) {
+        for (long key : keys) {
+            tracker.recordPropertyRead(key);
+        }
+    }
+
+    private static void lookups(JdbcPropertyRepository repository, List<Long> ids, long[] keys) {
+        for (int i = 0; i < LOOKUPS; i++) {
+            repository.findById(ids.get((int) keys[i]));
+        }
+    }
+
+    /**
+     * Claves 0..n-1 con distribución aproximadamente Zipf (la clave k con probabilidad proporcional a 1/(k+1))
+     */
+    private static long[] zipfKeys(int count, int n) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / (k + 1);
+            cumulative[k] = sum;
+        }
+        Random random = new Random(42);
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            keys[i] = Math.min(n - 1, index >= 0 ? index : -index - 1);
+        }
+        return keys;
+    }
+
+    private static Property property(int i) {
+        Property property = new Property();
+        property.setTitle("Propiedad " + i);
+        property.setType(PropertyType.APARTMENT);
+        property.setStatus(PropertyStatus.AVAILABLE);
+        property.setPrice(new BigDecimal(100_000 + i));
+        property.setAddress("Calle " + i);
+        property.setCity("Madrid");
+        property.setArea(80.0);
+        property.setBedrooms(2);
+        property.setBathrooms(1);
+        property.setParkingSpaces(0);
+        property.setCreatedAt(LocalDateTime.now());
+        property.setUpdatedAt(LocalDateTime.now());
+        return property;
+    }
+}
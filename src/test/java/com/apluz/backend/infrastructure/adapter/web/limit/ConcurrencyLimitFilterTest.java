@@ -0,0 +1,73 @@
+package com.apluz.backend.infrastructure.adapter.web.limit;
+
+import com.apluz.backend.infrastructure.adapter.web.limit.GradientConcurrencyLimiter.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para ConcurrencyLimitFilter
+ */
+class ConcurrencyLimitFilterTest {
+
+    private GradientConcurrencyLimiter limiter;
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new GradientConcurrencyLimiter(2, 1, 10);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(limiter, 3, meterRegistry);
+    }
+
+    @Test
+    void testPassesThroughAndReleasesSlot() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/properties"), response, chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testShedsBulkWithRetryAfterWhenOverLimit() throws Exception {
+        // Arrange: una petición en curso ya ocupa la cuota de bulk (50% de 2)
+        assertTrue(limiter.tryAcquire(Priority.READ));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/properties/bulk-status"), response, chain);
+
+        // Assert
+        assertNull(chain.getRequest());
+        assertEquals(503, response.getStatus());
+        assertEquals("3", response.getHeader("Retry-After"));
+        assertEquals(1.0, meterRegistry.get("apluz.concurrency.rejected").tag("priority", "bulk").counter().count());
+        assertEquals(2.0, meterRegistry.get("apluz.concurrency.limit").gauge().value());
+    }
+
+    @Test
+    void testClassifiesRequests() {
+        assertEquals(Priority.READ, ConcurrencyLimitFilter.classify(new MockHttpServletRequest("GET", "/api/properties/1")));
+        assertEquals(Priority.READ, ConcurrencyLimitFilter.classify(new MockHttpServletRequest("POST", "/api/properties/batch-get")));
+        assertEquals(Priority.WRITE, ConcurrencyLimitFilter.classify(new MockHttpServletRequest("PATCH", "/api/properties/1/status")));
+        assertEquals(Priority.BULK, ConcurrencyLimitFilter.classify(new MockHttpServletRequest("POST", "/api/properties/bulk-status")));
+        assertEquals(Priority.BULK, ConcurrencyLimitFilter.classify(new MockHttpServletRequest("POST", "/api/properties/bulk-jobs")));
+        assertEquals(Priority.BULK, ConcurrencyLimitFilter.classify(new MockHttpServletRequest("GET", "/api/properties/duplicates")));
+        assertEquals(Priority.READ, ConcurrencyLimitFilter.classify(new MockHttpServletRequest("GET", "/api/properties/bulk-jobs/3")));
+        assertEquals(Priority.WRITE, ConcurrencyLimitFilter.classify(new MockHttpServletRequest("POST", "/api/properties/bulk-jobs/3/cancel")));
+    }
+}
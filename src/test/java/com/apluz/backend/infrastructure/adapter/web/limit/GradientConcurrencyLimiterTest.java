@@ -0,0 +1,85 @@
+package com.apluz.backend.infrastructure.adapter.web.limit;
+
+import com.apluz.backend.infrastructure.adapter.web.limit.GradientConcurrencyLimiter.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para GradientConcurrencyLimiter
+ */
+class GradientConcurrencyLimiterTest {
+
+    @Test
+    void testBulkIsShedBeforeReads() {
+        // Arrange
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(4, 1, 10);
+
+        // Act & Assert: bulk solo puede ocupar la mitad del límite
+        assertTrue(limiter.tryAcquire(Priority.BULK));
+        assertTrue(limiter.tryAcquire(Priority.BULK));
+        assertFalse(limiter.tryAcquire(Priority.BULK));
+        assertTrue(limiter.tryAcquire(Priority.READ));
+        assertTrue(limiter.tryAcquire(Priority.READ));
+        assertFalse(limiter.tryAcquire(Priority.READ));
+        assertEquals(4, limiter.getInFlight());
+    }
+
+    @Test
+    void testReleaseFreesSlot() {
+        // Arrange
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(1, 1, 10);
+        assertTrue(limiter.tryAcquire(Priority.READ));
+        assertFalse(limiter.tryAcquire(Priority.READ));
+
+        // Act
+        limiter.release(0, false);
+
+        // Assert
+        assertEquals(0, limiter.getInFlight());
+        assertTrue(limiter.tryAcquire(Priority.READ));
+    }
+
+    @Test
+    void testLimitShrinksWhenLatencyRisesAndRecovers() {
+        // Arrange: carga sostenida con latencia estable de 5 ms
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(20, 2, 200);
+        runSaturated(limiter, 200, TimeUnit.MILLISECONDS.toNanos(5));
+        int healthyLimit = limiter.getLimit();
+
+        // Act: la base de datos se degrada a 100 ms (una latencia sostenida acaba siendo la nueva referencia,
+        // así que se mide justo después de la degradación)
+        runSaturated(limiter, 3, TimeUnit.MILLISECONDS.toNanos(100));
+        int degradedLimit = limiter.getLimit();
+
+        // ...y se recupera
+        runSaturated(limiter, 400, TimeUnit.MILLISECONDS.toNanos(5));
+
+        // Assert
+        assertTrue(healthyLimit >= 20, "limit should grow under healthy latency: " + healthyLimit);
+        assertTrue(degradedLimit < healthyLimit / 2, "limit should shrink: " + degradedLimit + " vs " + healthyLimit);
+        assertTrue(limiter.getLimit() > degradedLimit, "limit should recover: " + limiter.getLimit());
+    }
+
+    @Test
+    void testRejectsInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new GradientConcurrencyLimiter(1, 2, 10));
+    }
+
+    /**
+     * Ocupa todo el límite y completa cada petición con la latencia indicada
+     */
+    private void runSaturated(GradientConcurrencyLimiter limiter, int requests, long rttNanos) {
+        for (int i = 0; i < requests; i++) {
+            int acquired = 0;
+            while (limiter.tryAcquire(Priority.READ)) {
+                acquired++;
+            }
+            for (int j = 0; j < acquired; j++) {
+                limiter.release(rttNanos, true);
+            }
+        }
+    }
+}
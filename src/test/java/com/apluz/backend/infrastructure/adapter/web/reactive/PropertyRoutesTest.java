@@ -0,0 +1,155 @@
+package com.apluz.backend.infrastructure.adapter.web.reactive;
+
+import com.apluz.backend.application.service.PropertyService;
+import com.apluz.backend.application.service.ReactivePropertyService;
+import com.apluz.backend.domain.model.Property;
+import com.apluz.backend.domain.model.PropertyCount;
+import com.apluz.backend.domain.model.PropertyField;
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyStatus;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.infrastructure.adapter.web.codec.PropertyFormats;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests de las rutas funcionales de la pila reactiva
+ */
+@ExtendWith(MockitoExtension.class)
+class PropertyRoutesTest {
+
+    @Mock
+    private ReactivePropertyService propertyService;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        PropertyHandler handler = new PropertyHandler(propertyService, new PropertyFormats(objectMapper),
+            Validation.buildDefaultValidatorFactory().getValidator());
+        client = WebTestClient.bindToRouterFunction(PropertyRoutes.routes(handler)).build();
+    }
+
+    @Test
+    void testListStreamsJsonArrayWithCount() {
+        // Arrange
+        PropertyFilter filter = PropertyFilter.byCity("Madrid");
+        when(propertyService.streamProperties(filter, PropertyField.all()))
+            .thenReturn(Flux.just(createTestProperty(1L), createTestProperty(2L)));
+        when(propertyService.countProperties(filter)).thenReturn(Mono.just(PropertyCount.exact(2)));
+
+        // Act & Assert
+        client.get().uri("/api/properties?city=Madrid&count=exact")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals("X-Total-Count", "2")
+            .expectHeader().contentType(MediaType.APPLICATION_JSON)
+            .expectBody()
+            .jsonPath("$.length()").isEqualTo(2)
+            .jsonPath("$[1].id").isEqualTo(2)
+            .jsonPath("$[0].city").isEqualTo("Madrid");
+    }
+
+    @Test
+    void testListAsNdjsonWithFields() {
+        // Arrange
+        when(propertyService.streamProperties(PropertyFilter.all(), PropertyField.parse("id,city")))
+            .thenReturn(Flux.just(createTestProperty(1L), createTestProperty(2L)));
+
+        // Act & Assert
+        client.get().uri("/api/properties?fields=id,city")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+            .expectBody(String.class)
+            .isEqualTo("{\"id\":1,\"city\":\"Madrid\"}\n{\"id\":2,\"city\":\"Madrid\"}\n");
+    }
+
+    @Test
+    void testGetByIdNotFound() {
+        // Arrange
+        when(propertyService.getPropertyById(99L)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        client.get().uri("/api/properties/99").exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    void testCreateValidatesBody() {
+        // Act & Assert
+        client.post().uri("/api/properties")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(Map.of("title", ""))
+            .exchange()
+            .expectStatus().isBadRequest();
+        verify(propertyService, never()).createProperty(any());
+    }
+
+    @Test
+    void testBulkStatusStreamsUpdatedIds() {
+        // Arrange
+        when(propertyService.transitionPropertyStatus(any(PropertyFilter.class), isNull(), any(PropertyStatus.class)))
+            .thenReturn(Flux.just(createTestProperty(3L), createTestProperty(5L)));
+
+        // Act & Assert
+        client.post().uri("/api/properties/bulk-status")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(Map.of("city", "Madrid", "status", "INACTIVE"))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .json("{\"status\":\"INACTIVE\",\"updatedIds\":[3,5],\"count\":2}");
+    }
+
+    @Test
+    void testBulkStatusWithoutIdsOrFilterIsBadRequest() {
+        // Act & Assert
+        client.post().uri("/api/properties/bulk-status")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(Map.of("status", "INACTIVE"))
+            .exchange()
+            .expectStatus().isBadRequest();
+        verify(propertyService, never()).transitionPropertyStatus(any(), any(), any());
+    }
+
+    @Test
+    void testDeleteNotFound() {
+        // Arrange
+        when(propertyService.deleteProperty(7L))
+            .thenReturn(Mono.error(new PropertyService.PropertyNotFoundException("Property with id 7 not found")));
+
+        // Act & Assert
+        client.delete().uri("/api/properties/7").exchange().expectStatus().isNotFound();
+    }
+
+    private static Property createTestProperty(Long id) {
+        return new Property(id, "Test Property", "Test description", PropertyType.HOUSE, PropertyStatus.AVAILABLE,
+            new BigDecimal("250000.00"), "123 Test St", "Madrid", "Madrid", "28001", 150.0, 3, 2, 2,
+            LocalDateTime.of(2024, 1, 1, 12, 0), LocalDateTime.of(2024, 1, 1, 12, 0));
+    }
+}
@@ -0,0 +1,226 @@
+package com.apluz.backend.infrastructure.adapter.web.warmup;
+
+import com.apluz.backend.domain.model.PropertyFilter;
+import com.apluz.backend.domain.model.PropertyType;
+import com.apluz.backend.infrastructure.adapter.web.hotkeys.HotKeyTracker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.ssl.DefaultSslBundleRegistry;
+import org.springframework.boot.ssl.SslBundle;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.boot.ssl.SslStoreBundle;
+import org.springframework.boot.web.server.Ssl;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupWarmupTest {
+
+    private HikariDataSource dataSource;
+    private static final String PASSWORD = "changeit";
+
+    private SimpleMeterRegistry meterRegistry;
+    private HotKeyTracker hotKeyTracker;
+    private final ServerProperties server = new ServerProperties();
+    private final SslBundles sslBundles = new DefaultSslBundleRegistry();
+
+    @TempDir
+    Path hotKeysDir;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:warmup;DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(4);
+        dataSource.setMinimumIdle(1);
+        meterRegistry = new SimpleMeterRegistry();
+        hotKeyTracker = new HotKeyTracker(true, 50, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void runOpensWholePoolAndPublishesMetrics() {
+        // Arrange
+        StartupWarmup warmup = new StartupWarmup(dataSource, new MockEnvironment(), server, sslBundles, new ObjectMapper(),
+            meterRegistry, hotKeyTracker, 5, 5, 1000, List.of(), "");
+
+        // Act
+        warmup.run(new DefaultApplicationArguments());
+
+        // Assert
+        assertEquals(4, warmup.getReport().connections());
+        assertEquals(4, dataSource.getHikariPoolMXBean().getTotalConnections());
+        assertEquals(0, warmup.getReport().requests());
+        assertEquals(1, meterRegistry.get("apluz.warmup.duration").timer().count());
+        assertEquals(4.0, meterRegistry.get("apluz.warmup.connections").gauge().value());
+        assertNotNull(meterRegistry.get("apluz.warmup.iteration.latency").tag("iteration", "last").gauge());
+    }
+
+    @Test
+    void unreachableServerCountsFailedRequestsWithinTheTimeBudget() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment().withProperty("local.server.port", "1");
+        StartupWarmup warmup = new StartupWarmup(dataSource, environment, server, sslBundles, new ObjectMapper(),
+            meterRegistry, hotKeyTracker, 3, 5, 5000, List.of("Madrid"), "");
+
+        // Act
+        warmup.run(new DefaultApplicationArguments());
+
+        // Assert: solo la lista de la ciudad, nunca la lista sin filtro
+        assertEquals(3, warmup.getReport().requests());
+        assertEquals(3, warmup.getReport().failedRequests());
+        assertEquals(1, meterRegistry.get("apluz.warmup.duration").timer().count());
+    }
+
+    @Test
+    void baseUrlFollowsSchemeBoundAddressAndContextPath() throws IOException {
+        // Act & Assert: escuchando en todas las interfaces se usa loopback
+        assertEquals("http://127.0.0.1:8080", StartupWarmup.baseUrl(server, 8080, ""));
+        server.setAddress(InetAddress.getByName("0.0.0.0"));
+        assertEquals("http://127.0.0.1:8080", StartupWarmup.baseUrl(server, 8080, null));
+
+        server.setAddress(InetAddress.getByName("10.1.2.3"));
+        server.setSsl(new Ssl());
+        assertEquals("https://10.1.2.3:8443/apluz", StartupWarmup.baseUrl(server, 8443, "/apluz/"));
+
+        server.setAddress(InetAddress.getByName("::1"));
+        assertEquals("https://[0:0:0:0:0:0:0:1]:8443", StartupWarmup.baseUrl(server, 8443, ""));
+    }
+
+    @Test
+    void tlsWarmupTrustsOnlyTheServersOwnCertificateWhateverTheHostName() throws Exception {
+        // Arrange: certificado para otro nombre de host, servidor en loopback
+        KeyStore own = keyStore("apluz");
+        KeyStore other = keyStore("other");
+        HttpsServer https = httpsServer(own);
+        URI uri = URI.create("https://127.0.0.1:" + https.getAddress().getPort() + "/");
+        try {
+            HttpClient trusting = HttpClient.newBuilder()
+                .sslContext(StartupWarmup.ownCertificateContext(SslBundle.of(SslStoreBundle.of(own, PASSWORD, null))))
+                .build();
+            HttpClient pinnedElsewhere = HttpClient.newBuilder()
+                .sslContext(StartupWarmup.ownCertificateContext(SslBundle.of(SslStoreBundle.of(other, PASSWORD, null))))
+                .build();
+
+            // Act
+            HttpResponse<String> response = trusting.send(HttpRequest.newBuilder(uri).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+            // Assert
+            assertEquals("ok", response.body());
+            assertThrows(IOException.class,
+                () -> pinnedElsewhere.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString()));
+        } finally {
+            https.stop(0);
+        }
+    }
+
+    @Test
+    void hotKeysSavedOnShutdownDriveTheNextWarmup() {
+        // Arrange: tráfico real de la ejecución anterior
+        for (int i = 0; i < 5; i++) {
+            hotKeyTracker.recordPropertyRead(42L);
+            hotKeyTracker.recordListQuery(PropertyFilter.byCity("San Sebastián"));
+            hotKeyTracker.recordListQuery(PropertyFilter.byType(PropertyType.LAND).withArchived(true));
+            hotKeyTracker.recordListQuery(PropertyFilter.all());
+        }
+        String file = hotKeysDir.resolve("warmup/hot-keys.json").toString();
+        new StartupWarmup(dataSource, new MockEnvironment(), server, sslBundles, new ObjectMapper(), meterRegistry, hotKeyTracker,
+            3, 5, 5000, List.of(), file).saveHotKeys();
+        hotKeyTracker.reset();
+
+        // Act
+        StartupWarmup next = new StartupWarmup(dataSource, new MockEnvironment(), server, sslBundles, new ObjectMapper(),
+            new SimpleMeterRegistry(), hotKeyTracker, 3, 5, 5000, List.of("Madrid", "San Sebastián"), file);
+        HotKeyTracker.Report hotKeys = next.loadHotKeys();
+
+        // Assert
+        assertEquals(List.of(42L), hotKeys.properties().stream().map(HotKeyTracker.HotProperty::id).toList());
+        assertEquals(Set.of(
+                "/api/properties?city=San+Sebasti%C3%A1n",
+                "/api/properties?type=LAND&includeArchived=true",
+                "/api/properties?city=Madrid"),
+            Set.copyOf(StartupWarmup.listPaths(hotKeys, List.of("Madrid", "San Sebastián"))));
+    }
+
+    @Test
+    void missingOrUnreadableHotKeysFileIsIgnored() throws IOException {
+        // Arrange
+        Path corrupt = Files.writeString(hotKeysDir.resolve("hot-keys.json"), "{not json");
+
+        // Act & Assert
+        assertTrue(new StartupWarmup(dataSource, new MockEnvironment(), server, sslBundles, new ObjectMapper(), meterRegistry,
+            hotKeyTracker, 3, 5, 5000, List.of(), corrupt.toString()).loadHotKeys().properties().isEmpty());
+        assertTrue(new StartupWarmup(dataSource, new MockEnvironment(), server, sslBundles, new ObjectMapper(), meterRegistry,
+            hotKeyTracker, 3, 5, 5000, List.of(), hotKeysDir.resolve("missing.json").toString())
+            .loadHotKeys().listQueries().isEmpty());
+    }
+
+    private KeyStore keyStore(String name) throws Exception {
+        Path file = hotKeysDir.resolve(name + ".p12");
+        Process keytool = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "keytool").toString(),
+            "-genkeypair", "-alias", name, "-keyalg", "EC", "-dname", "CN=" + name + ".example", "-validity", "1",
+            "-storetype", "PKCS12", "-keystore", file.toString(), "-storepass", PASSWORD)
+            .redirectErrorStream(true)
+            .start();
+        keytool.getInputStream().transferTo(OutputStream.nullOutputStream());
+        assertEquals(0, keytool.waitFor());
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = Files.newInputStream(file)) {
+            keyStore.load(in, PASSWORD.toCharArray());
+        }
+        return keyStore;
+    }
+
+    private static HttpsServer httpsServer(KeyStore keyStore) throws Exception {
+        KeyManagerFactory keyManagers = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagers.init(keyStore, PASSWORD.toCharArray());
+        SSLContext context = SSLContext.getInstance("TLS");
+        context.init(keyManagers.getKeyManagers(), null, null);
+        HttpsServer server = HttpsServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setHttpsConfigurator(new HttpsConfigurator(context));
+        server.createContext("/", exchange -> {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        return server;
+    }
+}
@@ -1,22 +0,0 @@
--- Schema SQL para H2 (tests)
--- Tabla de propiedades
-
-CREATE TABLE IF NOT EXISTS properties (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
-    title VARCHAR(255) NOT NULL,
-    description TEXT,
-    type VARCHAR(50) NOT NULL,
-    status VARCHAR(50) NOT NULL,
-    price DECIMAL(15, 2) NOT NULL,
-    address VARCHAR(500) NOT NULL,
-    city VARCHAR(100) NOT NULL,
-    state VARCHAR(100),
-    zip_code VARCHAR(20),
-    area DOUBLE NOT NULL,
-    bedrooms INTEGER NOT NULL,
-    bathrooms INTEGER NOT NULL,
-    parking_spaces INTEGER DEFAULT 0,
-    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
-);
-